@@ -0,0 +1,100 @@
+package com.bizmate.common.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * SingleFlight
+ * ----------------------
+ * ✅ 같은 키의 동시 호출을 하나의 실행으로 합침 (request coalescing)
+ *    - 먼저 들어온 호출(leader)이 자기 스레드/트랜잭션에서 실행, 나머지(follower)는 결과를 기다렸다가 같은 값 반환
+ *    - leader 가 예외로 끝나면 follower 도 같은 예외
+ *    - 실행이 끝나면 키 제거 → 결과를 보관하지 않음 (캐시가 아님)
+ * ✅ 대기 제한: follower 가 timeout(bizmate.single-flight.timeout-ms, 모든 키 공통) 안에 결과를 못 받으면 직접 실행
+ *    (요청이 멈추지 않도록)
+ * ⚠️ 진행 중인 실행에 합류하므로 쓰기 직후의 호출도 쓰기 전에 시작된 실행 결과를 받을 수 있음
+ *    → 커밋 직후 최신 값이 필요하면 키에 쓰기 버전을 포함 (SalesReportCache 참고)
+ * ✅ 메트릭: bizmate.singleflight.calls (group, result=leader|coalesced|timeout)
+ * - 결과는 여러 호출자가 공유하므로 읽기 전용으로 사용
+ */
+@Slf4j
+@Component
+public class SingleFlight {
+
+    private static final char SEP = '\u001F';
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final Duration timeout;
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlight(
+            @Value("${bizmate.single-flight.enabled:true}") boolean enabled,
+            @Value("${bizmate.single-flight.timeout-ms:15000}") long timeoutMillis,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param group 호출 종류 (메트릭 태그)
+     * @param key   같은 결과를 내는 호출을 구분하는 키 (파라미터 등)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String group, Object key, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        String flightKey = group + SEP + key;
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(flightKey, mine);
+
+        // 1️⃣ leader: 직접 실행 후 결과 공유
+        if (running == null) {
+            record(group, "leader");
+            try {
+                T value = loader.get();
+                mine.complete(value);
+                return value;
+            } catch (RuntimeException | Error e) {
+                mine.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(flightKey, mine);
+            }
+        }
+
+        // 2️⃣ follower: leader 결과 대기
+        try {
+            T value = (T) running.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            record(group, "coalesced");
+            return value;
+        } catch (TimeoutException e) {
+            record(group, "timeout");
+            log.warn("⏱ 동시 호출 대기 시간 초과 → 직접 실행: {} ({}ms)", flightKey.replace(SEP, ':'), timeout.toMillis());
+            return loader.get();
+        } catch (ExecutionException e) {
+            record(group, "coalesced");
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("동시 호출 결과 대기 중 인터럽트: " + group, e);
+        }
+    }
+
+    private void record(String group, String result) {
+        meterRegistry.counter("bizmate.singleflight.calls", "group", group, "result", result).increment();
+    }
+}
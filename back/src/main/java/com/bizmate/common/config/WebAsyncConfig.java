@@ -0,0 +1,44 @@
+package com.bizmate.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 비동기 응답(StreamingResponseBody 등) 설정
+ * - 대용량 내보내기 스트리밍용 제한 스레드 풀 + 타임아웃
+ * - 스레드 풀은 빈으로 등록 → 컨테이너가 초기화/종료 관리 (종료 시 진행 중 스트림은 제한 시간까지 완료 대기)
+ */
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+
+    @Value("${bizmate.web.async.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${bizmate.web.async.threads:4}")
+    private int threads;
+
+    @Value("${bizmate.web.async.shutdown-await-seconds:30}")
+    private int shutdownAwaitSeconds;
+
+    @Bean
+    public ThreadPoolTaskExecutor mvcAsyncTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(threads * 4);
+        executor.setThreadNamePrefix("mvc-async-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(shutdownAwaitSeconds);
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(mvcAsyncTaskExecutor());
+        configurer.setDefaultTimeout(timeoutMs);
+    }
+}
@@ -6,6 +6,7 @@ import io.jsonwebtoken.JwtException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
@@ -121,6 +122,20 @@ public class GlobalExceptionHandler {
     // 2. 예상치 못한 서버 오류 (서버 오류: 5xx)
     // ====================================================================
 
+    /**
+     * [처리 용량 초과] 작업 풀/대기열 포화 (HTTP 503 Service Unavailable)
+     */
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<?> handleServiceBusy(ServiceBusyException e) {
+        log.warn("처리 용량 초과: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(Map.of(
+                        "code", "SERVICE_BUSY",
+                        "message", e.getMessage()
+                ));
+    }
+
     /**
      * [서버 내부 로직 오류] 예상치 못한 RuntimeException 처리
      */
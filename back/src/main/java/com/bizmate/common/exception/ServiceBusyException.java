@@ -0,0 +1,8 @@
+package com.bizmate.common.exception;
+
+/**
+ * 처리 용량 초과 (작업 풀/대기열 포화) → HTTP 503
+ */
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String message) { super(message); }
+}
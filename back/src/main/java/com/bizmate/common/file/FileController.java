@@ -1,8 +1,9 @@
 package com.bizmate.common.file;
 
-import org.springframework.beans.factory.annotation.Value;
+import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -12,30 +13,30 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.io.IOException;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 
 @RestController
 @RequestMapping("/api/files")
+@RequiredArgsConstructor
 public class FileController {
 
-    @Value("${com.bizmate.upload.path}")
-    private String uploadPath;
+    private final FileUtil fileUtil;
 
     @GetMapping("/download/{filename}")
     public ResponseEntity<Resource> downloadFile(@PathVariable String filename) {
         try {
-            Path filePath = Paths.get(uploadPath).resolve(filename).normalize();
-            Resource resource = new InputStreamResource(Files.newInputStream(filePath));
-
-            if (!resource.exists()) {
+            Path filePath = fileUtil.resolve(filename);
+            if (!Files.isReadable(filePath)) {
                 // 파일 없으면 404 에러 반환
                 return ResponseEntity.notFound().build();
             }
+            Resource resource = new InputStreamResource(Files.newInputStream(filePath));
 
-            // 파일의 MIME 타입 결정 (예: image/jpeg)
-            String contentType = Files.probeContentType(filePath);
+            // 파일의 MIME 타입 결정 (예: image/jpeg) - 내용 해시 경로에는 확장자가 없으므로 파일명 기준
+            String contentType = URLConnection.guessContentTypeFromName(filename);
             if (contentType == null) {
                 // 타입을 알 수 없으면 기본값 사용
                 contentType = "application/octet-stream";
@@ -45,7 +46,10 @@ public class FileController {
             return ResponseEntity.ok()
                     .contentType(MediaType.parseMediaType(contentType))
                     // Content-Disposition 헤더: 브라우저에게 파일 다운로드를 지시
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + resource.getFilename() + "\"")
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename(FileUtil.originalNameOf(filename), StandardCharsets.UTF_8)
+                            .build()
+                            .toString())
                     .body(resource);
 
         } catch (IOException ex) {
@@ -1,5 +1,8 @@
 package com.bizmate.common.file;
 
+import com.bizmate.common.storage.BlobStorageService;
+import com.bizmate.common.storage.StoredBlobRef;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
@@ -7,33 +10,54 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.UUID;
 
 @Component
+@RequiredArgsConstructor
 public class FileUtil {
 
-    // application.properties에 설정한 파일 저장 경로를 가져옴
+    private final BlobStorageService blobStorageService;
+
+    // application.properties에 설정한 파일 저장 경로를 가져옴 (이전 방식으로 저장된 파일 조회용)
     @Value("${com.bizmate.upload.path}")
     private String uploadPath;
 
+    /**
+     * 파일 저장 → "{내용 해시}_{원본 파일명}" 반환
+     * - 같은 내용의 파일은 한 번만 저장됨 (BlobStorageService)
+     */
     public String saveFile(MultipartFile file) throws IOException {
         if (file == null || file.isEmpty()) {
             return null;
         }
 
-        // 원본 파일 이름 가져오기
-        String originalFilename = file.getOriginalFilename();
-
-        // UUID를 이용해 고유한 파일 이름 생성
-        String uuid = UUID.randomUUID().toString();
-        String savedFilename = uuid + "_" + originalFilename;
+        StoredBlobRef blob = blobStorageService.store(file);
+        return blob.contentHash() + "_" + file.getOriginalFilename();
+    }
 
-        // 저장할 경로와 파일 이름을 합쳐 Path 객체 생성
-        Path savePath = Paths.get(uploadPath, savedFilename);
+    /**
+     * 저장된 파일명 → 실제 경로
+     * - "{해시}_..." 형식이면 내용 해시 저장소, 아니면 이전 업로드 경로(UUID_원본명)
+     */
+    public Path resolve(String savedFilename) {
+        String hash = contentHashOf(savedFilename);
+        if (hash != null) {
+            return blobStorageService.resolve(hash);
+        }
+        return Paths.get(uploadPath).resolve(savedFilename).normalize();
+    }
 
-        // 해당 경로에 파일 저장
-        file.transferTo(savePath);
+    /** 저장 파일명에서 내용 해시 추출 (이전 방식 파일명이면 null) */
+    public static String contentHashOf(String savedFilename) {
+        if (savedFilename == null || savedFilename.length() < 65 || savedFilename.charAt(64) != '_') {
+            return null;
+        }
+        String prefix = savedFilename.substring(0, 64);
+        return BlobStorageService.isContentHash(prefix) ? prefix : null;
+    }
 
-        return savedFilename;
+    /** 저장 파일명에서 원본 파일명 추출 */
+    public static String originalNameOf(String savedFilename) {
+        int idx = savedFilename.indexOf('_');
+        return idx >= 0 ? savedFilename.substring(idx + 1) : savedFilename;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,209 @@
+package com.bizmate.common.file;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * RangeFileSender
+ * ----------------
+ * ✅ 로컬 파일을 HTTP 응답으로 직접 전송
+ * ✅ 조건부 요청 (If-None-Match / If-Modified-Since → 304)
+ * ✅ Range 요청 (단일 → 206 + Content-Range, 다중 → 206 multipart/byteranges, 범위 밖 → 416)
+ * ✅ If-Range 가 현재 ETag 와 다르면 Range 무시하고 전체 전송
+ * ✅ 전송: Tomcat sendfile 지원 시 커널 전송, 아니면 FileChannel.transferTo
+ */
+@Slf4j
+@Component
+public class RangeFileSender {
+
+    /** Tomcat NIO 커넥터 sendfile 요청 속성 */
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /** 작은 파일은 sendfile 보다 일반 쓰기가 유리 (Tomcat DefaultServlet 기본값과 동일) */
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    public record FileSpec(Path path, String contentType, ContentDisposition disposition,
+                           String eTag, long lastModified, String cacheControl) {
+    }
+
+    public void send(FileSpec spec, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!Files.isReadable(spec.path())) {
+            response.sendError(HttpStatus.NOT_FOUND.value(), "파일이 존재하지 않습니다.");
+            return;
+        }
+        long length = Files.size(spec.path());
+
+        // ✅ 조건부 요청 → 304 (ETag/Last-Modified 헤더도 함께 설정됨)
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        if (webRequest.checkNotModified(spec.eTag(), spec.lastModified())) {
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (spec.cacheControl() != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, spec.cacheControl());
+        }
+        if (spec.disposition() != null) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, spec.disposition().toString());
+        }
+
+        List<HttpRange> ranges;
+        try {
+            ranges = rangesOf(request, spec.eTag());
+        } catch (IllegalArgumentException e) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            return;
+        }
+
+        // ✅ 전체 전송
+        if (ranges.isEmpty()) {
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(spec.contentType());
+            response.setContentLengthLong(length);
+            if (!isHead(request)) {
+                transfer(spec.path(), 0, length, request, response);
+            }
+            return;
+        }
+
+        long[][] bounds = boundsOf(ranges, length);
+        if (bounds == null) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            return;
+        }
+
+        response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+
+        // ✅ 단일 범위
+        if (bounds.length == 1) {
+            long start = bounds[0][0];
+            long end = bounds[0][1];
+            response.setContentType(spec.contentType());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            response.setContentLengthLong(end - start + 1);
+            if (!isHead(request)) {
+                transfer(spec.path(), start, end - start + 1, request, response);
+            }
+            return;
+        }
+
+        // ✅ 다중 범위 (multipart/byteranges)
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+        byte[][] partHeaders = new byte[bounds.length][];
+        long total = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            partHeaders[i] = ("\r\n--" + boundary + "\r\n"
+                    + HttpHeaders.CONTENT_TYPE + ": " + spec.contentType() + "\r\n"
+                    + HttpHeaders.CONTENT_RANGE + ": bytes " + bounds[i][0] + "-" + bounds[i][1] + "/" + length + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII);
+            total += partHeaders[i].length + (bounds[i][1] - bounds[i][0] + 1);
+        }
+        byte[] closing = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        total += closing.length;
+
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(total);
+        if (isHead(request)) return;
+
+        ServletOutputStream out = response.getOutputStream();
+        try (FileChannel channel = FileChannel.open(spec.path(), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            for (int i = 0; i < bounds.length; i++) {
+                out.write(partHeaders[i]);
+                transferTo(channel, bounds[i][0], bounds[i][1] - bounds[i][0] + 1, target);
+            }
+        }
+        out.write(closing);
+        out.flush();
+    }
+
+    /**
+     * Range 헤더 해석
+     * - If-Range 가 있고 현재 ETag 와 다르면 전체 전송 (빈 목록)
+     * - 형식 오류 / 범위 수 초과 → IllegalArgumentException (HttpRange 에서 검증)
+     */
+    private List<HttpRange> rangesOf(HttpServletRequest request, String eTag) {
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range == null || range.isBlank()) return List.of();
+
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && (eTag == null || eTag.startsWith("W/") || !ifRange.trim().equals(eTag))) {
+            return List.of();
+        }
+        return HttpRange.parseRanges(range);
+    }
+
+    /** 각 범위의 [시작, 끝] (끝 포함), 만족할 수 없는 범위가 있으면 null */
+    private static long[][] boundsOf(List<HttpRange> ranges, long length) {
+        if (length == 0) return null;
+        long[][] bounds = new long[ranges.size()][];
+        try {
+            for (int i = 0; i < ranges.size(); i++) {
+                long start = ranges.get(i).getRangeStart(length);
+                long end = ranges.get(i).getRangeEnd(length);
+                if (start >= length || start > end) return null;
+                bounds[i] = new long[]{start, end};
+            }
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return bounds;
+    }
+
+    private void transfer(Path path, long position, long count,
+                          HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // ✅ Tomcat sendfile → 응답 커밋 후 커넥터가 커널 수준으로 전송
+        if (count >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, position);
+            request.setAttribute(SENDFILE_END, position + count);
+            return;
+        }
+
+        ServletOutputStream out = response.getOutputStream();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            transferTo(channel, position, count, Channels.newChannel(out));
+        }
+        out.flush();
+    }
+
+    private static void transferTo(FileChannel channel, long position, long count,
+                                   WritableByteChannel target) throws IOException {
+        long sent = 0;
+        while (sent < count) {
+            long n = channel.transferTo(position + sent, count - sent, target);
+            if (n <= 0) {
+                throw new IOException("파일 전송 중단: " + (position + sent));
+            }
+            sent += n;
+        }
+    }
+
+    private static boolean isHead(HttpServletRequest request) {
+        return "HEAD".equalsIgnoreCase(request.getMethod());
+    }
+}
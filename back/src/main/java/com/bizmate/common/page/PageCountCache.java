@@ -0,0 +1,168 @@
+package com.bizmate.common.page;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * PageCountCache
+ * ----------------------
+ * ✅ 목록 전체 건수(count) 캐시 — 집계 대상(aggregate)별, 검색 조건을 키로 짧은 TTL 동안 보관
+ *    - 페이지 번호/크기/커서는 키에서 제외 → 같은 조건으로 페이지만 넘길 때는 count 를 다시 실행하지 않음
+ *    - 해당 집계 대상에 쓰기가 있으면 커밋 후 통째로 무효화
+ *    - 무효화 전에 시작된 count 결과는 이전 맵에 저장되므로 새 맵을 오염시키지 않음
+ * ✅ 첫 페이지/마지막 페이지처럼 조회 건수로 전체를 알 수 있으면 count 자체를 생략
+ * ✅ 메트릭: bizmate.page.count (aggregate, result=hit|miss|skipped)
+ */
+@Slf4j
+@Component
+public class PageCountCache {
+
+    public static final String SALES = "sales";
+    public static final String ORDERS = "orders";
+    public static final String COLLECTIONS = "collections";
+
+    private static final char SEP = '\u001F';
+
+    private record Entry(long count, long loadedAt) {
+    }
+
+    private final Map<String, Map<String, Entry>> byAggregate = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final MeterRegistry meterRegistry;
+
+    public PageCountCache(
+            @Value("${bizmate.page.count-cache.enabled:true}") boolean enabled,
+            @Value("${bizmate.page.count-cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${bizmate.page.count-cache.max-entries:500}") int maxEntries,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.maxEntries = maxEntries;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * OFFSET 페이지의 전체 건수
+     * - fetched: 이번 페이지에서 실제 조회된 건수 (size 미만이면 마지막 페이지 → offset + fetched)
+     */
+    public long total(String aggregate, PageRequestDTO req, int fetched, LongSupplier counter) {
+        int size = Math.max(1, req.getSize());
+        long offset = (long) (Math.max(1, req.getPage()) - 1) * size;
+        if (fetched < size && (fetched > 0 || offset == 0)) {
+            record(aggregate, "skipped");
+            return offset + fetched;
+        }
+        return count(aggregate, req, counter);
+    }
+
+    /**
+     * 조건에 맞는 전체 건수 (캐시 → 없거나 만료되면 counter 실행)
+     */
+    public long count(String aggregate, PageRequestDTO req, LongSupplier counter) {
+        if (!enabled) {
+            return counter.getAsLong();
+        }
+
+        Map<String, Entry> entries = entries(aggregate);
+        String key = keyOf(req);
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && now - entry.loadedAt() < ttlMillis) {
+            record(aggregate, "hit");
+            return entry.count();
+        }
+
+        record(aggregate, "miss");
+        long count = counter.getAsLong();
+        if (entries.size() >= maxEntries) {
+            entries.clear();
+        }
+        entries.put(key, new Entry(count, now));
+        return count;
+    }
+
+    /**
+     * 캐시에 남아 있는 전체 건수 (없으면 -1, count 실행 안 함)
+     */
+    public long peek(String aggregate, PageRequestDTO req) {
+        if (!enabled) return -1;
+        Entry entry = entries(aggregate).get(keyOf(req));
+        return entry != null && System.currentTimeMillis() - entry.loadedAt() < ttlMillis ? entry.count() : -1;
+    }
+
+    /**
+     * 집계 대상 캐시 무효화 (트랜잭션 안이면 커밋 후, 밖이면 즉시)
+     */
+    public void invalidateAfterCommit(String aggregate) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(aggregate);
+                }
+            });
+        } else {
+            invalidate(aggregate);
+        }
+    }
+
+    public void invalidate(String aggregate) {
+        // 맵을 통째로 교체 → 진행 중이던 count 는 버려진 맵에 저장됨
+        if (byAggregate.replace(aggregate, new ConcurrentHashMap<>()) != null) {
+            log.debug("🧮 목록 건수 캐시 무효화: {}", aggregate);
+        }
+    }
+
+    private Map<String, Entry> entries(String aggregate) {
+        return byAggregate.computeIfAbsent(aggregate, k -> new ConcurrentHashMap<>());
+    }
+
+    private void record(String aggregate, String result) {
+        meterRegistry.counter("bizmate.page.count", "aggregate", aggregate, "result", result).increment();
+    }
+
+    /**
+     * 검색 조건 키 (페이지/크기/커서/건수 모드 제외)
+     * - search/keyword/orderId 는 쿼리가 받는 값 그대로 사용 (공백·대소문자를 임의로 정규화하면 다른 결과의 count 를 돌려줌)
+     * - 쿼리와 마찬가지로 search 와 keyword 가 모두 있을 때만 키워드 검색으로 봄
+     */
+    static String keyOf(PageRequestDTO req) {
+        boolean keywordSearch = StringUtils.hasText(req.getSearch()) && StringUtils.hasText(req.getKeyword());
+        StringBuilder sb = new StringBuilder();
+        append(sb, keywordSearch ? req.getSearch() : null);
+        append(sb, keywordSearch ? req.getKeyword() : null);
+        append(sb, req.getStartDate());
+        append(sb, req.getEndDate());
+        append(sb, amount(req.getMinAmount()));
+        append(sb, amount(req.getMaxAmount()));
+        append(sb, req.getInvoiceIssued());
+        append(sb, StringUtils.hasText(req.getOrderId()) ? req.getOrderId() : null);
+        append(sb, req.getYear());
+        append(sb, req.getSearchType());
+        append(sb, req.getType());
+        append(sb, req.getBoardType());
+        return sb.toString();
+    }
+
+    private static String amount(BigDecimal value) {
+        return value != null ? value.stripTrailingZeros().toPlainString() : null;
+    }
+
+    private static void append(StringBuilder sb, Object value) {
+        sb.append(Objects.toString(value, "")).append(SEP);
+    }
+}
@@ -0,0 +1,83 @@
+package com.bizmate.common.page;
+
+import com.bizmate.common.exception.VerificationFailedException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서(keyset) 페이지네이션용 불투명 커서
+ * - 마지막 행의 정렬 키 값들을 "v1" 버전과 함께 base64url 로 인코딩
+ * - 다음 페이지는 OFFSET 대신 "정렬 키 < 커서" 조건으로 조회 → 페이지 깊이와 무관하게 일정한 비용
+ */
+public final class PageCursor {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "\u001F";
+
+    /** 첫 페이지 시작점 (createdAt 내림차순 seek 의 상한) */
+    public static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private PageCursor() {
+    }
+
+    public static String encode(Object... keys) {
+        StringBuilder sb = new StringBuilder(VERSION);
+        for (Object key : keys) {
+            sb.append(SEPARATOR).append(key);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 → 정렬 키 값 (빈 커서 = 첫 페이지 → null)
+     */
+    public static String[] decode(String cursor, int arity) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != arity + 1 || !VERSION.equals(parts[0])) {
+                throw new VerificationFailedException("잘못된 페이지 커서입니다.");
+            }
+            String[] keys = new String[arity];
+            System.arraycopy(parts, 1, keys, 0, arity);
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new VerificationFailedException("잘못된 페이지 커서입니다.", e);
+        }
+    }
+
+    /** 단일 문자열 키 커서 (첫 페이지면 null) */
+    public static String decodeString(String cursor) {
+        String[] keys = decode(cursor, 1);
+        return keys != null ? keys[0] : null;
+    }
+
+    /** 단일 숫자 키 커서 (첫 페이지면 null) */
+    public static Long decodeLong(String cursor) {
+        String[] keys = decode(cursor, 1);
+        return keys != null ? longOf(keys, 0, 0L) : null;
+    }
+
+    /** 숫자 키 (첫 페이지면 ifFirst) */
+    public static long longOf(String[] keys, int index, long ifFirst) {
+        if (keys == null) return ifFirst;
+        try {
+            return Long.parseLong(keys[index]);
+        } catch (NumberFormatException e) {
+            throw new VerificationFailedException("잘못된 페이지 커서입니다.", e);
+        }
+    }
+
+    /** 시각 키 (첫 페이지면 MAX_TIME) */
+    public static LocalDateTime timeOf(String[] keys, int index) {
+        if (keys == null) return MAX_TIME;
+        try {
+            return LocalDateTime.parse(keys[index]);
+        } catch (RuntimeException e) {
+            throw new VerificationFailedException("잘못된 페이지 커서입니다.", e);
+        }
+    }
+}
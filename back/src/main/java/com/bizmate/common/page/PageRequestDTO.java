@@ -21,6 +21,13 @@ public class PageRequestDTO {
     @Builder.Default
     private int size = 10;
 
+    // 커서(keyset) 모드: null 이면 기존 OFFSET 페이지, "" 이면 커서 모드 첫 페이지, 그 외 이전 응답의 nextCursor
+    private String cursor;
+
+    // 전체 건수 처리 (OFFSET 페이지): "exact"(기본, 건수 캐시 사용) | "none"(size+1 건만 조회해 다음 페이지 여부만, count 생략)
+    @Builder.Default
+    private String countMode = "exact";
+
     // --- ▼ Sales 페이지 검색을 위해 추가된 필드 ▼ ---
     private Integer year;
 
@@ -49,5 +56,21 @@ public class PageRequestDTO {
     private com.bizmate.groupware.board.domain.BoardType boardType;
 
 
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
+
+    public boolean isCountSkipped() {
+        return "none".equalsIgnoreCase(countMode);
+    }
+
+    /** OFFSET 페이지 시작 위치 */
+    public long offset() {
+        return (long) (Math.max(1, page) - 1) * Math.max(1, size);
+    }
 
+    /** 커서/hasNext 모드 조회 건수 (다음 페이지 존재 확인용 +1) */
+    public int cursorLimit() {
+        return Math.max(1, size) + 1;
+    }
 }
@@ -4,6 +4,7 @@ import lombok.Builder;
 import lombok.Data;
 
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -20,6 +21,8 @@ public class PageResponseDTO<E> {
     private int nextPage;
     private int totalPage;
     private int current;
+    // 커서 모드: 다음 페이지 커서 (마지막 페이지면 null), totalCount 는 -1 (count 쿼리 생략)
+    private String nextCursor;
 
     @Builder(builderMethodName = "withAll")
     public PageResponseDTO(List<E> dtoList, PageRequestDTO pageRequestDTO, long totalCount) {
@@ -49,4 +52,74 @@ public class PageResponseDTO<E> {
         this.current = pageRequestDTO.getPage();
     }
 
+    private PageResponseDTO(List<E> dtoList, PageRequestDTO pageRequestDTO, String nextCursor) {
+        this.dtoList = dtoList;
+        this.pageRequestDTO = pageRequestDTO;
+        this.pageNumList = List.of();
+        this.totalCount = -1;
+        this.next = nextCursor != null;
+        this.nextCursor = nextCursor;
+        this.current = pageRequestDTO.getPage();
+    }
+
+    private PageResponseDTO(List<E> dtoList, PageRequestDTO pageRequestDTO, boolean hasNext) {
+        this.dtoList = dtoList;
+        this.pageRequestDTO = pageRequestDTO;
+        this.totalCount = -1;
+        this.current = pageRequestDTO.getPage();
+
+        // 전체 페이지 수를 모르므로 현재 블록의 시작 ~ (다음 페이지가 있으면 current + 1) 까지만
+        int start = (int) (Math.ceil(current / 10.0)) * 10 - 9;
+        int end = hasNext && current % 10 != 0 ? current + 1 : current;
+        this.pageNumList = IntStream.rangeClosed(start, end).boxed().collect(Collectors.toList());
+
+        this.prev = start > 1;
+        if (prev) {
+            this.prevPage = start - 1;
+        }
+        this.next = hasNext;
+        if (next) {
+            this.nextPage = current + 1;
+        }
+        this.totalPage = this.pageNumList.size();
+    }
+
+    /**
+     * hasNext 모드 응답 (OFFSET 페이지, count 생략)
+     * - rows 는 size + 1 건까지 조회한 결과 → 초과분이 있으면 다음 페이지 존재
+     * - knownTotal: 건수 캐시에 남아 있던 값 (없으면 -1 → totalCount -1, next/nextPage 는 바로 다음 페이지 기준)
+     */
+    public static <T, E> PageResponseDTO<E> ofSlice(List<T> rows, PageRequestDTO pageRequestDTO, long knownTotal,
+                                                    Function<T, E> mapper) {
+        int size = Math.max(1, pageRequestDTO.getSize());
+        boolean hasNext = rows.size() > size;
+        List<E> dtoList = (hasNext ? rows.subList(0, size) : rows).stream().map(mapper).collect(Collectors.toList());
+        if (knownTotal >= 0) {
+            return new PageResponseDTO<>(dtoList, pageRequestDTO, knownTotal);
+        }
+        return new PageResponseDTO<>(dtoList, pageRequestDTO, hasNext);
+    }
+
+    /**
+     * 커서 모드 응답
+     * - rows 는 size + 1 건까지 조회한 결과 → 초과분이 있으면 다음 페이지 존재, 마지막 행의 키로 커서 생성
+     */
+    public static <T, E> PageResponseDTO<E> ofCursor(List<T> rows, PageRequestDTO pageRequestDTO,
+                                                     Function<T, String> cursorOf, Function<T, E> mapper) {
+        return ofCursorBatch(rows, pageRequestDTO, cursorOf,
+                page -> page.stream().map(mapper).collect(Collectors.toList()));
+    }
+
+    /**
+     * 커서 모드 응답 (페이지 단위 변환 — 키만 조회한 뒤 본문을 IN 조회로 채우는 경우)
+     */
+    public static <T, E> PageResponseDTO<E> ofCursorBatch(List<T> rows, PageRequestDTO pageRequestDTO,
+                                                          Function<T, String> cursorOf, Function<List<T>, List<E>> pageMapper) {
+        int size = pageRequestDTO.cursorLimit() - 1;
+        boolean hasNext = rows.size() > size;
+        List<T> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null;
+        return new PageResponseDTO<>(pageMapper.apply(page), pageRequestDTO, nextCursor);
+    }
+
 }
\ No newline at end of file
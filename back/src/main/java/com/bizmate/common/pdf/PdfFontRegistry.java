@@ -0,0 +1,94 @@
+package com.bizmate.common.pdf;
+
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.text.pdf.BaseFont;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * PdfFontRegistry
+ * ----------------
+ * ✅ 한글 폰트(Noto Sans KR) 바이트와 파싱된 폰트 프로그램을 최초 1회만 로딩해 공유
+ * ✅ iText 7 (전자결재 PDF): 공유 FontProgram → 문서마다 새 PdfFont 생성 (서브셋은 문서별로 분리)
+ * ✅ iText 5 (재직증명서): 공유 BaseFont (사용 글리프는 PdfWriter가 문서별로 관리)
+ */
+@Slf4j
+@Component
+public class PdfFontRegistry {
+
+    private static final String NOTO_SANS_KR = "fonts/NotoSansKR-Regular.ttf";
+
+    private volatile FontProgram notoSansKrProgram;
+    private volatile BaseFont notoSansKrBaseFont;
+    private volatile byte[] notoSansKrBytes;
+
+    /**
+     * iText 7 문서용 한글 폰트
+     * - PdfFont 는 문서(PdfDocument)에 종속되므로 반드시 문서마다 새로 생성
+     */
+    public PdfFont notoSansKr() throws IOException {
+        return PdfFontFactory.createFont(notoSansKrProgram(), PdfEncodings.IDENTITY_H,
+                PdfFontFactory.EmbeddingStrategy.PREFER_EMBEDDED);
+    }
+
+    /**
+     * iText 5 문서용 한글 폰트
+     */
+    public BaseFont notoSansKrBaseFont() throws IOException {
+        BaseFont font = notoSansKrBaseFont;
+        if (font == null) {
+            synchronized (this) {
+                font = notoSansKrBaseFont;
+                if (font == null) {
+                    try {
+                        font = BaseFont.createFont("NotoSansKR-Regular.ttf", BaseFont.IDENTITY_H,
+                                BaseFont.EMBEDDED, false, notoSansKrBytes(), null);
+                    } catch (com.itextpdf.text.DocumentException e) {
+                        throw new IOException("폰트 로딩 실패: " + NOTO_SANS_KR, e);
+                    }
+                    notoSansKrBaseFont = font;
+                }
+            }
+        }
+        return font;
+    }
+
+    private FontProgram notoSansKrProgram() throws IOException {
+        FontProgram program = notoSansKrProgram;
+        if (program == null) {
+            synchronized (this) {
+                program = notoSansKrProgram;
+                if (program == null) {
+                    program = FontProgramFactory.createFont(notoSansKrBytes(), false);
+                    notoSansKrProgram = program;
+                }
+            }
+        }
+        return program;
+    }
+
+    private byte[] notoSansKrBytes() throws IOException {
+        byte[] bytes = notoSansKrBytes;
+        if (bytes == null) {
+            synchronized (this) {
+                bytes = notoSansKrBytes;
+                if (bytes == null) {
+                    try (InputStream is = new ClassPathResource(NOTO_SANS_KR).getInputStream()) {
+                        bytes = is.readAllBytes();
+                    }
+                    notoSansKrBytes = bytes;
+                    log.info("🔤 한글 폰트 로딩 완료: {} ({} bytes)", NOTO_SANS_KR, bytes.length);
+                }
+            }
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,109 @@
+package com.bizmate.common.pdf;
+
+import com.bizmate.common.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PdfRenderPool
+ * --------------
+ * ✅ PDF 렌더링 전용 제한 작업 풀 (스레드 수 + 대기열 상한)
+ * ✅ 대기열까지 가득 차면 즉시 ServiceBusyException → 503 (힙/CPU 급증 방지)
+ * ✅ 메트릭: 렌더링 시간(bizmate.pdf.render.time, kind 태그), 대기 시간(bizmate.pdf.render.queue.wait),
+ *           거절 수(bizmate.pdf.render.rejected), 대기열 길이/활성 스레드 게이지
+ */
+@Slf4j
+@Component
+public class PdfRenderPool {
+
+    private final ThreadPoolExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final long timeoutSeconds;
+    private final Timer queueWait;
+    private final Counter rejected;
+
+    public PdfRenderPool(
+            MeterRegistry meterRegistry,
+            @Value("${bizmate.pdf.render.threads:2}") int threads,
+            @Value("${bizmate.pdf.render.queue-size:8}") int queueSize,
+            @Value("${bizmate.pdf.render.timeout-seconds:60}") long timeoutSeconds
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.timeoutSeconds = timeoutSeconds;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueSize)),
+                r -> {
+                    Thread t = new Thread(r, "pdf-render-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.queueWait = Timer.builder("bizmate.pdf.render.queue.wait")
+                .description("PDF 렌더링 대기열 대기 시간")
+                .register(meterRegistry);
+        this.rejected = meterRegistry.counter("bizmate.pdf.render.rejected");
+        Gauge.builder("bizmate.pdf.render.queue.depth", executor, e -> e.getQueue().size())
+                .description("PDF 렌더링 대기 중인 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("bizmate.pdf.render.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("PDF 렌더링 중인 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 렌더링 작업 실행 (호출 스레드는 결과를 기다림)
+     *
+     * @param kind 메트릭 태그 (approval, certificate 등)
+     */
+    public <T> T render(String kind, Callable<T> task) {
+        Timer renderTime = Timer.builder("bizmate.pdf.render.time")
+                .description("PDF 렌더링 소요 시간")
+                .tag("kind", kind)
+                .register(meterRegistry);
+
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWait.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return renderTime.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("🚦 PDF 렌더링 대기열 포화 → 요청 거절 (kind={})", kind);
+            throw new ServiceBusyException("PDF 생성 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        try {
+            return future.get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceBusyException("PDF 생성이 지연되고 있습니다. 잠시 후 다시 시도해 주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("PDF 생성 중단", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new RuntimeException("PDF 생성 실패", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
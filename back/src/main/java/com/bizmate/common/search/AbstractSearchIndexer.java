@@ -0,0 +1,181 @@
+package com.bizmate.common.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * AbstractSearchIndexer
+ * ----------------------
+ * ✅ InvertedIndex 수명 관리 공통 (결재문서 / 게시글)
+ *    - 기동 후 백그라운드: 스냅샷 복원 → DB stamp 와 비교 → 바뀐 문서만 재색인, 없어진 문서 제거
+ *    - 준비 완료 전에는 isReady() = false → 호출자는 기존 LIKE 검색으로 대체
+ *    - 변경 내용은 주기적으로 / 종료 시 디스크에 저장
+ * ✅ 변경 반영은 트랜잭션 커밋 후 (롤백된 내용이 색인에 남지 않도록)
+ * ✅ 메트릭: bizmate.search.query (index, engine=index|like 태그), bizmate.search.index.size
+ */
+@Slf4j
+public abstract class AbstractSearchIndexer {
+
+    private static final int RECONCILE_BATCH_SIZE = 200;
+
+    protected final InvertedIndex index;
+    protected final TransactionTemplate readOnlyTx;
+    private final String name;
+    private final MeterRegistry meterRegistry;
+    private volatile boolean ready;
+
+    protected AbstractSearchIndexer(String name, double[] fieldWeights, String indexDir,
+                                    PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.meterRegistry = meterRegistry;
+        this.index = new InvertedIndex(name, fieldWeights, Paths.get(indexDir).toAbsolutePath().resolve(name + ".idx"));
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        Gauge.builder("bizmate.search.index.size", index, InvertedIndex::size)
+                .description("검색 색인 문서 수")
+                .tag("index", name)
+                .register(meterRegistry);
+    }
+
+    /** DB 의 전체 문서 키 → stamp (LOB 미조회) */
+    protected abstract Map<String, String> loadStamps();
+
+    /** 주어진 키의 문서를 DB 에서 읽어 색인 (읽기 트랜잭션 안에서 호출됨) */
+    protected abstract void indexKeys(List<String> keys);
+
+    /* -------------------------------------------------------------
+       기동 / 저장
+       ------------------------------------------------------------- */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startAsync() {
+        Thread t = new Thread(this::rebuild, "search-index-" + name);
+        t.setDaemon(true);
+        t.start();
+    }
+
+    /** 스냅샷 복원 + DB 비교 재색인 (관리 기능에서 전체 재구축 시에도 사용) */
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        try {
+            if (!ready) {
+                index.load();
+            }
+
+            Map<String, String> dbStamps = readOnlyTx.execute(status -> loadStamps());
+            Map<String, String> indexed = index.stamps();
+
+            List<String> changed = new ArrayList<>();
+            dbStamps.forEach((key, stamp) -> {
+                if (!Objects.equals(indexed.get(key), stamp)) changed.add(key);
+            });
+            int removed = 0;
+            for (String key : indexed.keySet()) {
+                if (!dbStamps.containsKey(key)) {
+                    index.remove(key);
+                    removed++;
+                }
+            }
+
+            for (int i = 0; i < changed.size(); i += RECONCILE_BATCH_SIZE) {
+                List<String> batch = changed.subList(i, Math.min(i + RECONCILE_BATCH_SIZE, changed.size()));
+                readOnlyTx.executeWithoutResult(status -> indexKeys(batch));
+            }
+
+            ready = true;
+            log.info("🔎 검색 색인 준비 완료: {} (전체 {}건, 재색인 {}건, 제거 {}건, {} ms)",
+                    name, index.size(), changed.size(), removed, System.currentTimeMillis() - started);
+            persistIfDirty();
+        } catch (Exception e) {
+            log.error("❌ 검색 색인 준비 실패 (LIKE 검색으로 동작): {}", name, e);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Scheduled(fixedDelayString = "${bizmate.search.persist-interval-ms:300000}")
+    public void persistIfDirty() {
+        if (!ready || !index.isDirty()) return;
+        try {
+            index.save();
+        } catch (IOException e) {
+            log.warn("⚠️ 검색 색인 저장 실패: {}, {}", name, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        persistIfDirty();
+    }
+
+    /* -------------------------------------------------------------
+       공통 도구
+       ------------------------------------------------------------- */
+
+    /** 커밋 후 실행 (트랜잭션 밖이면 즉시) */
+    protected void afterCommit(Runnable task) {
+        Runnable safe = () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.warn("⚠️ 검색 색인 갱신 실패 (다음 기동 시 재색인): {}, {}", name, e.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safe.run();
+                }
+            });
+        } else {
+            safe.run();
+        }
+    }
+
+    /** 검색 소요 시간 기록 (engine = index | like) */
+    public <T> T timed(String engine, Supplier<T> query) {
+        return Timer.builder("bizmate.search.query")
+                .description("검색 소요 시간")
+                .tag("index", name)
+                .tag("engine", engine)
+                .register(meterRegistry)
+                .record(query);
+    }
+
+    /** 중첩 Map/List 안의 문자열 값들을 한 줄로 (docContent 등) */
+    protected static String flatten(Object value) {
+        StringBuilder sb = new StringBuilder();
+        flattenInto(value, sb);
+        return sb.toString();
+    }
+
+    private static void flattenInto(Object value, StringBuilder sb) {
+        if (value == null) return;
+        if (value instanceof Map<?, ?> map) {
+            map.values().forEach(v -> flattenInto(v, sb));
+        } else if (value instanceof Collection<?> list) {
+            list.forEach(v -> flattenInto(v, sb));
+        } else if (value instanceof CharSequence || value instanceof Number) {
+            if (!sb.isEmpty()) sb.append(' ');
+            sb.append(value);
+        }
+    }
+}
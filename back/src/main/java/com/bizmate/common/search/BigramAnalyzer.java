@@ -0,0 +1,70 @@
+package com.bizmate.common.search;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * BigramAnalyzer
+ * ---------------
+ * ✅ 형태소 분석 없이 한글/영문/숫자를 2글자 단위(bigram)로 색인
+ * ✅ 정규화: NFKC + 소문자 + 공백 제거 ("결재 문서" = "결재문서", 기존 REPLACE(' ','') 검색과 동일)
+ * ✅ 문장부호 등은 구분자 → 구간(run)별로 bigram 생성
+ * ✅ 각 구간의 마지막 글자는 1글자 토큰으로도 색인 → 1글자 검색어는 접두어 조회로 처리
+ */
+public final class BigramAnalyzer {
+
+    private BigramAnalyzer() {
+    }
+
+    /** 색인용: 토큰 → 출현 횟수 */
+    public static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> tf = new HashMap<>();
+        if (text == null || text.isEmpty()) return tf;
+
+        for (String run : runs(text)) {
+            for (int i = 0; i + 1 < run.length(); i++) {
+                tf.merge(run.substring(i, i + 2), 1, Integer::sum);
+            }
+            tf.merge(run.substring(run.length() - 1), 1, Integer::sum);
+        }
+        return tf;
+    }
+
+    /**
+     * 검색용: 검색어의 bigram (중복 제거, 순서 유지)
+     * - 1글자 구간은 1글자 토큰 그대로 (InvertedIndex 에서 접두어 조회)
+     */
+    public static Set<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (query == null || query.isBlank()) return terms;
+
+        for (String run : runs(query)) {
+            if (run.length() == 1) {
+                terms.add(run);
+                continue;
+            }
+            for (int i = 0; i + 1 < run.length(); i++) {
+                terms.add(run.substring(i, i + 2));
+            }
+        }
+        return terms;
+    }
+
+    /** 정규화 후 문자/숫자 구간 분리 (공백은 제거, 그 외 기호는 구분자) */
+    static String[] runs(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+            } else if (!Character.isWhitespace(c)) {
+                sb.append(' ');
+            }
+        }
+        return sb.toString().trim().isEmpty() ? new String[0] : sb.toString().trim().split(" +");
+    }
+}
@@ -0,0 +1,344 @@
+package com.bizmate.common.search;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * InvertedIndex (프로세스 내 전문 검색 색인)
+ * ------------------------------------------
+ * ✅ 토큰(BigramAnalyzer) → 문서 → 필드별 출현 횟수
+ * ✅ 검색: 검색어의 모든 토큰을 포함한 문서 (AND), 필드 가중치 + BM25 방식 점수로 정렬
+ * ✅ 문서별 stamp(버전/수정시각)를 함께 보관 → 재시작 시 DB 와 비교해 바뀐 문서만 재색인
+ * ✅ 디스크 스냅샷 (gzip, 임시 파일 후 원자적 이동)
+ * ✅ 읽기/쓰기 잠금: 검색은 동시에, 색인 변경은 단독으로
+ */
+@Slf4j
+public class InvertedIndex {
+
+    private static final String MAGIC = "BIZMATE-IDX-1";
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    /** 검색 결과 1건 */
+    public record Hit(String key, double score, Map<String, String> attrs, long sortKey) {
+    }
+
+    public record Result(long total, List<Hit> hits) {
+    }
+
+    /** 기본 정렬: 점수 ↓, sortKey(보통 작성시각) ↓ */
+    public static final Comparator<Hit> BY_SCORE = Comparator.comparingDouble(Hit::score).reversed()
+            .thenComparing(Comparator.comparingLong(Hit::sortKey).reversed());
+
+    private record Doc(String key, String stamp, long sortKey, Map<String, String> attrs,
+                       int[] fieldLengths, Map<String, int[]> termFields) {
+    }
+
+    private final String name;
+    private final double[] fieldWeights;
+    private final Path snapshotFile;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Doc> docs = new HashMap<>();
+    private final TreeMap<String, Map<String, int[]>> postings = new TreeMap<>();
+    private final long[] totalFieldLengths;
+    private volatile boolean dirty;
+
+    public InvertedIndex(String name, double[] fieldWeights, Path snapshotFile) {
+        this.name = name;
+        this.fieldWeights = fieldWeights.clone();
+        this.snapshotFile = snapshotFile;
+        this.totalFieldLengths = new long[fieldWeights.length];
+    }
+
+    /* -------------------------------------------------------------
+       색인 변경
+       ------------------------------------------------------------- */
+
+    /**
+     * 문서 추가/교체
+     *
+     * @param fields  필드별 본문 (생성자의 fieldWeights 순서)
+     * @param attrs   필터용 속성 (게시판 유형, 삭제 여부 등)
+     * @param stamp   문서 버전 (재시작 시 DB 와 비교)
+     * @param sortKey 동점 정렬 기준 (작성시각 epoch 등)
+     */
+    public void put(String key, String[] fields, Map<String, String> attrs, String stamp, long sortKey) {
+        int[] lengths = new int[fieldWeights.length];
+        Map<String, int[]> termFields = new HashMap<>();
+        for (int f = 0; f < fieldWeights.length && f < fields.length; f++) {
+            for (Map.Entry<String, Integer> e : BigramAnalyzer.termFrequencies(fields[f]).entrySet()) {
+                termFields.computeIfAbsent(e.getKey(), t -> new int[fieldWeights.length])[f] = e.getValue();
+                lengths[f] += e.getValue();
+            }
+        }
+        Doc doc = new Doc(key, stamp, sortKey, Map.copyOf(attrs), lengths, termFields);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+            addInternal(doc);
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String key) {
+        lock.writeLock().lock();
+        try {
+            if (removeInternal(key)) {
+                dirty = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            docs.clear();
+            postings.clear();
+            Arrays.fill(totalFieldLengths, 0);
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addInternal(Doc doc) {
+        docs.put(doc.key(), doc);
+        doc.termFields().forEach((term, tf) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(doc.key(), tf));
+        for (int f = 0; f < totalFieldLengths.length; f++) {
+            totalFieldLengths[f] += doc.fieldLengths()[f];
+        }
+    }
+
+    private boolean removeInternal(String key) {
+        Doc old = docs.remove(key);
+        if (old == null) return false;
+        for (String term : old.termFields().keySet()) {
+            Map<String, int[]> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(key);
+                if (posting.isEmpty()) postings.remove(term);
+            }
+        }
+        for (int f = 0; f < totalFieldLengths.length; f++) {
+            totalFieldLengths[f] -= old.fieldLengths()[f];
+        }
+        return true;
+    }
+
+    /* -------------------------------------------------------------
+       검색
+       ------------------------------------------------------------- */
+
+    /**
+     * @param field  검색 필드 (-1 = 전체 필드)
+     * @param filter 속성 필터 (null = 전체)
+     * @param order  정렬 (null = BY_SCORE)
+     */
+    public Result search(String query, int field, Predicate<Map<String, String>> filter,
+                         Comparator<Hit> order, int offset, int limit) {
+        Set<String> terms = BigramAnalyzer.queryTerms(query);
+        if (terms.isEmpty()) return new Result(0, List.of());
+
+        lock.readLock().lock();
+        List<Hit> hits = new ArrayList<>();
+        try {
+            // 토큰별 포스팅 (1글자 토큰은 그 글자로 시작하는 모든 토큰의 합집합)
+            List<Map<String, int[]>> termPostings = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<String, int[]> posting = term.length() == 1 ? prefixPosting(term) : postings.get(term);
+                if (posting == null || posting.isEmpty()) return new Result(0, List.of());
+                termPostings.add(posting);
+            }
+            termPostings.sort(Comparator.comparingInt(Map::size));
+
+            int docCount = docs.size();
+            double[] avgLengths = new double[totalFieldLengths.length];
+            for (int f = 0; f < avgLengths.length; f++) {
+                avgLengths[f] = docCount == 0 ? 1 : Math.max(1.0, (double) totalFieldLengths[f] / docCount);
+            }
+
+            // 가장 짧은 포스팅에서 후보를 뽑아 나머지 토큰 포함 여부 확인
+            candidates:
+            for (String key : termPostings.get(0).keySet()) {
+                Doc doc = docs.get(key);
+                if (doc == null || (filter != null && !filter.test(doc.attrs()))) continue;
+
+                double score = 0;
+                for (Map<String, int[]> posting : termPostings) {
+                    int[] tf = posting.get(key);
+                    if (tf == null || (field >= 0 && tf[field] == 0)) continue candidates;
+
+                    double idf = Math.log(1 + (docCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                    for (int f = 0; f < tf.length; f++) {
+                        if (tf[f] == 0 || (field >= 0 && f != field)) continue;
+                        double norm = K1 * (1 - B + B * doc.fieldLengths()[f] / avgLengths[f]);
+                        score += fieldWeights[f] * idf * (tf[f] * (K1 + 1)) / (tf[f] + norm);
+                    }
+                }
+                hits.add(new Hit(key, score, doc.attrs(), doc.sortKey()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(order != null ? order : BY_SCORE);
+        int from = Math.min(Math.max(offset, 0), hits.size());
+        int to = Math.min(from + Math.max(limit, 0), hits.size());
+        return new Result(hits.size(), List.copyOf(hits.subList(from, to)));
+    }
+
+    /** 1글자 검색어: 그 글자로 시작하는 토큰들의 포스팅 합집합 (필드별 횟수 합산) */
+    private Map<String, int[]> prefixPosting(String ch) {
+        Map<String, int[]> merged = new HashMap<>();
+        for (Map<String, int[]> posting : postings.subMap(ch, true, ch + Character.MAX_VALUE, true).values()) {
+            posting.forEach((key, tf) -> {
+                int[] acc = merged.computeIfAbsent(key, k -> new int[tf.length]);
+                for (int f = 0; f < tf.length; f++) acc[f] += tf[f];
+            });
+        }
+        return merged;
+    }
+
+    /* -------------------------------------------------------------
+       상태
+       ------------------------------------------------------------- */
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 문서 키 → stamp (재시작 후 DB 비교용 복사본) */
+    public Map<String, String> stamps() {
+        lock.readLock().lock();
+        try {
+            Map<String, String> copy = new HashMap<>(docs.size() * 2);
+            docs.forEach((key, doc) -> copy.put(key, doc.stamp()));
+            return copy;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /* -------------------------------------------------------------
+       스냅샷 저장 / 복원
+       ------------------------------------------------------------- */
+
+    public void save() throws IOException {
+        Files.createDirectories(snapshotFile.getParent());
+        Path tmp = Files.createTempFile(snapshotFile.getParent(), snapshotFile.getFileName().toString(), ".tmp");
+        int written;
+
+        lock.readLock().lock();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tmp)), 64 * 1024))) {
+            dirty = false;
+            out.writeUTF(MAGIC);
+            out.writeInt(fieldWeights.length);
+            out.writeInt(docs.size());
+            for (Doc doc : docs.values()) {
+                out.writeUTF(doc.key());
+                out.writeUTF(doc.stamp() != null ? doc.stamp() : "");
+                out.writeLong(doc.sortKey());
+                out.writeInt(doc.attrs().size());
+                for (Map.Entry<String, String> a : doc.attrs().entrySet()) {
+                    out.writeUTF(a.getKey());
+                    out.writeUTF(a.getValue());
+                }
+                for (int len : doc.fieldLengths()) out.writeInt(len);
+                out.writeInt(doc.termFields().size());
+                for (Map.Entry<String, int[]> t : doc.termFields().entrySet()) {
+                    out.writeUTF(t.getKey());
+                    for (int tf : t.getValue()) out.writeInt(tf);
+                }
+            }
+            written = docs.size();
+        } catch (IOException e) {
+            dirty = true;
+            Files.deleteIfExists(tmp);
+            throw e;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Files.move(tmp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("💾 검색 색인 저장: {} ({}건, {} bytes)", name, written, Files.size(snapshotFile));
+    }
+
+    /**
+     * 스냅샷 복원 (없거나 손상되면 빈 색인 → 호출자가 전체 재색인)
+     *
+     * @return 복원 성공 여부
+     */
+    public boolean load() {
+        if (!Files.isReadable(snapshotFile)) return false;
+
+        List<Doc> loaded = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(
+                new BufferedInputStream(Files.newInputStream(snapshotFile)), 64 * 1024))) {
+            if (!MAGIC.equals(in.readUTF()) || in.readInt() != fieldWeights.length) {
+                log.warn("⚠️ 검색 색인 형식 불일치 → 재색인: {}", name);
+                return false;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String key = in.readUTF();
+                String stamp = in.readUTF();
+                long sortKey = in.readLong();
+                int attrCount = in.readInt();
+                Map<String, String> attrs = new HashMap<>();
+                for (int a = 0; a < attrCount; a++) attrs.put(in.readUTF(), in.readUTF());
+                int[] lengths = new int[fieldWeights.length];
+                for (int f = 0; f < lengths.length; f++) lengths[f] = in.readInt();
+                int termCount = in.readInt();
+                Map<String, int[]> termFields = new HashMap<>(termCount * 2);
+                for (int t = 0; t < termCount; t++) {
+                    String term = in.readUTF();
+                    int[] tf = new int[fieldWeights.length];
+                    for (int f = 0; f < tf.length; f++) tf[f] = in.readInt();
+                    termFields.put(term, tf);
+                }
+                loaded.add(new Doc(key, stamp, sortKey, Map.copyOf(attrs), lengths, termFields));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("⚠️ 검색 색인 복원 실패 → 재색인: {}, {}", name, e.getMessage());
+            return false;
+        }
+
+        lock.writeLock().lock();
+        try {
+            docs.clear();
+            postings.clear();
+            Arrays.fill(totalFieldLengths, 0);
+            loaded.forEach(this::addInternal);
+            dirty = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("📂 검색 색인 복원: {} ({}건)", name, loaded.size());
+        return true;
+    }
+}
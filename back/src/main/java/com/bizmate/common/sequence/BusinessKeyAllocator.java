@@ -0,0 +1,99 @@
+package com.bizmate.common.sequence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * BusinessKeyAllocator
+ * --------------------
+ * ✅ 결재/매출/주문/수금/사번 등 업무 번호 공통 발급기 (hi/lo)
+ * ✅ KEY_SEGMENT 에서 (접두어, 일자) 별 구간을 예약하고, 구간 내 번호는 AtomicLong 으로 무잠금 발급
+ * ✅ 여러 노드가 떠 있어도 구간이 겹치지 않으므로 중복 번호 없음
+ *    (노드 재기동 시 남은 구간만큼 번호가 건너뛸 수 있음)
+ */
+@Slf4j
+@Component
+public class BusinessKeyAllocator {
+
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final KeySegmentStore segmentStore;
+    private final int defaultBlockSize;
+
+    /** 세그먼트 키 → 현재 메모리 구간 */
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+    /** 세그먼트 키 → 구간 재예약 잠금 (재예약 시에만 사용) */
+    private final Map<String, Object> refillLocks = new ConcurrentHashMap<>();
+
+    public BusinessKeyAllocator(KeySegmentStore segmentStore,
+                                @Value("${bizmate.keygen.block-size:20}") int defaultBlockSize) {
+        this.segmentStore = segmentStore;
+        this.defaultBlockSize = defaultBlockSize;
+    }
+
+    /**
+     * 다음 번호 발급 (기본 구간 크기)
+     * @param prefix     키 접두어 (예: SALES, APPROVAL-HR)
+     * @param day        일자별 초기화 키면 일자, 아니면 null
+     * @param currentMax 구간이 처음 만들어질 때 기존 데이터의 최대 번호
+     */
+    public long next(String prefix, LocalDate day, LongSupplier currentMax) {
+        return next(prefix, day, defaultBlockSize, currentMax);
+    }
+
+    public long next(String prefix, LocalDate day, int blockSize, LongSupplier currentMax) {
+        String segmentKey = day != null ? prefix + "|" + day.format(DAY_FORMAT) : prefix;
+
+        while (true) {
+            Block block = blocks.get(segmentKey);
+            if (block != null) {
+                long value = block.next.getAndIncrement();
+                if (value < block.end) return value;
+            }
+
+            // 구간 소진 → 키 단위로 한 스레드만 재예약
+            synchronized (refillLocks.computeIfAbsent(segmentKey, k -> new Object())) {
+                if (blocks.get(segmentKey) != block) continue; // 다른 스레드가 이미 재예약
+
+                long start = segmentStore.reserve(segmentKey, prefix, day, blockSize, currentMax);
+                blocks.put(segmentKey, new Block(start, start + blockSize));
+                if (day != null) evictPastDays(prefix, day);
+            }
+        }
+    }
+
+    /** 지난 일자의 메모리 구간 정리 */
+    private void evictPastDays(String prefix, LocalDate today) {
+        String todayKey = prefix + "|" + today.format(DAY_FORMAT);
+        blocks.keySet().removeIf(key -> key.startsWith(prefix + "|") && key.compareTo(todayKey) < 0);
+        refillLocks.keySet().removeIf(key -> key.startsWith(prefix + "|") && key.compareTo(todayKey) < 0);
+    }
+
+    /** 업무 번호 끝자리(일련번호) 파싱 - 형식이 다르면 0 */
+    public static long parseSequence(String key, int sequenceLength) {
+        if (key == null || key.length() < sequenceLength) return 0;
+        try {
+            return Long.parseLong(key.substring(key.length() - sequenceLength));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static final class Block {
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
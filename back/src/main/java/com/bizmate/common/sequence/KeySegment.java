@@ -0,0 +1,40 @@
+package com.bizmate.common.sequence;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * ✅ KeySegment (업무 키 발급 구간 테이블)
+ * - (키 접두어, 일자) 별 다음 발급 가능 번호(hi)를 보관
+ * - 각 노드는 blockSize 만큼 구간을 예약한 뒤 메모리에서 번호(lo)를 발급
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "KEY_SEGMENT")
+public class KeySegment {
+
+    /** 접두어|yyyyMMdd (일자 없는 키는 접두어만) */
+    @Id
+    @Column(name = "SEGMENT_KEY", length = 80, nullable = false)
+    private String segmentKey;
+
+    @Column(name = "KEY_PREFIX", length = 60, nullable = false)
+    private String keyPrefix;
+
+    @Column(name = "KEY_DATE")
+    private LocalDate keyDate;
+
+    /** 다음 예약 구간의 시작 번호 */
+    @Column(name = "NEXT_VALUE", nullable = false)
+    private long nextValue;
+
+    @Column(name = "UPDATED_AT", nullable = false)
+    private LocalDateTime updatedAt;
+}
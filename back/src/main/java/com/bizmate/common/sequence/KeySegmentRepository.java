@@ -0,0 +1,19 @@
+package com.bizmate.common.sequence;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface KeySegmentRepository extends JpaRepository<KeySegment, String> {
+
+    /**
+     * 구간 예약용 행 잠금 조회 (SELECT ... FOR UPDATE)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM KeySegment s WHERE s.segmentKey = :segmentKey")
+    Optional<KeySegment> findForUpdate(@Param("segmentKey") String segmentKey);
+}
@@ -0,0 +1,77 @@
+package com.bizmate.common.sequence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.LongSupplier;
+
+/**
+ * KeySegmentStore
+ * --------------------
+ * ✅ KEY_SEGMENT 행을 잠그고 [start, start + blockSize) 구간을 예약
+ * ✅ 업무 트랜잭션과 분리된 별도 트랜잭션(REQUIRES_NEW) → 잠금 즉시 해제
+ * ✅ 최초 행 생성 경합(다중 노드)은 PK 충돌 후 재시도로 해결
+ */
+@Slf4j
+@Component
+public class KeySegmentStore {
+
+    private static final int MAX_INSERT_RETRY = 3;
+
+    private final KeySegmentRepository keySegmentRepository;
+    private final TransactionTemplate requiresNew;
+
+    public KeySegmentStore(KeySegmentRepository keySegmentRepository, PlatformTransactionManager transactionManager) {
+        this.keySegmentRepository = keySegmentRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 구간 예약
+     * @param currentMax 구간 행이 아직 없을 때 기존 데이터의 최대 번호 (0이면 1부터 시작)
+     * @return 예약된 구간의 시작 번호
+     */
+    public long reserve(String segmentKey, String prefix, LocalDate day, int blockSize, LongSupplier currentMax) {
+        DataIntegrityViolationException last = null;
+        for (int attempt = 0; attempt < MAX_INSERT_RETRY; attempt++) {
+            try {
+                Long start = requiresNew.execute(status -> reserveInTx(segmentKey, prefix, day, blockSize, currentMax));
+                return start;
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드가 같은 키의 첫 행을 먼저 생성 → 잠금 조회부터 재시도
+                last = e;
+                log.debug("🔁 키 구간 최초 생성 경합 → 재시도: key={}, attempt={}", segmentKey, attempt + 1);
+            }
+        }
+        throw new IllegalStateException("키 구간 예약 실패: " + segmentKey, last);
+    }
+
+    private long reserveInTx(String segmentKey, String prefix, LocalDate day, int blockSize, LongSupplier currentMax) {
+        KeySegment segment = keySegmentRepository.findForUpdate(segmentKey).orElse(null);
+
+        if (segment != null) {
+            long start = segment.getNextValue();
+            segment.setNextValue(start + blockSize);
+            segment.setUpdatedAt(LocalDateTime.now());
+            return start;
+        }
+
+        long start = currentMax.getAsLong() + 1;
+        keySegmentRepository.saveAndFlush(KeySegment.builder()
+                .segmentKey(segmentKey)
+                .keyPrefix(prefix)
+                .keyDate(day)
+                .nextValue(start + blockSize)
+                .updatedAt(LocalDateTime.now())
+                .build());
+        log.info("🆕 키 구간 생성: key={}, 시작번호={}", segmentKey, start);
+        return start;
+    }
+}
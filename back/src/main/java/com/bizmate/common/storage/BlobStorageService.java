@@ -0,0 +1,44 @@
+package com.bizmate.common.storage;
+
+import org.springframework.core.io.Resource;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * 내용 주소 기반 파일 저장소
+ * - 저장 시 SHA-256 해시를 스트리밍으로 계산, 같은 내용은 1개만 저장하고 참조 수만 증가
+ * - 참조 수 증감은 호출자 트랜잭션에 포함 (롤백 시 함께 취소)
+ */
+public interface BlobStorageService {
+
+    /** 업로드 파일 저장 (참조 +1) */
+    StoredBlobRef store(MultipartFile file);
+
+    /** 스트림 저장 (참조 +1) - 마이그레이션 등 */
+    StoredBlobRef store(InputStream in);
+
+    /** 직접 쓰기용 임시 파일 생성 (저장소와 같은 파일시스템 → adopt 시 복사 없이 이동) */
+    Path createStagingFile() throws IOException;
+
+    /**
+     * 임시 파일을 해시 계산 후 저장소로 이동 (참조 +1) - 청크 업로드 완료 등
+     * - expectedHash 가 있고 계산값과 다르면 이동하지 않고 VerificationFailedException
+     */
+    StoredBlobRef adopt(Path stagingFile, String expectedHash);
+
+    /** 해시 → 실제 파일 경로 */
+    Path resolve(String contentHash);
+
+    Resource load(String contentHash);
+
+    /** 참조 -1 (0 이 되면 유예기간 후 정리 작업이 삭제) */
+    void release(String contentHash);
+
+    /** 해시 형식 여부 (64자리 16진수) */
+    static boolean isContentHash(String value) {
+        return value != null && value.matches("[0-9a-f]{64}");
+    }
+}
@@ -0,0 +1,274 @@
+package com.bizmate.common.storage;
+
+import com.bizmate.common.exception.VerificationFailedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * BlobStorageServiceImpl (로컬 디스크)
+ * -------------------------------------
+ * ✅ 임시 파일로 스트리밍 저장하면서 SHA-256 계산 (멀티파트 전체를 메모리에 올리지 않음)
+ * ✅ 샤딩 경로: {root}/ab/cd/abcd...(해시 64자)
+ * ✅ 같은 해시가 이미 있으면 임시 파일 삭제 후 참조 수만 증가
+ * ✅ 참조 0 + 유예기간 경과 blob 은 주기 작업에서 행/파일 삭제
+ * ✅ 파일 이동·삭제는 해시별 잠금으로 직렬화 (업로드와 정리 작업의 경합 방지)
+ */
+@Slf4j
+@Service
+public class BlobStorageServiceImpl implements BlobStorageService {
+
+    private static final int LOCK_STRIPES = 64;
+    private static final int PURGE_BATCH_SIZE = 200;
+
+    private final StoredBlobRepository blobRepository;
+    private final TransactionTemplate requiresNew;
+    private final Path root;
+    private final Path tmpDir;
+    private final Duration purgeGrace;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    private final Counter purgedBytes;
+
+    public BlobStorageServiceImpl(
+            StoredBlobRepository blobRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${bizmate.storage.root:${com.bizmate.upload.path:uploads}/blobs}") String root,
+            @Value("${bizmate.storage.purge-grace-minutes:60}") long purgeGraceMinutes
+    ) {
+        this.blobRepository = blobRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.tmpDir = this.root.resolve(".tmp");
+        this.purgeGrace = Duration.ofMinutes(purgeGraceMinutes);
+        this.purgedBytes = Counter.builder("bizmate.storage.blob.purged.bytes")
+                .description("참조 없는 blob 정리로 회수한 디스크 용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /* -------------------------------------------------------------
+       저장
+       ------------------------------------------------------------- */
+
+    @Override
+    @Transactional
+    public StoredBlobRef store(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new VerificationFailedException("파일이 비어 있습니다.");
+        }
+        try (InputStream in = file.getInputStream()) {
+            return store(in);
+        } catch (IOException e) {
+            throw new RuntimeException("파일 저장 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public StoredBlobRef store(InputStream in) {
+        Path tmp = null;
+        try {
+            Files.createDirectories(tmpDir);
+            tmp = Files.createTempFile(tmpDir, "upload-", ".part");
+
+            // ✅ 임시 파일로 복사하면서 해시 계산
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size;
+            try (DigestInputStream din = new DigestInputStream(in, digest);
+                 OutputStream out = Files.newOutputStream(tmp)) {
+                size = din.transferTo(out);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            StoredBlobRef ref = place(tmp, hash, size);
+            tmp = null;
+            return ref;
+
+        } catch (IOException e) {
+            throw new RuntimeException("파일 저장 실패: " + e.getMessage(), e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignore) {
+                    // 임시 파일 정리 실패는 무시
+                }
+            }
+        }
+    }
+
+    @Override
+    public Path createStagingFile() throws IOException {
+        Files.createDirectories(tmpDir);
+        return Files.createTempFile(tmpDir, "staging-", ".part");
+    }
+
+    @Override
+    @Transactional
+    public StoredBlobRef adopt(Path stagingFile, String expectedHash) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size;
+            try (InputStream in = new DigestInputStream(Files.newInputStream(stagingFile), digest)) {
+                size = in.transferTo(OutputStream.nullOutputStream());
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            if (expectedHash != null && !expectedHash.equalsIgnoreCase(hash)) {
+                throw new VerificationFailedException("파일 체크섬이 일치하지 않습니다. 다시 업로드해 주세요.");
+            }
+            return place(stagingFile, hash, size);
+        } catch (IOException e) {
+            throw new RuntimeException("파일 저장 실패: " + e.getMessage(), e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 해시가 계산된 임시 파일을 샤딩 경로로 이동 + 참조 +1
+     * - 같은 해시가 이미 있으면 임시 파일만 삭제
+     */
+    private StoredBlobRef place(Path tmp, String hash, long size) throws IOException {
+        Path target = resolve(hash);
+
+        // ✅ 파일 배치 + 메타 행 보장 (해시별 잠금)
+        ReentrantLock lock = lockFor(hash);
+        lock.lock();
+        try {
+            if (Files.exists(target)) {
+                Files.deleteIfExists(tmp);
+            } else {
+                Files.createDirectories(target.getParent());
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+            ensureRow(hash, size);
+        } finally {
+            lock.unlock();
+        }
+
+        // ✅ 참조 +1 (호출자 트랜잭션)
+        if (blobRepository.incrementRefCount(hash, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("blob 메타 정보가 없습니다: " + hash);
+        }
+        log.info("📦 blob 저장: {} ({} bytes)", hash, size);
+        return new StoredBlobRef(hash, size, target);
+    }
+
+    /**
+     * 메타 행이 없으면 참조 0 으로 생성, 있으면 갱신시각만 변경 (별도 트랜잭션 → 즉시 커밋)
+     * - 동시에 같은 내용이 처음 올라오면 PK 충돌 → 이미 생성된 것으로 간주
+     */
+    private void ensureRow(String hash, long size) {
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                if (blobRepository.touch(hash, now) == 0) {
+                    blobRepository.saveAndFlush(StoredBlob.builder()
+                            .contentHash(hash)
+                            .sizeBytes(size)
+                            .refCount(0)
+                            .createdAt(now)
+                            .updatedAt(now)
+                            .build());
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("🔁 blob 메타 동시 생성: {}", hash);
+        }
+    }
+
+    /* -------------------------------------------------------------
+       조회 / 해제
+       ------------------------------------------------------------- */
+
+    @Override
+    public Path resolve(String contentHash) {
+        if (!BlobStorageService.isContentHash(contentHash)) {
+            throw new IllegalArgumentException("잘못된 파일 해시: " + contentHash);
+        }
+        return root.resolve(contentHash.substring(0, 2))
+                .resolve(contentHash.substring(2, 4))
+                .resolve(contentHash);
+    }
+
+    @Override
+    public Resource load(String contentHash) {
+        return new FileSystemResource(resolve(contentHash));
+    }
+
+    @Override
+    @Transactional
+    public void release(String contentHash) {
+        if (!BlobStorageService.isContentHash(contentHash)) return;
+        blobRepository.decrementRefCount(contentHash, LocalDateTime.now());
+    }
+
+    /* -------------------------------------------------------------
+       정리 (참조 0 + 유예기간 경과)
+       ------------------------------------------------------------- */
+
+    @Scheduled(fixedDelayString = "${bizmate.storage.purge-interval-ms:3600000}")
+    public void purgeUnreferenced() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(purgeGrace);
+        List<String> hashes = blobRepository.findPurgeable(cutoff, PageRequest.of(0, PURGE_BATCH_SIZE));
+
+        int purged = 0;
+        for (String hash : hashes) {
+            ReentrantLock lock = lockFor(hash);
+            lock.lock();
+            try {
+                Integer deleted = requiresNew.execute(status -> blobRepository.deleteIfUnreferenced(hash, cutoff));
+                if (deleted != null && deleted > 0) {
+                    Path file = resolve(hash);
+                    long size = Files.exists(file) ? Files.size(file) : 0;
+                    if (Files.deleteIfExists(file)) {
+                        purgedBytes.increment(size);
+                    }
+                    purged++;
+                }
+            } catch (IOException e) {
+                log.warn("⚠️ blob 파일 삭제 실패: {}, {}", hash, e.getMessage());
+            } finally {
+                lock.unlock();
+            }
+        }
+        if (purged > 0) {
+            log.info("🧹 참조 없는 blob {}건 정리", purged);
+        }
+    }
+
+    private ReentrantLock lockFor(String hash) {
+        return locks[Integer.parseInt(hash.substring(0, 2), 16) % LOCK_STRIPES];
+    }
+}
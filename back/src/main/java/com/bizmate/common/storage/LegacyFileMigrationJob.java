@@ -0,0 +1,186 @@
+package com.bizmate.common.storage;
+
+import com.bizmate.common.file.FileUtil;
+import com.bizmate.groupware.approval.domain.attachment.ApprovalFileAttachment;
+import com.bizmate.groupware.approval.repository.attachment.ApprovalFileAttachmentRepository;
+import com.bizmate.groupware.approval.service.attachment.AttachmentMetadataCache;
+import com.bizmate.salesPages.client.domain.Client;
+import com.bizmate.salesPages.client.repository.ClientRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LegacyFileMigrationJob
+ * -----------------------
+ * ✅ 이전 방식(고정 경로 + 타임스탬프/UUID 파일명)으로 저장된 파일을 내용 해시 저장소로 이관
+ * ✅ 결재 첨부: CONTENT_HASH 채우고 FILE_PATH/STORED_NAME 갱신 → 커밋 후 원본 파일 삭제
+ * ✅ 거래처 사업자등록증: 파일명을 "{해시}_{원본명}" 으로 변경
+ *    (Envers 이력이 이전 파일명을 참조하므로 원본 파일은 삭제하지 않음)
+ * ✅ 배치 단위 트랜잭션, 파일이 없는 행은 건너뜀 → 여러 번 실행해도 안전
+ */
+@Slf4j
+@Component
+public class LegacyFileMigrationJob {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final BlobStorageService blobStorageService;
+    private final ApprovalFileAttachmentRepository attachmentRepository;
+    private final ClientRepository clientRepository;
+    private final AttachmentMetadataCache attachmentMetadataCache;
+    private final TransactionTemplate transactionTemplate;
+    private final String uploadPath;
+    private final boolean migrateOnStartup;
+
+    public LegacyFileMigrationJob(
+            BlobStorageService blobStorageService,
+            ApprovalFileAttachmentRepository attachmentRepository,
+            ClientRepository clientRepository,
+            AttachmentMetadataCache attachmentMetadataCache,
+            PlatformTransactionManager transactionManager,
+            @Value("${com.bizmate.upload.path:uploads}") String uploadPath,
+            @Value("${bizmate.storage.migrate-on-startup:false}") boolean migrateOnStartup
+    ) {
+        this.blobStorageService = blobStorageService;
+        this.attachmentRepository = attachmentRepository;
+        this.clientRepository = clientRepository;
+        this.attachmentMetadataCache = attachmentMetadataCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.uploadPath = uploadPath;
+        this.migrateOnStartup = migrateOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (migrateOnStartup) {
+            migrate();
+        }
+    }
+
+    public void migrate() {
+        int attachments = migrateAttachments();
+        int clients = migrateClientLicenses();
+        log.info("📦 이전 파일 이관 완료: 결재 첨부 {}건, 사업자등록증 {}건", attachments, clients);
+    }
+
+    /* -------------------------------------------------------------
+       결재 첨부
+       ------------------------------------------------------------- */
+
+    private int migrateAttachments() {
+        int migrated = 0;
+        long lastId = 0L;
+
+        while (true) {
+            long cursor = lastId;
+            List<Path> obsolete = new ArrayList<>();
+            List<Long> migratedIds = new ArrayList<>();
+
+            BatchResult result = transactionTemplate.execute(status -> {
+                List<ApprovalFileAttachment> batch = attachmentRepository
+                        .findByContentHashIsNullAndIdGreaterThanOrderByIdAsc(cursor, PageRequest.of(0, BATCH_SIZE));
+                int count = 0;
+                for (ApprovalFileAttachment attachment : batch) {
+                    Path legacy = attachment.getFilePath() != null ? Paths.get(attachment.getFilePath()) : null;
+                    if (legacy == null || !Files.isReadable(legacy)) {
+                        log.warn("⚠️ 이관 대상 파일 없음: attachmentId={}, path={}", attachment.getId(), attachment.getFilePath());
+                        continue;
+                    }
+                    StoredBlobRef blob = ingest(legacy);
+                    attachment.setContentHash(blob.contentHash());
+                    attachment.setStoredName(blob.contentHash());
+                    attachment.setFilePath(blob.path().toString());
+                    attachment.setFileSize(blob.sizeBytes());
+                    obsolete.add(legacy);
+                    migratedIds.add(attachment.getId());
+                    count++;
+                }
+                return new BatchResult(batch.isEmpty() ? null : batch.get(batch.size() - 1).getId(), count);
+            });
+
+            if (result == null || result.lastId() == null) break;
+            lastId = result.lastId();
+            migrated += result.migrated();
+
+            // 커밋 이후에만 원본 삭제 (롤백 시 원본 유지)
+            migratedIds.forEach(attachmentMetadataCache::evict);
+            obsolete.forEach(this::deleteQuietly);
+        }
+        return migrated;
+    }
+
+    /* -------------------------------------------------------------
+       거래처 사업자등록증
+       ------------------------------------------------------------- */
+
+    private int migrateClientLicenses() {
+        int migrated = 0;
+        long lastNo = 0L;
+        Path base = Paths.get(uploadPath);
+
+        while (true) {
+            long cursor = lastNo;
+            BatchResult result = transactionTemplate.execute(status -> {
+                List<Client> batch = clientRepository
+                        .findByBusinessLicenseFileIsNotNullAndClientNoGreaterThanOrderByClientNoAsc(cursor, PageRequest.of(0, BATCH_SIZE));
+                int count = 0;
+                for (Client client : batch) {
+                    String savedName = client.getBusinessLicenseFile();
+                    if (savedName.isBlank() || FileUtil.contentHashOf(savedName) != null) continue;
+
+                    Path legacy = base.resolve(savedName).normalize();
+                    if (!legacy.startsWith(base.normalize()) || !Files.isReadable(legacy)) {
+                        log.warn("⚠️ 이관 대상 파일 없음: clientNo={}, file={}", client.getClientNo(), savedName);
+                        continue;
+                    }
+                    StoredBlobRef blob = ingest(legacy);
+                    client.changeBusinessLicenseFile(blob.contentHash() + "_" + FileUtil.originalNameOf(savedName));
+                    count++;
+                }
+                return new BatchResult(batch.isEmpty() ? null : batch.get(batch.size() - 1).getClientNo(), count);
+            });
+
+            if (result == null || result.lastId() == null) break;
+            lastNo = result.lastId();
+            migrated += result.migrated();
+        }
+        return migrated;
+    }
+
+    /* -------------------------------------------------------------
+       공통
+       ------------------------------------------------------------- */
+
+    private StoredBlobRef ingest(Path legacy) {
+        try (InputStream in = Files.newInputStream(legacy)) {
+            return blobStorageService.store(in);
+        } catch (IOException e) {
+            throw new RuntimeException("파일 이관 실패: " + legacy + ", " + e.getMessage(), e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("⚠️ 이관된 원본 파일 삭제 실패: {}, {}", path, e.getMessage());
+        }
+    }
+
+    private record BatchResult(Long lastId, int migrated) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.bizmate.common.storage;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * ✅ StoredBlob (내용 주소 기반 파일 저장소 메타)
+ * - 파일 내용의 SHA-256 해시가 곧 키 → 같은 내용은 디스크에 1개만 저장
+ * - REF_COUNT: 이 blob 을 참조하는 첨부/파일 수 (0 이 된 뒤 유예기간이 지나면 정리)
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "STORED_BLOB",
+        indexes = {
+                @Index(name = "IDX_STORED_BLOB_REF_UPDATED", columnList = "REF_COUNT, UPDATED_AT")
+        })
+public class StoredBlob {
+
+    @Id
+    @Column(name = "CONTENT_HASH", length = 64, nullable = false)
+    private String contentHash;
+
+    @Column(name = "SIZE_BYTES", nullable = false)
+    private long sizeBytes;
+
+    @Column(name = "REF_COUNT", nullable = false)
+    private long refCount;
+
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "UPDATED_AT", nullable = false)
+    private LocalDateTime updatedAt;
+}
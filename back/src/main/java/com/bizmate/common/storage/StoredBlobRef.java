@@ -0,0 +1,13 @@
+package com.bizmate.common.storage;
+
+import java.nio.file.Path;
+
+/**
+ * 저장된 blob 참조 (해시 / 크기 / 실제 경로)
+ */
+public record StoredBlobRef(
+        String contentHash,
+        long sizeBytes,
+        Path path
+) {
+}
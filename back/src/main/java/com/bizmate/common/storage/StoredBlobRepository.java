@@ -0,0 +1,37 @@
+package com.bizmate.common.storage;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StoredBlobRepository extends JpaRepository<StoredBlob, String> {
+
+    @Modifying
+    @Query("UPDATE StoredBlob b SET b.refCount = b.refCount + 1, b.updatedAt = :now WHERE b.contentHash = :hash")
+    int incrementRefCount(@Param("hash") String hash, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE StoredBlob b SET b.refCount = b.refCount - 1, b.updatedAt = :now " +
+            "WHERE b.contentHash = :hash AND b.refCount > 0")
+    int decrementRefCount(@Param("hash") String hash, @Param("now") LocalDateTime now);
+
+    /** 업로드 직후 정리 대상에서 제외되도록 갱신시각만 변경 */
+    @Modifying
+    @Query("UPDATE StoredBlob b SET b.updatedAt = :now WHERE b.contentHash = :hash")
+    int touch(@Param("hash") String hash, @Param("now") LocalDateTime now);
+
+    /** 참조가 없고 유예기간이 지난 blob */
+    @Query("SELECT b.contentHash FROM StoredBlob b WHERE b.refCount <= 0 AND b.updatedAt < :cutoff")
+    List<String> findPurgeable(@Param("cutoff") LocalDateTime cutoff, Pageable limit);
+
+    @Modifying
+    @Query("DELETE FROM StoredBlob b WHERE b.contentHash = :hash AND b.refCount <= 0 AND b.updatedAt < :cutoff")
+    int deleteIfUnreferenced(@Param("hash") String hash, @Param("cutoff") LocalDateTime cutoff);
+}
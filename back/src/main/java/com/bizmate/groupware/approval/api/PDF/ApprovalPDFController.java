@@ -1,10 +1,13 @@
 package com.bizmate.groupware.approval.api.PDF;
 
-import com.bizmate.groupware.approval.service.PDF.PDFGeneratorService;
+import com.bizmate.groupware.approval.dto.approval.ApprovalPdfStamp;
+import com.bizmate.groupware.approval.service.PDF.ApprovalPdfCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @Slf4j
 @RestController
@@ -12,21 +15,38 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class ApprovalPDFController {
 
-    private final PDFGeneratorService pdfGeneratorService;
+    private final ApprovalPdfCacheService pdfCacheService;
 
     /**
      * ✅ 문서 PDF 생성 및 미리보기/다운로드
+     * - 최종 승인 문서는 캐시 파일 + ETag/Last-Modified (변경 없으면 304)
      */
     @GetMapping("/{docId}")
-    public ResponseEntity<byte[]> generatePdf(@PathVariable String docId) {
-        byte[] pdfBytes = pdfGeneratorService.generateApprovalPdf(docId);
+    public ResponseEntity<Resource> generatePdf(@PathVariable String docId, WebRequest request) {
+        ApprovalPdfStamp stamp = pdfCacheService.stamp(docId);
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_PDF);
-        headers.setContentDisposition(ContentDisposition.inline()
-                .filename(docId + ".pdf")
-                .build());
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                        .filename(docId + ".pdf")
+                        .build()
+                        .toString());
 
-        return new ResponseEntity<>(pdfBytes, headers, HttpStatus.OK);
+        if (pdfCacheService.isCacheable(stamp)) {
+            String eTag = pdfCacheService.eTag(stamp);
+            long lastModified = pdfCacheService.lastModified(stamp);
+
+            if (request.checkNotModified(eTag, lastModified)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(eTag)
+                        .lastModified(lastModified)
+                        .build();
+            }
+            builder.eTag(eTag)
+                    .lastModified(lastModified)
+                    .cacheControl(CacheControl.noCache().cachePrivate());
+        }
+
+        return builder.body(pdfCacheService.load(stamp));
     }
 }
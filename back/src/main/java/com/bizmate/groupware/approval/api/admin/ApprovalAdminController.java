@@ -2,15 +2,28 @@ package com.bizmate.groupware.approval.api.admin;
 
 import com.bizmate.common.page.PageRequestDTO;
 import com.bizmate.common.page.PageResponseDTO;
+import com.bizmate.groupware.approval.dto.approval.ApprovalDocumentListDto;
 import com.bizmate.groupware.approval.dto.approval.ApprovalDocumentsDto;
+import com.bizmate.groupware.approval.dto.approval.ApprovalCounterDriftDto;
+import com.bizmate.groupware.approval.dto.approval.ApprovalPdfExportProgressDto;
+import com.bizmate.groupware.approval.dto.approval.ApprovalPdfExportRequestDto;
+import com.bizmate.groupware.approval.service.PDF.ApprovalPdfExportService;
 import com.bizmate.groupware.approval.service.document.ApprovalDocumentsService;
+import com.bizmate.groupware.approval.service.document.ApprovalStatusCounterReconciler;
 import com.bizmate.hr.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -20,16 +33,18 @@ import org.springframework.web.bind.annotation.*;
 public class ApprovalAdminController {
 
     private final ApprovalDocumentsService approvalDocumentsService;
+    private final ApprovalStatusCounterReconciler counterReconciler;
+    private final ApprovalPdfExportService pdfExportService;
 
     /* -------------------------------------------------------------
      ✅ 1️⃣ 모든 문서 조회 (관리자 전용)
      ------------------------------------------------------------- */
     @GetMapping("/all")
-    public ResponseEntity<PageResponseDTO<ApprovalDocumentsDto>> getAllDocuments(PageRequestDTO pageRequestDTO) {
+    public ResponseEntity<PageResponseDTO<ApprovalDocumentListDto>> getAllDocuments(PageRequestDTO pageRequestDTO) {
         log.info("📄 [관리자] 전체 결재문서 조회 요청: page={}, size={} keyword={}",
                 pageRequestDTO.getPage(), pageRequestDTO.getSize(), pageRequestDTO.getKeyword());
 
-        PageResponseDTO<ApprovalDocumentsDto> result =
+        PageResponseDTO<ApprovalDocumentListDto> result =
                 approvalDocumentsService.getPagedApprovals(pageRequestDTO);
 
         return ResponseEntity.ok(result);
@@ -84,4 +99,52 @@ public class ApprovalAdminController {
         approvalDocumentsService.restoreDocument(docId);
         return ResponseEntity.ok("문서 복원 완료");
     }
+
+    /* -------------------------------------------------------------
+     ✅ 6️⃣ 결재 요약 카운터 재계산 (drift 보고)
+     ------------------------------------------------------------- */
+    @PostMapping("/summary/reconcile")
+    public ResponseEntity<Map<String, Object>> reconcileSummaryCounters() {
+        log.info("🔄 [관리자] 결재 요약 카운터 재계산 요청");
+
+        List<ApprovalCounterDriftDto> drifts = counterReconciler.reconcile();
+        return ResponseEntity.ok(Map.of(
+                "driftCount", drifts.size(),
+                "drifts", drifts
+        ));
+    }
+
+    /* -------------------------------------------------------------
+     ✅ 7️⃣ 결재문서 PDF 일괄 내보내기 (ZIP 스트리밍)
+     - POST 로 작업 생성 → download 로 스트리밍, progress 로 진행 확인, DELETE 로 취소
+     ------------------------------------------------------------- */
+    @PostMapping("/export")
+    public ResponseEntity<ApprovalPdfExportProgressDto> createPdfExport(@RequestBody ApprovalPdfExportRequestDto request) {
+        return ResponseEntity.ok(pdfExportService.create(request));
+    }
+
+    @GetMapping("/export/{exportId}/download")
+    public ResponseEntity<StreamingResponseBody> downloadPdfExport(@PathVariable String exportId) {
+        pdfExportService.begin(exportId);
+
+        StreamingResponseBody body = out -> pdfExportService.writeZip(exportId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(pdfExportService.fileName(exportId))
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @GetMapping("/export/{exportId}/progress")
+    public ResponseEntity<ApprovalPdfExportProgressDto> getPdfExportProgress(@PathVariable String exportId) {
+        return ResponseEntity.ok(pdfExportService.progress(exportId));
+    }
+
+    @DeleteMapping("/export/{exportId}")
+    public ResponseEntity<ApprovalPdfExportProgressDto> cancelPdfExport(@PathVariable String exportId) {
+        pdfExportService.cancel(exportId);
+        return ResponseEntity.ok(pdfExportService.progress(exportId));
+    }
 }
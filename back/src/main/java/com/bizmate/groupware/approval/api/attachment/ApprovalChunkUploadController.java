@@ -0,0 +1,76 @@
+package com.bizmate.groupware.approval.api.attachment;
+
+import com.bizmate.common.exception.VerificationFailedException;
+import com.bizmate.groupware.approval.dto.approval.ApprovalFileAttachmentDto;
+import com.bizmate.groupware.approval.dto.approval.ChunkUploadInitRequestDto;
+import com.bizmate.groupware.approval.dto.approval.ChunkUploadStatusDto;
+import com.bizmate.groupware.approval.service.attachment.ChunkedUploadService;
+import com.bizmate.hr.domain.UserEntity;
+import com.bizmate.hr.repository.UserRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * ✅ 대용량 첨부 분할 업로드
+ * 1) POST   /uploads                          → uploadId, 청크 크기
+ * 2) PUT    /uploads/{uploadId}/chunks?offset= → 청크 본문(application/octet-stream), 병렬 전송 가능
+ * 3) GET    /uploads/{uploadId}               → 받은 청크 목록 (재개용)
+ * 4) POST   /uploads/{uploadId}/complete      → 체크섬 검증 후 첨부 생성 (기존 업로드와 같은 응답)
+ * 5) DELETE /uploads/{uploadId}               → 취소
+ */
+@RestController
+@RequestMapping("/api/approvals/attachments/uploads")
+@RequiredArgsConstructor
+@Slf4j
+public class ApprovalChunkUploadController {
+
+    private final ChunkedUploadService chunkedUploadService;
+    private final UserRepository userRepository;
+
+    @PostMapping
+    public ResponseEntity<ChunkUploadStatusDto> initiate(@RequestBody ChunkUploadInitRequestDto req,
+                                                         @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(chunkedUploadService.initiate(req, currentUser(userDetails)));
+    }
+
+    @PutMapping(value = "/{uploadId}/chunks", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<ChunkUploadStatusDto> uploadChunk(@PathVariable String uploadId,
+                                                            @RequestParam long offset,
+                                                            HttpServletRequest request,
+                                                            @AuthenticationPrincipal UserDetails userDetails) throws IOException {
+        Long userId = currentUser(userDetails).getUserId();
+        return ResponseEntity.ok(chunkedUploadService.writeChunk(uploadId, offset, request.getInputStream(), userId));
+    }
+
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<ChunkUploadStatusDto> status(@PathVariable String uploadId,
+                                                       @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(chunkedUploadService.status(uploadId, currentUser(userDetails).getUserId()));
+    }
+
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<ApprovalFileAttachmentDto> complete(@PathVariable String uploadId,
+                                                              @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(chunkedUploadService.complete(uploadId, currentUser(userDetails)));
+    }
+
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<Void> abort(@PathVariable String uploadId,
+                                      @AuthenticationPrincipal UserDetails userDetails) {
+        chunkedUploadService.abort(uploadId, currentUser(userDetails).getUserId());
+        return ResponseEntity.noContent().build();
+    }
+
+    private UserEntity currentUser(UserDetails userDetails) {
+        return userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new VerificationFailedException("사용자 정보를 찾을 수 없습니다."));
+    }
+}
@@ -1,34 +1,32 @@
 package com.bizmate.groupware.approval.api.attachment;
 
 import com.bizmate.common.exception.VerificationFailedException;
+import com.bizmate.common.file.RangeFileSender;
 import com.bizmate.groupware.approval.domain.document.ApprovalDocuments;
 import com.bizmate.groupware.approval.domain.attachment.ApprovalFileAttachment;
 import com.bizmate.groupware.approval.dto.approval.ApprovalFileAttachmentDto;
 import com.bizmate.groupware.approval.repository.document.ApprovalDocumentsRepository;
 import com.bizmate.groupware.approval.repository.attachment.ApprovalFileAttachmentRepository;
+import com.bizmate.groupware.approval.service.attachment.AttachmentMetadataCache;
+import com.bizmate.groupware.approval.service.attachment.FileStorageService;
 import com.bizmate.hr.domain.UserEntity;
 import com.bizmate.hr.repository.UserRepository;
 import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.core.io.Resource;
 import org.springframework.http.ContentDisposition;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.*;
-import java.net.URLEncoder;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.*;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.nio.file.Path;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -42,8 +40,9 @@ public class ApprovalFileAttachmentController {
     private final ApprovalFileAttachmentRepository fileAttachmentRepository;
     private final ApprovalDocumentsRepository approvalDocumentsRepository;
     private final UserRepository userRepository;
-
-    private static final String BASE_UPLOAD_DIR = "C:/bizmate/uploads";
+    private final FileStorageService fileStorageService;
+    private final AttachmentMetadataCache metadataCache;
+    private final RangeFileSender rangeFileSender;
 
     /**
      * ✅ 1️⃣ 파일 업로드 (문서 ID 포함)
@@ -66,29 +65,8 @@ public class ApprovalFileAttachmentController {
             document = entityManager.getReference(ApprovalDocuments.class, docId);
         }
 
-        // 실제 저장 경로 생성
-        Path uploadDir = Paths.get(BASE_UPLOAD_DIR, LocalDate.now().toString());
-        Files.createDirectories(uploadDir);
-
-        String storedName = System.currentTimeMillis() + "_" + file.getOriginalFilename();
-        Path filePath = uploadDir.resolve(storedName);
-
-        //실제 파일 저장
-        file.transferTo(filePath.toFile());
-
-        // DB 저장
-        ApprovalFileAttachment entity = ApprovalFileAttachment.builder()
-                .document(document)               // ✅ 문서가 없으면 null로 저장
-                .uploader(uploader)
-                .originalName(file.getOriginalFilename())
-                .storedName(storedName)
-                .filePath(filePath.toString())
-                .fileSize(file.getSize())
-                .contentType(file.getContentType())
-                .uploadedAt(LocalDateTime.now())
-                .build();
-
-        ApprovalFileAttachment saved = fileAttachmentRepository.saveAndFlush(entity);
+        // ✅ 내용 해시 저장소에 저장 + DB 등록
+        ApprovalFileAttachment saved = fileStorageService.saveFile(file, document, uploader);
         ApprovalFileAttachmentDto dto = ApprovalFileAttachmentDto.fromEntity(saved);
 
         log.info("✅ 업로드 완료: {} (문서ID: {})", saved.getOriginalName(), document != null ? document.getDocId() : "임시");
@@ -109,75 +87,45 @@ public class ApprovalFileAttachmentController {
         return ResponseEntity.ok(dtoList);
     }
 
-    // ✅ 미리보기
+    // ✅ 미리보기 (inline)
     @GetMapping("/preview/{id}")
-    public ResponseEntity<Resource> previewFile(@PathVariable Long id) {
-        ApprovalFileAttachment file = fileAttachmentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("파일이 존재하지 않습니다."));
-
-        File localFile = new File(file.getFilePath());
-        if (!localFile.exists()) {
-            throw new RuntimeException("파일이 존재하지 않습니다.");
-        }
-
-        FileSystemResource resource = new FileSystemResource(localFile);
-        String contentType = file.getContentType() != null ? file.getContentType() : "application/octet-stream";
-
-        try {
-            String encodedName = URLEncoder.encode(file.getOriginalName(), StandardCharsets.UTF_8)
-                    .replaceAll("\\+", "%20");
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType(contentType));
-            headers.setContentDisposition(
-                    ContentDisposition.inline()
-                            .filename(encodedName, StandardCharsets.UTF_8)
-                            .build()
-            );
-            headers.setCacheControl("no-cache, no-store, must-revalidate");
-
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(resource);
-        } catch (Exception e) {
-            throw new RuntimeException("미리보기 실패", e);
-        }
+    public void previewFile(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        sendFile(id, ContentDisposition.inline(), request, response);
     }
 
-
-    // ✅ 다운로드
+    // ✅ 다운로드 (attachment)
     @GetMapping("/download/{id}")
-    public ResponseEntity<Resource> downloadFile(@PathVariable Long id, HttpServletResponse response) {
-        ApprovalFileAttachment file = fileAttachmentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다. ID=" + id));
-
-        File localFile = new File(file.getFilePath());
-        if (!localFile.exists()) {
-            throw new RuntimeException("저장된 파일이 존재하지 않습니다: " + file.getFilePath());
-        }
-
-        try {
-            String encodedName = URLEncoder.encode(file.getOriginalName(), StandardCharsets.UTF_8)
-                    .replaceAll("\\+", "%20"); // 공백 처리
-
-            FileSystemResource resource = new FileSystemResource(localFile);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentDisposition(
-                    ContentDisposition.attachment().filename(encodedName, StandardCharsets.UTF_8).build());
-            headers.setContentType(MediaType.parseMediaType(file.getContentType() != null
-                    ? file.getContentType()
-                    : "application/octet-stream"));
-            headers.setContentLength(localFile.length());
-
-            log.info("📥 파일 다운로드 요청: {}", file.getOriginalName());
+    public void downloadFile(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.info("📥 파일 다운로드 요청: id={}", id);
+        sendFile(id, ContentDisposition.attachment(), request, response);
+    }
 
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(resource);
-        } catch (Exception e) {
-            log.error("❌ 파일 다운로드 실패", e);
-            return ResponseEntity.internalServerError().build();
-        }
+    /**
+     * 첨부 전송 공통
+     * - 메타 정보는 AttachmentMetadataCache (매 요청 DB 조회 없음)
+     * - 내용 해시가 있으면 강한 ETag("해시"), 이전 방식 파일은 약한 ETag
+     * - Range(206)/조건부 요청(304)/sendfile 전송은 RangeFileSender
+     */
+    private void sendFile(Long id, ContentDisposition.Builder disposition,
+                          HttpServletRequest request, HttpServletResponse response) throws IOException {
+        AttachmentMetadataCache.AttachmentMeta meta = metadataCache.get(id);
+        Path path = fileStorageService.resolvePath(meta);
+
+        String eTag = meta.contentHash() != null
+                ? "\"" + meta.contentHash() + "\""
+                : "W/\"" + meta.id() + "-" + meta.fileSize() + "\"";
+        long lastModified = meta.uploadedAt() != null
+                ? meta.uploadedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1;
+        String contentType = meta.contentType() != null ? meta.contentType() : "application/octet-stream";
+
+        rangeFileSender.send(new RangeFileSender.FileSpec(
+                path,
+                contentType,
+                disposition.filename(meta.originalName(), StandardCharsets.UTF_8).build(),
+                eTag,
+                lastModified,
+                "private, no-cache"
+        ), request, response);
     }
 }
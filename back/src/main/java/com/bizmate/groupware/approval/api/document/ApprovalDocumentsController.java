@@ -3,8 +3,13 @@ package com.bizmate.groupware.approval.api.document;
 import com.bizmate.common.page.PageRequestDTO;
 import com.bizmate.common.page.PageResponseDTO;
 import com.bizmate.common.exception.VerificationFailedException;
+import com.bizmate.groupware.approval.dto.approval.ApprovalBulkDecisionRequestDto;
+import com.bizmate.groupware.approval.dto.approval.ApprovalBulkDecisionResultDto;
+import com.bizmate.groupware.approval.dto.approval.ApprovalDocumentListDto;
 import com.bizmate.groupware.approval.dto.approval.ApprovalDocumentsDto;
+import com.bizmate.groupware.approval.service.document.ApprovalBulkDecisionService;
 import com.bizmate.groupware.approval.service.document.ApprovalDocumentsService;
+import com.bizmate.groupware.approval.service.event.ApprovalEventBroadcaster;
 import com.bizmate.hr.dto.user.UserDTO;
 import com.bizmate.hr.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
@@ -25,12 +30,14 @@ import java.util.Map;
 public class ApprovalDocumentsController {
 
     private final ApprovalDocumentsService approvalDocumentsService;
+    private final ApprovalBulkDecisionService approvalBulkDecisionService;
+    private final ApprovalEventBroadcaster approvalEventBroadcaster;
 
     /* -------------------------------------------------------------
      ✅ 1️⃣ 결재문서 목록 조회 (페이징 + 공통 DTO 구조)
      ------------------------------------------------------------- */
     @GetMapping
-    public ResponseEntity<PageResponseDTO<ApprovalDocumentsDto>> getApprovalList(
+    public ResponseEntity<PageResponseDTO<ApprovalDocumentListDto>> getApprovalList(
             @RequestParam(value = "status", required = false) String status,
             PageRequestDTO pageRequestDTO,
             @AuthenticationPrincipal UserPrincipal principal
@@ -50,7 +57,8 @@ public class ApprovalDocumentsController {
                 isAdmin
         );
 
-        PageResponseDTO<ApprovalDocumentsDto> result;
+        approvalEventBroadcaster.recordPoll("list", principal.getUsername());
+        PageResponseDTO<ApprovalDocumentListDto> result;
 
         if (isAdmin) {
             // ✅ 관리자: 전체 문서 조회 (기존 로직 유지)
@@ -84,10 +92,34 @@ public class ApprovalDocumentsController {
     @GetMapping("/summary")
     public ResponseEntity<Map<String, Long>> getApprovalSummary(@AuthenticationPrincipal UserPrincipal principal) {
         String username = principal.getUsername();
+        approvalEventBroadcaster.recordPoll("summary", username);
         Map<String, Long> summary = approvalDocumentsService.getApprovalSummary(username);
         return ResponseEntity.ok(summary);
     }
 
+    /* -------------------------------------------------------------
+     ✅ 내 결재 대기 문서 (현재 내 차례인 문서만, DB 페이징)
+     ------------------------------------------------------------- */
+    @GetMapping("/pending")
+    public ResponseEntity<PageResponseDTO<ApprovalDocumentListDto>> getPendingDocuments(
+            PageRequestDTO pageRequestDTO,
+            @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        log.info("⏳ 결재 대기 목록 조회: page={}, size={}, user={}",
+                pageRequestDTO.getPage(), pageRequestDTO.getSize(), principal.getUsername());
+        approvalEventBroadcaster.recordPoll("pending", principal.getUsername());
+
+        UserDTO loginUser = new UserDTO(
+                principal.getUserId(),
+                principal.getUsername(),
+                principal.getEmpName(),
+                principal.getEmail(),
+                principal.getEmpId()
+        );
+
+        return ResponseEntity.ok(approvalDocumentsService.getPagedPendingDocuments(pageRequestDTO, loginUser));
+    }
+
     /* -------------------------------------------------------------
      ✅ 3️⃣ 문서 임시저장 (Draft)
      ------------------------------------------------------------- */
@@ -286,6 +318,26 @@ public class ApprovalDocumentsController {
         }
     }
 
+    /* -------------------------------------------------------------
+     ✅ 7️⃣ 일괄 승인 / 반려
+     - 문서별 결과 반환 (일부 실패해도 나머지는 처리)
+     ------------------------------------------------------------- */
+    @PostMapping("/bulk-decision")
+    public ResponseEntity<ApprovalBulkDecisionResultDto> bulkDecision(
+            @RequestBody ApprovalBulkDecisionRequestDto request,
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        UserDTO loginUser = new UserDTO(
+                principal.getUserId(),
+                principal.getUsername(),
+                principal.getEmpName(),
+                principal.getEmail(),
+                principal.getEmpId()
+        );
+
+        return ResponseEntity.ok(approvalBulkDecisionService.decide(request, loginUser));
+    }
+
     /* -------------------------------------------------------------
      ✅ 8️⃣ 문서 논리삭제 (관리자 전용)
      ------------------------------------------------------------- */
@@ -0,0 +1,34 @@
+package com.bizmate.groupware.approval.api.document;
+
+import com.bizmate.groupware.approval.service.event.ApprovalEventBroadcaster;
+import com.bizmate.hr.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 결재 실시간 알림 구독 (SSE)
+ * - 인증: Authorization 헤더 또는 EventSource 용 access_token 쿼리 파라미터 (JWTCheckFilter)
+ * - 재연결 시 브라우저가 보내는 Last-Event-ID 이후 이벤트를 보충 전송
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/approvals")
+@RequiredArgsConstructor
+public class ApprovalEventController {
+
+    private final ApprovalEventBroadcaster approvalEventBroadcaster;
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        return approvalEventBroadcaster.connect(principal.getUsername(), lastEventId);
+    }
+}
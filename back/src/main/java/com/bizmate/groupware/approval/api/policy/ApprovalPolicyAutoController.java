@@ -1,10 +1,8 @@
 package com.bizmate.groupware.approval.api.policy;
 
 import com.bizmate.groupware.approval.domain.document.DocumentType;
-import com.bizmate.groupware.approval.domain.policy.ApprovalPolicy;
-import com.bizmate.groupware.approval.domain.policy.ApprovalPolicyStep;
 import com.bizmate.groupware.approval.dto.policy.ApprovalPolicyStepResponse;
-import com.bizmate.groupware.approval.repository.Policy.ApprovalPolicyRepository;
+import com.bizmate.groupware.approval.service.policy.ApprovalPolicyCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -20,7 +18,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ApprovalPolicyAutoController {
 
-    private final ApprovalPolicyRepository approvalPolicyRepository;
+    private final ApprovalPolicyCache approvalPolicyCache;
 
     /**
      * ✅ 자동결재선 조회 API
@@ -35,19 +33,16 @@ public class ApprovalPolicyAutoController {
     ) {
         log.info("📡 자동결재선 조회 요청: docType={}, deptCode={}", docType, deptCode);
 
-        Optional<ApprovalPolicy> optionalPolicy =
-                approvalPolicyRepository.findByDocTypeAndIsActiveTrue(DocumentType.valueOf(docType));
+        Optional<ApprovalPolicyCache.PolicySnapshot> optionalPolicy =
+                approvalPolicyCache.find(DocumentType.valueOf(docType));
 
         if (optionalPolicy.isEmpty()) {
             log.info("❌ 활성화된 결재정책이 없습니다. (문서유형: {})", docType);
             return ResponseEntity.ok(List.of());
         }
 
-        ApprovalPolicy policy = optionalPolicy.get();
-
-        // ✅ Step 목록을 DTO로 변환
-        List<ApprovalPolicyStepResponse> steps = policy.getSteps().stream()
-                .sorted((a, b) -> Integer.compare(a.getStepOrder(), b.getStepOrder()))
+        // ✅ Step 목록을 DTO로 변환 (스냅샷 단계는 이미 stepOrder 순)
+        List<ApprovalPolicyStepResponse> steps = optionalPolicy.get().steps().stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
 
@@ -55,13 +50,13 @@ public class ApprovalPolicyAutoController {
         return ResponseEntity.ok(steps);
     }
 
-    // 🔹 Entity → DTO 변환
-    private ApprovalPolicyStepResponse toResponse(ApprovalPolicyStep s) {
+    // 🔹 스냅샷 → DTO 변환
+    private ApprovalPolicyStepResponse toResponse(ApprovalPolicyCache.StepSnapshot s) {
         return ApprovalPolicyStepResponse.builder()
-                .stepOrder(s.getStepOrder())
-                .deptName(s.getDeptName())
-                .positionName(s.getPositionName())
-                .empName(s.getApprover() != null ? s.getApprover().getEmpName() : null)
+                .stepOrder(s.stepOrder())
+                .deptName(s.deptName())
+                .positionName(s.positionName())
+                .empName(s.approverEmpName())
                 .build();
     }
 }
@@ -14,7 +14,11 @@ import java.time.LocalDateTime;
 @Builder
 @Table(name = "APPROVAL_ATTACHMENT",
         indexes = {
-                @Index(name = "IDX_ATTACHMENT_DOC_ID", columnList = "DOC_ID")
+                @Index(name = "IDX_ATTACHMENT_DOC_ID", columnList = "DOC_ID"),
+                @Index(name = "IDX_ATTACHMENT_CONTENT_HASH", columnList = "CONTENT_HASH"),
+                // 임시 첨부(DOC_ID NULL) 조회: 업로더별 연결 대기 / 오래된 미연결 정리
+                @Index(name = "IDX_ATTACHMENT_PENDING", columnList = "USER_ID, DOC_ID, UPLOADED_AT"),
+                @Index(name = "IDX_ATTACHMENT_ORPHAN", columnList = "DOC_ID, UPLOADED_AT")
         })
 public class ApprovalFileAttachment {
 
@@ -37,6 +41,10 @@ public class ApprovalFileAttachment {
     @Column(name = "FILE_PATH", length = 255)
     private String filePath;
 
+    /** 내용 해시 (BlobStorageService 키, 이전 방식으로 저장된 파일은 null) */
+    @Column(name = "CONTENT_HASH", length = 64)
+    private String contentHash;
+
     @Column(name = "FILE_SIZE", nullable = false)
     private Long fileSize;
 
@@ -0,0 +1,40 @@
+package com.bizmate.groupware.approval.domain.attachment;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * ✅ ApprovalUploadChunk (분할 업로드 수신 청크)
+ * - (UPLOAD_ID, CHUNK_INDEX) 유일 → 같은 청크 재전송은 덮어쓰기만 하고 행은 1개
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "APPROVAL_UPLOAD_CHUNK",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "UK_UPLOAD_CHUNK", columnNames = {"UPLOAD_ID", "CHUNK_INDEX"})
+        })
+public class ApprovalUploadChunk {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID")
+    private Long id;
+
+    @Column(name = "UPLOAD_ID", length = 36, nullable = false)
+    private String uploadId;
+
+    @Column(name = "CHUNK_INDEX", nullable = false)
+    private int chunkIndex;
+
+    @Column(name = "SIZE_BYTES", nullable = false)
+    private long sizeBytes;
+
+    @Column(name = "RECEIVED_AT", nullable = false)
+    private LocalDateTime receivedAt;
+}
@@ -0,0 +1,77 @@
+package com.bizmate.groupware.approval.domain.attachment;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+/**
+ * ✅ ApprovalUploadSession (분할 업로드 세션)
+ * - 시작 시 전체 크기/청크 크기 확정, 임시 파일을 전체 크기로 미리 생성
+ * - 청크는 오프셋 위치에 바로 기록 (병렬 전송 가능), 수신 현황은 APPROVAL_UPLOAD_CHUNK
+ * - 완료 시 SHA-256 검증 후 ApprovalFileAttachment 생성 (COMPLETING 선점으로 한 번만 진행)
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "APPROVAL_UPLOAD_SESSION",
+        indexes = {
+                @Index(name = "IDX_UPLOAD_SESSION_UPDATED", columnList = "UPDATED_AT")
+        })
+public class ApprovalUploadSession {
+
+    @Id
+    @Column(name = "UPLOAD_ID", length = 36)
+    private String uploadId;
+
+    @Column(name = "ORIGINAL_NAME", length = 255, nullable = false)
+    private String originalName;
+
+    @Column(name = "CONTENT_TYPE", length = 100)
+    private String contentType;
+
+    @Column(name = "TOTAL_SIZE", nullable = false)
+    private long totalSize;
+
+    @Column(name = "CHUNK_SIZE", nullable = false)
+    private int chunkSize;
+
+    /** 클라이언트가 알려준 SHA-256 (선택, 완료 시 검증) */
+    @Column(name = "EXPECTED_SHA256", length = 64)
+    private String expectedSha256;
+
+    /** 업로드 완료 시 연결할 문서 (없으면 임시 첨부) */
+    @Column(name = "DOC_ID", length = 40)
+    private String docId;
+
+    @Column(name = "UPLOADER_ID", nullable = false)
+    private Long uploaderId;
+
+    /** 청크가 기록되는 임시 파일 경로 */
+    @Column(name = "STAGING_PATH", length = 500, nullable = false)
+    private String stagingPath;
+
+    /** 완료 처리 선점 여부 (동시 complete() 중 하나만 진행, 이후 청크 수신 거부) */
+    @Column(name = "COMPLETING", nullable = false)
+    @ColumnDefault("0")
+    private boolean completing;
+
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "UPDATED_AT", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public int totalChunks() {
+        return (int) ((totalSize + chunkSize - 1) / chunkSize);
+    }
+
+    /** index 번째 청크의 길이 (마지막 청크만 짧을 수 있음) */
+    public long chunkLength(int index) {
+        return Math.min(chunkSize, totalSize - (long) index * chunkSize);
+    }
+}
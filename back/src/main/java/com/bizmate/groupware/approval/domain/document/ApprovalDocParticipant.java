@@ -0,0 +1,54 @@
+package com.bizmate.groupware.approval.domain.document;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * ✅ ApprovalDocParticipant (결재문서 참여자 인덱스)
+ * - 문서별 작성자/결재자/열람자를 한 행씩 보관하는 조회 전용 인덱스
+ * - 결재함(작성/결재/열람) 목록을 DB에서 필터·정렬·페이징하기 위해 사용
+ * - 문서 상태가 바뀔 때마다 ApprovalParticipantIndexer가 동기화
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "APPROVAL_DOC_PARTICIPANT",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "UK_ADP_DOC_USER_ROLE", columnNames = {"DOC_ID", "USERNAME", "PARTICIPANT_ROLE"})
+        },
+        indexes = {
+                @Index(name = "IDX_ADP_USER_STATUS_CREATED", columnList = "USERNAME, DOC_STATUS, CREATED_AT"),
+                @Index(name = "IDX_ADP_DOC_ID", columnList = "DOC_ID")
+        })
+public class ApprovalDocParticipant {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID")
+    private Long id;
+
+    @Column(name = "DOC_ID", length = 40, nullable = false)
+    private String docId;
+
+    /** 참여자 사번(username) */
+    @Column(name = "USERNAME", length = 40, nullable = false)
+    private String username;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "PARTICIPANT_ROLE", length = 20, nullable = false)
+    private ParticipantRole role;
+
+    /** 문서 상태 (ApprovalDocuments.status 사본) */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "DOC_STATUS", length = 20, nullable = false)
+    private DocumentStatus status;
+
+    /** 문서 생성 시각 (정렬 키) */
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+}
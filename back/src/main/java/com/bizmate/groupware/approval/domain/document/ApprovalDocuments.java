@@ -217,6 +217,17 @@ public class ApprovalDocuments extends BaseEntity {
         markUpdated(user);
     }
 
+    /** ✅ 논리삭제 복원 (반려 이력이 있으면 반려, 없으면 임시저장 상태로) */
+    public void restore() {
+        this.status = (this.rejectedDate != null) ? DocumentStatus.REJECTED : DocumentStatus.DRAFT;
+        this.deletedBy = null;
+        this.deletedEmpId = null;
+        this.deletedReason = null;
+        this.deletedDate = null;
+
+        super.setUpdatedAt(LocalDateTime.now());
+    }
+
     public void moveToNextApprover() {
         if (this.currentApproverIndex + 1 < this.approvalLine.size()) {
             this.currentApproverIndex++;
@@ -0,0 +1,37 @@
+package com.bizmate.groupware.approval.domain.document;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * ✅ ApprovalStatusCounter (사용자별 결재 상태 카운터)
+ * - /api/approvals/summary 배지 카운트용 집계 테이블
+ * - (username, status) 당 참여 문서 수를 상태 전이 시점에 증감
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "APPROVAL_STATUS_COUNTER",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "UK_ASC_USER_STATUS", columnNames = {"USERNAME", "DOC_STATUS"})
+        })
+public class ApprovalStatusCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID")
+    private Long id;
+
+    @Column(name = "USERNAME", length = 40, nullable = false)
+    private String username;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "DOC_STATUS", length = 20, nullable = false)
+    private DocumentStatus status;
+
+    @Column(name = "DOC_COUNT", nullable = false)
+    private long docCount;
+}
@@ -0,0 +1,59 @@
+package com.bizmate.groupware.approval.domain.document;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * ✅ ApprovalStep (결재선 단계 정규화 테이블)
+ * - APPROVAL_LINE(JSON LOB)의 각 단계를 한 행으로 보관
+ * - "내 결재 대기" 등 결재자 기준 조회를 JSON 역직렬화 없이 인덱스로 처리
+ * - JSON 컬럼은 PDF 렌더링/상세조회용 읽기 캐시로만 유지
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "APPROVAL_STEP",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "UK_APPROVAL_STEP_DOC_IDX", columnNames = {"DOC_ID", "STEP_INDEX"})
+        },
+        indexes = {
+                @Index(name = "IDX_APPROVAL_STEP_APPROVER", columnList = "APPROVER_ID, DECISION"),
+                @Index(name = "IDX_APPROVAL_STEP_DOC_ID", columnList = "DOC_ID")
+        })
+public class ApprovalStep {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID")
+    private Long id;
+
+    @Column(name = "DOC_ID", length = 40, nullable = false)
+    private String docId;
+
+    /** 결재선 내 위치 (0부터, ApprovalDocuments.currentApproverIndex 와 비교) */
+    @Column(name = "STEP_INDEX", nullable = false)
+    private int stepIndex;
+
+    /** 결재 순서 (ApproverStep.order) */
+    @Column(name = "STEP_ORDER", nullable = false)
+    private int stepOrder;
+
+    /** 결재자 사번 (ApproverStep.approverId) */
+    @Column(name = "APPROVER_ID", length = 40, nullable = false)
+    private String approverId;
+
+    @Column(name = "APPROVER_NAME", length = 100)
+    private String approverName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "DECISION", length = 20, nullable = false)
+    private Decision decision;
+
+    @Column(name = "DECIDED_AT")
+    private LocalDateTime decidedAt;
+}
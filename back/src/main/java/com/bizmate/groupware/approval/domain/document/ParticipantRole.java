@@ -0,0 +1,14 @@
+package com.bizmate.groupware.approval.domain.document;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ParticipantRole {
+    AUTHOR("작성자"),
+    APPROVER("결재자"),
+    VIEWER("열람자");
+
+    private final String label;
+}
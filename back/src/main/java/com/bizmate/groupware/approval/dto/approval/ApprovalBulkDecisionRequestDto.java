@@ -0,0 +1,18 @@
+package com.bizmate.groupware.approval.dto.approval;
+
+import com.bizmate.groupware.approval.domain.document.Decision;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 일괄 승인/반려 요청
+ */
+@Getter
+@Setter
+public class ApprovalBulkDecisionRequestDto {
+    private Decision decision;     // APPROVED | REJECTED
+    private List<String> docIds;   // 대상 문서ID
+    private String reason;         // 반려 사유 (반려 시)
+}
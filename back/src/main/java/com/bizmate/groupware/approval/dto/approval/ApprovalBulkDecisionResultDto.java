@@ -0,0 +1,22 @@
+package com.bizmate.groupware.approval.dto.approval;
+
+import java.util.List;
+
+/**
+ * 일괄 승인/반려 결과 (요청 순서대로 문서별 성공/실패)
+ */
+public record ApprovalBulkDecisionResultDto(
+        int requested,
+        int succeeded,
+        int failed,
+        List<Item> results
+) {
+
+    public record Item(
+            String docId,
+            boolean success,
+            String status,    // 처리 후 문서 상태 (실패 시 null)
+            String message    // 실패 사유
+    ) {
+    }
+}
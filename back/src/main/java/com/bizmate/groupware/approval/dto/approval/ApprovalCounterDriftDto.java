@@ -0,0 +1,12 @@
+package com.bizmate.groupware.approval.dto.approval;
+
+/**
+ * 결재 상태 카운터 정합성 점검 결과 (저장값 ≠ 실제값)
+ */
+public record ApprovalCounterDriftDto(
+        String username,
+        String status,
+        long stored,
+        long actual
+) {
+}
@@ -0,0 +1,63 @@
+package com.bizmate.groupware.approval.dto.approval;
+
+import com.bizmate.groupware.approval.domain.document.DocumentStatus;
+import com.bizmate.groupware.approval.domain.document.DocumentType;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전자결재 목록 행 DTO
+ * - 목록 화면 전용 (결재선/본문 LOB 미포함)
+ * - JPQL 생성자 프로젝션으로 직접 조회, 첨부 개수는 페이지 단위 일괄 집계
+ * - 상세 정보는 ApprovalDocumentsDto (get(docId)) 사용
+ */
+@Data
+@NoArgsConstructor
+public class ApprovalDocumentListDto {
+
+    private String id;
+    private String title;
+    private DocumentType docType;
+    private String docTypeLabel;
+    private String status;
+    private String statusLabel;
+
+    private Long departmentId;
+    private String departmentCode;
+    private String departmentName;
+    private String finalDocNumber;
+
+    private Long userId;
+    private String username;
+    private String authorName;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private int currentApproverIndex;
+
+    private long attachmentCount;
+
+    public ApprovalDocumentListDto(String id, String title, DocumentType docType, DocumentStatus status,
+                                   Long departmentId, String departmentCode, String departmentName,
+                                   String finalDocNumber, Long userId, String username, String authorName,
+                                   LocalDateTime createdAt, LocalDateTime updatedAt, int currentApproverIndex) {
+        this.id = id;
+        this.title = title;
+        this.docType = docType;
+        this.docTypeLabel = docType != null ? docType.getLabel() : "-";
+        this.status = status != null ? status.name() : null;
+        this.statusLabel = status != null ? status.getLabel() : null;
+        this.departmentId = departmentId;
+        this.departmentCode = departmentCode;
+        this.departmentName = departmentName;
+        this.finalDocNumber = finalDocNumber;
+        this.userId = userId;
+        this.username = username;
+        this.authorName = authorName != null ? authorName : "-";
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.currentApproverIndex = currentApproverIndex;
+    }
+}
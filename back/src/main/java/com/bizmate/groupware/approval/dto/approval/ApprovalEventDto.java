@@ -0,0 +1,20 @@
+package com.bizmate.groupware.approval.dto.approval;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결재 실시간 알림 (SSE 이벤트 본문)
+ * - type: SUBMITTED(상신/다음 차례) | APPROVED(중간 승인) | FINAL(최종 승인) | REJECTED(반려)
+ * - actionRequired: 수신자가 현재 결재 차례인지 (배지 +1 대상)
+ */
+public record ApprovalEventDto(
+        long id,
+        String type,
+        String docId,
+        String title,
+        String status,
+        String actorName,
+        boolean actionRequired,
+        LocalDateTime occurredAt
+) {
+}
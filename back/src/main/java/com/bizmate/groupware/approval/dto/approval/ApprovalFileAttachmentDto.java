@@ -1,9 +1,6 @@
 package com.bizmate.groupware.approval.dto.approval;
 
-import com.bizmate.common.exception.VerificationFailedException;
-import com.bizmate.groupware.approval.domain.document.ApprovalDocuments;
 import com.bizmate.groupware.approval.domain.attachment.ApprovalFileAttachment;
-import com.bizmate.hr.domain.UserEntity;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -37,23 +34,4 @@ public class ApprovalFileAttachmentDto {
                 .uploaderName(entity.getUploader() != null ? entity.getUploader().getEmpName() : "-")
                 .build();
     }
-
-    public ApprovalFileAttachment toEntity(ApprovalDocuments document, UserEntity uploader) {
-        if (document == null || document.getDocId() == null)
-            throw new VerificationFailedException("📎 문서 연결이 누락되었습니다 (DOC_ID=null).");
-
-        // ✅ 파일 메타정보 설정
-        ApprovalFileAttachment entity = new ApprovalFileAttachment();
-
-        entity.setDocument(document); // ✅ FK 연결 (필수)
-        entity.setUploader(uploader);
-        entity.setOriginalName(originalName);
-        entity.setStoredName(storedName);
-        entity.setFilePath(filePath);
-        entity.setFileSize(fileSize != null ? fileSize : 0L);
-        entity.setContentType(contentType);
-        entity.setUploadedAt(LocalDateTime.now());
-
-        return entity;
-    }
 }
@@ -0,0 +1,13 @@
+package com.bizmate.groupware.approval.dto.approval;
+
+/**
+ * 결재문서 PDF 일괄 내보내기 진행 상황
+ */
+public record ApprovalPdfExportProgressDto(
+        String exportId,
+        String state,      // READY / RUNNING / DONE / CANCELLED
+        int total,
+        int completed,
+        int failed
+) {
+}
@@ -0,0 +1,19 @@
+package com.bizmate.groupware.approval.dto.approval;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * 결재문서 PDF 일괄 내보내기 조건
+ * - 작성일 기준 기간 (from ~ to, 양 끝 포함)
+ */
+@Getter
+@Setter
+public class ApprovalPdfExportRequestDto {
+    private String status = "APPROVED";  // 상태 (기본: 최종 승인)
+    private Long departmentId;           // 부서 필터 (없으면 전체)
+    private LocalDate from;              // 시작일
+    private LocalDate to;                // 종료일
+}
@@ -0,0 +1,17 @@
+package com.bizmate.groupware.approval.dto.approval;
+
+import com.bizmate.groupware.approval.domain.document.DocumentStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * PDF 캐시 판단용 문서 스탬프 (LOB 미조회)
+ * - 상태/버전/수정일만으로 캐시 파일 키와 ETag/Last-Modified 결정
+ */
+public record ApprovalPdfStamp(
+        String docId,
+        DocumentStatus status,
+        Long version,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,18 @@
+package com.bizmate.groupware.approval.dto.approval;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 분할 업로드 시작 요청
+ */
+@Getter
+@Setter
+public class ChunkUploadInitRequestDto {
+    private String fileName;      // 원본 파일명
+    private String contentType;   // MIME 타입 (선택)
+    private long totalSize;       // 전체 크기 (bytes)
+    private Integer chunkSize;    // 청크 크기 (없으면 서버 기본값)
+    private String sha256;        // 전체 파일 SHA-256 (선택, 완료 시 검증)
+    private String docId;         // 연결할 문서 (선택)
+}
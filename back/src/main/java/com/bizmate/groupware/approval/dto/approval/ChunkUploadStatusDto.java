@@ -0,0 +1,15 @@
+package com.bizmate.groupware.approval.dto.approval;
+
+import java.util.List;
+
+/**
+ * 분할 업로드 진행 상황 (재개 시 receivedChunks 에 없는 청크만 다시 전송)
+ */
+public record ChunkUploadStatusDto(
+        String uploadId,
+        long totalSize,
+        int chunkSize,
+        int totalChunks,
+        List<Integer> receivedChunks
+) {
+}
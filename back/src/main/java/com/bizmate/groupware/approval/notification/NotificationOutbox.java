@@ -0,0 +1,73 @@
+package com.bizmate.groupware.approval.notification;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * ✅ NotificationOutbox (메일 발송 대기열)
+ * - 결재 상태 변경과 같은 트랜잭션에서 기록
+ * - NotificationOutboxDispatcher가 배치로 꺼내 비동기 발송
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "NOTIFICATION_OUTBOX",
+        indexes = {
+                @Index(name = "IDX_OUTBOX_STATUS_NEXT", columnList = "STATUS, NEXT_ATTEMPT_AT")
+        })
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID")
+    private Long id;
+
+    @Column(name = "MAIL_TYPE", length = 40, nullable = false)
+    private String mailType;
+
+    @Column(name = "RECIPIENT", length = 255, nullable = false)
+    private String recipient;
+
+    @Column(name = "SUBJECT", length = 500, nullable = false)
+    private String subject;
+
+    @Lob
+    @Column(name = "BODY", nullable = false)
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "STATUS", length = 20, nullable = false)
+    private OutboxStatus status;
+
+    @Column(name = "ATTEMPTS", nullable = false)
+    private int attempts;
+
+    /** 다음 발송 가능 시각 (재시도 backoff) */
+    @Column(name = "NEXT_ATTEMPT_AT", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /** SENDING 점유 만료 시각 (노드 장애 시 재점유 허용) */
+    @Column(name = "LOCKED_UNTIL")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "LAST_ERROR", length = 1000)
+    private String lastError;
+
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "SENT_AT")
+    private LocalDateTime sentAt;
+
+    @PrePersist
+    public void onCreate() {
+        if (createdAt == null) createdAt = LocalDateTime.now();
+        if (nextAttemptAt == null) nextAttemptAt = createdAt;
+        if (status == null) status = OutboxStatus.PENDING;
+    }
+}
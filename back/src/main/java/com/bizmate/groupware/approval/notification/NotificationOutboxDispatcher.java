@@ -0,0 +1,193 @@
+package com.bizmate.groupware.approval.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * NotificationOutboxDispatcher
+ * --------------------
+ * ✅ NOTIFICATION_OUTBOX 를 주기적으로 배치 조회해 전용 스레드풀에서 SMTP 발송
+ * ✅ 행 단위 조건부 UPDATE로 점유 → 다중 노드에서도 중복 발송 없음
+ * ✅ 실패 시 지수 backoff 재시도, 최대 횟수 초과 시 DEAD(dead-letter)
+ * ✅ 보관 기간(sent-retention-days)이 지난 SENT 행은 주기적으로 삭제
+ * ✅ 지표: bizmate.notification.outbox.depth / dead, send.latency, sent / failed
+ */
+@Slf4j
+@Component
+public class NotificationOutboxDispatcher {
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final JavaMailSender mailSender;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final Duration sentRetention;
+    private final ExecutorService executor;
+
+    private final AtomicLong pendingDepth = new AtomicLong();
+    private final AtomicLong deadDepth = new AtomicLong();
+    private final Timer sendLatency;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    public NotificationOutboxDispatcher(
+            NotificationOutboxRepository outboxRepository,
+            JavaMailSender mailSender,
+            MeterRegistry meterRegistry,
+            @Value("${bizmate.notification.outbox.batch-size:50}") int batchSize,
+            @Value("${bizmate.notification.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${bizmate.notification.outbox.base-backoff-seconds:30}") long baseBackoffSeconds,
+            @Value("${bizmate.notification.outbox.max-backoff-seconds:3600}") long maxBackoffSeconds,
+            @Value("${bizmate.notification.outbox.lease-seconds:300}") long leaseSeconds,
+            @Value("${bizmate.notification.outbox.threads:4}") int threads,
+            @Value("${bizmate.notification.outbox.sent-retention-days:7}") long sentRetentionDays
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.mailSender = mailSender;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = Duration.ofSeconds(baseBackoffSeconds);
+        this.maxBackoff = Duration.ofSeconds(maxBackoffSeconds);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.sentRetention = Duration.ofDays(sentRetentionDays);
+
+        // 배치 크기만큼만 대기열 허용 → 넘치면 스케줄러 스레드가 직접 발송 (백프레셔)
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, batchSize)),
+                r -> {
+                    Thread t = new Thread(r, "mail-outbox-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        Gauge.builder("bizmate.notification.outbox.depth", pendingDepth, AtomicLong::get)
+                .description("발송 대기 중인 메일 수")
+                .register(meterRegistry);
+        Gauge.builder("bizmate.notification.outbox.dead", deadDepth, AtomicLong::get)
+                .description("최대 재시도를 초과한 메일 수")
+                .register(meterRegistry);
+        this.sendLatency = Timer.builder("bizmate.notification.outbox.send.latency")
+                .description("SMTP 발송 소요 시간")
+                .register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("bizmate.notification.outbox.sent");
+        this.failedCounter = meterRegistry.counter("bizmate.notification.outbox.failed");
+    }
+
+    @Scheduled(fixedDelayString = "${bizmate.notification.outbox.poll-interval-ms:2000}")
+    public void dispatch() {
+        List<NotificationOutbox> batch = outboxRepository.findDispatchable(LocalDateTime.now(), PageRequest.of(0, batchSize));
+
+        if (!batch.isEmpty()) {
+            List<Future<?>> futures = new ArrayList<>(batch.size());
+            for (NotificationOutbox message : batch) {
+                futures.add(executor.submit(() -> sendOne(message)));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (ExecutionException e) {
+                    log.error("❌ 메일 발송 작업 실패", e.getCause());
+                }
+            }
+        }
+
+        pendingDepth.set(outboxRepository.countByStatus(OutboxStatus.PENDING));
+        deadDepth.set(outboxRepository.countByStatus(OutboxStatus.DEAD));
+    }
+
+    /**
+     * 발송 완료(SENT) 메일 정리 — DEAD 행은 원인 확인을 위해 남겨둔다
+     */
+    @Scheduled(fixedDelayString = "${bizmate.notification.outbox.purge-interval-ms:3600000}")
+    public void purgeSent() {
+        int deleted = outboxRepository.deleteSentBefore(LocalDateTime.now().minus(sentRetention));
+        if (deleted > 0) {
+            log.info("🧹 발송 완료 메일 {}건 정리 (보관 {}일 경과)", deleted, sentRetention.toDays());
+        }
+    }
+
+    void sendOne(NotificationOutbox message) {
+        LocalDateTime now = LocalDateTime.now();
+        if (outboxRepository.claim(message.getId(), now, now.plus(lease)) != 1) {
+            return; // 다른 노드가 이미 점유
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            SimpleMailMessage msg = new SimpleMailMessage();
+            msg.setTo(message.getRecipient());
+            msg.setSubject(message.getSubject());
+            msg.setText(message.getBody());
+            mailSender.send(msg);
+
+            sendLatency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            outboxRepository.markSent(message.getId(), LocalDateTime.now());
+            sentCounter.increment();
+            log.info("📨 메일 발송 완료 → id={}, type={}, to={}", message.getId(), message.getMailType(), message.getRecipient());
+
+        } catch (Exception e) {
+            sendLatency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            failedCounter.increment();
+
+            int attempts = message.getAttempts() + 1;
+            boolean dead = attempts >= maxAttempts;
+            outboxRepository.markFailed(
+                    message.getId(),
+                    dead ? OutboxStatus.DEAD : OutboxStatus.PENDING,
+                    attempts,
+                    LocalDateTime.now().plus(backoff(attempts)),
+                    truncate(e.getMessage())
+            );
+
+            if (dead) {
+                log.error("☠️ 메일 발송 최종 실패 (dead-letter) → id={}, to={}, attempts={}", message.getId(), message.getRecipient(), attempts, e);
+            } else {
+                log.warn("⚠️ 메일 발송 실패 → id={}, to={}, attempts={}, 사유={}", message.getId(), message.getRecipient(), attempts, e.getMessage());
+            }
+        }
+    }
+
+    /** 지수 backoff: base * 2^(attempts-1), 최대 maxBackoff */
+    Duration backoff(int attempts) {
+        long multiplier = 1L << Math.min(attempts - 1, 20);
+        Duration delay = baseBackoff.multipliedBy(multiplier);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private String truncate(String message) {
+        if (message == null) return null;
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
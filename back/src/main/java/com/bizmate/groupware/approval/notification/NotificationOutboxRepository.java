@@ -0,0 +1,86 @@
+package com.bizmate.groupware.approval.notification;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * 발송 대상 조회 (대기 + 점유 만료된 SENDING)
+     */
+    @Query("""
+            SELECT o FROM NotificationOutbox o
+            WHERE (o.status = com.bizmate.groupware.approval.notification.OutboxStatus.PENDING AND o.nextAttemptAt <= :now)
+               OR (o.status = com.bizmate.groupware.approval.notification.OutboxStatus.SENDING AND o.lockedUntil < :now)
+            ORDER BY o.id
+            """)
+    List<NotificationOutbox> findDispatchable(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 단건 점유 (여러 노드가 같은 행을 동시에 발송하지 않도록 조건부 UPDATE)
+     * @return 1이면 점유 성공
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE NotificationOutbox o
+            SET o.status = com.bizmate.groupware.approval.notification.OutboxStatus.SENDING,
+                o.lockedUntil = :lockedUntil
+            WHERE o.id = :id
+              AND ((o.status = com.bizmate.groupware.approval.notification.OutboxStatus.PENDING AND o.nextAttemptAt <= :now)
+                OR (o.status = com.bizmate.groupware.approval.notification.OutboxStatus.SENDING AND o.lockedUntil < :now))
+            """)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE NotificationOutbox o
+            SET o.status = com.bizmate.groupware.approval.notification.OutboxStatus.SENT,
+                o.attempts = o.attempts + 1,
+                o.sentAt = :sentAt,
+                o.lockedUntil = NULL,
+                o.lastError = NULL
+            WHERE o.id = :id
+            """)
+    int markSent(@Param("id") Long id, @Param("sentAt") LocalDateTime sentAt);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE NotificationOutbox o
+            SET o.status = :status,
+                o.attempts = :attempts,
+                o.nextAttemptAt = :nextAttemptAt,
+                o.lockedUntil = NULL,
+                o.lastError = :lastError
+            WHERE o.id = :id
+            """)
+    int markFailed(@Param("id") Long id,
+                   @Param("status") OutboxStatus status,
+                   @Param("attempts") int attempts,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("lastError") String lastError);
+
+    /**
+     * 보관 기간이 지난 발송 완료 메일 정리
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            DELETE FROM NotificationOutbox o
+            WHERE o.status = com.bizmate.groupware.approval.notification.OutboxStatus.SENT
+              AND o.sentAt < :cutoff
+            """)
+    int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    long countByStatus(OutboxStatus status);
+}
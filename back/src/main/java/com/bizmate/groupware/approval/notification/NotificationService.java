@@ -2,61 +2,124 @@ package com.bizmate.groupware.approval.notification;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+/**
+ * 전자결재 메일 알림
+ * - 메일을 직접 보내지 않고 NOTIFICATION_OUTBOX 에 적재 (호출 트랜잭션에 참여)
+ * - 실제 SMTP 발송은 NotificationOutboxDispatcher 가 비동기 배치로 처리
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationService {
 
-    private final JavaMailSender mailSender;
+    public static final String TYPE_APPROVAL_REQUEST = "APPROVAL_REQUEST";
+    public static final String TYPE_APPROVAL_COMPLETE = "APPROVAL_COMPLETE";
+    public static final String TYPE_REJECT = "REJECT";
+    public static final String TYPE_DIGEST = "DIGEST";
+
+    /** 일괄 결재 알림 항목 (type = TYPE_APPROVAL_REQUEST / TYPE_APPROVAL_COMPLETE / TYPE_REJECT) */
+    public record DigestItem(String type, String docId, String docTitle, String reason) {
+    }
+
+    private final NotificationOutboxRepository outboxRepository;
 
-    @Async
+    @Transactional
     public void sendApprovalRequestMail(String to, String approverName, String docTitle, String docId, String requesterName) {
-        SimpleMailMessage msg = new SimpleMailMessage();
-        msg.setTo(to);
-        msg.setSubject("[전자결재 알림] 결재 요청: " + docTitle);
-        msg.setText(
+        enqueue(TYPE_APPROVAL_REQUEST, to,
+                "[전자결재 알림] 결재 요청: " + docTitle,
                 approverName + "님,\n\n" +
                         requesterName + "님이 결재 요청하신 문서 [" + docTitle + "]가 대기 중입니다.\n" +
                         "👉 결재 바로가기: http://localhost:3000/approval/detail/" + docId + "\n\n" +
                         "BizMate 전자결재 시스템"
         );
-        mailSender.send(msg);
-        log.info("📨 결재 요청 메일 전송 완료 → {}", to);
     }
 
-    @Async
+    @Transactional
     public void sendApprovalCompleteMail(String to, String docTitle, String docId, String lastApproverName) {
-        SimpleMailMessage msg = new SimpleMailMessage();
-        msg.setTo(to);
-        msg.setSubject("[전자결재 알림] 문서 최종 승인 완료: " + docTitle);
-        msg.setText(
+        enqueue(TYPE_APPROVAL_COMPLETE, to,
+                "[전자결재 알림] 문서 최종 승인 완료: " + docTitle,
                 "문서 [" + docTitle + "]이(가) 최종 승인되었습니다.\n" +
                         "최종 승인자: " + lastApproverName + "\n\n" +
                         "문서 보기: http://localhost:3000/approval/detail/" + docId + "\n\n" +
                         "BizMate 전자결재 시스템"
         );
-        mailSender.send(msg);
-        log.info("📨 승인 완료 메일 전송 완료 → {}", to);
     }
 
-    @Async
+    @Transactional
     public void sendRejectMail(String to, String docTitle, String docId, String rejecterName, String reason) {
-        SimpleMailMessage msg = new SimpleMailMessage();
-        msg.setTo(to);
-        msg.setSubject("[전자결재 알림] 문서 반려: " + docTitle);
-        msg.setText(
+        enqueue(TYPE_REJECT, to,
+                "[전자결재 알림] 문서 반려: " + docTitle,
                 "문서 [" + docTitle + "]이(가) 반려되었습니다.\n" +
                         "반려자: " + rejecterName + "\n" +
                         "사유: " + reason + "\n\n" +
                         "문서 확인: http://localhost:3000/approval/detail/" + docId + "\n\n" +
                         "BizMate 전자결재 시스템"
         );
-        mailSender.send(msg);
-        log.info("📨 반려 메일 전송 완료 → {}", to);
     }
-}
\ No newline at end of file
+
+    /**
+     * 일괄 결재 알림 (수신자당 1통)
+     * - 항목이 1건이면 기존 단건 메일과 동일한 형식
+     */
+    @Transactional
+    public void sendDigestMail(String to, String recipientName, String deciderName, List<DigestItem> items) {
+        if (items.isEmpty()) return;
+        if (items.size() == 1) {
+            DigestItem item = items.get(0);
+            switch (item.type()) {
+                case TYPE_APPROVAL_REQUEST ->
+                        sendApprovalRequestMail(to, recipientName, item.docTitle(), item.docId(), deciderName);
+                case TYPE_APPROVAL_COMPLETE ->
+                        sendApprovalCompleteMail(to, item.docTitle(), item.docId(), deciderName);
+                default -> sendRejectMail(to, item.docTitle(), item.docId(), deciderName, item.reason());
+            }
+            return;
+        }
+
+        StringBuilder body = new StringBuilder();
+        body.append(recipientName != null ? recipientName + "님,\n\n" : "")
+                .append(deciderName).append("님의 일괄 결재 처리 결과입니다. (").append(items.size()).append("건)\n\n");
+        appendSection(body, "결재 요청", items, TYPE_APPROVAL_REQUEST);
+        appendSection(body, "최종 승인 완료", items, TYPE_APPROVAL_COMPLETE);
+        appendSection(body, "반려", items, TYPE_REJECT);
+        body.append("BizMate 전자결재 시스템");
+
+        enqueue(TYPE_DIGEST, to, "[전자결재 알림] 일괄 결재 처리 " + items.size() + "건", body.toString());
+    }
+
+    private void appendSection(StringBuilder body, String label, List<DigestItem> items, String type) {
+        List<DigestItem> section = items.stream().filter(i -> type.equals(i.type())).toList();
+        if (section.isEmpty()) return;
+
+        body.append("■ ").append(label).append(" (").append(section.size()).append("건)\n");
+        for (DigestItem item : section) {
+            body.append(" - [").append(item.docTitle()).append("] http://localhost:3000/approval/detail/").append(item.docId());
+            if (TYPE_REJECT.equals(type) && item.reason() != null && !item.reason().isBlank()) {
+                body.append(" (사유: ").append(item.reason()).append(")");
+            }
+            body.append("\n");
+        }
+        body.append("\n");
+    }
+
+    private void enqueue(String mailType, String to, String subject, String body) {
+        if (to == null || to.isBlank()) {
+            log.warn("📭 수신자 메일 주소 없음 → 알림 생략 (type={}, subject={})", mailType, subject);
+            return;
+        }
+
+        NotificationOutbox saved = outboxRepository.save(NotificationOutbox.builder()
+                .mailType(mailType)
+                .recipient(to)
+                .subject(subject)
+                .body(body)
+                .status(OutboxStatus.PENDING)
+                .build());
+        log.info("📥 메일 발송 대기열 적재 → id={}, type={}, to={}", saved.getId(), mailType, to);
+    }
+}
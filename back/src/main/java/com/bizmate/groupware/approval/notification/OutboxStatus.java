@@ -0,0 +1,8 @@
+package com.bizmate.groupware.approval.notification;
+
+public enum OutboxStatus {
+    PENDING,    // 발송 대기 (재시도 대기 포함)
+    SENDING,    // 디스패처가 점유 중
+    SENT,       // 발송 완료
+    DEAD        // 최대 재시도 초과 (dead-letter)
+}
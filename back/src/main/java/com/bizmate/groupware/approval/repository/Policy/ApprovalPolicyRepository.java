@@ -3,6 +3,7 @@ package com.bizmate.groupware.approval.repository.Policy;
 import com.bizmate.groupware.approval.domain.policy.ApprovalPolicy;
 import com.bizmate.groupware.approval.domain.document.DocumentType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,4 +11,13 @@ import java.util.Optional;
 public interface ApprovalPolicyRepository extends JpaRepository<ApprovalPolicy, Long> {
     List<ApprovalPolicy> findAll();
     Optional<ApprovalPolicy> findByDocTypeAndIsActiveTrue(DocumentType docType);
+
+    /** 정책 캐시 재구성용: 활성 정책 + 단계 + 결재자 한 번에 조회 */
+    @Query("""
+            SELECT DISTINCT p FROM ApprovalPolicy p
+            LEFT JOIN FETCH p.steps s
+            LEFT JOIN FETCH s.approver
+            WHERE p.isActive = true
+            """)
+    List<ApprovalPolicy> findAllActiveWithSteps();
 }
@@ -3,11 +3,14 @@ package com.bizmate.groupware.approval.repository.attachment;
 import com.bizmate.groupware.approval.domain.document.ApprovalDocuments;
 import com.bizmate.groupware.approval.domain.attachment.ApprovalFileAttachment;
 import com.bizmate.hr.domain.UserEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ApprovalFileAttachmentRepository extends JpaRepository<ApprovalFileAttachment, Long> {
@@ -22,5 +25,38 @@ public interface ApprovalFileAttachmentRepository extends JpaRepository<Approval
     int linkPendingFiles(@Param("document") ApprovalDocuments document,
                          @Param("uploader") UserEntity uploader);
 
-    List<ApprovalFileAttachment> findByDocumentIsNullAndUploader(UserEntity uploader);
+    /**
+     * 업로더의 연결 대기 임시 첨부 (since 이후 업로드분만, IDX_ATTACHMENT_PENDING)
+     */
+    @Query("SELECT f FROM ApprovalFileAttachment f " +
+            "WHERE f.uploader = :uploader AND f.document IS NULL AND f.uploadedAt >= :since " +
+            "ORDER BY f.uploadedAt")
+    List<ApprovalFileAttachment> findPendingByUploader(@Param("uploader") UserEntity uploader,
+                                                       @Param("since") LocalDateTime since);
+
+    /**
+     * 오래된 미연결 임시 첨부 (정리 대상, IDX_ATTACHMENT_ORPHAN)
+     */
+    @Query("SELECT f FROM ApprovalFileAttachment f " +
+            "WHERE f.document IS NULL AND f.uploadedAt < :cutoff ORDER BY f.uploadedAt")
+    List<ApprovalFileAttachment> findOrphans(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * 아직 미연결인 경우에만 삭제 (정리 중 상신으로 연결된 첨부 보호)
+     */
+    @Modifying
+    @Query("DELETE FROM ApprovalFileAttachment f WHERE f.id = :id AND f.document IS NULL")
+    int deleteIfOrphan(@Param("id") Long id);
+
+    /**
+     * 문서별 첨부 개수 일괄 집계 (목록 페이지용) → [docId, count]
+     */
+    @Query("SELECT f.document.docId, COUNT(f) FROM ApprovalFileAttachment f " +
+            "WHERE f.document.docId IN :docIds GROUP BY f.document.docId")
+    List<Object[]> countByDocIds(@Param("docIds") Collection<String> docIds);
+
+    /**
+     * 내용 해시 저장소로 옮기지 않은 첨부 (이관 작업용, ID 순)
+     */
+    List<ApprovalFileAttachment> findByContentHashIsNullAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
@@ -0,0 +1,23 @@
+package com.bizmate.groupware.approval.repository.attachment;
+
+import com.bizmate.groupware.approval.domain.attachment.ApprovalUploadChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ApprovalUploadChunkRepository extends JpaRepository<ApprovalUploadChunk, Long> {
+
+    boolean existsByUploadIdAndChunkIndex(String uploadId, int chunkIndex);
+
+    long countByUploadId(String uploadId);
+
+    @Query("SELECT c.chunkIndex FROM ApprovalUploadChunk c WHERE c.uploadId = :uploadId ORDER BY c.chunkIndex")
+    List<Integer> findReceivedIndexes(@Param("uploadId") String uploadId);
+
+    @Modifying
+    @Query("DELETE FROM ApprovalUploadChunk c WHERE c.uploadId = :uploadId")
+    int deleteByUploadId(@Param("uploadId") String uploadId);
+}
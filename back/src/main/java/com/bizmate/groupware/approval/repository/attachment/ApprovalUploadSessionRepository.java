@@ -0,0 +1,32 @@
+package com.bizmate.groupware.approval.repository.attachment;
+
+import com.bizmate.groupware.approval.domain.attachment.ApprovalUploadSession;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ApprovalUploadSessionRepository extends JpaRepository<ApprovalUploadSession, String> {
+
+    @Modifying
+    @Query("UPDATE ApprovalUploadSession s SET s.updatedAt = :now WHERE s.uploadId = :uploadId")
+    int touch(@Param("uploadId") String uploadId, @Param("now") LocalDateTime now);
+
+    /** 완료 처리 선점 (1 = 선점 성공, 0 = 이미 다른 요청이 완료 처리 중) */
+    @Modifying
+    @Query("UPDATE ApprovalUploadSession s SET s.completing = true, s.updatedAt = :now " +
+            "WHERE s.uploadId = :uploadId AND s.completing = false")
+    int claimCompletion(@Param("uploadId") String uploadId, @Param("now") LocalDateTime now);
+
+    /** 선점 해제 (임시 파일이 그대로 남아 있어 재시도 가능한 실패) */
+    @Modifying
+    @Query("UPDATE ApprovalUploadSession s SET s.completing = false WHERE s.uploadId = :uploadId")
+    int releaseCompletion(@Param("uploadId") String uploadId);
+
+    /** 마지막 활동 이후 오래된 세션 (만료 정리용) */
+    List<ApprovalUploadSession> findByUpdatedAtBefore(LocalDateTime cutoff, Pageable pageable);
+}
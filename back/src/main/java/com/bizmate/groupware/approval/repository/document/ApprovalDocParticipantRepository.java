@@ -0,0 +1,90 @@
+package com.bizmate.groupware.approval.repository.document;
+
+import com.bizmate.groupware.approval.domain.document.ApprovalDocParticipant;
+import com.bizmate.groupware.approval.domain.document.DocumentStatus;
+import com.bizmate.groupware.approval.domain.document.ParticipantRole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 결재문서 참여자 인덱스 Repository
+ * - 결재함 목록 필터/정렬/페이징을 DB에서 처리
+ */
+@Repository
+public interface ApprovalDocParticipantRepository extends JpaRepository<ApprovalDocParticipant, Long> {
+
+    /**
+     * 사용자 결재함 문서ID 페이지 (최신순)
+     * - 작성자: 삭제 문서 제외
+     * - 결재자/열람자: 삭제 + 임시저장 문서 제외
+     * - status 가 null 이면 전체 상태
+     */
+    @Query(value = """
+            SELECT p.docId
+            FROM ApprovalDocParticipant p
+            WHERE p.username = :username
+              AND p.status <> :deleted
+              AND (p.role = :author OR p.status <> :draft)
+              AND (:status IS NULL OR p.status = :status)
+            GROUP BY p.docId, p.createdAt
+            ORDER BY p.createdAt DESC, p.docId DESC
+            """,
+            countQuery = """
+            SELECT COUNT(DISTINCT p.docId)
+            FROM ApprovalDocParticipant p
+            WHERE p.username = :username
+              AND p.status <> :deleted
+              AND (p.role = :author OR p.status <> :draft)
+              AND (:status IS NULL OR p.status = :status)
+            """)
+    Page<String> findAccessibleDocIds(@Param("username") String username,
+                                      @Param("status") DocumentStatus status,
+                                      @Param("author") ParticipantRole author,
+                                      @Param("draft") DocumentStatus draft,
+                                      @Param("deleted") DocumentStatus deleted,
+                                      Pageable pageable);
+
+    /**
+     * 커서 모드: (createdAt, docId) 내림차순 seek → [docId, createdAt] (count 없음)
+     */
+    @Query("""
+            SELECT p.docId, p.createdAt
+            FROM ApprovalDocParticipant p
+            WHERE p.username = :username
+              AND p.status <> :deleted
+              AND (p.role = :author OR p.status <> :draft)
+              AND (:status IS NULL OR p.status = :status)
+              AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.docId < :docId))
+            GROUP BY p.docId, p.createdAt
+            ORDER BY p.createdAt DESC, p.docId DESC
+            """)
+    List<Object[]> findAccessibleDocIdsAfter(@Param("username") String username,
+                                             @Param("status") DocumentStatus status,
+                                             @Param("author") ParticipantRole author,
+                                             @Param("draft") DocumentStatus draft,
+                                             @Param("deleted") DocumentStatus deleted,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("docId") String docId,
+                                             Pageable pageable);
+
+    List<ApprovalDocParticipant> findByDocId(String docId);
+
+    /**
+     * 문서 상태 변경 시 참여자 행 상태 일괄 갱신
+     */
+    @Modifying
+    @Query("UPDATE ApprovalDocParticipant p SET p.status = :status WHERE p.docId = :docId")
+    int updateStatusByDocId(@Param("docId") String docId, @Param("status") DocumentStatus status);
+
+    @Modifying
+    @Query("DELETE FROM ApprovalDocParticipant p WHERE p.docId = :docId")
+    int deleteByDocId(@Param("docId") String docId);
+}
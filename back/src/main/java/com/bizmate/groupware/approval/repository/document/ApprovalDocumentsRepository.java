@@ -3,17 +3,22 @@ package com.bizmate.groupware.approval.repository.document;
 import com.bizmate.groupware.approval.domain.document.ApprovalDocuments;
 import com.bizmate.groupware.approval.domain.document.DocumentStatus;
 import com.bizmate.groupware.approval.domain.policy.ApproverStep;
+import com.bizmate.groupware.approval.dto.approval.ApprovalDocumentListDto;
+import com.bizmate.groupware.approval.dto.approval.ApprovalPdfStamp;
 import com.bizmate.hr.domain.Department;
 import com.bizmate.hr.domain.UserEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +44,12 @@ public interface ApprovalDocumentsRepository extends JpaRepository<ApprovalDocum
                                                      LocalDateTime start,
                                                      LocalDateTime end);
 
+    /**
+     * 접두어(부서코드-일자-)별 최대 문서번호 (문서번호 구간 최초 생성 시 이어받기용)
+     */
+    @Query("SELECT MAX(d.docId) FROM ApprovalDocuments d WHERE d.docId LIKE CONCAT(:prefix, '%')")
+    Optional<String> findMaxDocIdByPrefix(@Param("prefix") String prefix);
+
     /**
      * 페이징 검색
      */
@@ -66,6 +77,126 @@ public interface ApprovalDocumentsRepository extends JpaRepository<ApprovalDocum
             """)
     List<ApprovalDocuments> findAllWithAuthorAndEmployee();
 
+    /* ----------------------------- 목록 프로젝션 (LOB 미조회) ------------------------------ */
+
+    /**
+     * 전체 문서 목록 (관리자)
+     */
+    @Query(value = """
+            SELECT new com.bizmate.groupware.approval.dto.approval.ApprovalDocumentListDto(
+                d.docId, d.title, d.docType, d.status,
+                dept.deptId, dept.deptCode, dept.deptName,
+                d.finalDocNumber, au.userId, au.username, COALESCE(ue.empName, au.empName),
+                d.createdAt, d.updatedAt, d.currentApproverIndex
+            )
+            FROM ApprovalDocuments d
+            LEFT JOIN d.department dept
+            LEFT JOIN d.authorUser au
+            LEFT JOIN au.employee ue
+            """,
+            countQuery = "SELECT COUNT(d) FROM ApprovalDocuments d")
+    Page<ApprovalDocumentListDto> findListPage(Pageable pageable);
+
+    /**
+     * 제목/작성자명 키워드 검색 목록 (관리자)
+     */
+    @Query(value = """
+            SELECT new com.bizmate.groupware.approval.dto.approval.ApprovalDocumentListDto(
+                d.docId, d.title, d.docType, d.status,
+                dept.deptId, dept.deptCode, dept.deptName,
+                d.finalDocNumber, au.userId, au.username, COALESCE(ue.empName, au.empName),
+                d.createdAt, d.updatedAt, d.currentApproverIndex
+            )
+            FROM ApprovalDocuments d
+            LEFT JOIN d.department dept
+            LEFT JOIN d.authorUser au
+            LEFT JOIN au.employee ue
+            LEFT JOIN d.authorEmployee e
+            WHERE UPPER(FUNCTION('REPLACE', d.title, ' ', '')) LIKE
+                      UPPER(FUNCTION('REPLACE', CONCAT('%', :keyword, '%'), ' ', ''))
+                   OR UPPER(FUNCTION('REPLACE', e.empName, ' ', '')) LIKE
+                      UPPER(FUNCTION('REPLACE', CONCAT('%', :keyword, '%'), ' ', ''))
+            """,
+            countQuery = """
+            SELECT COUNT(d)
+            FROM ApprovalDocuments d
+            LEFT JOIN d.authorEmployee e
+            WHERE UPPER(FUNCTION('REPLACE', d.title, ' ', '')) LIKE
+                      UPPER(FUNCTION('REPLACE', CONCAT('%', :keyword, '%'), ' ', ''))
+                   OR UPPER(FUNCTION('REPLACE', e.empName, ' ', '')) LIKE
+                      UPPER(FUNCTION('REPLACE', CONCAT('%', :keyword, '%'), ' ', ''))
+            """)
+    Page<ApprovalDocumentListDto> searchListPage(@Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * 상태별 문서 목록
+     */
+    @Query(value = """
+            SELECT new com.bizmate.groupware.approval.dto.approval.ApprovalDocumentListDto(
+                d.docId, d.title, d.docType, d.status,
+                dept.deptId, dept.deptCode, dept.deptName,
+                d.finalDocNumber, au.userId, au.username, COALESCE(ue.empName, au.empName),
+                d.createdAt, d.updatedAt, d.currentApproverIndex
+            )
+            FROM ApprovalDocuments d
+            LEFT JOIN d.department dept
+            LEFT JOIN d.authorUser au
+            LEFT JOIN au.employee ue
+            WHERE d.status = :status
+            """,
+            countQuery = "SELECT COUNT(d) FROM ApprovalDocuments d WHERE d.status = :status")
+    Page<ApprovalDocumentListDto> findListPageByStatus(@Param("status") DocumentStatus status, Pageable pageable);
+
+    /**
+     * 문서ID 목록 기준 목록 행 (참여자/결재단계 인덱스 페이지용)
+     */
+    @Query("""
+            SELECT new com.bizmate.groupware.approval.dto.approval.ApprovalDocumentListDto(
+                d.docId, d.title, d.docType, d.status,
+                dept.deptId, dept.deptCode, dept.deptName,
+                d.finalDocNumber, au.userId, au.username, COALESCE(ue.empName, au.empName),
+                d.createdAt, d.updatedAt, d.currentApproverIndex
+            )
+            FROM ApprovalDocuments d
+            LEFT JOIN d.department dept
+            LEFT JOIN d.authorUser au
+            LEFT JOIN au.employee ue
+            WHERE d.docId IN :docIds
+            """)
+    List<ApprovalDocumentListDto> findListByDocIdIn(@Param("docIds") List<String> docIds);
+
+    /**
+     * PDF 캐시용 상태/버전 조회
+     */
+    @Query("""
+            SELECT new com.bizmate.groupware.approval.dto.approval.ApprovalPdfStamp(
+                d.docId, d.status, d.version, d.updatedAt
+            )
+            FROM ApprovalDocuments d
+            WHERE d.docId = :docId
+            """)
+    Optional<ApprovalPdfStamp> findPdfStamp(@Param("docId") String docId);
+
+    /**
+     * PDF 일괄 내보내기 대상 (상태 + 부서 + 작성일 기간)
+     */
+    @Query("""
+            SELECT new com.bizmate.groupware.approval.dto.approval.ApprovalPdfStamp(
+                d.docId, d.status, d.version, d.updatedAt
+            )
+            FROM ApprovalDocuments d
+            WHERE d.status = :status
+              AND (:deptId IS NULL OR d.department.deptId = :deptId)
+              AND d.createdAt >= :from
+              AND d.createdAt < :to
+            ORDER BY d.createdAt, d.docId
+            """)
+    List<ApprovalPdfStamp> findPdfStampsForExport(@Param("status") DocumentStatus status,
+                                                  @Param("deptId") Long deptId,
+                                                  @Param("from") LocalDateTime from,
+                                                  @Param("to") LocalDateTime to,
+                                                  Pageable limit);
+
     @Query("""
                 SELECT d FROM ApprovalDocuments d
                 LEFT JOIN FETCH d.department dept
@@ -75,4 +206,41 @@ public interface ApprovalDocumentsRepository extends JpaRepository<ApprovalDocum
             """)
     Optional<ApprovalDocuments> findWithDetailsByDocId(@Param("docId") String docId);
 
+    /**
+     * 검색 색인 비교용 [docId, version, 작성자명] (LOB 미조회)
+     */
+    @Query("""
+            SELECT d.docId, d.version, e.empName
+            FROM ApprovalDocuments d
+            LEFT JOIN d.authorEmployee e
+            """)
+    List<Object[]> findSearchStamps();
+
+    /**
+     * 검색 색인용 문서 로딩 (작성자 함께 조회)
+     */
+    @Query("""
+            SELECT d FROM ApprovalDocuments d
+            LEFT JOIN FETCH d.authorEmployee
+            WHERE d.docId IN :docIds
+            """)
+    List<ApprovalDocuments> findForSearchIndex(@Param("docIds") Collection<String> docIds);
+
+    /**
+     * 일괄 결재용 문서 잠금 조회 (docId 순으로 잠가 동시 일괄 처리 간 교착 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM ApprovalDocuments d WHERE d.docId IN :docIds ORDER BY d.docId")
+    List<ApprovalDocuments> findAllForUpdateByDocIdIn(@Param("docIds") Collection<String> docIds);
+
+    /**
+     * 일괄 결재 알림용 [docId, 작성자 이메일]
+     */
+    @Query("""
+            SELECT d.docId, u.email
+            FROM ApprovalDocuments d
+            JOIN d.authorUser u
+            WHERE d.docId IN :docIds
+            """)
+    List<Object[]> findAuthorEmails(@Param("docIds") Collection<String> docIds);
 }
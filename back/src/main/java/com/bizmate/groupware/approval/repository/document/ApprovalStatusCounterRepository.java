@@ -0,0 +1,33 @@
+package com.bizmate.groupware.approval.repository.document;
+
+import com.bizmate.groupware.approval.domain.document.ApprovalStatusCounter;
+import com.bizmate.groupware.approval.domain.document.DocumentStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 사용자별 결재 상태 카운터 Repository
+ */
+@Repository
+public interface ApprovalStatusCounterRepository extends JpaRepository<ApprovalStatusCounter, Long> {
+
+    List<ApprovalStatusCounter> findByUsername(String username);
+
+    /**
+     * 카운터 증감 (행이 없으면 0 반환 → 호출측에서 신규 생성)
+     */
+    @Modifying
+    @Query("""
+            UPDATE ApprovalStatusCounter c
+            SET c.docCount = c.docCount + :delta
+            WHERE c.username = :username AND c.status = :status
+            """)
+    int addDelta(@Param("username") String username,
+                 @Param("status") DocumentStatus status,
+                 @Param("delta") long delta);
+}
@@ -0,0 +1,76 @@
+package com.bizmate.groupware.approval.repository.document;
+
+import com.bizmate.groupware.approval.domain.document.ApprovalStep;
+import com.bizmate.groupware.approval.domain.document.Decision;
+import com.bizmate.groupware.approval.domain.document.DocumentStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 결재선 단계 Repository
+ * - 결재자 기준 조회 (approver_id, decision 인덱스)
+ */
+@Repository
+public interface ApprovalStepRepository extends JpaRepository<ApprovalStep, Long> {
+
+    List<ApprovalStep> findByDocIdOrderByStepIndex(String docId);
+
+    List<ApprovalStep> findByDocIdInOrderByDocIdAscStepIndexAsc(Collection<String> docIds);
+
+    /**
+     * 내 결재 대기 문서ID 페이지
+     * - 내 단계가 PENDING 이고, 문서가 진행 중이며, 현재 결재 차례가 내 단계인 문서
+     */
+    @Query(value = """
+            SELECT s.docId
+            FROM ApprovalStep s
+            JOIN ApprovalDocuments d ON d.docId = s.docId
+            WHERE s.approverId IN :approverIds
+              AND s.decision = :pending
+              AND d.status = :inProgress
+              AND d.currentApproverIndex = s.stepIndex
+            ORDER BY d.createdAt DESC, s.docId DESC
+            """,
+            countQuery = """
+            SELECT COUNT(s)
+            FROM ApprovalStep s
+            JOIN ApprovalDocuments d ON d.docId = s.docId
+            WHERE s.approverId IN :approverIds
+              AND s.decision = :pending
+              AND d.status = :inProgress
+              AND d.currentApproverIndex = s.stepIndex
+            """)
+    Page<String> findPendingDocIds(@Param("approverIds") Collection<String> approverIds,
+                                   @Param("pending") Decision pending,
+                                   @Param("inProgress") DocumentStatus inProgress,
+                                   Pageable pageable);
+
+    /**
+     * 커서 모드: (문서 createdAt, docId) 내림차순 seek → [docId, createdAt] (count 없음)
+     */
+    @Query("""
+            SELECT s.docId, d.createdAt
+            FROM ApprovalStep s
+            JOIN ApprovalDocuments d ON d.docId = s.docId
+            WHERE s.approverId IN :approverIds
+              AND s.decision = :pending
+              AND d.status = :inProgress
+              AND d.currentApproverIndex = s.stepIndex
+              AND (d.createdAt < :createdAt OR (d.createdAt = :createdAt AND s.docId < :docId))
+            ORDER BY d.createdAt DESC, s.docId DESC
+            """)
+    List<Object[]> findPendingDocIdsAfter(@Param("approverIds") Collection<String> approverIds,
+                                          @Param("pending") Decision pending,
+                                          @Param("inProgress") DocumentStatus inProgress,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("docId") String docId,
+                                          Pageable pageable);
+}
@@ -0,0 +1,192 @@
+package com.bizmate.groupware.approval.service.PDF;
+
+import com.bizmate.common.exception.VerificationFailedException;
+import com.bizmate.groupware.approval.domain.document.DocumentStatus;
+import com.bizmate.groupware.approval.dto.approval.ApprovalPdfStamp;
+import com.bizmate.groupware.approval.repository.document.ApprovalDocumentsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.time.ZoneId;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApprovalPdfCacheService
+ * ------------------------
+ * ✅ 최종 승인(APPROVED) 문서 PDF를 로컬 디스크에 1회 생성 후 재사용
+ * ✅ 파일 키: {docId}_v{version}.pdf → 문서가 바뀌면 버전이 바뀌어 자동으로 다른 파일
+ * ✅ 최종 승인 커밋 후 백그라운드 사전 생성, 파일이 없으면 첫 요청 시 생성
+ * ✅ 복원/강제 처리 시 해당 문서의 캐시 파일 삭제
+ */
+@Slf4j
+@Service
+public class ApprovalPdfCacheService {
+
+    private final PDFGeneratorService pdfGeneratorService;
+    private final ApprovalDocumentsRepository documentsRepository;
+    private final Path cacheDir;
+    private final ExecutorService prerenderExecutor;
+
+    public ApprovalPdfCacheService(
+            PDFGeneratorService pdfGeneratorService,
+            ApprovalDocumentsRepository documentsRepository,
+            @Value("${bizmate.pdf.cache-dir:${java.io.tmpdir}/bizmate/pdf-cache}") String cacheDir,
+            @Value("${bizmate.pdf.prerender-queue-size:100}") int queueSize
+    ) {
+        this.pdfGeneratorService = pdfGeneratorService;
+        this.documentsRepository = documentsRepository;
+        this.cacheDir = Paths.get(cacheDir).toAbsolutePath().normalize();
+
+        // 사전 생성은 단일 스레드 + 제한 대기열 → 넘치면 버리고 첫 다운로드 때 생성
+        this.prerenderExecutor = new ThreadPoolExecutor(
+                1, 1, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueSize)),
+                r -> {
+                    Thread t = new Thread(r, "pdf-prerender");
+                    t.setDaemon(true);
+                    return t;
+                },
+                (r, executor) -> log.warn("⚠️ PDF 사전 생성 대기열 초과 → 첫 요청 시 생성"));
+    }
+
+    /* -------------------------------------------------------------
+       조회
+       ------------------------------------------------------------- */
+
+    /** 문서 상태/버전/수정일 (LOB 미조회) */
+    public ApprovalPdfStamp stamp(String docId) {
+        return documentsRepository.findPdfStamp(docId)
+                .orElseThrow(() -> new VerificationFailedException("문서를 찾을 수 없습니다."));
+    }
+
+    /** 캐시 대상(최종 승인) 여부 */
+    public boolean isCacheable(ApprovalPdfStamp stamp) {
+        return stamp.status() == DocumentStatus.APPROVED && stamp.version() != null;
+    }
+
+    public String eTag(ApprovalPdfStamp stamp) {
+        return "\"" + safeName(stamp.docId()) + "-v" + stamp.version() + "\"";
+    }
+
+    public long lastModified(ApprovalPdfStamp stamp) {
+        return stamp.updatedAt() != null
+                ? stamp.updatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1;
+    }
+
+    /**
+     * PDF 본문
+     * - 최종 승인 문서: 캐시 파일 (없으면 생성 후 저장)
+     * - 그 외: 매번 생성 (진행 중 문서는 결재란이 계속 바뀜)
+     */
+    public Resource load(ApprovalPdfStamp stamp) {
+        if (!isCacheable(stamp)) {
+            return new ByteArrayResource(pdfGeneratorService.generateApprovalPdf(stamp.docId()));
+        }
+
+        Path file = fileOf(stamp.docId(), stamp.version());
+        if (Files.isReadable(file)) {
+            log.debug("📄 PDF 캐시 적중: {}", file.getFileName());
+            return new FileSystemResource(file);
+        }
+
+        PDFGeneratorService.RenderedApprovalPdf rendered = renderAndStore(stamp.docId());
+        return new ByteArrayResource(rendered.bytes());
+    }
+
+    /* -------------------------------------------------------------
+       생성 / 무효화
+       ------------------------------------------------------------- */
+
+    /**
+     * 최종 승인 직후 호출 → 트랜잭션 커밋 후 백그라운드에서 PDF 생성
+     */
+    public void prerenderAfterCommit(String docId) {
+        Runnable task = () -> prerenderExecutor.execute(() -> {
+            try {
+                renderAndStore(docId);
+            } catch (Exception e) {
+                log.warn("⚠️ PDF 사전 생성 실패 (첫 요청 시 재시도): docId={}, {}", docId, e.getMessage());
+            }
+        });
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * 문서의 모든 버전 캐시 파일 삭제 (복원/강제승인/강제반려)
+     */
+    public void invalidate(String docId) {
+        if (!Files.isDirectory(cacheDir)) return;
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheDir, safeName(docId) + "_v*.pdf")) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+                log.info("🧹 PDF 캐시 삭제: {}", file.getFileName());
+            }
+        } catch (IOException e) {
+            log.warn("⚠️ PDF 캐시 삭제 실패: docId={}, {}", docId, e.getMessage());
+        }
+    }
+
+    private PDFGeneratorService.RenderedApprovalPdf renderAndStore(String docId) {
+        PDFGeneratorService.RenderedApprovalPdf rendered = pdfGeneratorService.generateVersionedPdf(docId);
+
+        if (rendered.status() == DocumentStatus.APPROVED && rendered.version() != null) {
+            store(docId, rendered.version(), rendered.bytes());
+        }
+        return rendered;
+    }
+
+    /** 임시 파일에 쓴 뒤 원자적 이동 → 동시 요청이 반쯤 쓰인 파일을 읽지 않도록 */
+    private void store(String docId, long version, byte[] bytes) {
+        Path target = fileOf(docId, version);
+        try {
+            Files.createDirectories(cacheDir);
+            Path tmp = Files.createTempFile(cacheDir, safeName(docId), ".tmp");
+            try {
+                Files.write(tmp, bytes);
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            log.info("💾 PDF 캐시 저장: {} ({} bytes)", target.getFileName(), bytes.length);
+        } catch (IOException e) {
+            log.warn("⚠️ PDF 캐시 저장 실패: {}, {}", target, e.getMessage());
+        }
+    }
+
+    private Path fileOf(String docId, long version) {
+        return cacheDir.resolve(safeName(docId) + "_v" + version + ".pdf");
+    }
+
+    private static String safeName(String docId) {
+        return docId.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        prerenderExecutor.shutdown();
+    }
+}
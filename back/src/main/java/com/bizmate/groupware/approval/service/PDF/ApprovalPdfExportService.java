@@ -0,0 +1,309 @@
+package com.bizmate.groupware.approval.service.PDF;
+
+import com.bizmate.common.exception.ServiceBusyException;
+import com.bizmate.common.exception.VerificationFailedException;
+import com.bizmate.groupware.approval.domain.document.DocumentStatus;
+import com.bizmate.groupware.approval.dto.approval.ApprovalPdfExportProgressDto;
+import com.bizmate.groupware.approval.dto.approval.ApprovalPdfExportRequestDto;
+import com.bizmate.groupware.approval.dto.approval.ApprovalPdfStamp;
+import com.bizmate.groupware.approval.repository.document.ApprovalDocumentsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * ApprovalPdfExportService
+ * -------------------------
+ * ✅ 조건(상태/부서/기간)에 맞는 결재문서 PDF를 ZIP 으로 스트리밍
+ * ✅ 동시 렌더링 수 제한 (슬라이딩 윈도우) → 메모리에는 윈도우 크기만큼의 PDF만 존재
+ * ✅ 진행 상황 조회 / 취소 요청 / 클라이언트 연결 종료 시 자동 중단
+ * ✅ 최종 승인 문서는 PDF 캐시 파일을 그대로 압축
+ */
+@Slf4j
+@Service
+public class ApprovalPdfExportService {
+
+    private static final int BUSY_RETRIES = 5;
+    private static final long BUSY_RETRY_DELAY_MS = 500;
+
+    private final ApprovalDocumentsRepository documentsRepository;
+    private final ApprovalPdfCacheService pdfCacheService;
+    private final ExecutorService renderExecutor;
+    private final int concurrency;
+    private final int maxDocuments;
+    private final long retentionMinutes;
+
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    public ApprovalPdfExportService(
+            ApprovalDocumentsRepository documentsRepository,
+            ApprovalPdfCacheService pdfCacheService,
+            @Value("${bizmate.pdf.export.concurrency:2}") int concurrency,
+            @Value("${bizmate.pdf.export.max-documents:2000}") int maxDocuments,
+            @Value("${bizmate.pdf.export.retention-minutes:30}") long retentionMinutes
+    ) {
+        this.documentsRepository = documentsRepository;
+        this.pdfCacheService = pdfCacheService;
+        this.concurrency = Math.max(1, concurrency);
+        this.maxDocuments = maxDocuments;
+        this.retentionMinutes = retentionMinutes;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.renderExecutor = Executors.newFixedThreadPool(this.concurrency, r -> {
+            Thread t = new Thread(r, "pdf-export-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /* -------------------------------------------------------------
+       작업 생성 / 조회 / 취소
+       ------------------------------------------------------------- */
+
+    public ApprovalPdfExportProgressDto create(ApprovalPdfExportRequestDto req) {
+        DocumentStatus status = (req.getStatus() != null && !req.getStatus().isBlank())
+                ? DocumentStatus.from(req.getStatus())
+                : DocumentStatus.APPROVED;
+        LocalDateTime from = req.getFrom() != null ? req.getFrom().atStartOfDay() : LocalDate.of(2000, 1, 1).atStartOfDay();
+        LocalDateTime to = req.getTo() != null ? req.getTo().plusDays(1).atStartOfDay() : LocalDate.of(9999, 1, 1).atStartOfDay();
+
+        if (!from.isBefore(to)) {
+            throw new VerificationFailedException("조회 기간이 올바르지 않습니다.");
+        }
+
+        List<ApprovalPdfStamp> stamps = documentsRepository.findPdfStampsForExport(
+                status, req.getDepartmentId(), from, to, PageRequest.of(0, maxDocuments + 1));
+
+        if (stamps.isEmpty()) {
+            throw new VerificationFailedException("내보낼 문서가 없습니다.");
+        }
+        if (stamps.size() > maxDocuments) {
+            throw new VerificationFailedException("한 번에 내보낼 수 있는 문서는 최대 " + maxDocuments + "건입니다. 기간을 나누어 요청해 주세요.");
+        }
+
+        ExportJob job = new ExportJob(UUID.randomUUID().toString(), stamps);
+        jobs.put(job.id, job);
+
+        log.info("📦 PDF 일괄 내보내기 생성: exportId={}, 상태={}, 부서={}, 기간={}~{}, 문서수={}",
+                job.id, status, req.getDepartmentId(), req.getFrom(), req.getTo(), stamps.size());
+        return job.toDto();
+    }
+
+    public ApprovalPdfExportProgressDto progress(String exportId) {
+        return require(exportId).toDto();
+    }
+
+    public void cancel(String exportId) {
+        ExportJob job = require(exportId);
+        job.cancelRequested = true;
+        if (job.state == State.READY) {
+            job.finish(State.CANCELLED);
+        }
+        log.info("🛑 PDF 일괄 내보내기 취소 요청: exportId={}", exportId);
+    }
+
+    public String fileName(String exportId) {
+        require(exportId);
+        return "approvals-" + LocalDate.now() + "-" + exportId.substring(0, 8) + ".zip";
+    }
+
+    /**
+     * 작업 시작 가능 여부 확인 (다운로드는 작업당 1회)
+     */
+    public void begin(String exportId) {
+        ExportJob job = require(exportId);
+        if (!job.started.compareAndSet(false, true) || job.state != State.READY) {
+            throw new VerificationFailedException("이미 진행 중이거나 종료된 내보내기입니다.");
+        }
+        job.state = State.RUNNING;
+    }
+
+    /* -------------------------------------------------------------
+       ZIP 스트리밍
+       ------------------------------------------------------------- */
+
+    /**
+     * begin() 이후 StreamingResponseBody 에서 호출
+     * - 윈도우 크기(concurrency)만큼 미리 렌더링, 문서 순서대로 ZIP 에 기록
+     * - 출력 실패(IOException) = 클라이언트 연결 종료 → 남은 렌더링 취소
+     * - 관리자 취소 시 ZIP 을 마무리하지 않고 예외 → 잘린 ZIP 이 정상 응답(200)으로 끝나지 않고 전송 실패로 보임
+     */
+    public void writeZip(String exportId, OutputStream out) throws IOException {
+        ExportJob job = require(exportId);
+        Deque<Future<ExportEntry>> window = new ArrayDeque<>();
+        Iterator<ApprovalPdfStamp> pending = job.stamps.iterator();
+        List<String> errors = new ArrayList<>();
+
+        try {
+            ZipOutputStream zip = new ZipOutputStream(out);
+            while (window.size() < concurrency && pending.hasNext()) {
+                window.add(submit(pending.next()));
+            }
+
+            while (!window.isEmpty()) {
+                if (job.cancelRequested) {
+                    log.info("🛑 PDF 일괄 내보내기 중단: exportId={}, 완료={}/{}", job.id, job.completed.get(), job.stamps.size());
+                    job.finish(State.CANCELLED);
+                    throw new ExportCancelledException(job.id);
+                }
+
+                ExportEntry entry = await(window.poll());
+                if (pending.hasNext()) {
+                    window.add(submit(pending.next()));
+                }
+
+                if (entry.resource() != null) {
+                    zip.putNextEntry(new ZipEntry(entry.docId() + ".pdf"));
+                    try (InputStream in = entry.resource().getInputStream()) {
+                        in.transferTo(zip);
+                    }
+                    zip.closeEntry();
+                    zip.flush();
+                    job.completed.incrementAndGet();
+                } else {
+                    errors.add(entry.docId() + " : " + entry.error());
+                    job.failed.incrementAndGet();
+                }
+            }
+
+            if (!errors.isEmpty()) {
+                zip.putNextEntry(new ZipEntry("_errors.txt"));
+                zip.write(String.join(System.lineSeparator(), errors).getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+            zip.finish();
+            zip.flush();
+
+            job.finish(State.DONE);
+            log.info("✅ PDF 일괄 내보내기 완료: exportId={}, 성공={}, 실패={}", job.id, job.completed.get(), job.failed.get());
+
+        } catch (ExportCancelledException e) {
+            throw e;
+        } catch (IOException e) {
+            job.finish(State.CANCELLED);
+            log.warn("⚠️ PDF 일괄 내보내기 연결 종료: exportId={}, 완료={}/{}", job.id, job.completed.get(), job.stamps.size());
+            throw e;
+        } finally {
+            window.forEach(f -> f.cancel(true));
+            if (job.state == State.RUNNING) {
+                job.finish(State.CANCELLED);
+            }
+        }
+    }
+
+    private Future<ExportEntry> submit(ApprovalPdfStamp stamp) {
+        return renderExecutor.submit(() -> render(stamp));
+    }
+
+    /** 렌더링 풀 포화(ServiceBusy)는 잠시 후 재시도, 그 외 오류는 해당 문서만 실패 처리 */
+    private ExportEntry render(ApprovalPdfStamp stamp) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return new ExportEntry(stamp.docId(), pdfCacheService.load(stamp), null);
+            } catch (ServiceBusyException e) {
+                if (attempt >= BUSY_RETRIES) {
+                    return new ExportEntry(stamp.docId(), null, e.getMessage());
+                }
+                Thread.sleep(BUSY_RETRY_DELAY_MS * attempt);
+            } catch (Exception e) {
+                log.warn("⚠️ PDF 내보내기 문서 실패: docId={}, {}", stamp.docId(), e.getMessage());
+                return new ExportEntry(stamp.docId(), null, e.getMessage());
+            }
+        }
+    }
+
+    private ExportEntry await(Future<ExportEntry> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("PDF 내보내기 중단", e);
+        } catch (ExecutionException e) {
+            throw new IOException("PDF 내보내기 실패", e.getCause());
+        }
+    }
+
+    /* -------------------------------------------------------------
+       정리
+       ------------------------------------------------------------- */
+
+    /** 종료 후 보존 기간이 지났거나, 생성 후 다운로드되지 않은 작업 제거 */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.state != State.RUNNING
+                && (job.finishedAt != null ? job.finishedAt : job.createdAt).isBefore(threshold));
+    }
+
+    private ExportJob require(String exportId) {
+        ExportJob job = jobs.get(exportId);
+        if (job == null) {
+            throw new VerificationFailedException("내보내기 작업을 찾을 수 없습니다.");
+        }
+        return job;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renderExecutor.shutdownNow();
+    }
+
+    /* -------------------------------------------------------------
+       내부 상태
+       ------------------------------------------------------------- */
+
+    private enum State { READY, RUNNING, DONE, CANCELLED }
+
+    private record ExportEntry(String docId, Resource resource, String error) {
+    }
+
+    private static final class ExportJob {
+        private final String id;
+        private final List<ApprovalPdfStamp> stamps;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private volatile State state = State.READY;
+        private volatile boolean cancelRequested;
+        private volatile LocalDateTime finishedAt;
+
+        private ExportJob(String id, List<ApprovalPdfStamp> stamps) {
+            this.id = id;
+            this.stamps = stamps;
+        }
+
+        private void finish(State finalState) {
+            this.state = finalState;
+            this.finishedAt = LocalDateTime.now();
+        }
+
+        private ApprovalPdfExportProgressDto toDto() {
+            return new ApprovalPdfExportProgressDto(id, state.name(), stamps.size(), completed.get(), failed.get());
+        }
+    }
+
+    /** 관리자 취소로 스트림을 중단 (중앙 디렉터리 없는 ZIP 을 정상 종료로 보내지 않음) */
+    private static final class ExportCancelledException extends IOException {
+        private ExportCancelledException(String exportId) {
+            super("PDF 일괄 내보내기가 취소되었습니다: " + exportId);
+        }
+    }
+}
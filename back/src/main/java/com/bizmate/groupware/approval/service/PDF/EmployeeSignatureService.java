@@ -4,33 +4,97 @@ import com.bizmate.groupware.approval.domain.PDF.EmployeeSignature;
 import com.bizmate.groupware.approval.repository.PDF.EmployeeSignatureRepository;
 import com.bizmate.hr.domain.Employee;
 
-import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.ClassPathResource;
+import com.itextpdf.io.image.ImageData;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
+/**
+ * 직원 서명 조회
+ * - 직원별 서명 경로 해석 결과(사번 파일 → DB 경로)는 TTL 동안 메모리에 보관
+ *   (서명 등록/변경 API 가 없어 사번 파일·DB 경로를 직접 바꾸면 TTL 경과 후 반영)
+ * - 디코딩된 서명 이미지는 SignatureImageCache 에서 공유 (같은 경로의 파일 교체는 수정시각으로 즉시 감지)
+ */
 @Service
-@RequiredArgsConstructor
 public class EmployeeSignatureService {
 
     private static final String SIGNATURE_PATH = "src/main/resources/signatures/";
+
+    /** 해석 결과 (path == null 이면 서명 없음) */
+    private record Resolved(String path, long resolvedAt) {
+    }
+
     private final EmployeeSignatureRepository signatureRepository;
+    private final SignatureImageCache signatureImageCache;
+    private final long ttlMillis;
+    private final Map<String, Resolved> filePathByEmpNo = new ConcurrentHashMap<>();
+    private final Map<Long, Resolved> storedPathByEmpId = new ConcurrentHashMap<>();
 
+    public EmployeeSignatureService(
+            EmployeeSignatureRepository signatureRepository,
+            SignatureImageCache signatureImageCache,
+            @Value("${bizmate.pdf.signature-cache.ttl-minutes:10}") long ttlMinutes
+    ) {
+        this.signatureRepository = signatureRepository;
+        this.signatureImageCache = signatureImageCache;
+        this.ttlMillis = ttlMinutes * 60_000L;
+    }
+
+    /**
+     * PDF 에 넣을 서명 파일 경로 (없으면 null)
+     */
     public String getSignaturePath(Employee employee) {
-        String empNo = employee.getEmpNo();
-        File empSignFile = new File(SIGNATURE_PATH + empNo + ".png");
+        return resolve(filePathByEmpNo, employee.getEmpNo(), () -> {
+            String empNo = employee.getEmpNo();
+            File empSignFile = new File(SIGNATURE_PATH + empNo + ".png");
 
-        // 🔹 1. 사번 기반 경로 우선
-        if (empSignFile.exists()) {
-            return empSignFile.getAbsolutePath();
-        }
+            // 🔹 1. 사번 기반 경로 우선
+            if (empSignFile.exists()) {
+                return empSignFile.getAbsolutePath();
+            }
+
+            // 🔹 2. DB에 저장된 경로 fallback
+            return signatureRepository.findByEmployee(employee)
+                    .map(EmployeeSignature::getSignImagePath)
+                    .filter(path -> new File(path).exists())
+                    .orElse(null);
+        });
+    }
+
+    /**
+     * 결재선에 기록할 서명 경로 (DB SIGN_IMAGE_PATH, 없으면 null)
+     */
+    public String getStoredSignPath(Employee employee) {
+        return resolve(storedPathByEmpId, employee.getEmpId(), () ->
+                signatureRepository.findByEmployee(employee)
+                        .map(EmployeeSignature::getSignImagePath)
+                        .orElse(null));
+    }
 
-        // 🔹 2. DB에 저장된 경로 fallback
-        return signatureRepository.findByEmployee(employee)
-                .map(EmployeeSignature::getSignImagePath)
-                .filter(path -> new File(path).exists())
-                .orElse(null);
+    /**
+     * 디코딩된 서명 이미지 (없으면 empty)
+     */
+    public Optional<ImageData> getSignatureImage(Employee employee) throws IOException {
+        String path = getSignaturePath(employee);
+        return path != null ? signatureImageCache.get(Path.of(path)) : Optional.empty();
+    }
+
+    private <K> String resolve(Map<K, Resolved> cache, K key, Supplier<String> loader) {
+        if (key == null) return loader.get();
+
+        long now = System.currentTimeMillis();
+        Resolved resolved = cache.get(key);
+        if (resolved == null || now - resolved.resolvedAt() >= ttlMillis) {
+            resolved = new Resolved(loader.get(), now);
+            cache.put(key, resolved);
+        }
+        return resolved.path();
     }
 }
@@ -1,14 +1,15 @@
 package com.bizmate.groupware.approval.service.PDF;
 
+import com.bizmate.common.pdf.PdfFontRegistry;
+import com.bizmate.common.pdf.PdfRenderPool;
 import com.bizmate.groupware.approval.domain.document.ApprovalDocuments;
 import com.bizmate.groupware.approval.domain.policy.ApproverStep;
 import com.bizmate.groupware.approval.domain.document.Decision;
+import com.bizmate.groupware.approval.domain.document.DocumentStatus;
 import com.bizmate.groupware.approval.repository.document.ApprovalDocumentsRepository;
-import com.bizmate.groupware.approval.repository.PDF.EmployeeSignatureRepository;
-import com.itextpdf.io.image.ImageDataFactory;
+import com.itextpdf.io.image.ImageData;
 import com.itextpdf.kernel.colors.ColorConstants;
 import com.itextpdf.kernel.font.PdfFont;
-import com.itextpdf.kernel.font.PdfFontFactory;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.layout.Document;
@@ -27,6 +28,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -35,8 +37,10 @@ import java.util.List;
 public class PDFGeneratorService {
 
     private final ApprovalDocumentsRepository documentsRepository;
-    private final EmployeeSignatureRepository employeeSignatureRepository;
+    private final SignatureImageCache signatureImageCache;
     private final PDFTemplateRenderer pdfTemplateRenderer;
+    private final PdfFontRegistry fontRegistry;
+    private final PdfRenderPool renderPool;
 
     private static final String PDF_PATH = "C:/bizmate/uploads/pdf/";
 
@@ -47,22 +51,40 @@ public class PDFGeneratorService {
      */
     @Transactional(readOnly = true)
     public byte[] generateApprovalPdf(String docId) {
-        ApprovalDocuments doc = documentsRepository.findById(docId)
-                .orElseThrow(() -> new RuntimeException("문서를 찾을 수 없습니다."));
+        ApprovalDocuments doc = loadForRender(docId);
+        return renderPool.render("approval", () -> render(doc));
+    }
+
+    /**
+     * ✅ 결재문서 PDF 생성 + 생성 시점의 문서 버전/상태 반환 (PDF 캐시 저장용)
+     */
+    @Transactional(readOnly = true)
+    public RenderedApprovalPdf generateVersionedPdf(String docId) {
+        ApprovalDocuments doc = loadForRender(docId);
+        byte[] bytes = renderPool.render("approval", () -> render(doc));
+        return new RenderedApprovalPdf(bytes, doc.getVersion(), doc.getStatus());
+    }
 
+    public record RenderedApprovalPdf(byte[] bytes, Long version, DocumentStatus status) {
+    }
 
+    /**
+     * 렌더링에 필요한 연관(부서/작성자/사원)을 호출 스레드에서 미리 로딩
+     * → 렌더링 풀 스레드에서는 지연 로딩 없이 읽기만 수행
+     */
+    private ApprovalDocuments loadForRender(String docId) {
+        return documentsRepository.findWithDetailsByDocId(docId)
+                .orElseThrow(() -> new RuntimeException("문서를 찾을 수 없습니다."));
+    }
+
+    private byte[] render(ApprovalDocuments doc) {
         try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
              PdfWriter writer = new PdfWriter(baos);
              PdfDocument pdf = new PdfDocument(writer);
              Document document = new Document(pdf);
         ) {
-            // ✅ 한글 폰트 등록 (iText 7.2.4 완전 호환)
-            String fontPath = getClass().getClassLoader()
-                    .getResource("fonts/NotoSansKR-Regular.ttf")
-                    .getPath();
-
-            // iText 7.2.4에서는 이렇게 2단계로 로드해야 함
-            PdfFont font = PdfFontFactory.createFont(fontPath, "Identity-H");
+            // ✅ 한글 폰트 (공유 폰트 프로그램 → 문서별 PdfFont, 서브셋은 문서마다 분리)
+            PdfFont font = fontRegistry.notoSansKr();
             document.setFont(font);
 
             // ✅ 헤더 + 결재란 (상단 배치)
@@ -203,20 +225,22 @@ public class PDFGeneratorService {
                 String empId = step.approverId();
                 File signFile = new File("src/main/resources/signatures/" + empId + ".png");
 
-                if (signFile.exists()) {
-                    try {
-                        Image signImg = new Image(ImageDataFactory.create(signFile.toPath().toUri().toString()))
+                // ✅ 디코딩된 서명 이미지 캐시 사용 (파일 교체 시 mtime 으로 감지)
+                try {
+                    Optional<ImageData> signImage = signatureImageCache.get(signFile.toPath());
+                    if (signImage.isPresent()) {
+                        Image signImg = new Image(signImage.get())
                                 .setAutoScale(true)
                                 .setHeight(40)
                                 .setWidth(40)
                                 .setHorizontalAlignment(HorizontalAlignment.CENTER);
                         cell.add(signImg);
-                    } catch (Exception e) {
-                        log.warn("⚠️ 서명 로드 실패: {}", signFile.getAbsolutePath(), e);
-                        cell.add(new Paragraph("(서명 오류)").setFontSize(8));
+                    } else {
+                        cell.add(new Paragraph(" ").setFontSize(8)); // ✅ 승인자이지만 파일 없음
                     }
-                } else {
-                    cell.add(new Paragraph(" ").setFontSize(8)); // ✅ 승인자이지만 파일 없음
+                } catch (Exception e) {
+                    log.warn("⚠️ 서명 로드 실패: {}", signFile.getAbsolutePath(), e);
+                    cell.add(new Paragraph("(서명 오류)").setFontSize(8));
                 }
             } else {
                 cell.add(new Paragraph(" ").setFontSize(8)); // ✅ 빈 서명란 (미결재)
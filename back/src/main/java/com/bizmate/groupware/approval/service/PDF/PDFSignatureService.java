@@ -2,7 +2,6 @@ package com.bizmate.groupware.approval.service.PDF;
 
 import com.bizmate.hr.domain.Employee;
 import com.itextpdf.io.image.ImageData;
-import com.itextpdf.io.image.ImageDataFactory;
 import com.itextpdf.layout.Document;
 import com.itextpdf.layout.element.Cell;
 import com.itextpdf.layout.element.Image;
@@ -12,7 +11,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.io.File;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -29,21 +28,19 @@ public class PDFSignatureService {
      */
     public void addSignToCell(Cell cell, Employee employee) {
         try {
-            String path = employeeSignatureService.getSignaturePath(employee);
-            if (path == null) {
+            Optional<ImageData> imageData = employeeSignatureService.getSignatureImage(employee);
+            if (imageData.isEmpty()) {
                 cell.add(new Paragraph("서명 없음").setTextAlignment(TextAlignment.CENTER));
                 return;
             }
 
-            File file = new File(path);
-            ImageData imageData = ImageDataFactory.create(file.getAbsolutePath());
-            Image image = new Image(imageData)
+            Image image = new Image(imageData.get())
                     .setAutoScale(true)
                     .scaleToFit(60, 40)
                     .setTextAlignment(TextAlignment.CENTER);
             cell.add(image);
 
-            log.info("🖋️ 서명 이미지 삽입 완료: {}", file.getName());
+            log.info("🖋️ 서명 이미지 삽입 완료: {}", employee.getEmpNo());
         } catch (Exception e) {
             log.error("❌ 서명 이미지 추가 실패: {}", e.getMessage(), e);
             cell.add(new Paragraph("오류").setTextAlignment(TextAlignment.CENTER));
@@ -55,14 +52,13 @@ public class PDFSignatureService {
      */
     public void addSignToDocument(Document document, Employee employee, float x, float y) {
         try {
-            String path = employeeSignatureService.getSignaturePath(employee);
-            if (path == null) {
+            Optional<ImageData> imageData = employeeSignatureService.getSignatureImage(employee);
+            if (imageData.isEmpty()) {
                 log.warn("⚠️ 서명 이미지 없음 (사번={}): PDF에 삽입 생략", employee.getEmpNo());
                 return;
             }
 
-            ImageData imageData = ImageDataFactory.create(path);
-            Image image = new Image(imageData)
+            Image image = new Image(imageData.get())
                     .scaleToFit(80, 50)
                     .setFixedPosition(x, y);
             document.add(image);
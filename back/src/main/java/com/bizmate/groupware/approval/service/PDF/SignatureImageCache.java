@@ -0,0 +1,89 @@
+package com.bizmate.groupware.approval.service.PDF;
+
+import com.itextpdf.io.image.ImageData;
+import com.itextpdf.io.image.ImageDataFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * SignatureImageCache
+ * --------------------
+ * ✅ 서명 PNG 를 디코딩한 ImageData 를 메모리에 보관 → 결재란 셀마다 디스크 읽기/디코딩 반복 제거
+ * ✅ 키 = 파일 경로, 항목에 수정시각(mtime) 보관 → 파일이 교체되면 다음 조회에서 다시 로딩
+ * ✅ LRU (최대 건수), 최초 사용 시 로딩 (기동 시 미리 읽지 않음)
+ * ✅ ImageData 는 문서 간 공유, PDF 에 들어가는 Image 객체는 호출자가 문서마다 새로 생성
+ * ✅ 메트릭: bizmate.pdf.signature.cache (result=hit|miss)
+ */
+@Slf4j
+@Component
+public class SignatureImageCache {
+
+    private record Entry(long lastModified, ImageData image) {
+    }
+
+    private final Map<Path, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public SignatureImageCache(
+            MeterRegistry meterRegistry,
+            @Value("${bizmate.pdf.signature-cache.max-size:500}") int maxSize
+    ) {
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.hits = meterRegistry.counter("bizmate.pdf.signature.cache", "result", "hit");
+        this.misses = meterRegistry.counter("bizmate.pdf.signature.cache", "result", "miss");
+    }
+
+    /**
+     * 서명 이미지 조회 (파일이 없으면 empty)
+     */
+    public Optional<ImageData> get(Path file) throws IOException {
+        Path key = file.toAbsolutePath().normalize();
+        long lastModified;
+        try {
+            lastModified = Files.getLastModifiedTime(key).toMillis();
+        } catch (NoSuchFileException e) {
+            evict(key);
+            return Optional.empty();
+        }
+
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.lastModified() == lastModified) {
+                hits.increment();
+                return Optional.of(entry.image());
+            }
+        }
+
+        misses.increment();
+        ImageData image = ImageDataFactory.create(Files.readAllBytes(key));
+        synchronized (entries) {
+            entries.put(key, new Entry(lastModified, image));
+        }
+        log.debug("🖋️ 서명 이미지 로딩: {}", key);
+        return Optional.of(image);
+    }
+
+    public void evict(Path file) {
+        if (file == null) return;
+        synchronized (entries) {
+            entries.remove(file.toAbsolutePath().normalize());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.bizmate.groupware.approval.service.attachment;
+
+import com.bizmate.common.exception.VerificationFailedException;
+import com.bizmate.groupware.approval.domain.attachment.ApprovalFileAttachment;
+import com.bizmate.groupware.approval.repository.attachment.ApprovalFileAttachmentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * AttachmentMetadataCache
+ * ------------------------
+ * ✅ 미리보기/다운로드 시 첨부 메타(이름/타입/크기/해시/경로)를 메모리에서 조회 → 매 요청 findById 제거
+ * ✅ LRU (최대 건수) + TTL, 첨부 삭제/이관 시 evict
+ * ✅ 메트릭: bizmate.attachment.meta.cache (result=hit|miss)
+ */
+@Component
+public class AttachmentMetadataCache {
+
+    public record AttachmentMeta(Long id, String originalName, String contentType, Long fileSize,
+                                 String contentHash, String filePath, LocalDateTime uploadedAt) {
+
+        static AttachmentMeta of(ApprovalFileAttachment a) {
+            return new AttachmentMeta(a.getId(), a.getOriginalName(), a.getContentType(), a.getFileSize(),
+                    a.getContentHash(), a.getFilePath(), a.getUploadedAt());
+        }
+    }
+
+    private record Entry(AttachmentMeta meta, long loadedAt) {
+    }
+
+    private final ApprovalFileAttachmentRepository fileAttachmentRepository;
+    private final long ttlMillis;
+    private final Map<Long, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public AttachmentMetadataCache(
+            ApprovalFileAttachmentRepository fileAttachmentRepository,
+            MeterRegistry meterRegistry,
+            @Value("${bizmate.attachment.meta-cache.max-size:2000}") int maxSize,
+            @Value("${bizmate.attachment.meta-cache.ttl-minutes:10}") long ttlMinutes
+    ) {
+        this.fileAttachmentRepository = fileAttachmentRepository;
+        this.ttlMillis = ttlMinutes * 60_000L;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.hits = meterRegistry.counter("bizmate.attachment.meta.cache", "result", "hit");
+        this.misses = meterRegistry.counter("bizmate.attachment.meta.cache", "result", "miss");
+    }
+
+    public AttachmentMeta get(Long id) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry entry = entries.get(id);
+            if (entry != null && now - entry.loadedAt() < ttlMillis) {
+                hits.increment();
+                return entry.meta();
+            }
+        }
+
+        misses.increment();
+        AttachmentMeta meta = fileAttachmentRepository.findById(id)
+                .map(AttachmentMeta::of)
+                .orElseThrow(() -> new VerificationFailedException("파일이 존재하지 않습니다."));
+        synchronized (entries) {
+            entries.put(id, new Entry(meta, now));
+        }
+        return meta;
+    }
+
+    public void evict(Long id) {
+        if (id == null) return;
+        synchronized (entries) {
+            entries.remove(id);
+        }
+    }
+}
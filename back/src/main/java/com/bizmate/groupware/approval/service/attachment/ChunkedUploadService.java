@@ -0,0 +1,342 @@
+package com.bizmate.groupware.approval.service.attachment;
+
+import com.bizmate.common.exception.VerificationFailedException;
+import com.bizmate.common.storage.BlobStorageService;
+import com.bizmate.common.storage.StoredBlobRef;
+import com.bizmate.groupware.approval.domain.attachment.ApprovalFileAttachment;
+import com.bizmate.groupware.approval.domain.attachment.ApprovalUploadChunk;
+import com.bizmate.groupware.approval.domain.attachment.ApprovalUploadSession;
+import com.bizmate.groupware.approval.domain.document.ApprovalDocuments;
+import com.bizmate.groupware.approval.dto.approval.ApprovalFileAttachmentDto;
+import com.bizmate.groupware.approval.dto.approval.ChunkUploadInitRequestDto;
+import com.bizmate.groupware.approval.dto.approval.ChunkUploadStatusDto;
+import com.bizmate.groupware.approval.repository.attachment.ApprovalUploadChunkRepository;
+import com.bizmate.groupware.approval.repository.attachment.ApprovalUploadSessionRepository;
+import com.bizmate.groupware.approval.repository.document.ApprovalDocumentsRepository;
+import com.bizmate.hr.domain.UserEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ChunkedUploadService
+ * ---------------------
+ * ✅ 대용량 첨부 분할 업로드: 시작 → 청크 전송(오프셋 지정, 병렬 가능) → 완료
+ * ✅ 청크는 임시 파일의 해당 위치에 FileChannel 위치 지정 쓰기 (중간 복사 없음)
+ * ✅ 연결이 끊기면 상태 조회 후 받지 못한 청크만 재전송
+ * ✅ 완료 시 SHA-256 검증 → 내용 해시 저장소로 이동 → 기존 업로드와 같은 ApprovalFileAttachment 생성
+ * ✅ 일정 시간 활동이 없는 세션은 주기 작업에서 정리
+ */
+@Slf4j
+@Service
+public class ChunkedUploadService {
+
+    private static final int MIN_CHUNK_SIZE = 256 * 1024;
+    private static final int MAX_CHUNK_SIZE = 64 * 1024 * 1024;
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+    private static final int EXPIRE_BATCH_SIZE = 100;
+
+    private final ApprovalUploadSessionRepository sessionRepository;
+    private final ApprovalUploadChunkRepository chunkRepository;
+    private final ApprovalDocumentsRepository documentsRepository;
+    private final BlobStorageService blobStorageService;
+    private final FileStorageService fileStorageService;
+    private final TransactionTemplate transactionTemplate;
+    private final int defaultChunkSize;
+    private final long maxFileSize;
+    private final long sessionTtlMinutes;
+
+    public ChunkedUploadService(
+            ApprovalUploadSessionRepository sessionRepository,
+            ApprovalUploadChunkRepository chunkRepository,
+            ApprovalDocumentsRepository documentsRepository,
+            BlobStorageService blobStorageService,
+            FileStorageService fileStorageService,
+            PlatformTransactionManager transactionManager,
+            @Value("${bizmate.upload.chunked.chunk-size-kb:8192}") int defaultChunkSizeKb,
+            @Value("${bizmate.upload.chunked.max-file-size-mb:2048}") long maxFileSizeMb,
+            @Value("${bizmate.upload.chunked.session-ttl-minutes:1440}") long sessionTtlMinutes
+    ) {
+        this.sessionRepository = sessionRepository;
+        this.chunkRepository = chunkRepository;
+        this.documentsRepository = documentsRepository;
+        this.blobStorageService = blobStorageService;
+        this.fileStorageService = fileStorageService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.defaultChunkSize = clampChunkSize(defaultChunkSizeKb * 1024);
+        this.maxFileSize = maxFileSizeMb * 1024 * 1024;
+        this.sessionTtlMinutes = sessionTtlMinutes;
+    }
+
+    /* -------------------------------------------------------------
+       시작
+       ------------------------------------------------------------- */
+
+    public ChunkUploadStatusDto initiate(ChunkUploadInitRequestDto req, UserEntity uploader) {
+        if (req.getFileName() == null || req.getFileName().isBlank()) {
+            throw new VerificationFailedException("파일명이 없습니다.");
+        }
+        if (req.getTotalSize() <= 0) {
+            throw new VerificationFailedException("파일이 비어 있습니다.");
+        }
+        if (req.getTotalSize() > maxFileSize) {
+            throw new VerificationFailedException("파일 크기가 허용 범위(" + (maxFileSize / 1024 / 1024) + "MB)를 초과했습니다.");
+        }
+        String sha256 = req.getSha256() != null && !req.getSha256().isBlank() ? req.getSha256().toLowerCase() : null;
+        if (sha256 != null && !BlobStorageService.isContentHash(sha256)) {
+            throw new VerificationFailedException("SHA-256 형식이 올바르지 않습니다.");
+        }
+        if (req.getDocId() != null && !req.getDocId().isBlank() && !documentsRepository.existsById(req.getDocId())) {
+            throw new VerificationFailedException("문서를 찾을 수 없습니다.");
+        }
+
+        int chunkSize = req.getChunkSize() != null ? clampChunkSize(req.getChunkSize()) : defaultChunkSize;
+
+        // ✅ 임시 파일을 전체 크기로 미리 생성 → 청크는 순서와 무관하게 제 위치에 기록
+        Path staging;
+        try {
+            staging = blobStorageService.createStagingFile();
+            try (RandomAccessFile raf = new RandomAccessFile(staging.toFile(), "rw")) {
+                raf.setLength(req.getTotalSize());
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 준비 실패: " + e.getMessage(), e);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        ApprovalUploadSession session = sessionRepository.save(ApprovalUploadSession.builder()
+                .uploadId(UUID.randomUUID().toString())
+                .originalName(req.getFileName())
+                .contentType(req.getContentType())
+                .totalSize(req.getTotalSize())
+                .chunkSize(chunkSize)
+                .expectedSha256(sha256)
+                .docId(req.getDocId() != null && !req.getDocId().isBlank() ? req.getDocId() : null)
+                .uploaderId(uploader.getUserId())
+                .stagingPath(staging.toString())
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+
+        log.info("📤 분할 업로드 시작: uploadId={}, 파일={}, {} bytes, 청크={}개",
+                session.getUploadId(), session.getOriginalName(), session.getTotalSize(), session.totalChunks());
+        return toStatus(session, List.of());
+    }
+
+    /* -------------------------------------------------------------
+       청크 수신
+       ------------------------------------------------------------- */
+
+    /**
+     * 청크 기록
+     * - offset 은 청크 크기의 배수, 길이는 해당 청크 길이와 정확히 일치해야 함
+     * - 같은 청크 재전송은 같은 위치에 덮어쓰기 (멱등)
+     * - 디스크 반영(force) 후에 수신 기록 → 기록된 청크는 항상 파일에 존재
+     */
+    public ChunkUploadStatusDto writeChunk(String uploadId, long offset, InputStream body, Long userId) {
+        ApprovalUploadSession session = require(uploadId, userId);
+        if (session.isCompleting()) {
+            throw new VerificationFailedException("완료 처리 중인 업로드에는 청크를 보낼 수 없습니다.");
+        }
+
+        if (offset < 0 || offset % session.getChunkSize() != 0 || offset >= session.getTotalSize()) {
+            throw new VerificationFailedException("청크 위치가 올바르지 않습니다: offset=" + offset);
+        }
+        int index = (int) (offset / session.getChunkSize());
+        long expected = session.chunkLength(index);
+
+        long written = 0;
+        try (FileChannel channel = FileChannel.open(Paths.get(session.getStagingPath()), StandardOpenOption.WRITE);
+             ReadableByteChannel in = Channels.newChannel(body)) {
+            ByteBuffer buffer = ByteBuffer.allocate(IO_BUFFER_SIZE);
+            while (in.read(buffer) != -1) {
+                buffer.flip();
+                if (written + buffer.remaining() > expected) {
+                    throw new VerificationFailedException("청크 크기가 올바르지 않습니다. (최대 " + expected + " bytes)");
+                }
+                while (buffer.hasRemaining()) {
+                    written += channel.write(buffer, offset + written);
+                }
+                buffer.clear();
+            }
+            if (written != expected) {
+                throw new VerificationFailedException("청크 크기가 올바르지 않습니다. (" + written + " / " + expected + " bytes)");
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new RuntimeException("청크 저장 실패: " + e.getMessage(), e);
+        }
+
+        recordChunk(uploadId, index, written);
+        log.debug("📥 청크 수신: uploadId={}, index={}, {} bytes", uploadId, index, written);
+        return toStatus(session, chunkRepository.findReceivedIndexes(uploadId));
+    }
+
+    private void recordChunk(String uploadId, int index, long size) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                if (!chunkRepository.existsByUploadIdAndChunkIndex(uploadId, index)) {
+                    chunkRepository.save(ApprovalUploadChunk.builder()
+                            .uploadId(uploadId)
+                            .chunkIndex(index)
+                            .sizeBytes(size)
+                            .receivedAt(now)
+                            .build());
+                }
+                sessionRepository.touch(uploadId, now);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 같은 청크가 동시에 두 번 도착 → 이미 기록됨
+            log.debug("🔁 청크 중복 수신: uploadId={}, index={}", uploadId, index);
+        }
+    }
+
+    public ChunkUploadStatusDto status(String uploadId, Long userId) {
+        ApprovalUploadSession session = require(uploadId, userId);
+        return toStatus(session, chunkRepository.findReceivedIndexes(uploadId));
+    }
+
+    /* -------------------------------------------------------------
+       완료 / 취소
+       ------------------------------------------------------------- */
+
+    /**
+     * 모든 청크 수신 확인 → 체크섬 검증 + 저장소 이동 → 첨부 행 생성 → 세션 삭제
+     * - 세션을 먼저 선점(COMPLETING) → 동시에 들어온 complete() 는 같은 임시 파일을 두고 경합하지 않음
+     * - 체크섬 불일치 시 세션을 폐기하고 예외 (처음부터 다시 업로드)
+     * - 저장소 이동 후 실패하면 임시 파일이 남아 있지 않으므로 참조를 되돌리고 세션 폐기
+     */
+    public ApprovalFileAttachmentDto complete(String uploadId, UserEntity uploader) {
+        ApprovalUploadSession session = require(uploadId, uploader.getUserId());
+
+        Integer claimed = transactionTemplate.execute(status ->
+                sessionRepository.claimCompletion(uploadId, LocalDateTime.now()));
+        if (claimed == null || claimed == 0) {
+            throw new VerificationFailedException("이미 완료 처리 중인 업로드입니다.");
+        }
+
+        long received = chunkRepository.countByUploadId(uploadId);
+        if (received != session.totalChunks()) {
+            unclaim(uploadId);
+            throw new VerificationFailedException("아직 받지 못한 청크가 있습니다. ("
+                    + received + " / " + session.totalChunks() + ")");
+        }
+
+        // ✅ 저장소 이동 + 참조 +1 은 자체 트랜잭션으로 커밋 (이후 실패는 release 로 되돌림)
+        StoredBlobRef blob;
+        try {
+            blob = blobStorageService.adopt(Paths.get(session.getStagingPath()), session.getExpectedSha256());
+        } catch (VerificationFailedException e) {
+            // 체크섬 불일치 → 어느 청크가 손상됐는지 알 수 없으므로 세션 폐기
+            discard(session);
+            throw e;
+        } catch (RuntimeException e) {
+            unclaim(uploadId);
+            throw e;
+        }
+
+        ApprovalFileAttachment saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                ApprovalDocuments document = session.getDocId() != null
+                        ? documentsRepository.getReferenceById(session.getDocId())
+                        : null;
+                ApprovalFileAttachment attachment = fileStorageService.saveStoredBlob(
+                        blob, session.getOriginalName(), session.getContentType(), document, uploader);
+                chunkRepository.deleteByUploadId(uploadId);
+                sessionRepository.deleteById(uploadId);
+                return attachment;
+            });
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 분할 업로드 완료 실패 → 참조 해제 후 세션 폐기: uploadId={}, {}", uploadId, e.getMessage());
+            blobStorageService.release(blob.contentHash());
+            discard(session);
+            throw e;
+        }
+
+        log.info("✅ 분할 업로드 완료: uploadId={}, 파일={}, 첨부ID={}",
+                uploadId, session.getOriginalName(), saved.getId());
+        return ApprovalFileAttachmentDto.fromEntity(saved);
+    }
+
+    public void abort(String uploadId, Long userId) {
+        discard(require(uploadId, userId));
+        log.info("🛑 분할 업로드 취소: uploadId={}", uploadId);
+    }
+
+    /** 오래된 미완료 세션 정리 (임시 파일 + 청크 기록 + 세션) */
+    @Scheduled(fixedDelayString = "${bizmate.upload.chunked.cleanup-interval-ms:600000}")
+    public void evictExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(sessionTtlMinutes);
+        List<ApprovalUploadSession> expired;
+        int total = 0;
+        do {
+            expired = sessionRepository.findByUpdatedAtBefore(cutoff, PageRequest.of(0, EXPIRE_BATCH_SIZE));
+            expired.forEach(this::discard);
+            total += expired.size();
+        } while (expired.size() == EXPIRE_BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("🧹 만료된 분할 업로드 세션 {}건 정리", total);
+        }
+    }
+
+    private void unclaim(String uploadId) {
+        transactionTemplate.executeWithoutResult(status -> sessionRepository.releaseCompletion(uploadId));
+    }
+
+    private void discard(ApprovalUploadSession session) {
+        transactionTemplate.executeWithoutResult(status -> {
+            chunkRepository.deleteByUploadId(session.getUploadId());
+            sessionRepository.deleteById(session.getUploadId());
+        });
+        try {
+            Files.deleteIfExists(Paths.get(session.getStagingPath()));
+        } catch (IOException e) {
+            log.warn("⚠️ 업로드 임시 파일 삭제 실패: {}, {}", session.getStagingPath(), e.getMessage());
+        }
+    }
+
+    /* -------------------------------------------------------------
+       공통
+       ------------------------------------------------------------- */
+
+    private ApprovalUploadSession require(String uploadId, Long userId) {
+        ApprovalUploadSession session = sessionRepository.findById(uploadId)
+                .orElseThrow(() -> new VerificationFailedException("업로드 세션을 찾을 수 없습니다."));
+        if (!session.getUploaderId().equals(userId)) {
+            throw new VerificationFailedException("업로드 권한이 없습니다.");
+        }
+        return session;
+    }
+
+    private static ChunkUploadStatusDto toStatus(ApprovalUploadSession session, List<Integer> received) {
+        return new ChunkUploadStatusDto(session.getUploadId(), session.getTotalSize(), session.getChunkSize(),
+                session.totalChunks(), received);
+    }
+
+    private static int clampChunkSize(int chunkSize) {
+        return Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, chunkSize));
+    }
+}
@@ -1,13 +1,26 @@
 package com.bizmate.groupware.approval.service.attachment;
 
+import com.bizmate.common.storage.StoredBlobRef;
 import com.bizmate.groupware.approval.domain.document.ApprovalDocuments;
 import com.bizmate.groupware.approval.domain.attachment.ApprovalFileAttachment;
+import com.bizmate.hr.domain.UserEntity;
 import com.bizmate.hr.dto.user.UserDTO;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Path;
+
 public interface FileStorageService {
 
     ApprovalFileAttachment saveFile(MultipartFile file, ApprovalDocuments document, UserDTO uploader);
 
-    void deleteFile(String filePath);
+    ApprovalFileAttachment saveFile(MultipartFile file, ApprovalDocuments document, UserEntity uploader);
+
+    /** 이미 저장소에 들어간 blob 으로 첨부 행 생성 (분할 업로드 완료 등) */
+    ApprovalFileAttachment saveStoredBlob(StoredBlobRef blob, String originalName, String contentType,
+                                          ApprovalDocuments document, UserEntity uploader);
+
+    void deleteFile(ApprovalFileAttachment attachment);
+
+    /** 첨부의 실제 파일 경로 (내용 해시 저장소 / 이전 경로 모두 지원) */
+    Path resolvePath(AttachmentMetadataCache.AttachmentMeta attachment);
 }
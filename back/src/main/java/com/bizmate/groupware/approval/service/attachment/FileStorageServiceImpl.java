@@ -1,5 +1,7 @@
 package com.bizmate.groupware.approval.service.attachment;
 
+import com.bizmate.common.storage.BlobStorageService;
+import com.bizmate.common.storage.StoredBlobRef;
 import com.bizmate.groupware.approval.domain.document.ApprovalDocuments;
 import com.bizmate.groupware.approval.domain.attachment.ApprovalFileAttachment;
 import com.bizmate.groupware.approval.repository.attachment.ApprovalFileAttachmentRepository;
@@ -8,14 +10,14 @@ import com.bizmate.hr.dto.user.UserDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
+import java.net.URLConnection;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 @Slf4j
 @Service
@@ -23,80 +25,86 @@ import java.util.UUID;
 public class FileStorageServiceImpl implements FileStorageService {
 
     private final ApprovalFileAttachmentRepository fileAttachmentRepository;
-
-    // ✅ OS별 경로 맞게 변경 가능
-    private static final String UPLOAD_DIR = "C:/bizmate/uploads";
+    private final BlobStorageService blobStorageService;
+    private final AttachmentMetadataCache metadataCache;
 
     @Override
+    @Transactional
     public ApprovalFileAttachment saveFile(MultipartFile file, ApprovalDocuments document, UserDTO uploader) {
-        try {
-            if (file.isEmpty()) {
-                throw new IllegalArgumentException("파일이 비어 있습니다.");
-            }
-
-            // ✅ 디렉토리 없으면 생성
-            Path uploadPath = Paths.get(UPLOAD_DIR);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
-
-            // ✅ 원본 이름 & 확장자
-            String originalName = file.getOriginalFilename();
-            String extension = "";
-            if (originalName != null && originalName.contains(".")) {
-                extension = originalName.substring(originalName.lastIndexOf("."));
-            }
-
-            // ✅ 저장 파일명
-            String storedName = UUID.randomUUID() + extension;
-            Path filePath = uploadPath.resolve(storedName);
+        UserEntity uploaderEntity = UserEntity.builder()
+                .userId(uploader.getUserId())
+                .username(uploader.getUsername())
+                .empName(uploader.getEmpName())
+                .deptName(uploader.getDeptName())
+                .deptCode(uploader.getDeptCode())
+                .build();
+
+        return saveFile(file, document, uploaderEntity);
+    }
 
-            // ✅ 실제 파일 저장
-            Files.copy(file.getInputStream(), filePath);
+    /**
+     * ✅ 첨부 저장
+     * - 파일 내용은 BlobStorageService (SHA-256 기반, 중복 제거)
+     * - STORED_NAME = 내용 해시, FILE_PATH = 실제 blob 경로
+     */
+    @Override
+    @Transactional
+    public ApprovalFileAttachment saveFile(MultipartFile file, ApprovalDocuments document, UserEntity uploader) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("파일이 비어 있습니다.");
+        }
 
-            // ✅ Content Type 추론
-            String contentType = file.getContentType();
-            if (contentType == null || contentType.isBlank()) {
-                contentType = Files.probeContentType(filePath);
-                if (contentType == null) contentType = "application/octet-stream";
-            }
+        StoredBlobRef blob = blobStorageService.store(file);
+        return saveStoredBlob(blob, file.getOriginalFilename(), file.getContentType(), document, uploader);
+    }
 
-            UserEntity uploaderEntity = UserEntity.builder()
-                    .userId(uploader.getUserId())
-                    .username(uploader.getUsername())
-                    .empName(uploader.getEmpName())
-                    .deptName(uploader.getDeptName())
-                    .deptCode(uploader.getDeptCode())
-                    .build();
-
-            // ✅ DB 저장
-            ApprovalFileAttachment attachment = ApprovalFileAttachment.builder()
-                    .document(document)
-                    .originalName(originalName)
-                    .storedName(storedName)
-                    .filePath(filePath.toString())
-                    .fileSize(file.getSize())
-                    .contentType(contentType)
-                    .uploadedAt(LocalDateTime.now())
-                    .uploader(uploaderEntity)
-                    .build();
-
-            ApprovalFileAttachment saved = fileAttachmentRepository.save(attachment);
-            log.info("✅ 파일 저장 완료: {} ({} bytes, type={})", originalName, file.getSize(), contentType);
-            return saved;
-
-        } catch (IOException e) {
-            throw new RuntimeException("파일 저장 실패: " + e.getMessage(), e);
+    @Override
+    @Transactional
+    public ApprovalFileAttachment saveStoredBlob(StoredBlobRef blob, String originalName, String contentType,
+                                                 ApprovalDocuments document, UserEntity uploader) {
+        // ✅ Content Type 추론 (blob 경로에는 확장자가 없으므로 원본 이름 기준)
+        if (contentType == null || contentType.isBlank()) {
+            contentType = originalName != null ? URLConnection.guessContentTypeFromName(originalName) : null;
+            if (contentType == null) contentType = "application/octet-stream";
         }
+
+        // ✅ DB 저장
+        ApprovalFileAttachment attachment = ApprovalFileAttachment.builder()
+                .document(document)
+                .originalName(originalName)
+                .storedName(blob.contentHash())
+                .filePath(blob.path().toString())
+                .contentHash(blob.contentHash())
+                .fileSize(blob.sizeBytes())
+                .contentType(contentType)
+                .uploadedAt(LocalDateTime.now())
+                .uploader(uploader)
+                .build();
+
+        ApprovalFileAttachment saved = fileAttachmentRepository.save(attachment);
+        log.info("✅ 파일 저장 완료: {} ({} bytes, type={}, hash={})",
+                originalName, blob.sizeBytes(), contentType, blob.contentHash());
+        return saved;
     }
 
     /**
-     * ✅ 파일 삭제 메서드
-     * - 실제 파일 삭제
-     * - 존재하지 않아도 예외 없이 통과
+     * ✅ 첨부 파일 삭제
+     * - 내용 해시 저장소: 참조 수만 감소 (다른 첨부가 같은 내용을 쓰고 있을 수 있음)
+     * - 이전 방식 파일: 실제 파일 삭제, 존재하지 않아도 예외 없이 통과
      */
     @Override
-    public void deleteFile(String filePath) {
+    @Transactional
+    public void deleteFile(ApprovalFileAttachment attachment) {
+        if (attachment == null) return;
+        metadataCache.evict(attachment.getId());
+
+        if (attachment.getContentHash() != null) {
+            blobStorageService.release(attachment.getContentHash());
+            log.info("🗑️ 첨부 blob 참조 해제: {} ({})", attachment.getOriginalName(), attachment.getContentHash());
+            return;
+        }
+
+        String filePath = attachment.getFilePath();
         if (filePath == null || filePath.isBlank()) return;
 
         try {
@@ -112,4 +120,12 @@ public class FileStorageServiceImpl implements FileStorageService {
             log.warn("⚠️ 파일 삭제 중 오류 발생: {}", e.getMessage(), e);
         }
     }
+
+    @Override
+    public Path resolvePath(AttachmentMetadataCache.AttachmentMeta attachment) {
+        if (attachment.contentHash() != null) {
+            return blobStorageService.resolve(attachment.contentHash());
+        }
+        return Paths.get(attachment.filePath());
+    }
 }
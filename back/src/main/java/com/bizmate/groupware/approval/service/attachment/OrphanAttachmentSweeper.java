@@ -0,0 +1,104 @@
+package com.bizmate.groupware.approval.service.attachment;
+
+import com.bizmate.groupware.approval.domain.attachment.ApprovalFileAttachment;
+import com.bizmate.groupware.approval.repository.attachment.ApprovalFileAttachmentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * OrphanAttachmentSweeper
+ * ------------------------
+ * ✅ 문서에 연결되지 않은(DOC_ID NULL) 임시 첨부 중 보관 시간(TTL)이 지난 것을 주기적으로 정리
+ * ✅ 배치 단위 트랜잭션, 행 삭제는 "아직 미연결"일 때만 (정리 중 상신된 첨부 보호)
+ * ✅ 파일은 FileStorageService.deleteFile (blob 참조 해제 / 이전 방식 파일 삭제)
+ * ✅ 메트릭: bizmate.attachment.orphan.swept (건수), bizmate.attachment.orphan.reclaimed.bytes (바이트)
+ */
+@Slf4j
+@Component
+public class OrphanAttachmentSweeper {
+
+    private final ApprovalFileAttachmentRepository fileAttachmentRepository;
+    private final FileStorageService fileStorageService;
+    private final TransactionTemplate transactionTemplate;
+    private final long ttlHours;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Counter swept;
+    private final Counter reclaimedBytes;
+
+    public OrphanAttachmentSweeper(
+            ApprovalFileAttachmentRepository fileAttachmentRepository,
+            FileStorageService fileStorageService,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${bizmate.attachment.orphan.ttl-hours:24}") long ttlHours,
+            @Value("${bizmate.attachment.orphan.batch-size:200}") int batchSize,
+            @Value("${bizmate.attachment.orphan.max-batches:50}") int maxBatches
+    ) {
+        this.fileAttachmentRepository = fileAttachmentRepository;
+        this.fileStorageService = fileStorageService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttlHours = ttlHours;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.swept = Counter.builder("bizmate.attachment.orphan.swept")
+                .description("정리된 미연결 임시 첨부 수")
+                .register(meterRegistry);
+        this.reclaimedBytes = Counter.builder("bizmate.attachment.orphan.reclaimed.bytes")
+                .description("정리된 미연결 임시 첨부 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 1회 실행당 최대 maxBatches 배치 → 남은 것은 다음 주기에 이어서 처리
+     */
+    @Scheduled(fixedDelayString = "${bizmate.attachment.orphan.sweep-interval-ms:3600000}")
+    public void sweep() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(ttlHours);
+        long totalCount = 0;
+        long totalBytes = 0;
+
+        for (int i = 0; i < maxBatches; i++) {
+            long[] result = transactionTemplate.execute(status -> sweepBatch(cutoff));
+            if (result == null || result[0] == 0) break;
+
+            totalCount += result[0];
+            totalBytes += result[1];
+            if (result[2] < batchSize) break;
+        }
+
+        if (totalCount > 0) {
+            swept.increment(totalCount);
+            reclaimedBytes.increment(totalBytes);
+            log.info("🧹 미연결 임시 첨부 {}건 정리 ({} bytes, 기준={})", totalCount, totalBytes, cutoff);
+        }
+    }
+
+    /** @return [삭제 건수, 삭제 바이트, 조회 건수] */
+    private long[] sweepBatch(LocalDateTime cutoff) {
+        List<ApprovalFileAttachment> orphans = fileAttachmentRepository.findOrphans(cutoff, PageRequest.of(0, batchSize));
+        long count = 0;
+        long bytes = 0;
+
+        for (ApprovalFileAttachment orphan : orphans) {
+            if (fileAttachmentRepository.deleteIfOrphan(orphan.getId()) == 0) {
+                continue;   // 그 사이 문서에 연결됨
+            }
+            fileStorageService.deleteFile(orphan);
+            count++;
+            bytes += orphan.getFileSize() != null ? orphan.getFileSize() : 0;
+        }
+        return new long[]{count, bytes, orphans.size()};
+    }
+}
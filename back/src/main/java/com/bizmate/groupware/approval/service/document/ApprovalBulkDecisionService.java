@@ -0,0 +1,342 @@
+package com.bizmate.groupware.approval.service.document;
+
+import com.bizmate.common.exception.VerificationFailedException;
+import com.bizmate.groupware.approval.domain.document.ApprovalDocuments;
+import com.bizmate.groupware.approval.domain.document.Decision;
+import com.bizmate.groupware.approval.domain.document.DocumentStatus;
+import com.bizmate.groupware.approval.domain.document.DocumentType;
+import com.bizmate.groupware.approval.domain.policy.ApproverStep;
+import com.bizmate.groupware.approval.dto.approval.ApprovalBulkDecisionRequestDto;
+import com.bizmate.groupware.approval.dto.approval.ApprovalBulkDecisionResultDto;
+import com.bizmate.groupware.approval.notification.NotificationService;
+import com.bizmate.groupware.approval.repository.document.ApprovalDocumentsRepository;
+import com.bizmate.groupware.approval.service.PDF.ApprovalPdfCacheService;
+import com.bizmate.groupware.approval.service.PDF.EmployeeSignatureService;
+import com.bizmate.groupware.approval.service.event.ApprovalEventBroadcaster;
+import com.bizmate.hr.domain.Employee;
+import com.bizmate.hr.domain.UserEntity;
+import com.bizmate.hr.dto.user.UserDTO;
+import com.bizmate.hr.repository.EmployeeRepository;
+import com.bizmate.hr.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * ApprovalBulkDecisionService
+ * ----------------------------
+ * ✅ 여러 문서 일괄 승인 / 일괄 반려 (한 트랜잭션)
+ *    - 대상 문서는 한 번의 IN 조회로 잠금 로딩, 결재자 사원/서명은 1회만 조회
+ *    - 변경 내용은 커밋 시 JDBC 배치로 반영, 결재선 단계 테이블도 한 번에 동기화
+ *    - 알림은 수신자당 1통 (여러 문서는 묶음 메일) — 모든 문서 처리가 끝난 뒤 별도 트랜잭션으로 적재
+ * ✅ 문서별 검증 실패는 해당 문서만 실패 처리, 나머지는 계속 진행
+ * ✅ 프로젝트 계획서 최종 승인은 프로젝트 생성이 함께 일어나므로 문서별 개별 트랜잭션(기존 단건 승인)으로 처리
+ *    - 단건 승인의 완료 메일은 생략하고 같은 묶음 메일에 포함
+ */
+@Slf4j
+@Service
+public class ApprovalBulkDecisionService {
+
+    private final ApprovalDocumentsRepository approvalDocumentsRepository;
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeSignatureService employeeSignatureService;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final ApprovalParticipantIndexer participantIndexer;
+    private final ApprovalStepIndexer stepIndexer;
+    private final ApprovalPdfCacheService pdfCacheService;
+    private final ApprovalDocumentsService approvalDocumentsService;
+    private final ApprovalEventBroadcaster eventBroadcaster;
+    private final ApprovalSearchIndexer searchIndexer;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransactionTemplate;
+    private final int maxDocs;
+    private final int jdbcBatchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ApprovalBulkDecisionService(
+            ApprovalDocumentsRepository approvalDocumentsRepository,
+            EmployeeRepository employeeRepository,
+            EmployeeSignatureService employeeSignatureService,
+            UserRepository userRepository,
+            NotificationService notificationService,
+            ApprovalParticipantIndexer participantIndexer,
+            ApprovalStepIndexer stepIndexer,
+            ApprovalPdfCacheService pdfCacheService,
+            ApprovalDocumentsService approvalDocumentsService,
+            ApprovalEventBroadcaster eventBroadcaster,
+            ApprovalSearchIndexer searchIndexer,
+            PlatformTransactionManager transactionManager,
+            @Value("${bizmate.approval.bulk.max-docs:200}") int maxDocs,
+            @Value("${bizmate.approval.bulk.jdbc-batch-size:50}") int jdbcBatchSize
+    ) {
+        this.approvalDocumentsRepository = approvalDocumentsRepository;
+        this.employeeRepository = employeeRepository;
+        this.employeeSignatureService = employeeSignatureService;
+        this.userRepository = userRepository;
+        this.notificationService = notificationService;
+        this.participantIndexer = participantIndexer;
+        this.stepIndexer = stepIndexer;
+        this.pdfCacheService = pdfCacheService;
+        this.approvalDocumentsService = approvalDocumentsService;
+        this.eventBroadcaster = eventBroadcaster;
+        this.searchIndexer = searchIndexer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxDocs = maxDocs;
+        this.jdbcBatchSize = jdbcBatchSize;
+    }
+
+    public ApprovalBulkDecisionResultDto decide(ApprovalBulkDecisionRequestDto request, UserDTO loginUser) {
+        Decision decision = request.getDecision();
+        if (decision != Decision.APPROVED && decision != Decision.REJECTED)
+            throw new VerificationFailedException("일괄 처리는 승인(APPROVED) 또는 반려(REJECTED)만 가능합니다.");
+
+        List<String> docIds = request.getDocIds() == null ? List.of()
+                : request.getDocIds().stream().filter(Objects::nonNull).distinct().toList();
+        if (docIds.isEmpty())
+            throw new VerificationFailedException("처리할 문서를 선택해주세요.");
+        if (docIds.size() > maxDocs)
+            throw new VerificationFailedException("한 번에 최대 " + maxDocs + "건까지 처리할 수 있습니다.");
+
+        String reason = request.getReason() != null ? request.getReason() : "";
+        log.info("📦 [일괄 {}] 처리자={}, 대상 {}건", decision, loginUser.getEmpName(), docIds.size());
+
+        Map<String, ApprovalBulkDecisionResultDto.Item> results = new LinkedHashMap<>();
+        Map<String, String> individually = new LinkedHashMap<>();              // docId → 제목
+        Map<String, List<NotificationService.DigestItem>> digest = new LinkedHashMap<>();   // 수신자 이메일 → 알림 항목
+        Map<String, String> nameByEmail = new HashMap<>();
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    applyBatch(docIds, decision, reason, loginUser, results, individually, digest, nameByEmail));
+        } catch (VerificationFailedException e) {
+            throw e;
+        } catch (Exception e) {
+            // 배치 반영(flush/commit) 실패 → 이번 트랜잭션에서 처리한 문서 전체 롤백
+            log.error("❌ 일괄 결재 반영 실패 → 전체 롤백", e);
+            individually.clear();
+            nameByEmail.clear();
+            digest.clear();
+            results.clear();
+            docIds.forEach(id -> results.put(id, fail(id, "일괄 처리 중 오류가 발생했습니다. 다시 시도해주세요.")));
+        }
+
+        // ✅ 프로젝트 계획서 최종 승인: 문서별 개별 트랜잭션 (실패해도 다른 문서에 영향 없음)
+        Map<String, String> approvedPlans = new LinkedHashMap<>();
+        for (Map.Entry<String, String> plan : individually.entrySet()) {
+            String docId = plan.getKey();
+            try {
+                var dto = newTransactionTemplate.execute(status -> approvalDocumentsService.approve(docId, loginUser, false));
+                results.put(docId, new ApprovalBulkDecisionResultDto.Item(
+                        docId, true, dto != null ? dto.getStatus() : null, null));
+                if (dto != null && DocumentStatus.APPROVED.name().equals(dto.getStatus())) {
+                    approvedPlans.put(docId, plan.getValue());
+                }
+            } catch (VerificationFailedException e) {
+                results.put(docId, fail(docId, e.getMessage()));
+            } catch (Exception e) {
+                log.error("❌ 개별 승인 실패: docId={}", docId, e);
+                results.put(docId, fail(docId, "문서 승인 처리 중 오류가 발생했습니다."));
+            }
+        }
+
+        sendDigests(digest, nameByEmail, approvedPlans, loginUser);
+
+        List<ApprovalBulkDecisionResultDto.Item> ordered = docIds.stream().map(results::get).toList();
+        int succeeded = (int) ordered.stream().filter(ApprovalBulkDecisionResultDto.Item::success).count();
+        log.info("✅ [일괄 {}] 완료: 성공 {}건, 실패 {}건", decision, succeeded, ordered.size() - succeeded);
+
+        return new ApprovalBulkDecisionResultDto(ordered.size(), succeeded, ordered.size() - succeeded, ordered);
+    }
+
+    private void applyBatch(List<String> docIds, Decision decision, String reason, UserDTO loginUser,
+                            Map<String, ApprovalBulkDecisionResultDto.Item> results, Map<String, String> individually,
+                            Map<String, List<NotificationService.DigestItem>> digest, Map<String, String> nameByEmail) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+
+        // ✅ 결재자 사원/서명은 1회만 조회
+        String signImagePath = null;
+        if (decision == Decision.APPROVED) {
+            Employee employee = employeeRepository.findByEmpId(loginUser.getEmpId())
+                    .orElseThrow(() -> new VerificationFailedException("결재자(Employee)를 찾을 수 없습니다."));
+            signImagePath = employeeSignatureService.getStoredSignPath(employee);
+        }
+
+        Map<String, ApprovalDocuments> byId = new HashMap<>();
+        for (ApprovalDocuments doc : approvalDocumentsRepository.findAllForUpdateByDocIdIn(docIds)) {
+            byId.put(doc.getDocId(), doc);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ApprovalDocuments> changed = new ArrayList<>();
+        Map<String, String> nextApproverByDoc = new LinkedHashMap<>();   // 다음 결재자 알림 대상
+        List<String> finished = new ArrayList<>();                         // 작성자 알림 대상 (최종 승인 / 반려)
+
+        for (String docId : docIds) {
+            ApprovalDocuments document = byId.get(docId);
+            String error = validate(document, loginUser);
+            if (error != null) {
+                results.put(docId, fail(docId, error));
+                continue;
+            }
+
+            List<ApproverStep> line = document.getApprovalLine();
+            int idx = document.getCurrentApproverIndex();
+            boolean last = idx + 1 >= line.size();
+
+            if (decision == Decision.APPROVED && last && document.getDocType() == DocumentType.PROJECT_PLAN) {
+                individually.put(docId, document.getTitle());
+                continue;
+            }
+
+            ApproverStep current = line.get(idx);
+            List<ApproverStep> updatedLine = new ArrayList<>(line);
+            updatedLine.set(idx, new ApproverStep(
+                    current.order(),
+                    current.approverId(),
+                    current.approverName(),
+                    decision,
+                    decision == Decision.REJECTED ? reason : "",
+                    now,
+                    decision == Decision.APPROVED ? signImagePath : null
+            ));
+            document.setApprovalLine(updatedLine);
+
+            if (decision == Decision.REJECTED) {
+                document.setStatus(DocumentStatus.REJECTED);
+                document.setRejectedBy(loginUser.getEmpName());
+                document.setRejectedEmpId(loginUser.getEmpId());
+                document.setRejectedReason(reason);
+                document.setRejectedDate(now);
+                finished.add(docId);
+            } else if (!last) {
+                document.moveToNextApprover();
+                nextApproverByDoc.put(docId, line.get(document.getCurrentApproverIndex()).approverId());
+            } else {
+                document.setStatus(DocumentStatus.APPROVED);
+                document.setApprovedBy(loginUser.getEmpName());
+                document.setApprovedDate(now);
+                document.setApprovedEmpId(loginUser.getEmpId());
+                finished.add(docId);
+            }
+
+            document.markUpdated(loginUser);
+            changed.add(document);
+            results.put(docId, new ApprovalBulkDecisionResultDto.Item(docId, true, document.getStatus().name(), null));
+        }
+
+        if (changed.isEmpty()) return;
+
+        // ✅ 인덱스 반영 (단계 테이블은 한 번에, 참여자 상태는 상태가 바뀐 문서만)
+        stepIndexer.syncAll(changed);
+        for (String docId : finished) {
+            participantIndexer.updateStatus(docId, byId.get(docId).getStatus());
+            if (byId.get(docId).getStatus() == DocumentStatus.APPROVED) {
+                pdfCacheService.prerenderAfterCommit(docId);
+            }
+        }
+        for (ApprovalDocuments document : changed) {
+            searchIndexer.index(document);
+            eventBroadcaster.publishAfterCommit(document, loginUser.getUsername(), loginUser.getEmpName());
+        }
+
+        collectNotifications(byId, nextApproverByDoc, finished, reason, digest, nameByEmail);
+    }
+
+    private String validate(ApprovalDocuments document, UserDTO loginUser) {
+        if (document == null) return "문서를 찾을 수 없습니다.";
+        if (document.getStatus() != DocumentStatus.IN_PROGRESS) return "진행 중 상태의 문서만 처리할 수 있습니다.";
+
+        List<ApproverStep> line = document.getApprovalLine();
+        if (line == null || line.isEmpty()) return "결재선 정보가 존재하지 않습니다.";
+
+        ApproverStep current = line.get(document.getCurrentApproverIndex());
+        if (!Objects.equals(current.approverId(), loginUser.getUsername())
+                && !Objects.equals(current.approverName(), loginUser.getEmpName())) {
+            return "현재 결재 차례가 아닙니다.";
+        }
+        return null;
+    }
+
+    /**
+     * 수신자별 알림 항목 수집 (다음 결재자 요청 + 작성자 완료/반려)
+     */
+    private void collectNotifications(Map<String, ApprovalDocuments> byId, Map<String, String> nextApproverByDoc,
+                                      List<String> finished, String reason,
+                                      Map<String, List<NotificationService.DigestItem>> itemsByEmail,
+                                      Map<String, String> nameByEmail) {
+        if (!nextApproverByDoc.isEmpty()) {
+            Map<String, UserEntity> usersByName = new HashMap<>();
+            for (UserEntity user : userRepository.findByUsernameIn(new HashSet<>(nextApproverByDoc.values()))) {
+                usersByName.put(user.getUsername(), user);
+            }
+            nextApproverByDoc.forEach((docId, approverId) -> {
+                UserEntity next = usersByName.get(approverId);
+                if (next == null || next.getEmail() == null || next.getEmail().isBlank()) return;
+                nameByEmail.putIfAbsent(next.getEmail(), next.getEmpName());
+                itemsByEmail.computeIfAbsent(next.getEmail(), k -> new ArrayList<>())
+                        .add(new NotificationService.DigestItem(NotificationService.TYPE_APPROVAL_REQUEST,
+                                docId, byId.get(docId).getTitle(), null));
+            });
+        }
+
+        if (!finished.isEmpty()) {
+            for (Object[] row : approvalDocumentsRepository.findAuthorEmails(finished)) {
+                String docId = (String) row[0];
+                String email = (String) row[1];
+                if (email == null || email.isBlank()) continue;
+                ApprovalDocuments doc = byId.get(docId);
+                String type = doc.getStatus() == DocumentStatus.REJECTED
+                        ? NotificationService.TYPE_REJECT
+                        : NotificationService.TYPE_APPROVAL_COMPLETE;
+                itemsByEmail.computeIfAbsent(email, k -> new ArrayList<>())
+                        .add(new NotificationService.DigestItem(type, docId, doc.getTitle(), reason));
+            }
+        }
+    }
+
+    /**
+     * 수신자별로 1통씩 적재 (일괄 처리분 + 개별 승인된 프로젝트 계획서 완료 알림)
+     * - 결재 반영이 모두 커밋된 뒤 실행 → 적재 실패는 로그만 남기고 결재 결과는 유지
+     */
+    private void sendDigests(Map<String, List<NotificationService.DigestItem>> digest, Map<String, String> nameByEmail,
+                             Map<String, String> approvedPlans, UserDTO loginUser) {
+        if (digest.isEmpty() && approvedPlans.isEmpty()) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!approvedPlans.isEmpty()) {
+                    for (Object[] row : approvalDocumentsRepository.findAuthorEmails(approvedPlans.keySet())) {
+                        String docId = (String) row[0];
+                        String email = (String) row[1];
+                        if (email == null || email.isBlank()) continue;
+                        digest.computeIfAbsent(email, k -> new ArrayList<>())
+                                .add(new NotificationService.DigestItem(NotificationService.TYPE_APPROVAL_COMPLETE,
+                                        docId, approvedPlans.get(docId), null));
+                    }
+                }
+                digest.forEach((email, items) ->
+                        notificationService.sendDigestMail(email, nameByEmail.get(email), loginUser.getEmpName(), items));
+            });
+        } catch (Exception e) {
+            log.error("❌ 일괄 결재 알림 적재 실패 (결재 처리는 완료됨)", e);
+        }
+    }
+
+    private static ApprovalBulkDecisionResultDto.Item fail(String docId, String message) {
+        return new ApprovalBulkDecisionResultDto.Item(docId, false, null, message);
+    }
+}
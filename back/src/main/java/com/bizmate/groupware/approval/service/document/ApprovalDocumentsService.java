@@ -2,6 +2,7 @@ package com.bizmate.groupware.approval.service.document;
 
 import com.bizmate.common.page.PageRequestDTO;
 import com.bizmate.common.page.PageResponseDTO;
+import com.bizmate.groupware.approval.dto.approval.ApprovalDocumentListDto;
 import com.bizmate.groupware.approval.dto.approval.ApprovalDocumentsDto;
 import com.bizmate.hr.dto.user.UserDTO;
 import com.bizmate.hr.security.UserPrincipal;
@@ -28,6 +29,11 @@ public interface ApprovalDocumentsService {
     /* ----------------------------- 결재/반려/삭제 ------------------------------ */
     ApprovalDocumentsDto approve(String docId, UserDTO loginUser);
 
+    /**
+     * @param notifyAuthor false 면 최종 승인 완료 메일을 보내지 않음 (일괄 승인 묶음 메일에 포함하는 경우)
+     */
+    ApprovalDocumentsDto approve(String docId, UserDTO loginUser, boolean notifyAuthor);
+
     ApprovalDocumentsDto reject(String docId, UserDTO loginUser, String reason);
 
     void logicalDelete(String docId, UserDTO loginUser, String reason);
@@ -35,7 +41,7 @@ public interface ApprovalDocumentsService {
     /* ----------------------------- 조회 ------------------------------ */
     ApprovalDocumentsDto get(String docId);
 
-    PageResponseDTO<ApprovalDocumentsDto> getPagedApprovals(PageRequestDTO pageRequestDTO);
+    PageResponseDTO<ApprovalDocumentListDto> getPagedApprovals(PageRequestDTO pageRequestDTO);
 
     void restoreDocument(String docId);
 
@@ -48,7 +54,9 @@ public interface ApprovalDocumentsService {
     @Transactional
     void forceReject(String docId, UserPrincipal adminUser, String reason);
 
-    PageResponseDTO<ApprovalDocumentsDto> getPagedApprovalsByStatus(PageRequestDTO pageRequestDTO, String status);
+    PageResponseDTO<ApprovalDocumentListDto> getPagedApprovalsByStatus(PageRequestDTO pageRequestDTO, String status);
+
+    PageResponseDTO<ApprovalDocumentListDto> getPagedAccessibleDocuments(PageRequestDTO pageRequestDTO, String username, String status);
 
-    PageResponseDTO<ApprovalDocumentsDto> getPagedAccessibleDocuments(PageRequestDTO pageRequestDTO, String username, String status);
+    PageResponseDTO<ApprovalDocumentListDto> getPagedPendingDocuments(PageRequestDTO pageRequestDTO, UserDTO loginUser);
 }
@@ -1,30 +1,34 @@
 package com.bizmate.groupware.approval.service.document;
 
 
+import com.bizmate.common.page.PageCursor;
 import com.bizmate.common.page.PageRequestDTO;
 import com.bizmate.common.page.PageResponseDTO;
 import com.bizmate.common.exception.VerificationFailedException;
-import com.bizmate.groupware.approval.domain.PDF.EmployeeSignature;
 import com.bizmate.groupware.approval.domain.attachment.ApprovalFileAttachment;
 import com.bizmate.groupware.approval.domain.document.ApprovalDocuments;
 import com.bizmate.groupware.approval.domain.document.Decision;
 import com.bizmate.groupware.approval.domain.document.DocumentStatus;
 import com.bizmate.groupware.approval.domain.document.DocumentType;
-import com.bizmate.groupware.approval.domain.policy.ApprovalPolicy;
-import com.bizmate.groupware.approval.domain.policy.ApprovalPolicyStep;
+import com.bizmate.groupware.approval.domain.document.ParticipantRole;
 import com.bizmate.groupware.approval.domain.policy.ApproverStep;
+import com.bizmate.groupware.approval.dto.approval.ApprovalDocumentListDto;
 import com.bizmate.groupware.approval.dto.approval.ApprovalDocumentsDto;
 import com.bizmate.groupware.approval.dto.approval.ApprovalFileAttachmentDto;
 import com.bizmate.groupware.approval.infrastructure.ApprovalPolicyMapper;
 import com.bizmate.groupware.approval.notification.NotificationService;
+import com.bizmate.groupware.approval.repository.document.ApprovalDocParticipantRepository;
 import com.bizmate.groupware.approval.repository.document.ApprovalDocumentsRepository;
+import com.bizmate.groupware.approval.repository.document.ApprovalStepRepository;
 import com.bizmate.groupware.approval.repository.attachment.ApprovalFileAttachmentRepository;
-import com.bizmate.groupware.approval.repository.Policy.ApprovalPolicyRepository;
-import com.bizmate.groupware.approval.repository.PDF.EmployeeSignatureRepository;
+import com.bizmate.groupware.approval.service.PDF.ApprovalPdfCacheService;
+import com.bizmate.groupware.approval.service.PDF.EmployeeSignatureService;
 import com.bizmate.groupware.approval.service.attachment.FileStorageService;
+import com.bizmate.groupware.approval.service.policy.ApprovalPolicyCache;
 import com.bizmate.hr.domain.Department;
 import com.bizmate.hr.domain.Employee;
 import com.bizmate.hr.domain.UserEntity;
+import com.bizmate.groupware.approval.service.event.ApprovalEventBroadcaster;
 import com.bizmate.hr.dto.user.UserDTO;
 import com.bizmate.hr.repository.DepartmentRepository;
 import com.bizmate.hr.repository.EmployeeRepository;
@@ -36,6 +40,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -61,11 +66,23 @@ public class ApprovalDocumentsServiceImpl implements ApprovalDocumentsService {
     private final ApprovalIdGenerator approvalIdGenerator;
     private final EmployeeRepository employeeRepository;
     private final NotificationService notificationService;
-    private final EmployeeSignatureRepository employeeSignatureRepository;
+    private final EmployeeSignatureService employeeSignatureService;
     private final FileStorageService fileStorageService;
-    private final ApprovalPolicyRepository approvalPolicyRepository;
+    private final ApprovalPolicyCache approvalPolicyCache;
     private final ProjectService projectService;
     private final ObjectMapper objectMapper;
+    private final ApprovalParticipantIndexer participantIndexer;
+    private final ApprovalDocParticipantRepository participantRepository;
+    private final ApprovalStatusCounterService counterService;
+    private final ApprovalStepIndexer stepIndexer;
+    private final ApprovalStepRepository approvalStepRepository;
+    private final ApprovalPdfCacheService pdfCacheService;
+    private final ApprovalSearchIndexer searchIndexer;
+    private final ApprovalEventBroadcaster eventBroadcaster;
+
+    // 임시 첨부 보관 시간 (이보다 오래된 미연결 첨부는 자동 연결 대상에서 제외, OrphanAttachmentSweeper 가 정리)
+    @Value("${bizmate.attachment.orphan.ttl-hours:24}")
+    private long orphanAttachmentTtlHours;
 
     /* -------------------------------------------------------------
        ① 임시저장 (DRAFT)
@@ -104,27 +121,13 @@ public class ApprovalDocumentsServiceImpl implements ApprovalDocumentsService {
         dto.setId(docNumber);
         dto.setFinalDocNumber(docNumber);
 
-        Optional<ApprovalPolicy> policyOpt =
-                approvalPolicyRepository.findByDocTypeAndIsActiveTrue(dto.getDocType());
+        // ✅ 활성 정책은 메모리 스냅샷에서 조회 (결재자 사번/이름 미리 해석됨)
+        Optional<ApprovalPolicyCache.PolicySnapshot> policyOpt = approvalPolicyCache.find(dto.getDocType());
 
         if (policyOpt.isPresent()) {
-            ApprovalPolicy policy = policyOpt.get();
             log.info("📋 [{}] 문서유형에 정책 존재 → 자동 결재선 세팅", dto.getDocType());
 
-            List<ApproverStep> autoSteps = policy.getSteps().stream()
-                    .sorted(Comparator.comparingInt(ApprovalPolicyStep::getStepOrder))
-                    .map(s -> new ApproverStep(
-                            s.getStepOrder(),
-                            s.getApprover() != null ? s.getApprover().getEmpNo() : null,   // approverId
-                            s.getApproverName() != null
-                                    ? s.getApprover().getEmpName()
-                                    : (s.getApprover() != null ? s.getApprover().getEmpName() : "-"), // approverName
-                            Decision.PENDING,   // 결재 상태
-                            "",                 // comment
-                            null,               // decidedAt
-                            null                // signImagePath
-                    ))
-                    .collect(Collectors.toList());   // ✅ 여기 반드시 추가!
+            List<ApproverStep> autoSteps = policyOpt.get().toApprovalLine();
 
             dto.setApprovalLine(autoSteps);
             log.info("✅ 정책 기반 결재선 자동 생성 완료 (총 {}단계)", autoSteps.size());
@@ -151,6 +154,9 @@ public class ApprovalDocumentsServiceImpl implements ApprovalDocumentsService {
         log.info("📎 handleFileAttachments() 진입 전 - docId={}", saved.getDocId());
         // ✅ 첨부파일 처리
         handleFileAttachments(dto, saved, loginUser);
+        participantIndexer.reindex(saved);
+        stepIndexer.sync(saved);
+        searchIndexer.index(saved);
 
         log.info("✅ 임시저장 완료: 문서ID={}", saved.getDocId());
         return mapEntityToDto(saved);
@@ -200,26 +206,10 @@ public class ApprovalDocumentsServiceImpl implements ApprovalDocumentsService {
             dto.setId(docNumber);
             dto.setFinalDocNumber(docNumber);
 
-            Optional<ApprovalPolicy> policyOpt =
-                    approvalPolicyRepository.findByDocTypeAndIsActiveTrue(dto.getDocType());
+            Optional<ApprovalPolicyCache.PolicySnapshot> policyOpt = approvalPolicyCache.find(dto.getDocType());
 
             if (policyOpt.isPresent()) {
-                ApprovalPolicy policy = policyOpt.get();
-
-                List<ApproverStep> autoSteps = policy.getSteps().stream()
-                        .sorted(Comparator.comparingInt(ApprovalPolicyStep::getStepOrder))
-                        .map(s -> new ApproverStep(
-                                s.getStepOrder(),
-                                s.getApprover() != null ? s.getApprover().getEmpNo() : null,
-                                s.getApproverName() != null
-                                        ? s.getApproverName()
-                                        : (s.getApprover() != null ? s.getApprover().getEmpName() : "-"),
-                                Decision.PENDING,
-                                "",
-                                null,
-                                null
-                        ))
-                        .collect(Collectors.toList());
+                List<ApproverStep> autoSteps = policyOpt.get().toApprovalLine();
 
                 dto.setApprovalLine(autoSteps);
             } else {
@@ -240,6 +230,10 @@ public class ApprovalDocumentsServiceImpl implements ApprovalDocumentsService {
         approvalDocumentsRepository.flush();
 
         handleFileAttachments(dto, saved, loginUser);
+        participantIndexer.reindex(saved);
+        stepIndexer.sync(saved);
+        searchIndexer.index(saved);
+        eventBroadcaster.publishAfterCommit(saved, loginUser.getUsername(), loginUser.getEmpName());
 
         if (saved.getApprovalLine() != null && !saved.getApprovalLine().isEmpty()) {
             ApproverStep next = saved.getApprovalLine().get(0); // 첫 번째 결재자
@@ -309,7 +303,7 @@ public class ApprovalDocumentsServiceImpl implements ApprovalDocumentsService {
         // ✅ 삭제 수행
         if (!deleteTargets.isEmpty()) {
             for (ApprovalFileAttachment del : deleteTargets) {
-                fileStorageService.deleteFile(del.getFilePath());
+                fileStorageService.deleteFile(del);
             }
             fileAttachmentRepository.deleteAll(deleteTargets);
             existingFiles.removeAll(deleteTargets);
@@ -371,6 +365,10 @@ public class ApprovalDocumentsServiceImpl implements ApprovalDocumentsService {
 
         // 6️⃣ 저장 및 즉시 flush
         approvalDocumentsRepository.saveAndFlush(document);
+        participantIndexer.reindex(document);
+        stepIndexer.sync(document);
+        searchIndexer.index(document);
+        eventBroadcaster.publishAfterCommit(document, loginUser.getUsername(), loginUser.getEmpName());
 
         // ✅ 첫 번째 결재자에게 메일 발송
         try {
@@ -401,6 +399,12 @@ public class ApprovalDocumentsServiceImpl implements ApprovalDocumentsService {
     @Override
     @Transactional
     public ApprovalDocumentsDto approve(String docId, UserDTO loginUser) {
+        return approve(docId, loginUser, true);
+    }
+
+    @Override
+    @Transactional
+    public ApprovalDocumentsDto approve(String docId, UserDTO loginUser, boolean notifyAuthor) {
         ApprovalDocuments document = approvalDocumentsRepository.findById(docId)
                 .orElseThrow(() -> new VerificationFailedException("문서를 찾을 수 없습니다."));
 
@@ -421,9 +425,7 @@ public class ApprovalDocumentsServiceImpl implements ApprovalDocumentsService {
 
         Employee employee = employeeRepository.findByEmpId(loginUser.getEmpId())
                 .orElseThrow(() -> new VerificationFailedException("결재자(Employee)를 찾을 수 없습니다."));
-        String signImagePath = employeeSignatureRepository.findByEmployee(employee)
-                .map(EmployeeSignature::getSignImagePath)
-                .orElse(null);
+        String signImagePath = employeeSignatureService.getStoredSignPath(employee);
 
         ApproverStep approvedStep = new ApproverStep(
                 current.order(),
@@ -467,7 +469,7 @@ public class ApprovalDocumentsServiceImpl implements ApprovalDocumentsService {
                 projectService.createProjectByApproval(projectDto, document);
             }
 
-            if (document.getAuthorUser() != null && document.getAuthorUser().getEmail() != null) {
+            if (notifyAuthor && document.getAuthorUser() != null && document.getAuthorUser().getEmail() != null) {
                 notificationService.sendApprovalCompleteMail(
                         document.getAuthorUser().getEmail(),
                         document.getTitle(),
@@ -479,6 +481,15 @@ public class ApprovalDocumentsServiceImpl implements ApprovalDocumentsService {
 
         document.markUpdated(loginUser);
         approvalDocumentsRepository.saveAndFlush(document);
+        participantIndexer.updateStatus(docId, document.getStatus());
+        stepIndexer.sync(document);
+        searchIndexer.index(document);
+        eventBroadcaster.publishAfterCommit(document, loginUser.getUsername(), loginUser.getEmpName());
+
+        // ✅ 최종 승인 → 커밋 후 PDF 사전 생성 (이후 다운로드는 캐시 파일)
+        if (document.getStatus() == DocumentStatus.APPROVED) {
+            pdfCacheService.prerenderAfterCommit(docId);
+        }
 
         return mapEntityToDto(document);
     }
@@ -536,6 +547,10 @@ public class ApprovalDocumentsServiceImpl implements ApprovalDocumentsService {
         document.markUpdated(loginUser);
 
         approvalDocumentsRepository.saveAndFlush(document);
+        participantIndexer.updateStatus(docId, document.getStatus());
+        stepIndexer.sync(document);
+        searchIndexer.index(document);
+        eventBroadcaster.publishAfterCommit(document, loginUser.getUsername(), loginUser.getEmpName());
 
         // 작성자에게 반려 알림 메일 발송
         if (document.getAuthorUser() != null && document.getAuthorUser().getEmail() != null) {
@@ -567,6 +582,8 @@ public class ApprovalDocumentsServiceImpl implements ApprovalDocumentsService {
 
         doc.markDeleted(loginUser, reason);
         approvalDocumentsRepository.save(doc);
+        participantIndexer.updateStatus(docId, doc.getStatus());
+        searchIndexer.index(doc);
 
         log.info("✅ 문서 논리삭제 완료: docId={}, 상태={}", docId, doc.getStatus());
     }
@@ -612,25 +629,25 @@ public class ApprovalDocumentsServiceImpl implements ApprovalDocumentsService {
 
     @Override
     @Transactional(readOnly = true)
-    public PageResponseDTO<ApprovalDocumentsDto> getPagedApprovals(PageRequestDTO req) {
+    public PageResponseDTO<ApprovalDocumentListDto> getPagedApprovals(PageRequestDTO req) {
         Pageable pageable = PageRequest.of(req.getPage() - 1, req.getSize());
 
         // ✅ 키워드가 있으면 검색, 없으면 전체 문서 (삭제 포함)
-        Page<ApprovalDocuments> resultPage;
+        Page<ApprovalDocumentListDto> resultPage;
         if (req.getKeyword() != null && !req.getKeyword().isEmpty()) {
-            resultPage = approvalDocumentsRepository.searchDocuments(req.getKeyword(), pageable);
+            // ✅ 검색 색인 준비 완료 → 색인에서 점수순 문서ID 페이지, 아니면 기존 LIKE 검색
+            if (searchIndexer.isReady()) {
+                return loadDocIdPage(searchIndexer.search(req.getKeyword(), pageable), req);
+            }
+            resultPage = searchIndexer.timed("like",
+                    () -> approvalDocumentsRepository.searchListPage(req.getKeyword(), pageable));
         } else {
             // ✅ DELETED 포함 모든 문서 조회 (관리자 전용)
-            resultPage = approvalDocumentsRepository.findAll(pageable);
+            resultPage = approvalDocumentsRepository.findListPage(pageable);
         }
 
-        List<ApprovalDocumentsDto> dtoList = resultPage.getContent()
-                .stream()
-                .map(this::mapEntityToDto)
-                .toList();
-
-        return PageResponseDTO.<ApprovalDocumentsDto>withAll()
-                .dtoList(dtoList)
+        return PageResponseDTO.<ApprovalDocumentListDto>withAll()
+                .dtoList(fillAttachmentCounts(resultPage.getContent()))
                 .pageRequestDTO(req)
                 .totalCount(resultPage.getTotalElements())
                 .build();
@@ -638,106 +655,156 @@ public class ApprovalDocumentsServiceImpl implements ApprovalDocumentsService {
 
     @Override
     @Transactional(readOnly = true)
-    public PageResponseDTO<ApprovalDocumentsDto> getPagedAccessibleDocuments(
+    public PageResponseDTO<ApprovalDocumentListDto> getPagedAccessibleDocuments(
             PageRequestDTO req,
             String username,
             String status
     ) {
         Pageable pageable = PageRequest.of(req.getPage() - 1, req.getSize());
 
-        // ✅ 모든 문서 가져오기
-        List<ApprovalDocuments> allDocs = approvalDocumentsRepository.findAllWithAuthorAndEmployee();
-
-        // ✅ username → empName 변환 (approverName 비교용)
-        String empName = userRepository.findByUsername(username)
-                .map(UserEntity::getEmpName)
-                .orElse(null);
-
-        // ✅ 필터링 로직
-        List<ApprovalDocuments> filtered = allDocs.stream()
-                .filter(doc -> {
-                    boolean isAuthor = doc.getAuthorUser() != null &&
-                            username.equals(doc.getAuthorUser().getUsername());
-
-                    boolean isViewer = doc.getViewerIds() != null &&
-                            doc.getViewerIds().contains(username);
-
-                    boolean isApprover = doc.getApprovalLine() != null &&
-                            empName != null &&
-                            doc.getApprovalLine().stream()
-                                    .anyMatch(step -> empName.equals(step.approverName()));
-
-                    if (!(isAuthor || isViewer || isApprover)) return false;
-
-                    boolean passesBaseFilter;
-                    // ✅ 상태 필터
-                    if (isAuthor) {
-                        passesBaseFilter = doc.getStatus() != DocumentStatus.DELETED;
-                    } else {
-                        passesBaseFilter = doc.getStatus() != DocumentStatus.DELETED
-                                && doc.getStatus() != DocumentStatus.DRAFT;
-                    }
-
-                    if (!passesBaseFilter) return false;
-
-                    // --- 3. [추가] 파라미터 status 필터 ---
-                    // "ALL"이 아니고, 비어있지 않은 status 값이 넘어온 경우에만 이 필터를 적용합니다.
-                    if (status != null && !status.isBlank() && !"ALL".equalsIgnoreCase(status)) {
-                        // 문서의 상태(enum)와 파라미터(string)를 대소문자 구분 없이 비교합니다.
-                        // 일치하지 않으면 false를 반환하여 목록에서 제외합니다.
-                        return doc.getStatus().name().equalsIgnoreCase(status);
-                    }
-
-                    // 'status' 파라미터 필터가 없거나 "ALL"이면, 기본 필터 결과(true)를 반환합니다.
-                    return true;
-                })
-                .sorted(Comparator.comparing(ApprovalDocuments::getCreatedAt).reversed())
-                .toList();
+        // ✅ 상태 필터 ("ALL" 또는 빈 값이면 전체)
+        DocumentStatus statusFilter = (status != null && !status.isBlank() && !"ALL".equalsIgnoreCase(status))
+                ? DocumentStatus.from(status)
+                : null;
+
+        // ✅ 커서 모드: (createdAt, docId) seek
+        if (req.isCursorMode()) {
+            String[] keys = PageCursor.decode(req.getCursor(), 2);
+            return loadDocIdCursorPage(participantRepository.findAccessibleDocIdsAfter(
+                    username,
+                    statusFilter,
+                    ParticipantRole.AUTHOR,
+                    DocumentStatus.DRAFT,
+                    DocumentStatus.DELETED,
+                    PageCursor.timeOf(keys, 0),
+                    keys != null ? keys[1] : "",
+                    PageRequest.of(0, req.cursorLimit())
+            ), req);
+        }
 
-        // ✅ 페이징 처리
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), filtered.size());
-        List<ApprovalDocumentsDto> dtoList = filtered.subList(start, end)
-                .stream()
-                .map(this::mapEntityToDto)
-                .toList();
+        // ✅ 참여자 인덱스에서 필터·정렬·페이징 (작성자: 삭제 제외 / 결재자·열람자: 삭제·임시저장 제외)
+        Page<String> docIdPage = participantRepository.findAccessibleDocIds(
+                username,
+                statusFilter,
+                ParticipantRole.AUTHOR,
+                DocumentStatus.DRAFT,
+                DocumentStatus.DELETED,
+                pageable
+        );
+
+        return loadDocIdPage(docIdPage, req);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponseDTO<ApprovalDocumentListDto> getPagedPendingDocuments(PageRequestDTO req, UserDTO loginUser) {
+        Pageable pageable = PageRequest.of(req.getPage() - 1, req.getSize());
+
+        // ✅ 결재선의 approverId 는 사번 → 로그인 아이디와 사번 모두로 조회
+        Set<String> approverIds = new HashSet<>();
+        approverIds.add(loginUser.getUsername());
+        if (loginUser.getEmpId() != null) {
+            employeeRepository.findById(loginUser.getEmpId())
+                    .map(Employee::getEmpNo)
+                    .ifPresent(approverIds::add);
+        }
+
+        // ✅ 커서 모드: (문서 createdAt, docId) seek
+        if (req.isCursorMode()) {
+            String[] keys = PageCursor.decode(req.getCursor(), 2);
+            return loadDocIdCursorPage(approvalStepRepository.findPendingDocIdsAfter(
+                    approverIds,
+                    Decision.PENDING,
+                    DocumentStatus.IN_PROGRESS,
+                    PageCursor.timeOf(keys, 0),
+                    keys != null ? keys[1] : "",
+                    PageRequest.of(0, req.cursorLimit())
+            ), req);
+        }
+
+        // ✅ 결재선 단계 테이블에서 "현재 내 차례인 PENDING 단계"만 DB 페이징
+        Page<String> docIdPage = approvalStepRepository.findPendingDocIds(
+                approverIds,
+                Decision.PENDING,
+                DocumentStatus.IN_PROGRESS,
+                pageable
+        );
 
-        return PageResponseDTO.<ApprovalDocumentsDto>withAll()
-                .dtoList(dtoList)
+        return loadDocIdPage(docIdPage, req);
+    }
+
+    /**
+     * 문서ID 페이지 → 현재 페이지 목록 행만 조회 후 인덱스 순서대로 정렬
+     */
+    private PageResponseDTO<ApprovalDocumentListDto> loadDocIdPage(Page<String> docIdPage, PageRequestDTO req) {
+        return PageResponseDTO.<ApprovalDocumentListDto>withAll()
+                .dtoList(loadListRows(docIdPage.getContent()))
                 .pageRequestDTO(req)
-                .totalCount(filtered.size())
+                .totalCount(docIdPage.getTotalElements())
                 .build();
     }
 
-    @Transactional(readOnly = true)
-    @Override
-    public Map<String, Long> getApprovalSummary(String username) {
-        List<ApprovalDocuments> docs = approvalDocumentsRepository.findAllWithAuthorAndEmployee();
-        String approverIdToCheck = "ceo".equals(username) ? "5010001" : username;
-
-        Map<String, Long> counts = docs.stream()
-                .filter(d ->
-                        d.getAuthorUser().getUsername().equals(approverIdToCheck)
-                                || (d.getViewerIds() != null && d.getViewerIds().contains(approverIdToCheck))
-                                || (d.getApprovalLine() != null && d.getApprovalLine().stream()
-                                .anyMatch(step -> step.approverId().equals(approverIdToCheck)))
-                )
-                .collect(Collectors.groupingBy(
-                        d -> d.getStatus().name(),
-                        Collectors.counting()
-                ));
+    /**
+     * 커서 모드: [docId, createdAt] 키 행 (size + 1) → 현재 페이지 목록 행 + 다음 커서
+     */
+    private PageResponseDTO<ApprovalDocumentListDto> loadDocIdCursorPage(List<Object[]> keyRows, PageRequestDTO req) {
+        return PageResponseDTO.ofCursorBatch(keyRows, req,
+                row -> PageCursor.encode(row[1], row[0]),
+                page -> loadListRows(page.stream().map(row -> (String) row[0]).toList()));
+    }
 
-        for (String key : List.of("DRAFT", "IN_PROGRESS", "APPROVED", "REJECTED")) {
-            counts.putIfAbsent(key, 0L);
+    private List<ApprovalDocumentListDto> loadListRows(List<String> docIds) {
+        Map<String, ApprovalDocumentListDto> rowsById = docIds.isEmpty()
+                ? Map.of()
+                : approvalDocumentsRepository.findListByDocIdIn(docIds).stream()
+                .collect(Collectors.toMap(ApprovalDocumentListDto::getId, d -> d));
+
+        List<ApprovalDocumentListDto> rows = docIds.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return fillAttachmentCounts(rows);
+    }
+
+    /**
+     * 목록 행 첨부 개수 채우기 (페이지 전체를 한 번의 GROUP BY 쿼리로 집계)
+     */
+    private List<ApprovalDocumentListDto> fillAttachmentCounts(List<ApprovalDocumentListDto> rows) {
+        if (rows.isEmpty()) return rows;
+
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : fileAttachmentRepository.countByDocIds(
+                rows.stream().map(ApprovalDocumentListDto::getId).toList())) {
+            counts.put((String) row[0], (Long) row[1]);
         }
+        rows.forEach(r -> r.setAttachmentCount(counts.getOrDefault(r.getId(), 0L)));
+        return rows;
+    }
 
-        return counts;
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, Long> getApprovalSummary(String username) {
+        // ✅ 상태 전이 시점에 유지되는 사용자별 카운터 조회 (문서 전체 스캔 없음)
+        return counterService.getSummary(username);
     }
 
 
     @Override
+    @Transactional
     public void restoreDocument(String docId) {
+        ApprovalDocuments document = approvalDocumentsRepository.findById(docId)
+                .orElseThrow(() -> new VerificationFailedException("문서를 찾을 수 없습니다."));
+
+        if (document.getStatus() != DocumentStatus.DELETED)
+            throw new VerificationFailedException("삭제(DELETED) 상태의 문서만 복원할 수 있습니다.");
 
+        document.restore();
+        approvalDocumentsRepository.save(document);
+        participantIndexer.updateStatus(docId, document.getStatus());
+        searchIndexer.index(document);
+        pdfCacheService.invalidate(docId);
+
+        log.info("♻️ 문서 복원 완료: docId={}, 상태={}", docId, document.getStatus());
     }
 
 
@@ -757,27 +824,26 @@ public class ApprovalDocumentsServiceImpl implements ApprovalDocumentsService {
         /* ✅ 1️⃣ DTO에서 넘어온 첨부파일 우선 연결 */
         if (dto.getAttachments() != null && !dto.getAttachments().isEmpty()) {
             for (ApprovalFileAttachmentDto fileDto : dto.getAttachments()) {
-                ApprovalFileAttachment fileEntity;
-
-                if (fileDto.getId() != null) {
-                    // 🔁 기존 파일 재연결
-                    fileEntity = fileAttachmentRepository.findById(fileDto.getId())
-                            .orElseThrow(() -> new VerificationFailedException("존재하지 않는 첨부파일 ID: " + fileDto.getId()));
-
-                    fileEntity.setDocument(document);
-                    fileEntity.setUploader(uploader);
-                } else {
-                    // 🆕 신규 파일 → 문서 직접 연결
-                    fileEntity = fileDto.toEntity(document, uploader);
-                }
-
+                // 업로드 API 를 거친 첨부(ID 있음)만 연결
+                // - ID 없는 메타정보로 행을 만들면 blob 참조(contentHash) 없이 filePath 만 남아
+                //   삭제 시 공유 blob 파일을 직접 지우게 됨
+                if (fileDto.getId() == null)
+                    throw new VerificationFailedException("업로드되지 않은 첨부파일입니다: " + fileDto.getOriginalName());
+
+                // 🔁 기존 파일 재연결
+                ApprovalFileAttachment fileEntity = fileAttachmentRepository.findById(fileDto.getId())
+                        .orElseThrow(() -> new VerificationFailedException("존재하지 않는 첨부파일 ID: " + fileDto.getId()));
+
+                fileEntity.setDocument(document);
+                fileEntity.setUploader(uploader);
                 attachedFiles.add(fileEntity);
             }
         }
 
         /* ✅ 2️⃣ DOC_ID가 NULL인 임시첨부파일 자동 연결 */
         List<ApprovalFileAttachment> pendingFiles =
-                fileAttachmentRepository.findByDocumentIsNullAndUploader(uploader);
+                fileAttachmentRepository.findPendingByUploader(uploader,
+                        LocalDateTime.now().minusHours(orphanAttachmentTtlHours));
 
         if (!pendingFiles.isEmpty()) {
             for (ApprovalFileAttachment pending : pendingFiles) {
@@ -822,6 +888,11 @@ public class ApprovalDocumentsServiceImpl implements ApprovalDocumentsService {
 
         document.forceApprove(adminUser, reason);
         approvalDocumentsRepository.save(document);
+        participantIndexer.updateStatus(docId, document.getStatus());
+        searchIndexer.index(document);
+        pdfCacheService.invalidate(docId);
+        pdfCacheService.prerenderAfterCommit(docId);
+        eventBroadcaster.publishAfterCommit(document, adminUser.getUsername(), adminUser.getEmpName());
 
         log.warn("⚠️ 관리자 {}가 문서 {}를 강제승인 처리함", adminUser.getUsername(), docId);
     }
@@ -838,25 +909,24 @@ public class ApprovalDocumentsServiceImpl implements ApprovalDocumentsService {
 
         document.forceReject(adminUser, reason);
         approvalDocumentsRepository.save(document);
+        participantIndexer.updateStatus(docId, document.getStatus());
+        searchIndexer.index(document);
+        pdfCacheService.invalidate(docId);
+        eventBroadcaster.publishAfterCommit(document, adminUser.getUsername(), adminUser.getEmpName());
 
         log.warn("⚠️ 관리자 {}가 문서 {}를 강제반려 처리함", adminUser.getUsername(), docId);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public PageResponseDTO<ApprovalDocumentsDto> getPagedApprovalsByStatus(PageRequestDTO req, String status) {
+    public PageResponseDTO<ApprovalDocumentListDto> getPagedApprovalsByStatus(PageRequestDTO req, String status) {
         Pageable pageable = PageRequest.of(req.getPage() - 1, req.getSize(), Sort.by("createdAt").descending());
         DocumentStatus docStatus = DocumentStatus.valueOf(status.toUpperCase());
 
-        Page<ApprovalDocuments> resultPage = approvalDocumentsRepository.findByStatus(docStatus, pageable);
-
-        List<ApprovalDocumentsDto> dtoList = resultPage.getContent()
-                .stream()
-                .map(ApprovalDocumentsDto::fromEntity)
-                .toList();
+        Page<ApprovalDocumentListDto> resultPage = approvalDocumentsRepository.findListPageByStatus(docStatus, pageable);
 
-        return PageResponseDTO.<ApprovalDocumentsDto>withAll()
-                .dtoList(dtoList)
+        return PageResponseDTO.<ApprovalDocumentListDto>withAll()
+                .dtoList(fillAttachmentCounts(resultPage.getContent()))
                 .pageRequestDTO(req)
                 .totalCount(resultPage.getTotalElements())
                 .build();
@@ -0,0 +1,186 @@
+package com.bizmate.groupware.approval.service.document;
+
+import com.bizmate.groupware.approval.domain.document.ApprovalDocParticipant;
+import com.bizmate.groupware.approval.domain.document.ApprovalDocuments;
+import com.bizmate.groupware.approval.domain.document.DocumentStatus;
+import com.bizmate.groupware.approval.domain.document.ParticipantRole;
+import com.bizmate.groupware.approval.domain.policy.ApproverStep;
+import com.bizmate.groupware.approval.repository.document.ApprovalDocParticipantRepository;
+import com.bizmate.groupware.approval.repository.document.ApprovalDocumentsRepository;
+import com.bizmate.hr.domain.UserEntity;
+import com.bizmate.hr.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * ApprovalParticipantIndexer
+ * --------------------
+ * ✅ APPROVAL_DOC_PARTICIPANT 인덱스 동기화 담당
+ * ✅ 임시저장/상신/재상신: 참여자 전체 재구성 (결재선·열람자 변경 가능)
+ * ✅ 승인/반려/삭제: 상태 컬럼만 일괄 갱신
+ * ✅ 서버 기동 시 인덱스가 비어 있으면 기존 문서로 백필
+ *    - 배치마다 flush/clear → 이력이 많아도 영속성 컨텍스트가 커지지 않음
+ * ✅ 참여자/상태 변화는 사용자별 상태 카운터에도 함께 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalParticipantIndexer {
+
+    /** 백필 배치 크기 */
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final ApprovalDocParticipantRepository participantRepository;
+    private final ApprovalDocumentsRepository approvalDocumentsRepository;
+    private final UserRepository userRepository;
+    private final ApprovalStatusCounterService counterService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 문서 참여자 인덱스 전체 재구성
+     */
+    @Transactional
+    public void reindex(ApprovalDocuments doc) {
+        List<ApprovalDocParticipant> previous = participantRepository.findByDocId(doc.getDocId());
+        List<ApprovalDocParticipant> current = buildParticipants(doc);
+
+        participantRepository.deleteByDocId(doc.getDocId());
+        participantRepository.saveAll(current);
+
+        counterService.applyTransition(
+                usernames(previous), previous.isEmpty() ? null : previous.get(0).getStatus(),
+                usernames(current), doc.getStatus());
+    }
+
+    /**
+     * 문서 상태만 변경된 경우 (승인/반려/삭제/강제처리)
+     */
+    @Transactional
+    public void updateStatus(String docId, DocumentStatus status) {
+        List<ApprovalDocParticipant> previous = participantRepository.findByDocId(docId);
+        if (!previous.isEmpty()) {
+            Set<String> users = usernames(previous);
+            counterService.applyTransition(users, previous.get(0).getStatus(), users, status);
+        }
+
+        int updated = participantRepository.updateStatusByDocId(docId, status);
+        log.debug("🔖 참여자 인덱스 상태 갱신: docId={}, status={}, rows={}", docId, status, updated);
+    }
+
+    /**
+     * 인덱스가 비어 있으면 기존 문서 전체를 배치 단위로 백필
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillIfEmpty() {
+        if (participantRepository.count() > 0) return;
+
+        long total = 0;
+        int page = 0;
+        Page<ApprovalDocuments> batch;
+        do {
+            batch = approvalDocumentsRepository.findAll(
+                    PageRequest.of(page++, BACKFILL_BATCH_SIZE, Sort.by("docId")));
+            List<ApprovalDocParticipant> rows = new ArrayList<>();
+            for (ApprovalDocuments doc : batch.getContent()) {
+                rows.addAll(buildParticipants(doc));
+            }
+            participantRepository.saveAll(rows);
+            total += rows.size();
+
+            entityManager.flush();
+            entityManager.clear();
+        } while (batch.hasNext());
+
+        if (total > 0) {
+            log.info("✅ 결재 참여자 인덱스 백필 완료: {}건", total);
+        }
+    }
+
+    /**
+     * 문서 참여자(작성자/결재자/열람자) username 집합 - 카운터 재계산용
+     * @param usernameCache 결재자 사번 → username 변환 캐시 (배치 처리 중 재사용)
+     */
+    public Set<String> participantUsernames(ApprovalDocuments doc, Map<String, String> usernameCache) {
+        return usernames(buildParticipants(doc, approverId -> usernameCache.computeIfAbsent(approverId, this::resolveUsername)));
+    }
+
+    private Set<String> usernames(List<ApprovalDocParticipant> rows) {
+        return rows.stream()
+                .map(ApprovalDocParticipant::getUsername)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private List<ApprovalDocParticipant> buildParticipants(ApprovalDocuments doc) {
+        return buildParticipants(doc, this::resolveUsername);
+    }
+
+    private List<ApprovalDocParticipant> buildParticipants(ApprovalDocuments doc, Function<String, String> approverResolver) {
+        // (username, role) 중복 제거
+        Map<String, ApprovalDocParticipant> rows = new LinkedHashMap<>();
+        LocalDateTime createdAt = doc.getCreatedAt() != null ? doc.getCreatedAt() : LocalDateTime.now();
+
+        if (doc.getAuthorUser() != null) {
+            put(rows, doc, doc.getAuthorUser().getUsername(), ParticipantRole.AUTHOR, createdAt);
+        }
+        if (doc.getApprovalLine() != null) {
+            for (ApproverStep step : doc.getApprovalLine()) {
+                if (step.approverId() == null || "-".equals(step.approverId())) continue;
+                put(rows, doc, approverResolver.apply(step.approverId()), ParticipantRole.APPROVER, createdAt);
+            }
+        }
+        if (doc.getViewerIds() != null) {
+            for (String viewerId : doc.getViewerIds()) {
+                put(rows, doc, viewerId, ParticipantRole.VIEWER, createdAt);
+            }
+        }
+        return new ArrayList<>(rows.values());
+    }
+
+    private void put(Map<String, ApprovalDocParticipant> rows, ApprovalDocuments doc,
+                     String username, ParticipantRole role, LocalDateTime createdAt) {
+        if (username == null || username.isBlank() || "-".equals(username)) return;
+
+        rows.putIfAbsent(username + "|" + role, ApprovalDocParticipant.builder()
+                .docId(doc.getDocId())
+                .username(username)
+                .role(role)
+                .status(doc.getStatus())
+                .createdAt(createdAt)
+                .build());
+    }
+
+    /**
+     * 결재선 approverId(사번) → 로그인 username
+     * - 대부분 동일하지만 사번과 로그인 ID가 다른 계정(예: ceo)이 있음
+     * - "-" 자리표시/null 은 null 반환 (SSE 수신자 계산에서도 사용)
+     */
+    public String resolveUsername(String approverId) {
+        if (approverId == null || "-".equals(approverId)) return null;
+        if (userRepository.existsByUsername(approverId)) return approverId;
+        return userRepository.findByEmployee_EmpNo(approverId)
+                .map(UserEntity::getUsername)
+                .orElse(approverId);
+    }
+}
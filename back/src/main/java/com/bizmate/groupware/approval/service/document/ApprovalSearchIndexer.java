@@ -0,0 +1,108 @@
+package com.bizmate.groupware.approval.service.document;
+
+import com.bizmate.common.search.AbstractSearchIndexer;
+import com.bizmate.common.search.InvertedIndex;
+import com.bizmate.groupware.approval.domain.document.ApprovalDocuments;
+import com.bizmate.groupware.approval.repository.document.ApprovalDocumentsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ApprovalSearchIndexer
+ * ----------------------
+ * ✅ 결재문서 검색 색인 (제목 ×3, 작성자명 ×2, 본문(docContent 값 전체) ×1)
+ * ✅ 임시저장/상신/재상신/승인/반려/삭제/복원 시 커밋 후 색인 갱신
+ * ✅ stamp = 문서 version + 작성자명 → 재시작 시 바뀐 문서만 재색인
+ */
+@Component
+public class ApprovalSearchIndexer extends AbstractSearchIndexer {
+
+    private static final int FIELD_TITLE = 0;
+    private static final int FIELD_AUTHOR = 1;
+    private static final int FIELD_CONTENT = 2;
+
+    private final ApprovalDocumentsRepository approvalDocumentsRepository;
+
+    public ApprovalSearchIndexer(
+            ApprovalDocumentsRepository approvalDocumentsRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${bizmate.search.index-dir:data/search-index}") String indexDir
+    ) {
+        super("approval", new double[]{3.0, 2.0, 1.0}, indexDir, transactionManager, meterRegistry);
+        this.approvalDocumentsRepository = approvalDocumentsRepository;
+    }
+
+    /**
+     * 문서 내용 반영
+     * - 본문/작성자는 호출 트랜잭션 안에서 읽고 (지연 로딩), version 은 flush 이후 값이 필요하므로 커밋 후 읽음
+     */
+    public void index(ApprovalDocuments doc) {
+        String[] fields = fieldsOf(doc);
+        afterCommit(() -> index.put(doc.getDocId(), fields, Map.of(),
+                stampOf(doc.getVersion(), fields[FIELD_AUTHOR]), sortKeyOf(doc)));
+    }
+
+    /**
+     * 키워드 검색 → 문서ID 페이지 (점수순, 동점은 최신 작성순)
+     */
+    public Page<String> search(String keyword, Pageable pageable) {
+        InvertedIndex.Result result = timed("index", () -> index.search(
+                keyword, -1, null, InvertedIndex.BY_SCORE,
+                (int) pageable.getOffset(), pageable.getPageSize()));
+
+        List<String> docIds = result.hits().stream().map(InvertedIndex.Hit::key).toList();
+        return new PageImpl<>(docIds, pageable, result.total());
+    }
+
+    /* -------------------------------------------------------------
+       재색인
+       ------------------------------------------------------------- */
+
+    @Override
+    protected Map<String, String> loadStamps() {
+        Map<String, String> stamps = new HashMap<>();
+        for (Object[] row : approvalDocumentsRepository.findSearchStamps()) {
+            stamps.put((String) row[0], stampOf((Long) row[1], row[2] != null ? (String) row[2] : ""));
+        }
+        return stamps;
+    }
+
+    @Override
+    protected void indexKeys(List<String> keys) {
+        for (ApprovalDocuments doc : approvalDocumentsRepository.findForSearchIndex(keys)) {
+            String[] fields = fieldsOf(doc);
+            index.put(doc.getDocId(), fields, Map.of(), stampOf(doc.getVersion(), fields[FIELD_AUTHOR]), sortKeyOf(doc));
+        }
+    }
+
+    private static String[] fieldsOf(ApprovalDocuments doc) {
+        String[] fields = new String[3];
+        fields[FIELD_TITLE] = doc.getTitle() != null ? doc.getTitle() : "";
+        fields[FIELD_AUTHOR] = doc.getAuthorEmployee() != null && doc.getAuthorEmployee().getEmpName() != null
+                ? doc.getAuthorEmployee().getEmpName()
+                : "";
+        fields[FIELD_CONTENT] = flatten(doc.getDocContent());
+        return fields;
+    }
+
+    private static String stampOf(Long version, String authorName) {
+        return (version != null ? version : 0L) + "|" + authorName;
+    }
+
+    private static long sortKeyOf(ApprovalDocuments doc) {
+        return doc.getCreatedAt() != null
+                ? doc.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : 0L;
+    }
+}
@@ -0,0 +1,119 @@
+package com.bizmate.groupware.approval.service.document;
+
+import com.bizmate.groupware.approval.domain.document.ApprovalDocuments;
+import com.bizmate.groupware.approval.domain.document.ApprovalStatusCounter;
+import com.bizmate.groupware.approval.domain.document.DocumentStatus;
+import com.bizmate.groupware.approval.dto.approval.ApprovalCounterDriftDto;
+import com.bizmate.groupware.approval.repository.document.ApprovalDocumentsRepository;
+import com.bizmate.groupware.approval.repository.document.ApprovalStatusCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * ApprovalStatusCounterReconciler
+ * --------------------
+ * ✅ 결재 문서 원본으로부터 사용자별 상태 카운터를 재계산
+ * ✅ 저장된 카운터와 다른 항목(drift)을 보고하고 실제값으로 덮어씀
+ * ✅ 매일 새벽 자동 실행 + 관리자 수동 실행 + 카운터가 비어 있으면 기동 시 1회 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalStatusCounterReconciler {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ApprovalDocumentsRepository approvalDocumentsRepository;
+    private final ApprovalStatusCounterRepository counterRepository;
+    private final ApprovalParticipantIndexer participantIndexer;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void seedIfEmpty() {
+        if (counterRepository.count() == 0 && approvalDocumentsRepository.count() > 0) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(cron = "${bizmate.approval.counter.reconcile-cron:0 30 3 * * *}")
+    @Transactional
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * 카운터 재계산 + drift 보고
+     * @return 저장값과 실제값이 달랐던 항목 목록
+     */
+    @Transactional
+    public List<ApprovalCounterDriftDto> reconcile() {
+        long startedAt = System.currentTimeMillis();
+
+        // 1️⃣ 문서 원본 기준 실제 카운트 집계
+        Map<String, Map<DocumentStatus, Long>> actual = new HashMap<>();
+        Map<String, String> usernameCache = new HashMap<>();
+        int page = 0;
+        Page<ApprovalDocuments> batch;
+        do {
+            batch = approvalDocumentsRepository.findAll(PageRequest.of(page++, BATCH_SIZE, Sort.by("docId")));
+            for (ApprovalDocuments doc : batch.getContent()) {
+                for (String username : participantIndexer.participantUsernames(doc, usernameCache)) {
+                    actual.computeIfAbsent(username, k -> new EnumMap<>(DocumentStatus.class))
+                            .merge(doc.getStatus(), 1L, Long::sum);
+                }
+            }
+        } while (batch.hasNext());
+
+        // 2️⃣ 저장된 카운터와 비교 → 다르면 보정
+        List<ApprovalCounterDriftDto> drifts = new ArrayList<>();
+        Map<String, ApprovalStatusCounter> stored = new HashMap<>();
+        for (ApprovalStatusCounter counter : counterRepository.findAll()) {
+            stored.put(counter.getUsername() + "|" + counter.getStatus(), counter);
+        }
+
+        for (Map.Entry<String, Map<DocumentStatus, Long>> userEntry : actual.entrySet()) {
+            for (Map.Entry<DocumentStatus, Long> statusEntry : userEntry.getValue().entrySet()) {
+                String key = userEntry.getKey() + "|" + statusEntry.getKey();
+                ApprovalStatusCounter counter = stored.remove(key);
+                long expected = statusEntry.getValue();
+
+                if (counter == null) {
+                    drifts.add(new ApprovalCounterDriftDto(userEntry.getKey(), statusEntry.getKey().name(), 0, expected));
+                    counterRepository.save(ApprovalStatusCounter.builder()
+                            .username(userEntry.getKey())
+                            .status(statusEntry.getKey())
+                            .docCount(expected)
+                            .build());
+                } else if (counter.getDocCount() != expected) {
+                    drifts.add(new ApprovalCounterDriftDto(userEntry.getKey(), statusEntry.getKey().name(), counter.getDocCount(), expected));
+                    counter.setDocCount(expected);
+                }
+            }
+        }
+
+        // 3️⃣ 실제로는 문서가 없는 카운터 → 0으로 보정
+        for (ApprovalStatusCounter leftover : stored.values()) {
+            if (leftover.getDocCount() != 0) {
+                drifts.add(new ApprovalCounterDriftDto(leftover.getUsername(), leftover.getStatus().name(), leftover.getDocCount(), 0));
+                leftover.setDocCount(0);
+            }
+        }
+
+        if (drifts.isEmpty()) {
+            log.info("✅ 결재 상태 카운터 정합성 확인 완료 (drift 없음, {}ms)", System.currentTimeMillis() - startedAt);
+        } else {
+            log.warn("⚠️ 결재 상태 카운터 drift {}건 보정 ({}ms): {}", drifts.size(), System.currentTimeMillis() - startedAt, drifts);
+        }
+        return drifts;
+    }
+}
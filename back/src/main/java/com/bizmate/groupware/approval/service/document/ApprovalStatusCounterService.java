@@ -0,0 +1,100 @@
+package com.bizmate.groupware.approval.service.document;
+
+import com.bizmate.groupware.approval.domain.document.ApprovalStatusCounter;
+import com.bizmate.groupware.approval.domain.document.DocumentStatus;
+import com.bizmate.groupware.approval.repository.document.ApprovalStatusCounterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * ApprovalStatusCounterService
+ * --------------------
+ * ✅ 사용자별 (username, status) 문서 수 카운터 관리
+ * ✅ 상태 전이 시점에 이전 상태 -1 / 새 상태 +1 (같은 트랜잭션)
+ * ✅ 결재 요약(배지) 조회는 카운터 행만 읽음
+ * ✅ 첫 카운트는 0 행을 별도 트랜잭션으로 만든 뒤 다시 증감
+ *    (같은 사용자/상태의 첫 전이가 동시에 일어나도 유니크 키 충돌로 결재가 롤백되지 않음)
+ */
+@Slf4j
+@Component
+public class ApprovalStatusCounterService {
+
+    /** 요약 응답에 항상 포함되는 상태 */
+    private static final List<String> SUMMARY_DEFAULT_KEYS = List.of("DRAFT", "IN_PROGRESS", "APPROVED", "REJECTED");
+
+    private final ApprovalStatusCounterRepository counterRepository;
+    private final TransactionTemplate requiresNew;
+
+    public ApprovalStatusCounterService(ApprovalStatusCounterRepository counterRepository,
+                                        PlatformTransactionManager transactionManager) {
+        this.counterRepository = counterRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 문서 한 건의 참여자/상태 전이를 카운터에 반영
+     * @param oldUsers  전이 전 참여자 (신규 문서면 빈 집합)
+     * @param oldStatus 전이 전 상태 (신규 문서면 null)
+     * @param newUsers  전이 후 참여자
+     * @param newStatus 전이 후 상태
+     */
+    @Transactional
+    public void applyTransition(Set<String> oldUsers, DocumentStatus oldStatus,
+                                Set<String> newUsers, DocumentStatus newStatus) {
+        for (String username : oldUsers) {
+            // 상태·참여 모두 그대로면 변경 없음
+            if (oldStatus == newStatus && newUsers.contains(username)) continue;
+            if (oldStatus != null) addDelta(username, oldStatus, -1);
+        }
+        for (String username : newUsers) {
+            if (oldStatus == newStatus && oldUsers.contains(username)) continue;
+            if (newStatus != null) addDelta(username, newStatus, 1);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Long> getSummary(String username) {
+        Map<String, Long> counts = new HashMap<>();
+        for (ApprovalStatusCounter counter : counterRepository.findByUsername(username)) {
+            counts.put(counter.getStatus().name(), counter.getDocCount());
+        }
+        for (String key : SUMMARY_DEFAULT_KEYS) {
+            counts.putIfAbsent(key, 0L);
+        }
+        return counts;
+    }
+
+    private void addDelta(String username, DocumentStatus status, long delta) {
+        if (counterRepository.addDelta(username, status, delta) > 0) return;
+
+        // 첫 카운트 → 0 행 생성 후 다시 증감
+        ensureRow(username, status);
+        if (counterRepository.addDelta(username, status, delta) == 0) {
+            throw new IllegalStateException("결재 카운터 행이 없습니다: " + username + "/" + status);
+        }
+    }
+
+    /**
+     * 카운터 행을 0 으로 생성 (별도 트랜잭션 → 즉시 커밋)
+     * - 동시에 같은 (username, status) 를 처음 만들면 유니크 키 충돌 → 이미 생성된 것으로 간주
+     */
+    private void ensureRow(String username, DocumentStatus status) {
+        try {
+            requiresNew.executeWithoutResult(tx -> counterRepository.saveAndFlush(ApprovalStatusCounter.builder()
+                    .username(username)
+                    .status(status)
+                    .docCount(0)
+                    .build()));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("🔁 결재 카운터 행 동시 생성: {}/{}", username, status);
+        }
+    }
+}
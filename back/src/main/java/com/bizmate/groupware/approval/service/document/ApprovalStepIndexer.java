@@ -0,0 +1,159 @@
+package com.bizmate.groupware.approval.service.document;
+
+import com.bizmate.groupware.approval.domain.document.ApprovalDocuments;
+import com.bizmate.groupware.approval.domain.document.ApprovalStep;
+import com.bizmate.groupware.approval.domain.policy.ApproverStep;
+import com.bizmate.groupware.approval.repository.document.ApprovalDocumentsRepository;
+import com.bizmate.groupware.approval.repository.document.ApprovalStepRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * ApprovalStepIndexer
+ * --------------------
+ * ✅ 결재선(JSON) → APPROVAL_STEP 행 동기화
+ * ✅ 결재선이 바뀌는 모든 시점(임시저장/상신/재상신/승인/반려)에 호출
+ * ✅ 단계 위치(STEP_INDEX) 기준으로 변경된 행만 갱신 (일괄 결재는 syncAll 로 한 번에)
+ * ✅ 서버 기동 시 테이블이 비어 있으면 기존 문서로 백필
+ *    - 배치마다 flush/clear → 이력이 많아도 영속성 컨텍스트가 커지지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalStepIndexer {
+
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final ApprovalStepRepository approvalStepRepository;
+    private final ApprovalDocumentsRepository approvalDocumentsRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional
+    public void sync(ApprovalDocuments doc) {
+        List<ApprovalStep> toSave = new ArrayList<>();
+        List<ApprovalStep> toDelete = new ArrayList<>();
+        diff(doc, approvalStepRepository.findByDocIdOrderByStepIndex(doc.getDocId()), toSave, toDelete);
+        apply(toSave, toDelete);
+    }
+
+    /**
+     * 여러 문서 한 번에 동기화 (일괄 결재)
+     * - 기존 단계 행은 한 번의 IN 조회, 변경 행은 saveAll (JDBC 배치)
+     */
+    @Transactional
+    public void syncAll(Collection<ApprovalDocuments> docs) {
+        if (docs.isEmpty()) return;
+
+        Map<String, List<ApprovalStep>> existingByDoc = approvalStepRepository
+                .findByDocIdInOrderByDocIdAscStepIndexAsc(docs.stream().map(ApprovalDocuments::getDocId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(ApprovalStep::getDocId));
+
+        List<ApprovalStep> toSave = new ArrayList<>();
+        List<ApprovalStep> toDelete = new ArrayList<>();
+        for (ApprovalDocuments doc : docs) {
+            diff(doc, existingByDoc.getOrDefault(doc.getDocId(), List.of()), toSave, toDelete);
+        }
+        apply(toSave, toDelete);
+    }
+
+    private void diff(ApprovalDocuments doc, List<ApprovalStep> existing,
+                      List<ApprovalStep> toSave, List<ApprovalStep> toDelete) {
+        List<ApproverStep> line = doc.getApprovalLine() != null ? doc.getApprovalLine() : List.of();
+
+        for (int i = 0; i < line.size(); i++) {
+            ApproverStep step = line.get(i);
+            ApprovalStep row = i < existing.size() ? existing.get(i) : new ApprovalStep();
+
+            if (row.getId() == null || changed(row, step, i)) {
+                row.setDocId(doc.getDocId());
+                row.setStepIndex(i);
+                row.setStepOrder(step.order());
+                row.setApproverId(step.approverId());
+                row.setApproverName(step.approverName());
+                row.setDecision(step.decision());
+                row.setDecidedAt(step.decidedAt());
+                toSave.add(row);
+            }
+        }
+
+        if (existing.size() > line.size()) {
+            toDelete.addAll(existing.subList(line.size(), existing.size()));
+        }
+    }
+
+    private void apply(List<ApprovalStep> toSave, List<ApprovalStep> toDelete) {
+        if (!toDelete.isEmpty()) {
+            approvalStepRepository.deleteAll(toDelete);
+        }
+        if (!toSave.isEmpty()) {
+            approvalStepRepository.saveAll(toSave);
+        }
+    }
+
+    private boolean changed(ApprovalStep row, ApproverStep step, int index) {
+        return row.getStepIndex() != index
+                || row.getStepOrder() != step.order()
+                || !Objects.equals(row.getApproverId(), step.approverId())
+                || !Objects.equals(row.getApproverName(), step.approverName())
+                || row.getDecision() != step.decision()
+                || !Objects.equals(row.getDecidedAt(), step.decidedAt());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillIfEmpty() {
+        if (approvalStepRepository.count() > 0) return;
+
+        long total = 0;
+        int page = 0;
+        Page<ApprovalDocuments> batch;
+        do {
+            batch = approvalDocumentsRepository.findAll(
+                    PageRequest.of(page++, BACKFILL_BATCH_SIZE, Sort.by("docId")));
+            List<ApprovalStep> rows = new ArrayList<>();
+            for (ApprovalDocuments doc : batch.getContent()) {
+                List<ApproverStep> line = doc.getApprovalLine() != null ? doc.getApprovalLine() : List.of();
+                for (int i = 0; i < line.size(); i++) {
+                    ApproverStep step = line.get(i);
+                    rows.add(ApprovalStep.builder()
+                            .docId(doc.getDocId())
+                            .stepIndex(i)
+                            .stepOrder(step.order())
+                            .approverId(step.approverId())
+                            .approverName(step.approverName())
+                            .decision(step.decision())
+                            .decidedAt(step.decidedAt())
+                            .build());
+                }
+            }
+            approvalStepRepository.saveAll(rows);
+            total += rows.size();
+
+            entityManager.flush();
+            entityManager.clear();
+        } while (batch.hasNext());
+
+        if (total > 0) {
+            log.info("✅ 결재선 단계 테이블 백필 완료: {}건", total);
+        }
+    }
+}
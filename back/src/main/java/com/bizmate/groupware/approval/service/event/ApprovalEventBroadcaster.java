@@ -0,0 +1,447 @@
+package com.bizmate.groupware.approval.service.event;
+
+import com.bizmate.groupware.approval.domain.document.ApprovalDocuments;
+import com.bizmate.groupware.approval.domain.document.DocumentStatus;
+import com.bizmate.groupware.approval.domain.policy.ApproverStep;
+import com.bizmate.groupware.approval.dto.approval.ApprovalEventDto;
+import com.bizmate.groupware.approval.service.document.ApprovalParticipantIndexer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ApprovalEventBroadcaster
+ * -------------------------
+ * ✅ 결재함/배지 실시간 알림 (SSE) — /api/approvals/summary 폴링 대체
+ *    - 상신/다음 차례 → 현재 결재자(actionRequired), 중간 승인 → 작성자/처리자
+ *    - 최종 승인/반려 → 작성자 + 결재선 전원
+ *    - 결재선 approverId(사번)는 로그인 username 으로 변환해 채널 키로 사용
+ * ✅ 연결은 비동기 서블릿(SseEmitter)으로 유지 → 대기 중 스레드 점유 없음
+ *    - 실제 전송은 연결별 직렬 큐 + 가상 스레드 (느린 클라이언트가 요청 스레드를 막지 않음)
+ *    - 큐가 가득 차면 연결을 끊음 → 클라이언트 재연결 시 Last-Event-ID 로 보충
+ * ✅ 사용자별 최근 이벤트 보관 (개수/시간 제한) → 재연결 시 놓친 이벤트 재전송,
+ *    보관 범위를 벗어났으면 resync 이벤트 (클라이언트가 summary 1회 재조회)
+ * ✅ 이벤트 ID 는 기동 시각(ms)에서 시작 → 재시작 전 ID 로 재연결하면 resync
+ * ✅ 메트릭: bizmate.approval.events.connections / .sent / .replayed / .resync / .dropped,
+ *    bizmate.approval.poll (stream=open|none), bizmate.approval.poll.avoided (연결 유지 시간 기준 추정치)
+ */
+@Slf4j
+@Component
+public class ApprovalEventBroadcaster {
+
+    public static final String TYPE_SUBMITTED = "SUBMITTED";
+    public static final String TYPE_APPROVED = "APPROVED";
+    public static final String TYPE_FINAL = "FINAL";
+    public static final String TYPE_REJECTED = "REJECTED";
+
+    private static final String EVENT_NAME = "approval";
+    private static final long RECONNECT_MILLIS = 3_000L;
+
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+    private final long startSequence = System.currentTimeMillis();
+    private final AtomicLong sequence = new AtomicLong(startSequence);
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile long prunedUpTo;
+
+    private final MeterRegistry meterRegistry;
+    private final ApprovalParticipantIndexer participantIndexer;
+    private final Counter replayed;
+    private final Counter resynced;
+    private final Counter dropped;
+    private final Counter pollAvoided;
+    private final long timeoutMs;
+    private final int replaySize;
+    private final long replayWindowMs;
+    private final int maxConnectionsPerUser;
+    private final int maxPending;
+    private final long heartbeatMs;
+    private final long assumedPollIntervalMs;
+
+    public ApprovalEventBroadcaster(
+            MeterRegistry meterRegistry,
+            ApprovalParticipantIndexer participantIndexer,
+            @Value("${bizmate.approval.events.timeout-ms:1800000}") long timeoutMs,
+            @Value("${bizmate.approval.events.replay-size:50}") int replaySize,
+            @Value("${bizmate.approval.events.replay-window-ms:300000}") long replayWindowMs,
+            @Value("${bizmate.approval.events.max-connections-per-user:5}") int maxConnectionsPerUser,
+            @Value("${bizmate.approval.events.max-pending:100}") int maxPending,
+            @Value("${bizmate.approval.events.heartbeat-ms:25000}") long heartbeatMs,
+            @Value("${bizmate.approval.events.assumed-poll-interval-ms:30000}") long assumedPollIntervalMs
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.participantIndexer = participantIndexer;
+        this.timeoutMs = timeoutMs;
+        this.replaySize = replaySize;
+        this.replayWindowMs = replayWindowMs;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.maxPending = maxPending;
+        this.heartbeatMs = heartbeatMs;
+        this.assumedPollIntervalMs = assumedPollIntervalMs;
+        this.prunedUpTo = startSequence;
+
+        Gauge.builder("bizmate.approval.events.connections", connectionCount, AtomicInteger::get)
+                .description("결재 SSE 연결 수")
+                .register(meterRegistry);
+        this.replayed = meterRegistry.counter("bizmate.approval.events.replayed");
+        this.resynced = meterRegistry.counter("bizmate.approval.events.resync");
+        this.dropped = meterRegistry.counter("bizmate.approval.events.dropped");
+        this.pollAvoided = Counter.builder("bizmate.approval.poll.avoided")
+                .description("SSE 연결 유지로 생략된 것으로 추정되는 폴링 요청 수")
+                .register(meterRegistry);
+    }
+
+    /* -------------------------------------------------------------
+       연결
+       ------------------------------------------------------------- */
+
+    /**
+     * 구독 시작 (lastEventId = 브라우저 재연결 시 Last-Event-ID 헤더)
+     */
+    public SseEmitter connect(String username, String lastEventId) {
+        SseEmitter emitter = createEmitter(timeoutMs);
+        Long lastId = parseId(lastEventId);
+
+        Channel channel;
+        Connection connection;
+        List<ApprovalEventDto> missed;
+        boolean resync;
+        Connection evicted = null;
+        while (true) {
+            channel = channels.computeIfAbsent(username, this::newChannel);
+            synchronized (channel) {
+                if (channel.removed) continue;
+                connection = new Connection(channel, emitter);
+                channel.connections.add(connection);
+                if (channel.connections.size() > maxConnectionsPerUser) {
+                    evicted = channel.connections.get(0);
+                }
+                resync = lastId != null && lastId < channel.evictedUpTo;
+                missed = lastId == null || resync ? List.of() : channel.since(lastId);
+                break;
+            }
+        }
+        connectionCount.incrementAndGet();
+
+        Channel registered = channel;
+        Connection registeredConnection = connection;
+        emitter.onCompletion(() -> unregister(registered, registeredConnection));
+        emitter.onError(e -> unregister(registered, registeredConnection));
+        emitter.onTimeout(emitter::complete);
+
+        if (evicted != null) {
+            evicted.close();   // 탭을 너무 많이 연 경우 가장 오래된 연결부터 정리
+        }
+
+        connection.enqueue(SseEmitter.event().name("ready").reconnectTime(RECONNECT_MILLIS).data("ok"));
+        if (resync) {
+            resynced.increment();
+            connection.enqueue(SseEmitter.event().name("resync").data("summary"));
+        } else {
+            missed.forEach(connection::send);
+            replayed.increment(missed.size());
+        }
+
+        log.debug("📡 결재 SSE 연결: 사용자={}, lastEventId={}, 재전송 {}건, resync={}",
+                username, lastEventId, missed.size(), resync);
+        return emitter;
+    }
+
+    /**
+     * 목록/요약 폴링 기록 (SSE 연결 중인 사용자의 폴링은 프론트 전환 후 0 에 수렴해야 함)
+     */
+    public void recordPoll(String endpoint, String username) {
+        Channel channel = username != null ? channels.get(username) : null;
+        boolean streaming;
+        if (channel == null) {
+            streaming = false;
+        } else {
+            synchronized (channel) {
+                streaming = !channel.connections.isEmpty();
+            }
+        }
+        meterRegistry.counter("bizmate.approval.poll",
+                "endpoint", endpoint,
+                "stream", streaming ? "open" : "none").increment();
+    }
+
+    /* -------------------------------------------------------------
+       발행
+       ------------------------------------------------------------- */
+
+    /**
+     * 문서 상태 변경 알림 (수신자는 지금 계산, 전송은 커밋 후)
+     */
+    public void publishAfterCommit(ApprovalDocuments doc, String actorUsername, String actorName) {
+        List<ApproverStep> line = doc.getApprovalLine() != null ? doc.getApprovalLine() : List.of();
+        Map<String, Boolean> recipients = new LinkedHashMap<>();   // username → actionRequired
+        // createdBy 는 감사(Auditing) 값 "이름 (username)" 으로 덮이므로 채널 키로 쓸 수 없음
+        String author = doc.getAuthorUser() != null ? doc.getAuthorUser().getUsername() : null;
+        String type;
+
+        switch (doc.getStatus()) {
+            case IN_PROGRESS -> {
+                int idx = doc.getCurrentApproverIndex();
+                type = idx == 0 ? TYPE_SUBMITTED : TYPE_APPROVED;
+                addRecipient(recipients, author, false);
+                addRecipient(recipients, actorUsername, false);
+                String current = idx < line.size() ? approverUsername(line.get(idx)) : null;
+                if (current != null) {
+                    recipients.put(current, true);
+                }
+            }
+            case APPROVED, REJECTED -> {
+                type = doc.getStatus() == DocumentStatus.APPROVED ? TYPE_FINAL : TYPE_REJECTED;
+                addRecipient(recipients, author, false);
+                addRecipient(recipients, actorUsername, false);
+                line.forEach(step -> addRecipient(recipients, approverUsername(step), false));
+            }
+            default -> {
+                return;   // 임시저장/삭제는 결재함 변화 없음
+            }
+        }
+        recipients.remove(null);
+        if (recipients.isEmpty()) return;
+
+        String docId = doc.getDocId();
+        String title = doc.getTitle();
+        String status = doc.getStatus().name();
+        Runnable task = () -> recipients.forEach((username, actionRequired) ->
+                deliver(username, actionRequired ? TYPE_SUBMITTED : type, docId, title, status, actorName, actionRequired));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private void deliver(String username, String type, String docId, String title, String status,
+                         String actorName, boolean actionRequired) {
+        try {
+            ApprovalEventDto event;
+            List<Connection> targets;
+            while (true) {
+                Channel channel = channels.computeIfAbsent(username, this::newChannel);
+                synchronized (channel) {
+                    if (channel.removed) continue;
+                    event = new ApprovalEventDto(sequence.incrementAndGet(), type, docId, title, status,
+                            actorName, actionRequired, LocalDateTime.now());
+                    channel.append(event);
+                    targets = List.copyOf(channel.connections);
+                    break;
+                }
+            }
+            for (Connection connection : targets) {
+                connection.send(event);
+            }
+            meterRegistry.counter("bizmate.approval.events.sent", "type", type).increment(targets.size());
+        } catch (Exception e) {
+            log.warn("⚠️ 결재 SSE 발행 실패: 사용자={}, 문서={}, {}", username, docId, e.getMessage());
+        }
+    }
+
+    /* -------------------------------------------------------------
+       유지 관리
+       ------------------------------------------------------------- */
+
+    /**
+     * 하트비트 (프록시 유휴 타임아웃 방지) + 오래된 이벤트/빈 채널 정리
+     */
+    @Scheduled(fixedRateString = "${bizmate.approval.events.heartbeat-ms:25000}",
+            initialDelayString = "${bizmate.approval.events.heartbeat-ms:25000}")
+    public void heartbeat() {
+        long expireBefore = System.currentTimeMillis() - replayWindowMs;
+        int open = 0;
+
+        for (Channel channel : channels.values()) {
+            List<Connection> targets;
+            synchronized (channel) {
+                channel.trimOlderThan(expireBefore);
+                if (channel.connections.isEmpty() && channel.recent.isEmpty()) {
+                    channel.removed = true;
+                    channels.remove(channel.username, channel);
+                    prunedUpTo = Math.max(prunedUpTo, channel.evictedUpTo);
+                    continue;
+                }
+                targets = List.copyOf(channel.connections);
+            }
+            targets.forEach(c -> c.enqueue(SseEmitter.event().comment("hb")));
+            open += targets.size();
+        }
+
+        if (open > 0 && assumedPollIntervalMs > 0) {
+            pollAvoided.increment(open * (double) heartbeatMs / assumedPollIntervalMs);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Channel channel : channels.values()) {
+            List<Connection> targets;
+            synchronized (channel) {
+                targets = List.copyOf(channel.connections);
+            }
+            targets.forEach(Connection::close);
+        }
+        sender.shutdown();
+    }
+
+    private void unregister(Channel channel, Connection connection) {
+        connection.closed = true;
+        boolean removed;
+        synchronized (channel) {
+            removed = channel.connections.remove(connection);
+        }
+        if (removed) {
+            connectionCount.decrementAndGet();
+        }
+    }
+
+    /** 테스트에서 전송 내용을 가로챌 수 있도록 분리 */
+    SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private Channel newChannel(String username) {
+        return new Channel(username, prunedUpTo);
+    }
+
+    /** SSE 채널은 로그인 username 기준 → 사번과 다른 계정(예: ceo)도 수신하도록 변환, "-" 자리표시는 제외 */
+    private String approverUsername(ApproverStep step) {
+        return participantIndexer.resolveUsername(step.approverId());
+    }
+
+    private static void addRecipient(Map<String, Boolean> recipients, String username, boolean actionRequired) {
+        if (username != null && !username.isBlank()) {
+            recipients.putIfAbsent(username, actionRequired);
+        }
+    }
+
+    private static Long parseId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) return null;
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return 0L;   // 알 수 없는 ID → resync
+        }
+    }
+
+    /* -------------------------------------------------------------
+       내부 구조
+       ------------------------------------------------------------- */
+
+    /** 사용자별 연결 + 최근 이벤트 (this 로 동기화) */
+    private final class Channel {
+        final String username;
+        final List<Connection> connections = new ArrayList<>();
+        final ArrayDeque<Buffered> recent = new ArrayDeque<>();
+        long evictedUpTo;   // 이 ID 이하는 보관하지 않음 → 그보다 오래된 Last-Event-ID 는 resync
+        boolean removed;
+
+        Channel(String username, long evictedUpTo) {
+            this.username = username;
+            this.evictedUpTo = evictedUpTo;
+        }
+
+        void append(ApprovalEventDto event) {
+            recent.addLast(new Buffered(event, System.currentTimeMillis()));
+            while (recent.size() > replaySize) {
+                evictedUpTo = recent.removeFirst().event().id();
+            }
+        }
+
+        void trimOlderThan(long epochMillis) {
+            while (!recent.isEmpty() && recent.peekFirst().at() < epochMillis) {
+                evictedUpTo = recent.removeFirst().event().id();
+            }
+        }
+
+        List<ApprovalEventDto> since(long lastId) {
+            return recent.stream().map(Buffered::event).filter(e -> e.id() > lastId).toList();
+        }
+    }
+
+    private record Buffered(ApprovalEventDto event, long at) {
+    }
+
+    /** 연결 하나 — 전송은 큐에 넣고 가상 스레드가 순서대로 내보냄 */
+    private final class Connection {
+        final Channel channel;
+        final SseEmitter emitter;
+        final Queue<SseEmitter.SseEventBuilder> queue = new ConcurrentLinkedQueue<>();
+        final AtomicInteger pending = new AtomicInteger();
+        volatile boolean closed;
+
+        Connection(Channel channel, SseEmitter emitter) {
+            this.channel = channel;
+            this.emitter = emitter;
+        }
+
+        void send(ApprovalEventDto event) {
+            enqueue(SseEmitter.event()
+                    .id(String.valueOf(event.id()))
+                    .name(EVENT_NAME)
+                    .data(event, MediaType.APPLICATION_JSON));
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed) return;
+            if (pending.get() >= maxPending) {
+                dropped.increment();
+                log.warn("⚠️ 결재 SSE 전송 지연으로 연결 종료 (재연결 시 보충): 사용자={}", channel.username);
+                close();
+                return;
+            }
+            queue.add(event);
+            if (pending.getAndIncrement() == 0) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                SseEmitter.SseEventBuilder event = queue.poll();
+                if (event != null && !closed) {
+                    try {
+                        emitter.send(event);
+                    } catch (Exception e) {
+                        unregister(channel, this);   // 클라이언트 종료 → 컨테이너가 onError/onCompletion 처리
+                    }
+                }
+            } while (pending.decrementAndGet() > 0);
+        }
+
+        void close() {
+            unregister(channel, this);
+            try {
+                emitter.complete();
+            } catch (Exception ignored) {
+                // 이미 종료된 연결
+            }
+        }
+    }
+}
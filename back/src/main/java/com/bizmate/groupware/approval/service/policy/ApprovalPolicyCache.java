@@ -0,0 +1,170 @@
+package com.bizmate.groupware.approval.service.policy;
+
+import com.bizmate.groupware.approval.domain.document.Decision;
+import com.bizmate.groupware.approval.domain.document.DocumentType;
+import com.bizmate.groupware.approval.domain.policy.ApprovalPolicy;
+import com.bizmate.groupware.approval.domain.policy.ApprovalPolicyStep;
+import com.bizmate.groupware.approval.domain.policy.ApproverStep;
+import com.bizmate.groupware.approval.repository.Policy.ApprovalPolicyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * ApprovalPolicyCache
+ * --------------------
+ * ✅ 문서유형별 "활성 결재정책" 불변 스냅샷 (결재자 사번/이름 미리 해석)
+ *    - 임시저장/상신마다 정책 → 단계 → 결재자 지연 로딩 쿼리가 반복되던 것을 메모리 조회로 대체
+ * ✅ ApprovalPolicyService 의 생성/수정/활성화/비활성화/삭제 커밋 후 전체 재구성 → 참조 한 번에 교체
+ * ✅ 다른 서버에서의 변경 / 결재자 이름 변경 대비 주기적 재구성
+ * ✅ 메트릭: bizmate.approval.policy.cache (result=hit|miss), bizmate.approval.policy.cache.rebuild (재구성 시간)
+ */
+@Slf4j
+@Component
+public class ApprovalPolicyCache {
+
+    /** 단계 스냅샷 (approverEmpNo / approverEmpName 은 결재자 미지정 시 null) */
+    public record StepSnapshot(int stepOrder, String deptName, String positionName,
+                               String approverEmpNo, String approverEmpName, String approverName) {
+    }
+
+    /** 정책 스냅샷 (단계는 stepOrder 오름차순) */
+    public record PolicySnapshot(Long policyId, String policyName, DocumentType docType, List<StepSnapshot> steps) {
+
+        /** 자동 결재선 (호출마다 새 목록 → 문서별로 수정해도 스냅샷에 영향 없음) */
+        public List<ApproverStep> toApprovalLine() {
+            return steps.stream()
+                    .map(s -> new ApproverStep(s.stepOrder(), s.approverEmpNo(), s.approverName(),
+                            Decision.PENDING, "", null, null))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private final ApprovalPolicyRepository approvalPolicyRepository;
+    private final TransactionTemplate readOnlyNewTx;
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer rebuildTimer;
+
+    private volatile Map<DocumentType, PolicySnapshot> snapshot;
+
+    public ApprovalPolicyCache(ApprovalPolicyRepository approvalPolicyRepository,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.approvalPolicyRepository = approvalPolicyRepository;
+        this.readOnlyNewTx = new TransactionTemplate(transactionManager);
+        this.readOnlyNewTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyNewTx.setReadOnly(true);
+        this.hits = Counter.builder("bizmate.approval.policy.cache")
+                .description("결재정책 캐시 조회")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("bizmate.approval.policy.cache")
+                .description("결재정책 캐시 조회")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.rebuildTimer = Timer.builder("bizmate.approval.policy.cache.rebuild")
+                .description("결재정책 캐시 재구성 시간")
+                .register(meterRegistry);
+        Gauge.builder("bizmate.approval.policy.cache.size", this, c -> {
+                    Map<DocumentType, PolicySnapshot> current = c.snapshot;
+                    return current != null ? current.size() : 0;
+                })
+                .description("캐시된 활성 결재정책 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 문서유형의 활성 정책 스냅샷
+     * - 스냅샷이 없으면 (기동 직후 / 재구성 실패) 그 자리에서 재구성 → miss
+     */
+    public Optional<PolicySnapshot> find(DocumentType docType) {
+        Map<DocumentType, PolicySnapshot> current = snapshot;
+        if (current != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            current = rebuild();
+        }
+        return Optional.ofNullable(docType != null ? current.get(docType) : null);
+    }
+
+    /** 정책 변경 트랜잭션 커밋 후 재구성 (트랜잭션 밖이면 즉시) */
+    public void rebuildAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh();
+                }
+            });
+        } else {
+            refresh();
+        }
+    }
+
+    /** 주기적 재구성 (다른 서버에서 변경된 정책 / 결재자 이름 변경 반영) */
+    @Scheduled(fixedDelayString = "${bizmate.approval.policy-cache.refresh-ms:600000}")
+    public void refresh() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // 실패 시 스냅샷을 비워 다음 조회에서 다시 읽도록
+            snapshot = null;
+            log.warn("⚠️ 결재정책 캐시 재구성 실패 (다음 조회 시 재시도): {}", e.getMessage());
+        }
+    }
+
+    private synchronized Map<DocumentType, PolicySnapshot> rebuild() {
+        return rebuildTimer.record(() -> {
+            List<ApprovalPolicy> policies = readOnlyNewTx.execute(status -> approvalPolicyRepository.findAllActiveWithSteps());
+
+            Map<DocumentType, PolicySnapshot> next = new EnumMap<>(DocumentType.class);
+            for (ApprovalPolicy policy : policies != null ? policies : List.<ApprovalPolicy>of()) {
+                PolicySnapshot previous = next.get(policy.getDocType());
+                if (previous != null) {
+                    // 같은 문서유형에 활성 정책이 여러 개면 최근 등록된 정책 사용
+                    log.warn("⚠️ [{}] 활성 결재정책 중복: {} / {} → 최근 정책 사용",
+                            policy.getDocType(), previous.policyId(), policy.getId());
+                    if (previous.policyId() > policy.getId()) continue;
+                }
+                next.put(policy.getDocType(), toSnapshot(policy));
+            }
+
+            Map<DocumentType, PolicySnapshot> built = Collections.unmodifiableMap(next);
+            snapshot = built;
+            log.info("📋 결재정책 캐시 재구성: 활성 정책 {}건", built.size());
+            return built;
+        });
+    }
+
+    private static PolicySnapshot toSnapshot(ApprovalPolicy policy) {
+        List<StepSnapshot> steps = policy.getSteps().stream()
+                .sorted(Comparator.comparingInt(ApprovalPolicyStep::getStepOrder))
+                .map(s -> new StepSnapshot(
+                        s.getStepOrder(),
+                        s.getDeptName(),
+                        s.getPositionName(),
+                        s.getApprover() != null ? s.getApprover().getEmpNo() : null,
+                        s.getApprover() != null ? s.getApprover().getEmpName() : null,
+                        // ✅ 정책에 저장된 결재자명 우선, 없으면 사원명, 둘 다 없으면 "-"
+                        s.getApproverName() != null
+                                ? s.getApproverName()
+                                : (s.getApprover() != null ? s.getApprover().getEmpName() : "-")
+                ))
+                .toList();
+        return new PolicySnapshot(policy.getId(), policy.getPolicyName(), policy.getDocType(), steps);
+    }
+}
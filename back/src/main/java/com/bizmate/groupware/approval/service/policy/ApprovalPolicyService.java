@@ -31,6 +31,7 @@ public class ApprovalPolicyService {
 
     private final ApprovalPolicyRepository approvalPolicyRepository;
     private final ApprovalPolicyMapper approvalPolicyMapper;
+    private final ApprovalPolicyCache approvalPolicyCache;
 
     /**
      * ✅ 결재 정책 생성
@@ -56,6 +57,7 @@ public class ApprovalPolicyService {
         // 3️⃣ 저장
         ApprovalPolicy saved = approvalPolicyRepository.save(policy);
         log.info("✅ 결재 정책 저장 완료: {} (ID={})", saved.getPolicyName(), saved.getId());
+        approvalPolicyCache.rebuildAfterCommit();
 
         return toResponse(saved);
     }
@@ -79,6 +81,7 @@ public class ApprovalPolicyService {
         ApprovalPolicy policy = approvalPolicyRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("해당 정책이 존재하지 않습니다."));
         policy.setActive(false);
+        approvalPolicyCache.rebuildAfterCommit();
     }
 
     @Transactional
@@ -102,6 +105,7 @@ public class ApprovalPolicyService {
         // 4️⃣ 저장
         ApprovalPolicy updated = approvalPolicyRepository.save(policy);
         log.info("✅ 결재 정책 수정 완료: {} (ID={})", updated.getPolicyName(), updated.getId());
+        approvalPolicyCache.rebuildAfterCommit();
 
         return toResponse(updated);
     }
@@ -112,6 +116,7 @@ public class ApprovalPolicyService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 정책이 존재하지 않습니다."));
         policy.setActive(true);
         log.info("✅ 결재정책 활성화: {} ({})", policy.getPolicyName(), policy.getDocType());
+        approvalPolicyCache.rebuildAfterCommit();
     }
 
     @Transactional
@@ -120,6 +125,7 @@ public class ApprovalPolicyService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 정책이 존재하지 않습니다."));
         approvalPolicyRepository.delete(policy);
         log.warn("🗑️ 결재정책 삭제 완료: {} ({})", policy.getPolicyName(), policy.getDocType());
+        approvalPolicyCache.rebuildAfterCommit();
     }
 
     /**
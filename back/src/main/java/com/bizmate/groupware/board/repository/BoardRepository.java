@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -57,6 +58,38 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
             Pageable pageable
     );
 
+    /**
+     * 커서 모드 목록 (공지 우선 → 작성일 → 번호 내림차순 seek, count 없음)
+     * - 첫 페이지는 rank = -1
+     */
+    @Query("""
+            SELECT b
+            FROM Board b
+            WHERE b.isDeleted = false
+              AND (:boardType IS NULL OR b.boardType = :boardType)
+              AND (
+                   CASE WHEN b.boardType = com.bizmate.groupware.board.domain.BoardType.NOTICE THEN 0 ELSE 1 END > :rank
+                OR ( CASE WHEN b.boardType = com.bizmate.groupware.board.domain.BoardType.NOTICE THEN 0 ELSE 1 END = :rank
+                     AND ( b.createdAt < :createdAt
+                        OR (b.createdAt = :createdAt AND b.boardNo < :boardNo) ) )
+              )
+            ORDER BY
+              CASE WHEN b.boardType = com.bizmate.groupware.board.domain.BoardType.NOTICE THEN 0 ELSE 1 END,
+              b.createdAt DESC,
+              b.boardNo DESC
+            """)
+    List<Board> findActiveAfter(
+            @Param("boardType") BoardType boardType,
+            @Param("rank") int rank,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("boardNo") Long boardNo,
+            Pageable pageable
+    );
+
     @Query("SELECT b FROM Board b WHERE (:keyword IS NULL OR b.title LIKE %:keyword% OR b.content LIKE %:keyword%)")
     Page<Board> findAllByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    /** 검색 색인 재구축용: 게시글번호, 수정시각, 삭제여부 (본문 LOB 미조회) */
+    @Query("SELECT b.boardNo, b.updatedAt, b.isDeleted FROM Board b")
+    List<Object[]> findSearchStamps();
 }
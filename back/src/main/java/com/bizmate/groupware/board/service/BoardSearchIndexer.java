@@ -0,0 +1,149 @@
+package com.bizmate.groupware.board.service;
+
+import com.bizmate.common.search.AbstractSearchIndexer;
+import com.bizmate.common.search.InvertedIndex;
+import com.bizmate.groupware.board.domain.Board;
+import com.bizmate.groupware.board.domain.BoardType;
+import com.bizmate.groupware.board.repository.BoardRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * BoardSearchIndexer
+ * -------------------
+ * ✅ 게시글 검색 색인 (제목 ×3, 본문 ×1, 작성자명 ×2)
+ * ✅ 등록/수정/논리삭제 시 커밋 후 색인 갱신, 물리삭제 시 제거
+ * ✅ 익명게시판(SUGGESTION)은 작성자명을 색인하지 않음 (작성자 검색으로 익명 작성자가 드러나지 않도록)
+ * ✅ 정렬: 공지 우선 → 점수 → 최신 작성순 (기존 목록 정렬과 동일한 공지 우선)
+ */
+@Component
+public class BoardSearchIndexer extends AbstractSearchIndexer {
+
+    private static final int FIELD_TITLE = 0;
+    private static final int FIELD_CONTENT = 1;
+    private static final int FIELD_AUTHOR = 2;
+
+    private static final String ATTR_BOARD_TYPE = "boardType";
+    private static final String ATTR_DELETED = "deleted";
+
+    private static final Comparator<InvertedIndex.Hit> NOTICE_FIRST =
+            Comparator.<InvertedIndex.Hit>comparingInt(
+                            h -> BoardType.NOTICE.name().equals(h.attrs().get(ATTR_BOARD_TYPE)) ? 0 : 1)
+                    .thenComparing(InvertedIndex.BY_SCORE);
+
+    private final BoardRepository boardRepository;
+
+    public BoardSearchIndexer(
+            BoardRepository boardRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${bizmate.search.index-dir:data/search-index}") String indexDir
+    ) {
+        super("board", new double[]{3.0, 1.0, 2.0}, indexDir, transactionManager, meterRegistry);
+        this.boardRepository = boardRepository;
+    }
+
+    /** 등록/수정/논리삭제 반영 (수정시각은 flush 시 감사 필드가 채워질 수 있어 커밋 후 읽음) */
+    public void index(Board board) {
+        String[] fields = fieldsOf(board);
+        Map<String, String> attrs = attrsOf(board);
+        afterCommit(() -> index.put(String.valueOf(board.getBoardNo()), fields, attrs,
+                stampOf(board.getUpdatedAt(), board.isDeleted()), sortKeyOf(board.getCreatedAt())));
+    }
+
+    /** 물리삭제 반영 */
+    public void remove(Long boardNo) {
+        afterCommit(() -> index.remove(String.valueOf(boardNo)));
+    }
+
+    /**
+     * 키워드 검색 → 게시글번호 페이지
+     *
+     * @param searchType     TITLE | CONTENT | AUTHOR(AUTHORNAME) | ALL(null)
+     * @param boardType      게시판 종류 (null = 전체)
+     * @param includeDeleted 관리자 목록은 삭제글 포함
+     */
+    public Page<Long> search(String keyword, String searchType, BoardType boardType,
+                             boolean includeDeleted, Pageable pageable) {
+        Predicate<Map<String, String>> filter = attrs ->
+                (includeDeleted || !"true".equals(attrs.get(ATTR_DELETED)))
+                        && (boardType == null || boardType.name().equals(attrs.get(ATTR_BOARD_TYPE)));
+
+        InvertedIndex.Result result = timed("index", () -> index.search(
+                keyword, fieldOf(searchType), filter, NOTICE_FIRST,
+                (int) pageable.getOffset(), pageable.getPageSize()));
+
+        List<Long> boardNos = result.hits().stream().map(h -> Long.valueOf(h.key())).toList();
+        return new PageImpl<>(boardNos, pageable, result.total());
+    }
+
+    /* -------------------------------------------------------------
+       재색인
+       ------------------------------------------------------------- */
+
+    @Override
+    protected Map<String, String> loadStamps() {
+        Map<String, String> stamps = new HashMap<>();
+        for (Object[] row : boardRepository.findSearchStamps()) {
+            stamps.put(String.valueOf(row[0]), stampOf((LocalDateTime) row[1], (Boolean) row[2]));
+        }
+        return stamps;
+    }
+
+    @Override
+    protected void indexKeys(List<String> keys) {
+        for (Board board : boardRepository.findAllById(keys.stream().map(Long::valueOf).toList())) {
+            index.put(String.valueOf(board.getBoardNo()), fieldsOf(board), attrsOf(board),
+                    stampOf(board.getUpdatedAt(), board.isDeleted()), sortKeyOf(board.getCreatedAt()));
+        }
+    }
+
+    private static int fieldOf(String searchType) {
+        if (searchType == null) return -1;
+        return switch (searchType.toUpperCase()) {
+            case "TITLE" -> FIELD_TITLE;
+            case "CONTENT" -> FIELD_CONTENT;
+            case "AUTHOR", "AUTHORNAME" -> FIELD_AUTHOR;
+            default -> -1;
+        };
+    }
+
+    private static String[] fieldsOf(Board board) {
+        String[] fields = new String[3];
+        fields[FIELD_TITLE] = board.getTitle() != null ? board.getTitle() : "";
+        fields[FIELD_CONTENT] = board.getContent() != null ? board.getContent() : "";
+        fields[FIELD_AUTHOR] = board.getBoardType() != BoardType.SUGGESTION && board.getAuthorName() != null
+                ? board.getAuthorName()
+                : "";
+        return fields;
+    }
+
+    private static Map<String, String> attrsOf(Board board) {
+        return Map.of(
+                ATTR_BOARD_TYPE, board.getBoardType() != null ? board.getBoardType().name() : "",
+                ATTR_DELETED, String.valueOf(board.isDeleted())
+        );
+    }
+
+    /** 수정시각(ms) + 삭제여부 — DB 의 시각 정밀도 차이로 재색인되지 않도록 ms 단위로 비교 */
+    private static String stampOf(LocalDateTime updatedAt, Boolean deleted) {
+        return sortKeyOf(updatedAt) + "|" + Boolean.TRUE.equals(deleted);
+    }
+
+    private static long sortKeyOf(LocalDateTime time) {
+        return time != null ? time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+    }
+}
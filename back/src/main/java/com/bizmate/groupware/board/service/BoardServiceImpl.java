@@ -2,6 +2,7 @@ package com.bizmate.groupware.board.service;
 
 import com.bizmate.common.exception.ForbiddenOperationException;
 import com.bizmate.common.exception.VerificationFailedException;
+import com.bizmate.common.page.PageCursor;
 import com.bizmate.common.page.PageRequestDTO;
 import com.bizmate.common.page.PageResponseDTO;
 import com.bizmate.groupware.board.domain.Board;
@@ -15,6 +16,7 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -22,6 +24,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -31,6 +36,7 @@ public class BoardServiceImpl implements BoardService {
 
     private final BoardRepository boardRepository;
     private final CommentRepository commentRepository;
+    private final BoardSearchIndexer searchIndexer;
 
     //게시글 등록
     @Override
@@ -53,6 +59,7 @@ public class BoardServiceImpl implements BoardService {
         board.markCreated(user);
 
         Board saved = boardRepository.saveAndFlush(board);
+        searchIndexer.index(saved);
 
         // ✅ 응답에서는 사용자 권한에 따라 익명/실명 처리
         return toDtoForUser(saved, user);
@@ -76,15 +83,18 @@ public class BoardServiceImpl implements BoardService {
                 throw new ForbiddenOperationException("본인 글만 삭제 가능합니다.");
             }
             board.setDeleted(true);
+            searchIndexer.index(board);
             return;
         }
 
         // 관리자면: 논리삭제 시 isDeleted=true면 물리삭제
         if (board.isDeleted()) {
             boardRepository.delete(board);  // 물리삭제
+            searchIndexer.remove(boardNo);
         } else {
             board.markUpdated(currentUser);
             board.setDeleted(true);         // 논리삭제 1단계
+            searchIndexer.index(board);
         }
     }
 
@@ -166,6 +176,7 @@ public class BoardServiceImpl implements BoardService {
         board.setTitle(dto.getTitle());
         board.setContent(dto.getContent());
         board.markUpdated(user);
+        searchIndexer.index(board);
 
         return toDto(board);
     }
@@ -190,12 +201,37 @@ public class BoardServiceImpl implements BoardService {
             }
         }
 
-        Page<Board> result = boardRepository.findActiveByKeyword(
-                emptyToNull(req.getKeyword()),
-                bt,                                  // ← 보정된 Enum 사용!
-                emptyToAll(req.getSearchType()),
-                pageable
-        );
+        // ✅ 키워드 검색 + 검색 색인 준비 완료 → 색인에서 게시글번호 페이지, 아니면 기존 LIKE 검색
+        Page<Board> result;
+        String keyword = emptyToNull(req.getKeyword());
+
+        // ✅ 커서 모드 (검색어 없는 목록만, 검색 결과는 점수순 OFFSET 유지)
+        if (req.isCursorMode() && keyword == null) {
+            String[] keys = PageCursor.decode(req.getCursor(), 3);
+            List<Board> rows = boardRepository.findActiveAfter(
+                    bt,
+                    (int) PageCursor.longOf(keys, 0, -1L),
+                    PageCursor.timeOf(keys, 1),
+                    PageCursor.longOf(keys, 2, Long.MAX_VALUE),
+                    PageRequest.of(0, req.cursorLimit()));
+            return PageResponseDTO.ofCursor(rows, req,
+                    b -> PageCursor.encode(isNotice(b) ? 0 : 1, b.getCreatedAt(), b.getBoardNo()),
+                    b -> toDtoForUser(b, user));
+        }
+
+        if (keyword != null && searchIndexer.isReady()) {
+            result = loadBoardPage(searchIndexer.search(keyword, emptyToAll(req.getSearchType()), bt, false, pageable));
+        } else {
+            BoardType boardType = bt;
+            result = keyword == null
+                    ? boardRepository.findActiveByKeyword(null, boardType, emptyToAll(req.getSearchType()), pageable)
+                    : searchIndexer.timed("like", () -> boardRepository.findActiveByKeyword(
+                            keyword,
+                            boardType,                           // ← 보정된 Enum 사용!
+                            emptyToAll(req.getSearchType()),
+                            pageable
+                    ));
+        }
 
         List<BoardDto> dtoList = result.getContent().stream()
                 .map(b -> toDtoForUser(b, user))
@@ -221,7 +257,15 @@ public class BoardServiceImpl implements BoardService {
                 Sort.by(Sort.Direction.DESC, "createdAt")
         );
 
-        Page<Board> result = boardRepository.findAllByKeyword(pageRequestDTO.getKeyword(), pageable);
+        String keyword = emptyToNull(pageRequestDTO.getKeyword());
+        Page<Board> result;
+        if (keyword != null && searchIndexer.isReady()) {
+            result = loadBoardPage(searchIndexer.search(keyword, "ALL", null, true, pageable));
+        } else if (keyword != null) {
+            result = searchIndexer.timed("like", () -> boardRepository.findAllByKeyword(keyword, pageable));
+        } else {
+            result = boardRepository.findAllByKeyword(pageRequestDTO.getKeyword(), pageable);
+        }
 
         List<BoardDto> dtoList = result.getContent().stream()
                 .map(BoardDto::fromEntity)
@@ -234,6 +278,19 @@ public class BoardServiceImpl implements BoardService {
                 .build();
     }
 
+    /**
+     * 검색 색인의 게시글번호 페이지 → 현재 페이지 게시글만 조회 후 색인 순서대로 정렬
+     */
+    private Page<Board> loadBoardPage(Page<Long> boardNoPage) {
+        Map<Long, Board> byNo = boardRepository.findAllById(boardNoPage.getContent()).stream()
+                .collect(Collectors.toMap(Board::getBoardNo, b -> b));
+        List<Board> boards = boardNoPage.getContent().stream()
+                .map(byNo::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(boards, boardNoPage.getPageable(), boardNoPage.getTotalElements());
+    }
+
     // 권한/작성자 판단 공통 유틸  (NPE 방지)
     private boolean isAdmin(UserPrincipal user) {
         if (user == null || user.getAuthorities() == null) return false;
@@ -5,6 +5,7 @@ import com.bizmate.hr.security.handler.APILoginFailHandler;
 import com.bizmate.hr.security.handler.APILoginSuccessHandler;
 import com.bizmate.hr.security.handler.CustomAccessDeniedHandler;
 import com.bizmate.hr.security.handler.CustomAuthenticationEntryPoint;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -95,6 +96,9 @@ public class CustomSecurityConfig {
                         ).permitAll()
 
 
+                        // SSE 등 비동기 응답 재디스패치 (최초 요청에서 이미 인가됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         .requestMatchers("/api/employees/me").authenticated()
                         // OPTIONS 메서드 허용 (CORS)
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
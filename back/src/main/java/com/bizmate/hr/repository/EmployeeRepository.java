@@ -28,6 +28,10 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
     long countByDepartment_DeptCode(String deptCode);
 
+    // 부서별 최대 사번 (사번 발급 구간 최초 생성 시 이어받기용)
+    @Query("SELECT MAX(e.empNo) FROM Employee e WHERE e.department.deptCode = :deptCode")
+    Optional<String> findMaxEmpNoByDeptCode(@Param("deptCode") String deptCode);
+
     @Query("SELECT e FROM Employee e LEFT JOIN FETCH e.department LEFT JOIN FETCH e.position WHERE e.empId = :empId")
     Optional<Employee> findEmployeeDetailById(@Param("empId") Long empId);
 
@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
@@ -52,6 +54,11 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
      */
     Optional<UserEntity> findByUsername(String username);
 
+    /**
+     * ✅ username 목록 일괄 조회 (일괄 결재 알림 수신자 조회용)
+     */
+    List<UserEntity> findByUsernameIn(Collection<String> usernames);
+
     /**
      * ✅ 5️⃣ username 존재 여부 (중복체크)
      */
@@ -63,4 +70,10 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     boolean existsByEmailIgnoreCase(String email);
 
     Optional<UserEntity> findByEmpName(String empName);
+
+    /**
+     * ✅ 7️⃣ 사번(empNo) 기반 조회
+     *  - 결재선 approverId(사번)와 로그인 ID가 다른 계정(예: ceo) 매핑용
+     */
+    Optional<UserEntity> findByEmployee_EmpNo(String empNo);
 }
@@ -31,6 +31,8 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JWTCheckFilter extends OncePerRequestFilter {
 
+    private static final String SSE_URI = "/api/approvals/events";
+
     private final JWTProvider jwtProvider;
 
     @Override
@@ -58,15 +60,18 @@ public class JWTCheckFilter extends OncePerRequestFilter {
 
         log.info("🧭 JWTCheckFilter 요청 URI: {}", request.getRequestURI());
         String header = request.getHeader("Authorization");
-
-        if (header == null || !header.startsWith("Bearer ")) {
+        String token;
+
+        if (header != null && header.startsWith("Bearer ")) {
+            token = header.substring(7); // “Bearer “ 제거
+        } else if (uri.equals(SSE_URI) && request.getParameter("access_token") != null) {
+            // ✅ EventSource 는 헤더를 지정할 수 없으므로 SSE 구독만 쿼리 파라미터 토큰 허용
+            token = request.getParameter("access_token");
+        } else {
             filterChain.doFilter(request, response);
             return;
         }
 
-
-        String token = header.substring(7); // “Bearer “ 제거
-
         try {
             if (jwtProvider.validateToken(token)) {
                 Authentication authentication = jwtProvider.getAuthentication(token);
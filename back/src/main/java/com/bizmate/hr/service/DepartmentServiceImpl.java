@@ -1,5 +1,6 @@
 package com.bizmate.hr.service;
 
+import com.bizmate.common.concurrent.SingleFlight;
 import com.bizmate.hr.domain.Department;
 import com.bizmate.hr.domain.Employee;
 import com.bizmate.hr.dto.department.*;
@@ -25,11 +26,18 @@ public class DepartmentServiceImpl implements DepartmentService {
 
     private final DepartmentRepository departmentRepository;
     private final EmployeeRepository employeeRepository;
+    private final SingleFlight singleFlight;
 
     /** 📊 부서현황 조회 */
     @Override
     @Transactional(readOnly = true)
     public List<DepartmentOverviewDTO> getDepartmentOverview() {
+        // 동시 조회는 한 번만 집계 (부서 × 소속 직원 전체 로딩)
+        // (쓰기 버전 없음 → 부서/직원 변경 직후 호출이 변경 전에 시작된 집계 결과를 받을 수 있음, 다음 조회부터 반영)
+        return singleFlight.execute("department-overview", "all", this::loadDepartmentOverview);
+    }
+
+    private List<DepartmentOverviewDTO> loadDepartmentOverview() {
         List<Department> departments = departmentRepository.findAllByOrderByDeptCodeAsc();
 
         return departments.stream().map(dept -> {
@@ -1,5 +1,7 @@
 package com.bizmate.hr.service;
 
+import com.bizmate.common.concurrent.SingleFlight;
+import com.bizmate.common.sequence.BusinessKeyAllocator;
 import com.bizmate.hr.domain.Department;
 import com.bizmate.hr.domain.Employee;
 import com.bizmate.hr.domain.UserEntity;
@@ -31,6 +33,8 @@ public class EmployeeServiceImpl implements EmployeeService {
     private final GradeRepository gradeRepository;
     private final UserService userService;
     private final UserRepository userRepository;
+    private final BusinessKeyAllocator keyAllocator;
+    private final SingleFlight singleFlight;
 
 
 
@@ -74,7 +78,7 @@ public class EmployeeServiceImpl implements EmployeeService {
         Department dept = departmentRepository.findByDeptCode(dto.getDeptCode())
                 .orElseThrow(() -> new EntityNotFoundException("부서를 찾을 수 없습니다."));
 
-        String empNo = generateEmpNo(dto.getDeptCode());  // 자동 생성
+        String empNo = allocateEmpNo(dto.getDeptCode());  // 자동 생성 (KEY_SEGMENT 발급)
 
         // 🔹 FK 엔티티 조회
         Department department = departmentRepository.findByDeptCode(dto.getDeptCode())
@@ -206,19 +210,27 @@ public class EmployeeServiceImpl implements EmployeeService {
 
 
     @Override
+    @Transactional(readOnly = true)
     public List<EmployeeStatisticDTO> getAgeStatistics() {
-        List<Object[]> result = employeeRepository.getAgeStatistics();
-        return result.stream()
-                .map(r -> new EmployeeStatisticDTO((String) r[0], ((Number) r[1]).longValue()))
-                .collect(Collectors.toList());
+        // 대시보드 동시 조회는 한 번만 집계
+        // (쓰기 버전 없음 → 직원 변경 직후 호출이 변경 전에 시작된 집계 결과를 받을 수 있음, 다음 조회부터 반영)
+        return singleFlight.execute("employee-age-statistics", "all", () -> {
+            List<Object[]> result = employeeRepository.getAgeStatistics();
+            return result.stream()
+                    .map(r -> new EmployeeStatisticDTO((String) r[0], ((Number) r[1]).longValue()))
+                    .collect(Collectors.toList());
+        });
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<EmployeeStatisticDTO> getGradeStatistics() {
-        List<Object[]> result = employeeRepository.getGradeStatistics();
-        return result.stream()
-                .map(r -> new EmployeeStatisticDTO((String) r[0], ((Number) r[1]).longValue()))
-                .collect(Collectors.toList());
+        return singleFlight.execute("employee-grade-statistics", "all", () -> {
+            List<Object[]> result = employeeRepository.getGradeStatistics();
+            return result.stream()
+                    .map(r -> new EmployeeStatisticDTO((String) r[0], ((Number) r[1]).longValue()))
+                    .collect(Collectors.toList());
+        });
     }
 
     @Override
@@ -277,15 +289,37 @@ public class EmployeeServiceImpl implements EmployeeService {
     @Override
     @Transactional(readOnly = true)
     public String generateEmpNo(String deptCode) {
+        // 미리보기용 (번호를 예약하지 않음)
         Department dept = departmentRepository.findByDeptCode(deptCode)
                 .orElseThrow(() -> new EntityNotFoundException("부서 ID " + deptCode + "를 찾을 수 없습니다."));
 
-        String companyCode = "50"; // 고정
-        String Code = dept.getDeptCode(); // 예: "31"
-        long count = employeeRepository.countByDepartment_DeptCode(Code);
-        String sequence = String.format("%03d", count + 1);
+        long next = currentMaxEmpSequence(dept.getDeptCode()) + 1;
+        return formatEmpNo(dept.getDeptCode(), next);
+    }
+
+    /**
+     * 실제 등록용 사번 발급
+     * - BusinessKeyAllocator(구간 크기 1) → 동시 등록/다중 서버에서도 중복 없음
+     * - 발급은 별도 트랜잭션(REQUIRES_NEW)에서 커밋되므로 등록이 롤백되면 해당 번호는 소진됨 (사번 공백 가능)
+     */
+    private String allocateEmpNo(String deptCode) {
+        Department dept = departmentRepository.findByDeptCode(deptCode)
+                .orElseThrow(() -> new EntityNotFoundException("부서 ID " + deptCode + "를 찾을 수 없습니다."));
 
-        return companyCode + Code + sequence; // 예: 5031001
+        String code = dept.getDeptCode(); // 예: "31"
+        long next = keyAllocator.next("EMP-" + code, null, 1, () -> currentMaxEmpSequence(code));
+        return formatEmpNo(code, next);
+    }
+
+    private long currentMaxEmpSequence(String deptCode) {
+        return employeeRepository.findMaxEmpNoByDeptCode(deptCode)
+                .map(maxNo -> BusinessKeyAllocator.parseSequence(maxNo, 3))
+                .orElse(0L);
+    }
+
+    private String formatEmpNo(String deptCode, long sequence) {
+        String companyCode = "50"; // 고정
+        return companyCode + deptCode + String.format("%03d", sequence); // 예: 5031001
     }
 
     @Profile("test")
@@ -1,25 +1,43 @@
 package com.bizmate.hr.util;
 
+import com.bizmate.common.pdf.PdfFontRegistry;
+import com.bizmate.common.pdf.PdfRenderPool;
 import com.bizmate.hr.domain.Employee;
 
 import com.itextpdf.text.Document;
 import com.itextpdf.text.*;
 import com.itextpdf.text.pdf.BaseFont;
 import com.itextpdf.text.pdf.PdfWriter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayOutputStream;
-import java.io.InputStream;
 import java.time.LocalDate;
 
 
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class PdfGenerator {
 
+    private final PdfFontRegistry fontRegistry;
+    private final PdfRenderPool renderPool;
+
     public byte[] createEmploymentCertificate(Employee emp) {
+        // 지연 로딩 필드(부서/직책)는 호출 스레드에서 미리 읽어 둠 → 렌더링은 작업 풀에서
+        String empName = safe(emp.getEmpName());
+        String deptName = safe(emp.getDepartment().getDeptName());
+        String positionName = safe(emp.getPosition().getPositionName());
+        String startDate = safe(emp.getStartDate() != null ? emp.getStartDate().toString() : null);
+        String email = safe(emp.getEmail());
+
+        return renderPool.render("certificate",
+                () -> renderEmploymentCertificate(empName, deptName, positionName, startDate, email));
+    }
+
+    private byte[] renderEmploymentCertificate(String empName, String deptName, String positionName,
+                                               String startDate, String email) {
         try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
 
             //문서객체생성
@@ -27,26 +45,8 @@ public class PdfGenerator {
             PdfWriter.getInstance(document, out);
             document.open();
 
-            // [수정 후]
-            // 1. resources/fonts/malgun.ttf 경로의 폰트 리소스를 가져옵니다.
-            ClassPathResource resource = new ClassPathResource("fonts/NotoSansKR-Regular.ttf");
-
-            // 2. 폰트 리소스를 byte 배열로 읽어옵니다.
-            byte[] fontBytes;
-            try (InputStream is = resource.getInputStream()) {
-                fontBytes = is.readAllBytes(); // Java 9+
-            }
-
-            // 3. 폰트 바이트 배열을 사용하여 BaseFont 객체 생성
-            // "malgun.ttf"는 폰트 식별 이름이며, 마지막 인자(pfb)는 null로 설정합니다.
-            BaseFont baseFont = BaseFont.createFont(
-                    "malgun.ttf",
-                    BaseFont.IDENTITY_H,
-                    BaseFont.EMBEDDED,
-                    false, // (cached)
-                    fontBytes, // (ttfAfm)
-                    null // (pfb)
-            );
+            // 공유 BaseFont (폰트 파일은 서버 기동 후 최초 1회만 읽음)
+            BaseFont baseFont = fontRegistry.notoSansKrBaseFont();
 
             Font titleFont = new Font(baseFont, 20, Font.BOLD);
             Font bodyFont = new Font(baseFont, 12);
@@ -59,11 +59,11 @@ public class PdfGenerator {
 
             document.add(new Paragraph("\n\n이하 직원의 재직사항을 증명합니다.\n\n", bodyFont));
 
-            document.add(new Paragraph("성명 : " + safe(emp.getEmpName()), bodyFont));
-            document.add(new Paragraph("부서 : " + safe(emp.getDepartment().getDeptName()), bodyFont));
-            document.add(new Paragraph("직책 : " + safe(emp.getPosition().getPositionName()), bodyFont));
-            document.add(new Paragraph("입사일 : " + safe(emp.getStartDate() != null ? emp.getStartDate().toString() : null), bodyFont));
-            document.add(new Paragraph("이메일 : " + safe(emp.getEmail()), bodyFont));
+            document.add(new Paragraph("성명 : " + empName, bodyFont));
+            document.add(new Paragraph("부서 : " + deptName, bodyFont));
+            document.add(new Paragraph("직책 : " + positionName, bodyFont));
+            document.add(new Paragraph("입사일 : " + startDate, bodyFont));
+            document.add(new Paragraph("이메일 : " + email, bodyFont));
 
 
             document.add(new Paragraph("\n\n발급일: " + LocalDate.now(), bodyFont));
@@ -75,7 +75,7 @@ public class PdfGenerator {
 
             document.close();
 
-            log.info("✅ 재직증명서 PDF 생성 완료: {}", emp.getEmpName());
+            log.info("✅ 재직증명서 PDF 생성 완료: {}", empName);
             return out.toByteArray();
 
         } catch (Exception e) {
@@ -25,4 +25,15 @@ public interface ClientRepository extends JpaRepository<Client, Long>, EnversRev
     Page<Client> findByClientContactContaining(String clientContact, Pageable pageable);
     Page<Client> findByUserIdContaining(String userId, Pageable pageable);
 
+    // 커서 모드 (clientNo 내림차순 seek, count 없음)
+    List<Client> findByClientNoLessThanOrderByClientNoDesc(Long clientNo, Pageable pageable);
+    List<Client> findByClientIdContainingAndClientNoLessThanOrderByClientNoDesc(String clientId, Long clientNo, Pageable pageable);
+    List<Client> findByClientCompanyContainingAndClientNoLessThanOrderByClientNoDesc(String clientCompany, Long clientNo, Pageable pageable);
+    List<Client> findByClientCeoContainingAndClientNoLessThanOrderByClientNoDesc(String clientCeo, Long clientNo, Pageable pageable);
+    List<Client> findByClientContactContainingAndClientNoLessThanOrderByClientNoDesc(String clientContact, Long clientNo, Pageable pageable);
+    List<Client> findByUserIdContainingAndClientNoLessThanOrderByClientNoDesc(String userId, Long clientNo, Pageable pageable);
+
+
+    // 사업자등록증 파일 이관 작업용 (clientNo 순)
+    List<Client> findByBusinessLicenseFileIsNotNullAndClientNoGreaterThanOrderByClientNoAsc(Long clientNo, Pageable pageable);
 }
@@ -1,5 +1,6 @@
 package com.bizmate.salesPages.client.service;
 
+import com.bizmate.common.page.PageCursor;
 import com.bizmate.common.page.PageRequestDTO;
 import com.bizmate.common.file.FileUtil;
 import com.bizmate.common.page.PageResponseDTO;
@@ -7,6 +8,8 @@ import com.bizmate.hr.security.UserPrincipal;
 import com.bizmate.salesPages.client.domain.Client;
 import com.bizmate.salesPages.client.dto.ClientDTO;
 import com.bizmate.salesPages.client.repository.ClientRepository;
+import com.bizmate.salesPages.report.salesReport.service.SalesReportCache;
+import com.bizmate.salesPages.report.salesReport.service.SalesReportCache.Scope;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
@@ -30,6 +33,7 @@ public class ClientServiceImpl implements ClientService{
     private final ClientRepository clientRepository;
     private final ModelMapper modelMapper;
     private final FileUtil fileUtil;
+    private final SalesReportCache reportCache;
 
     private String formatClientId(String clientId) {
         if (clientId == null) {
@@ -77,6 +81,7 @@ public class ClientServiceImpl implements ClientService{
 
     Client client = modelMapper.map(clientDTO, Client.class);
     Client savedClient = clientRepository.save(client);
+    reportCache.invalidateAfterCommit(Scope.of(SalesReportCache.CLIENTS));
     return savedClient.getClientNo();
 }
 
@@ -93,6 +98,7 @@ public class ClientServiceImpl implements ClientService{
         Optional<Client> result = clientRepository.findById(clientDTO.getClientNo());
         Client client = result.orElseThrow();
 
+        // 이전 파일은 해제하지 않음 (Envers 이력에서 계속 참조)
         try {
             String savedFilename = fileUtil.saveFile(file);
             if (savedFilename != null) {
@@ -115,15 +121,22 @@ public class ClientServiceImpl implements ClientService{
 
 
         clientRepository.save(client);
+        reportCache.invalidateAfterCommit(Scope.of(SalesReportCache.CLIENTS));
     }
 
     @Override
     public void clientRemove(Long clientNo) {
         clientRepository.deleteById(clientNo);
+        reportCache.invalidateAfterCommit(Scope.of(SalesReportCache.CLIENTS));
     }
 
     @Override
     public PageResponseDTO<ClientDTO> clientList(PageRequestDTO pageRequestDTO) {
+        // ✅ 커서 모드: clientNo seek (OFFSET/count 없음)
+        if (pageRequestDTO.isCursorMode()) {
+            return clientListByCursor(pageRequestDTO);
+        }
+
         Pageable pageable = PageRequest.of(
                 pageRequestDTO.getPage() -1,
                 pageRequestDTO.getSize(),
@@ -167,8 +180,31 @@ public class ClientServiceImpl implements ClientService{
         return responseDTO;
     }
 
+    private PageResponseDTO<ClientDTO> clientListByCursor(PageRequestDTO pageRequestDTO) {
+        Long after = PageCursor.decodeLong(pageRequestDTO.getCursor());
+        long afterClientNo = after != null ? after : Long.MAX_VALUE;
+        Pageable limit = PageRequest.of(0, pageRequestDTO.cursorLimit());
+
+        String searchType = pageRequestDTO.getSearch();
+        String keyword = pageRequestDTO.getKeyword();
+        boolean noKeyword = keyword == null || keyword.trim().isEmpty() || searchType == null;
+
+        List<Client> rows = switch (noKeyword ? "" : searchType) {
+            case "clientId" -> clientRepository.findByClientIdContainingAndClientNoLessThanOrderByClientNoDesc(keyword, afterClientNo, limit);
+            case "clientCompany" -> clientRepository.findByClientCompanyContainingAndClientNoLessThanOrderByClientNoDesc(keyword, afterClientNo, limit);
+            case "clientCeo" -> clientRepository.findByClientCeoContainingAndClientNoLessThanOrderByClientNoDesc(keyword, afterClientNo, limit);
+            case "clientContact" -> clientRepository.findByClientContactContainingAndClientNoLessThanOrderByClientNoDesc(keyword, afterClientNo, limit);
+            case "userId" -> clientRepository.findByUserIdContainingAndClientNoLessThanOrderByClientNoDesc(keyword, afterClientNo, limit);
+            default -> clientRepository.findByClientNoLessThanOrderByClientNoDesc(afterClientNo, limit);
+        };
+
+        return PageResponseDTO.ofCursor(rows, pageRequestDTO, c -> PageCursor.encode(c.getClientNo()),
+                client -> modelMapper.map(client, ClientDTO.class));
+    }
+
     @Override
     public void clientRemoveList(List<Long> clientNos) {
         clientRepository.deleteAllByIdInBatch(clientNos);
+        reportCache.invalidateAfterCommit(Scope.of(SalesReportCache.CLIENTS));
     }
 }
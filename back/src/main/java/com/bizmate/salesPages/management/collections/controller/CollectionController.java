@@ -35,6 +35,12 @@ public class CollectionController {
         return collectionService.list(pageRequestDTO);
     }
 
+    // 목록과 같은 검색 조건의 전체 건수 (countMode=none 목록에서 필요할 때만 호출)
+    @GetMapping("/count")
+    public Map<String, Long> count(PageRequestDTO pageRequestDTO) {
+        return Map.of("totalCount", collectionService.count(pageRequestDTO));
+    }
+
     @PostMapping(value = "/")
     public Map<String, String> register(@RequestBody CollectionDTO collectionDTO) {
         String collectionId = collectionService.register(collectionDTO);
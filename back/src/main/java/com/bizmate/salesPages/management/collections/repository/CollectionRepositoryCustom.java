@@ -5,6 +5,8 @@ import com.bizmate.salesPages.management.collections.domain.Collection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface CollectionRepositoryCustom {
 
     /**
@@ -16,4 +18,19 @@ public interface CollectionRepositoryCustom {
      * @return 페이징된 수금 내역
      */
     Page<Collection> searchCollection(PageRequestDTO pageRequestDTO, Pageable pageable);
+
+    /**
+     * OFFSET 페이지 본문만 조회 (count 없음, hasNext 확인 시 limit = size + 1)
+     */
+    List<Collection> searchCollectionSlice(PageRequestDTO pageRequestDTO, long offset, int limit);
+
+    /**
+     * 검색 조건에 맞는 전체 건수
+     */
+    long countCollection(PageRequestDTO pageRequestDTO);
+
+    /**
+     * 커서 모드: collectionId 내림차순으로 afterCollectionId 다음 행부터 limit 건 (count 없음)
+     */
+    List<Collection> searchCollectionAfter(PageRequestDTO pageRequestDTO, String afterCollectionId, int limit);
 }
@@ -9,9 +9,9 @@ import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
@@ -39,13 +39,69 @@ public class CollectionRepositoryImpl extends QuerydslRepositorySupport implemen
                 .leftJoin(collection.client, client)
                 .where(createSearchConditions(pageRequestDTO, collection, client)); // 👈 3. client 전달
 
-        // 1. Count 쿼리 실행
-        long total = query.fetchCount();
-
-        // 2. 실제 데이터 쿼리
+        // 1. 실제 데이터 쿼리
         List<Collection> content = getQuerydsl().applyPagination(pageable, query).fetch();
 
-        return new PageImpl<>(content, pageable, total);
+        // 2. Count 쿼리 (첫/마지막 페이지처럼 content 만으로 알 수 있으면 생략)
+        return PageableExecutionUtils.getPage(content, pageable, () -> countCollection(pageRequestDTO));
+    }
+
+    @Override
+    public List<Collection> searchCollectionSlice(PageRequestDTO pageRequestDTO, long offset, int limit) {
+        QCollection collection = QCollection.collection;
+        QClient client = QClient.client;
+
+        return queryFactory
+                .selectFrom(collection)
+                .leftJoin(collection.client, client)
+                .where(createSearchConditions(pageRequestDTO, collection, client))
+                .orderBy(collection.collectionId.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long countCollection(PageRequestDTO pageRequestDTO) {
+        QCollection collection = QCollection.collection;
+        QClient client = QClient.client;
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(collection.count())
+                .from(collection);
+        // 거래처명 조건이 있을 때만 join (ManyToOne 이라 join 여부와 무관하게 건수는 같음)
+        if (needsClientJoin(pageRequestDTO)) {
+            countQuery.leftJoin(collection.client, client);
+        }
+        Long total = countQuery
+                .where(createSearchConditions(pageRequestDTO, collection, client))
+                .fetchOne();
+        return total != null ? total : 0L;
+    }
+
+    @Override
+    public List<Collection> searchCollectionAfter(PageRequestDTO pageRequestDTO, String afterCollectionId, int limit) {
+        QCollection collection = QCollection.collection;
+        QClient client = QClient.client;
+
+        BooleanBuilder conditions = createSearchConditions(pageRequestDTO, collection, client);
+        if (afterCollectionId != null) {
+            conditions.and(collection.collectionId.lt(afterCollectionId));
+        }
+
+        return queryFactory
+                .selectFrom(collection)
+                .leftJoin(collection.client, client)
+                .where(conditions)
+                .orderBy(collection.collectionId.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private boolean needsClientJoin(PageRequestDTO pageRequestDTO) {
+        String searchType = pageRequestDTO.getSearch();
+        return StringUtils.hasText(pageRequestDTO.getKeyword())
+                && ("c".equals(searchType) || "all".equals(searchType));
     }
 
     /**
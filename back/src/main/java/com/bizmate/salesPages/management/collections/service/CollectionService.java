@@ -15,6 +15,7 @@ public interface CollectionService {
     public void modify(CollectionDTO collectionDTO);
     public void remove(String collectionId);
     public PageResponseDTO<CollectionDTO> list(PageRequestDTO pageRequestDTO);
+    public long count(PageRequestDTO pageRequestDTO);
 
 
     List<CollectionDTO> listByClient(String clientId);
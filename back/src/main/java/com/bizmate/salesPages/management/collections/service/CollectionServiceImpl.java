@@ -4,19 +4,21 @@ import com.bizmate.hr.security.UserPrincipal;
 import com.bizmate.salesPages.client.domain.Client;
 import com.bizmate.salesPages.client.repository.ClientRepository;
 
+import com.bizmate.common.page.PageCountCache;
+import com.bizmate.common.page.PageCursor;
 import com.bizmate.common.page.PageRequestDTO;
 import com.bizmate.common.page.PageResponseDTO;
+import com.bizmate.common.sequence.BusinessKeyAllocator;
 import com.bizmate.salesPages.management.collections.domain.Collection;
 import com.bizmate.salesPages.management.collections.dto.CollectionDTO;
 import com.bizmate.salesPages.management.collections.repository.CollectionRepository;
 import com.bizmate.salesPages.management.sales.sales.repository.SalesRepository;
+import com.bizmate.salesPages.report.receivables.service.ClientReceivableLedger;
+import com.bizmate.salesPages.report.salesReport.service.SalesReportCache;
+import com.bizmate.salesPages.report.salesReport.service.SalesReportCache.Scope;
 import com.bizmate.salesPages.report.salesReport.dto.*;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,6 +36,10 @@ import java.util.stream.Collectors;
 public class CollectionServiceImpl implements CollectionService{
     private final CollectionRepository collectionRepository;
     private final ClientRepository clientRepository;
+    private final BusinessKeyAllocator keyAllocator;
+    private final PageCountCache countCache;
+    private final ClientReceivableLedger receivableLedger;
+    private final SalesReportCache reportCache;
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     /**
@@ -67,17 +73,11 @@ public class CollectionServiceImpl implements CollectionService{
 
         collectionDTO.setClientCompany(client.getClientCompany());
 
-        String maxCollectionId = collectionRepository.findMaxCollectionIdByCollectionDate(today).orElse(null);
-
-        int nextSequence = 1;
-        if(maxCollectionId != null) {
-            try {
-                String seqStr = maxCollectionId.substring(9);
-                nextSequence = Integer.parseInt(seqStr) + 1;
-            } catch (Exception e) {
-                nextSequence = 1;
-            }
-        }
+        // 일자별 시퀀스 생성 (KEY_SEGMENT 구간 발급 → 동시 등록/다중 서버에서도 중복 없음)
+        long nextSequence = keyAllocator.next("COLLECTION", today, () ->
+                collectionRepository.findMaxCollectionIdByCollectionDate(today)
+                        .map(maxId -> BusinessKeyAllocator.parseSequence(maxId, 4))
+                        .orElse(0L));
 
         String datePart = today.format(DATE_FORMAT);
         String sequencePart = String.format("%04d", nextSequence);
@@ -104,6 +104,9 @@ public class CollectionServiceImpl implements CollectionService{
                 .build();
 
         Collection savedCollection = collectionRepository.save(collection);
+        receivableLedger.addCollection(client.getClientId(), client.getClientCompany(), savedCollection.getCollectionMoney());
+        reportCache.invalidateAfterCommit(Scope.of(SalesReportCache.COLLECTIONS));
+        countCache.invalidateAfterCommit(PageCountCache.COLLECTIONS);
         return savedCollection.getCollectionId();
     }
 
@@ -121,6 +124,10 @@ public class CollectionServiceImpl implements CollectionService{
         Optional<Collection> result = collectionRepository.findByCollectionId(collectionDTO.getCollectionId());
         Collection collection = result.orElseThrow(() -> new NoSuchElementException("Collection not found for ID: " + collectionDTO.getCollectionId()));
 
+        // 미수금 원장 반영용 변경 전 거래처/금액
+        Client beforeClient = collection.getClient();
+        BigDecimal beforeMoney = collection.getCollectionMoney();
+
         collection.changeCollectionDate(collectionDTO.getCollectionDate());
         collection.changeCollectionMoney(collectionDTO.getCollectionMoney());
         collection.changeCollectionNote(collectionDTO.getCollectionNote());
@@ -132,35 +139,71 @@ public class CollectionServiceImpl implements CollectionService{
         }
 
         collectionRepository.save(collection);
+
+        Client afterClient = collection.getClient();
+        BigDecimal afterMoney = collection.getCollectionMoney();
+        if (beforeClient != afterClient || !Objects.equals(beforeMoney, afterMoney)) {
+            if (beforeMoney != null) {
+                receivableLedger.addCollection(beforeClient.getClientId(), null, beforeMoney.negate());
+            }
+            receivableLedger.addCollection(afterClient.getClientId(), afterClient.getClientCompany(), afterMoney);
+            reportCache.invalidateAfterCommit(Scope.of(SalesReportCache.COLLECTIONS));
+        }
+        countCache.invalidateAfterCommit(PageCountCache.COLLECTIONS);
     }
 
     @Override
     public void remove(String collectionId) {
+        collectionRepository.findByCollectionId(collectionId)
+                .filter(c -> c.getCollectionMoney() != null)
+                .ifPresent(c -> receivableLedger.addCollection(c.getClient().getClientId(), null, c.getCollectionMoney().negate()));
         collectionRepository.deleteByCollectionId(collectionId);
+        reportCache.invalidateAfterCommit(Scope.of(SalesReportCache.COLLECTIONS));
+        countCache.invalidateAfterCommit(PageCountCache.COLLECTIONS);
     }
 
     @Override
     @Transactional(readOnly = true)
     public PageResponseDTO<CollectionDTO> list(PageRequestDTO pageRequestDTO) {
-        Pageable pageable = PageRequest.of(
-                pageRequestDTO.getPage() -1,
-                pageRequestDTO.getSize(),
-                Sort.by("collectionId").descending());
+        // ✅ 커서 모드: collectionId seek (OFFSET/count 없음)
+        if (pageRequestDTO.isCursorMode()) {
+            List<Collection> rows = collectionRepository.searchCollectionAfter(
+                    pageRequestDTO, PageCursor.decodeString(pageRequestDTO.getCursor()), pageRequestDTO.cursorLimit());
+            return PageResponseDTO.ofCursor(rows, pageRequestDTO, c -> PageCursor.encode(c.getCollectionId()),
+                    this::convertToDTO);
+        }
+
+        // ✅ hasNext 모드: size+1 건만 조회, count 생략 (캐시에 남은 건수가 있으면 함께 응답)
+        if (pageRequestDTO.isCountSkipped()) {
+            List<Collection> rows = collectionRepository.searchCollectionSlice(
+                    pageRequestDTO, pageRequestDTO.offset(), pageRequestDTO.cursorLimit());
+            return PageResponseDTO.ofSlice(rows, pageRequestDTO,
+                    countCache.peek(PageCountCache.COLLECTIONS, pageRequestDTO), this::convertToDTO);
+        }
 
-        Page<Collection> result = collectionRepository.searchCollection(pageRequestDTO, pageable);
+        List<Collection> rows = collectionRepository.searchCollectionSlice(
+                pageRequestDTO, pageRequestDTO.offset(), pageRequestDTO.getSize());
 
         // ModelMapper 대신 수동 헬퍼 메서드 사용
-        List<CollectionDTO> dtoList = result.getContent().stream()
+        List<CollectionDTO> dtoList = rows.stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
 
-        long totalCount = result.getTotalElements();
+        long totalCount = countCache.total(PageCountCache.COLLECTIONS, pageRequestDTO, rows.size(),
+                () -> collectionRepository.countCollection(pageRequestDTO));
 
         PageResponseDTO<CollectionDTO> responseDTO = PageResponseDTO.<CollectionDTO>withAll().dtoList(dtoList).pageRequestDTO(pageRequestDTO).totalCount(totalCount).build();
 
         return responseDTO;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public long count(PageRequestDTO pageRequestDTO) {
+        return countCache.count(PageCountCache.COLLECTIONS, pageRequestDTO,
+                () -> collectionRepository.countCollection(pageRequestDTO));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<CollectionDTO> listByClient(String clientId) {
@@ -5,6 +5,8 @@ import com.bizmate.salesPages.management.order.order.domain.Order;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface OrderRepositoryCustom {
 
     /**
@@ -15,4 +17,19 @@ public interface OrderRepositoryCustom {
      * @return 페이징 처리된 주문 목록
      */
     Page<Order> searchOrders(PageRequestDTO pageRequestDTO, Pageable pageable);
+
+    /**
+     * OFFSET 페이지 본문만 조회 (count 없음, hasNext 확인 시 limit = size + 1)
+     */
+    List<Order> searchOrdersSlice(PageRequestDTO pageRequestDTO, long offset, int limit);
+
+    /**
+     * 검색 조건에 맞는 전체 건수
+     */
+    long countOrders(PageRequestDTO pageRequestDTO);
+
+    /**
+     * 커서 모드: orderId 내림차순으로 afterOrderId 다음 행부터 limit 건 (count 없음)
+     */
+    List<Order> searchOrdersAfter(PageRequestDTO pageRequestDTO, String afterOrderId, int limit);
 }
\ No newline at end of file
@@ -5,12 +5,12 @@ import com.bizmate.salesPages.management.order.order.domain.Order;
 import com.bizmate.salesPages.management.order.order.domain.QOrder;
 import com.bizmate.salesPages.management.order.orderItem.domain.QOrderItem;
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
@@ -26,37 +26,55 @@ public class OrderRepositoryCustomImpl implements OrderRepositoryCustom{
 
     @Override
     public Page<Order> searchOrders(PageRequestDTO pageRequestDTO, Pageable pageable) {
+        List<Order> content = searchOrdersSlice(pageRequestDTO, pageable.getOffset(), pageable.getPageSize());
+
+        // 첫/마지막 페이지처럼 content 만으로 전체 건수를 알 수 있으면 count 생략
+        return PageableExecutionUtils.getPage(content, pageable, () -> countOrders(pageRequestDTO));
+    }
+
+    @Override
+    public List<Order> searchOrdersSlice(PageRequestDTO pageRequestDTO, long offset, int limit) {
         QOrder order = QOrder.order;
-        QOrderItem orderItem = QOrderItem.orderItem;
 
-        // 1. 기본 쿼리 생성 (품목명 검색을 위해 OrderItem을 leftJoin)
-        JPAQuery<Order> query = queryFactory
+        // 품목명 검색은 EXISTS → OrderItem join/distinct 없이 주문 행만 정렬/페이지
+        return queryFactory
                 .selectFrom(order)
-                .leftJoin(order.orderItems, orderItem);
+                .where(buildDynamicWhereClause(pageRequestDTO, order, QOrderItem.orderItem))
+                .orderBy(order.orderId.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
 
-        // 2. 동적 WHERE 조건 생성
-        BooleanBuilder builder = buildDynamicWhereClause(pageRequestDTO, order, orderItem);
-        query.where(builder);
+    @Override
+    public long countOrders(PageRequestDTO pageRequestDTO) {
+        QOrder order = QOrder.order;
 
-        // 3. 전체 카운트 쿼리 (distinct 적용)
-        // (주의: join으로 인해 count 쿼리도 distinct가 필요)
-        JPAQuery<Long> countQuery = queryFactory
-                .select(order.countDistinct()) // 중복 제거 카운트
+        // join 이 없으므로 count(distinct) 대신 단순 count
+        Long total = queryFactory
+                .select(order.count())
                 .from(order)
-                .leftJoin(order.orderItems, orderItem)
-                .where(builder);
+                .where(buildDynamicWhereClause(pageRequestDTO, order, QOrderItem.orderItem))
+                .fetchOne();
+        return total != null ? total : 0L;
+    }
 
-        long total = countQuery.fetchOne();
+    @Override
+    public List<Order> searchOrdersAfter(PageRequestDTO pageRequestDTO, String afterOrderId, int limit) {
+        QOrder order = QOrder.order;
 
-        // 4. 페이징 및 정렬 적용 (distinct 적용)
-        List<Order> content = query
-                .orderBy(order.orderId.desc()) // 정렬 조건 (필요시 pageable에서 가져오도록 수정)
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .distinct() // Join으로 인한 Order 중복 제거
-                .fetch();
+        // 품목 조건은 EXISTS → join/distinct 없이 orderId 유니크 인덱스를 따라 seek
+        BooleanBuilder builder = buildDynamicWhereClause(pageRequestDTO, order, QOrderItem.orderItem);
+        if (afterOrderId != null) {
+            builder.and(order.orderId.lt(afterOrderId));
+        }
 
-        return new PageImpl<>(content, pageable, total);
+        return queryFactory
+                .selectFrom(order)
+                .where(builder)
+                .orderBy(order.orderId.desc())
+                .limit(limit)
+                .fetch();
     }
 
     /**
@@ -86,8 +104,11 @@ public class OrderRepositoryCustomImpl implements OrderRepositoryCustom{
                     builder.and(order.writer.containsIgnoreCase(keyword));
                     break;
                 case "item":
-                    // Left Join된 OrderItem의 품목명에서 검색
-                    builder.and(orderItem.itemName.containsIgnoreCase(keyword));
+                    // 품목명이 일치하는 OrderItem 이 하나라도 있는 주문 (EXISTS)
+                    builder.and(JPAExpressions.selectOne()
+                            .from(orderItem)
+                            .where(orderItem.order.eq(order), orderItem.itemName.containsIgnoreCase(keyword))
+                            .exists());
                     break;
             }
         }
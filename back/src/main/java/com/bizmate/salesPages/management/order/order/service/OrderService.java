@@ -12,6 +12,7 @@ public interface OrderService {
     public void modify(OrderDTO orderDTO);
     public void remove(String orderId);
     public PageResponseDTO<OrderDTO> list(PageRequestDTO pageRequestDTO);
+    public long count(PageRequestDTO pageRequestDTO);
 
     public void removeList(List<String> orderIds);
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package com.bizmate.salesPages.management.order.order.service;
 
 
+import com.bizmate.common.page.PageCountCache;
+import com.bizmate.common.page.PageCursor;
 import com.bizmate.common.page.PageRequestDTO;
 import com.bizmate.common.page.PageResponseDTO;
+import com.bizmate.common.sequence.BusinessKeyAllocator;
 import com.bizmate.hr.security.UserPrincipal;
 import com.bizmate.salesPages.management.order.order.domain.Order;
 import com.bizmate.salesPages.management.order.order.dto.OrderDTO;
@@ -14,11 +17,6 @@ import com.bizmate.salesPages.management.order.orderItem.dto.OrderItemDTO;
 import com.bizmate.salesPages.management.sales.sales.repository.SalesRepository;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,25 +38,19 @@ public class OrderServiceImpl implements OrderService {
     private final SalesRepository salesRepository;
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
     private final ModelMapper modelMapper;
+    private final BusinessKeyAllocator keyAllocator;
+    private final PageCountCache countCache;
 
     @Override
     public String register(OrderDTO orderDTO) {
         LocalDate today = LocalDate.now();
         orderDTO.setOrderIdDate(today);
 
-        String maxOrderId = orderRepository.findMaxOrderIdByOrderIdDate(today).orElse(null);
-
-        int nextSequence = 1;
-        if(maxOrderId != null) {
-            try {
-                // 기존 ID에서 일련번호 4자리 추출
-                String seqStr = maxOrderId.substring(9);
-                nextSequence = Integer.parseInt(seqStr) + 1;
-            } catch (Exception e){
-                // 파싱 오류 발생 시 1로 시작(비정상 케이스)
-                nextSequence = 1;
-            }
-        }
+        // 일자별 시퀀스 생성 (KEY_SEGMENT 구간 발급 → 동시 등록/다중 서버에서도 중복 없음)
+        long nextSequence = keyAllocator.next("ORDER", today, () ->
+                orderRepository.findMaxOrderIdByOrderIdDate(today)
+                        .map(maxId -> BusinessKeyAllocator.parseSequence(maxId, 4))
+                        .orElse(0L));
 
         String datePart = today.format(DATE_FORMAT);
         String sequencePart = String.format("%04d", nextSequence);
@@ -83,6 +75,7 @@ public class OrderServiceImpl implements OrderService {
         order.calculateOrderAmount();
 
         Order savedOrder = orderRepository.save(order);
+        countCache.invalidateAfterCommit(PageCountCache.ORDERS);
         return savedOrder.getOrderId();
     }
 
@@ -141,6 +134,7 @@ public class OrderServiceImpl implements OrderService {
         order.changeProjectId(orderDTO.getProjectId());
 
         orderRepository.save(order);
+        countCache.invalidateAfterCommit(PageCountCache.ORDERS);
     }
 
     @Override
@@ -157,6 +151,7 @@ public class OrderServiceImpl implements OrderService {
         }
 
         orderRepository.delete(order);
+        countCache.invalidateAfterCommit(PageCountCache.ORDERS);
     }
 
     @Override
@@ -170,28 +165,46 @@ public class OrderServiceImpl implements OrderService {
 
         List<Order> ordersToDelete = orderRepository.findAllByOrderIdIn(orderIds);
         orderRepository.deleteAllInBatch(ordersToDelete);
+        countCache.invalidateAfterCommit(PageCountCache.ORDERS);
     }
 
     @Override
     @Transactional(readOnly = true)
     public PageResponseDTO<OrderDTO> list(PageRequestDTO pageRequestDTO) {
-        Pageable pageable = PageRequest.of(
-                pageRequestDTO.getPage() -1,
-                pageRequestDTO.getSize(),
-                Sort.by("orderId").descending());
+        // ✅ 커서 모드: orderId seek (OFFSET/count 없음)
+        if (pageRequestDTO.isCursorMode()) {
+            List<Order> rows = orderRepository.searchOrdersAfter(
+                    pageRequestDTO, PageCursor.decodeString(pageRequestDTO.getCursor()), pageRequestDTO.cursorLimit());
+            return PageResponseDTO.ofCursor(rows, pageRequestDTO, o -> PageCursor.encode(o.getOrderId()),
+                    order -> modelMapper.map(order, OrderDTO.class));
+        }
 
+        // ✅ hasNext 모드: size+1 건만 조회, count 생략 (캐시에 남은 건수가 있으면 함께 응답)
+        if (pageRequestDTO.isCountSkipped()) {
+            List<Order> rows = orderRepository.searchOrdersSlice(
+                    pageRequestDTO, pageRequestDTO.offset(), pageRequestDTO.cursorLimit());
+            return PageResponseDTO.ofSlice(rows, pageRequestDTO, countCache.peek(PageCountCache.ORDERS, pageRequestDTO),
+                    order -> modelMapper.map(order, OrderDTO.class));
+        }
 
-        // 기존: Page<Order> result = orderRepository.findAll(pageable);
-        // 변경: Querydsl을 사용한 동적 검색 메서드 호출
-        Page<Order> result = orderRepository.searchOrders(pageRequestDTO, pageable);
+        // Querydsl 동적 검색 (본문) + 건수 캐시 (count)
+        List<Order> rows = orderRepository.searchOrdersSlice(
+                pageRequestDTO, pageRequestDTO.offset(), pageRequestDTO.getSize());
 
-        List<OrderDTO> dtoList = result.getContent().stream().map(
+        List<OrderDTO> dtoList = rows.stream().map(
                 order -> modelMapper.map(order, OrderDTO.class)).collect(Collectors.toList());
 
-        long totalCount = result.getTotalElements();
+        long totalCount = countCache.total(PageCountCache.ORDERS, pageRequestDTO, rows.size(),
+                () -> orderRepository.countOrders(pageRequestDTO));
 
         PageResponseDTO<OrderDTO> responseDTO = PageResponseDTO.<OrderDTO>withAll().dtoList(dtoList).pageRequestDTO(pageRequestDTO).totalCount(totalCount).build();
 
         return responseDTO;
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long count(PageRequestDTO pageRequestDTO) {
+        return countCache.count(PageCountCache.ORDERS, pageRequestDTO, () -> orderRepository.countOrders(pageRequestDTO));
+    }
 }
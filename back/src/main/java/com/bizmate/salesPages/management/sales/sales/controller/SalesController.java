@@ -28,6 +28,12 @@ public class SalesController {
         return salesService.list(pageRequestDTO);
     }
 
+    // 목록과 같은 검색 조건의 전체 건수 (countMode=none 목록에서 필요할 때만 호출)
+    @GetMapping("/count")
+    public Map<String, Long> count(PageRequestDTO pageRequestDTO){
+        return Map.of("totalCount", salesService.count(pageRequestDTO));
+    }
+
     @PostMapping("/")
     public Map<String, String> register(@RequestBody SalesDTO salesDTO){
         String salesId = salesService.register(salesDTO);
@@ -29,42 +29,6 @@ public interface SalesRepository extends JpaRepository<Sales, Long>, SalesReposi
     @Query("DELETE FROM Sales s WHERE s.salesId = :salesId")
     void deleteBySalesId(@Param("salesId") String salesId);
 
-    @Query("""
-        SELECT new com.bizmate.salesPages.report.salesReport.dto.ClientSalesSummary(
-            s.clientId, s.clientCompany, SUM(s.salesAmount)
-        ) 
-        FROM Sales s 
-        WHERE s.invoiceIssued = true 
-        GROUP BY s.clientId, s.clientCompany 
-        ORDER BY SUM(s.salesAmount) DESC
-        """
-    )
-    List<ClientSalesSummary> findTotalSalesAmountGroupByClient();
-
-    @Query("""
-            SELECT new com.bizmate.salesPages.report.salesReport.dto.ProjectSalesSummary(
-                s.projectId, s.projectName, SUM(s.salesAmount)
-            ) 
-            FROM Sales s 
-            WHERE s.invoiceIssued = true 
-            GROUP BY s.projectId, s.projectName 
-            ORDER BY SUM(s.salesAmount) DESC
-            """)
-    List<ProjectSalesSummary> findTotalSalesAmountGroupByProject();
-
-    @Query(""" 
-        SELECT new com.bizmate.salesPages.report.salesReport.dto.QuarterlySalesSummary(
-            CAST(FUNCTION('TO_CHAR', s.salesDate, 'YYYY') AS integer),
-            CAST(FUNCTION('TO_CHAR', s.salesDate, 'Q') AS integer),
-            SUM(s.salesAmount)
-        ) 
-        FROM Sales s 
-        WHERE s.invoiceIssued = true 
-        GROUP BY FUNCTION('TO_CHAR', s.salesDate, 'YYYY'), FUNCTION('TO_CHAR', s.salesDate, 'Q') 
-        ORDER BY FUNCTION('TO_CHAR', s.salesDate, 'YYYY') DESC, FUNCTION('TO_CHAR', s.salesDate, 'Q') DESC
-        """)
-    List<QuarterlySalesSummary> findTotalSalesAmountGroupByQuarter();
-
     @Query("SELECT SUM(s.salesAmount) FROM Sales s WHERE s.order.orderId = :orderId AND s.invoiceIssued = true")
     BigDecimal findSumOfIssuedSalesByOrderId(@Param("orderId") String orderId);
 
@@ -72,56 +36,42 @@ public interface SalesRepository extends JpaRepository<Sales, Long>, SalesReposi
 
     List<Sales> findByClientIdOrderBySalesDateDesc(String clientId);
 
-    // 특정 연도의 월별 매출 합계 (기간별 현황 탭)
-    @Query(""" 
-        SELECT new com.bizmate.salesPages.report.salesReport.dto.MonthlySalesSummary(
-            CAST(FUNCTION('TO_CHAR', s.salesDate, 'YYYY') AS integer),
-            CAST(FUNCTION('TO_CHAR', s.salesDate, 'MM') AS integer),
-            SUM(s.salesAmount)
-        ) 
-        FROM Sales s 
-        WHERE s.invoiceIssued = true 
-        AND CAST(FUNCTION('TO_CHAR', s.salesDate, 'YYYY') AS integer) = :year 
-        GROUP BY FUNCTION('TO_CHAR', s.salesDate, 'YYYY'), FUNCTION('TO_CHAR', s.salesDate, 'MM') 
-        ORDER BY FUNCTION('TO_CHAR', s.salesDate, 'MM') ASC
+    // --- 🔽 매출 롤업 정합성 점검용 원본 집계 (발행 완료, 연/월 단위) 🔽 ---
+    // 결과: [연, 월, 합계, 건수] (매출일 없는 매출은 연/월 null)
+    @Query("""
+        SELECT YEAR(s.salesDate), MONTH(s.salesDate), SUM(s.salesAmount), COUNT(s)
+        FROM Sales s
+        WHERE s.invoiceIssued = true
+        GROUP BY YEAR(s.salesDate), MONTH(s.salesDate)
         """)
-    List<MonthlySalesSummary> findMonthlySalesSummaryByYear(@Param("year") Integer year);
-
+    List<Object[]> aggregateIssuedSalesByMonth();
 
-    // 특정 연월의 거래처별 매출 합계 (거래처별 현황 탭)
+    // 결과: [거래처ID, 거래처명, 연, 월, 합계, 건수]
     @Query("""
-        SELECT new com.bizmate.salesPages.report.salesReport.dto.ClientSalesSummary(
-            s.clientId, s.clientCompany, SUM(s.salesAmount)
-        ) 
-        FROM Sales s 
-        WHERE s.invoiceIssued = true 
-        AND FUNCTION('TO_CHAR', s.salesDate, 'YYYY-MM') = :yearMonth 
-        GROUP BY s.clientId, s.clientCompany 
+        SELECT s.clientId, MAX(s.clientCompany), YEAR(s.salesDate), MONTH(s.salesDate), SUM(s.salesAmount), COUNT(s)
+        FROM Sales s
+        WHERE s.invoiceIssued = true
+        GROUP BY s.clientId, YEAR(s.salesDate), MONTH(s.salesDate)
         """)
-    List<ClientSalesSummary> findClientSalesSummaryByYearMonth(@Param("yearMonth") String yearMonth);
+    List<Object[]> aggregateIssuedSalesByClientMonth();
 
-    // 특정 연도의 거래처별 매출 합계 (거래처별 현황 - '월' 전체)
+    // 결과: [프로젝트ID, 프로젝트명, 연, 월, 합계, 건수]
     @Query("""
-        SELECT new com.bizmate.salesPages.report.salesReport.dto.ClientSalesSummary(
-            s.clientId, s.clientCompany, SUM(s.salesAmount)
-        ) 
-        FROM Sales s 
-        WHERE s.invoiceIssued = true 
-        AND FUNCTION('TO_CHAR', s.salesDate, 'YYYY') = :year 
-        GROUP BY s.clientId, s.clientCompany 
+        SELECT s.projectId, MAX(s.projectName), YEAR(s.salesDate), MONTH(s.salesDate), SUM(s.salesAmount), COUNT(s)
+        FROM Sales s
+        WHERE s.invoiceIssued = true
+        GROUP BY s.projectId, YEAR(s.salesDate), MONTH(s.salesDate)
         """)
-    List<ClientSalesSummary> findClientSalesSummaryByYear(@Param("year") String year);
+    List<Object[]> aggregateIssuedSalesByProjectMonth();
 
-    // 연도별 총 매출 (연도별 요약)
+    // --- 🔽 미수금 원장 정합성 점검용 거래처별 발행 매출 합계 (거래처 없는 매출 제외) 🔽 ---
     @Query("""
-        SELECT new com.bizmate.salesPages.report.salesReport.dto.YearlySalesSummary(
-            CAST(FUNCTION('TO_CHAR', s.salesDate, 'YYYY') AS integer),
-            SUM(s.salesAmount)
-        ) 
-        FROM Sales s 
-        WHERE s.invoiceIssued = true 
-        GROUP BY FUNCTION('TO_CHAR', s.salesDate, 'YYYY')
-        ORDER BY FUNCTION('TO_CHAR', s.salesDate, 'YYYY') DESC
+        SELECT new com.bizmate.salesPages.report.salesReport.dto.ClientSalesSummary(
+            s.clientId, MAX(s.clientCompany), SUM(s.salesAmount)
+        )
+        FROM Sales s
+        WHERE s.invoiceIssued = true AND s.clientId IS NOT NULL
+        GROUP BY s.clientId
         """)
-    List<YearlySalesSummary> findYearlySalesSummary();
+    List<ClientSalesSummary> aggregateIssuedSalesByClient();
 }
@@ -5,9 +5,26 @@ import com.bizmate.salesPages.management.sales.sales.domain.Sales;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface SalesRepositoryCustom {
     /**
      * 동적 검색 조건을 사용하여 판매(Sales) 목록을 페이징 조회
      */
     Page<Sales> searchSales(PageRequestDTO pageRequestDTO, Pageable pageable);
+
+    /**
+     * OFFSET 페이지 본문만 조회 (count 없음, hasNext 확인 시 limit = size + 1)
+     */
+    List<Sales> searchSalesSlice(PageRequestDTO pageRequestDTO, long offset, int limit);
+
+    /**
+     * 검색 조건에 맞는 전체 건수
+     */
+    long countSales(PageRequestDTO pageRequestDTO);
+
+    /**
+     * 커서 모드: salesId 내림차순으로 afterSalesId 다음 행부터 limit 건 (count 없음)
+     */
+    List<Sales> searchSalesAfter(PageRequestDTO pageRequestDTO, String afterSalesId, int limit);
 }
@@ -5,10 +5,11 @@ import com.bizmate.salesPages.management.sales.sales.domain.QSales;
 import com.bizmate.salesPages.management.sales.sales.domain.Sales;
 import com.bizmate.salesPages.management.sales.salesItem.domain.QSalesItem;
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
@@ -25,35 +26,55 @@ public class SalesRepositoryCustomImpl implements SalesRepositoryCustom {
 
     @Override
     public Page<Sales> searchSales(PageRequestDTO pageRequestDTO, Pageable pageable) {
+        List<Sales> content = searchSalesSlice(pageRequestDTO, pageable.getOffset(), pageable.getPageSize());
+
+        // 첫/마지막 페이지처럼 content 만으로 전체 건수를 알 수 있으면 count 생략
+        return PageableExecutionUtils.getPage(content, pageable, () -> countSales(pageRequestDTO));
+    }
+
+    @Override
+    public List<Sales> searchSalesSlice(PageRequestDTO pageRequestDTO, long offset, int limit) {
         QSales sales = QSales.sales;
-        QSalesItem salesItem = QSalesItem.salesItem;
 
-        // 1) 기본 쿼리 (품목 필터를 위해 SalesItem left join)
-        JPAQuery<Sales> query = queryFactory
+        // 품목 조건은 EXISTS → SalesItem join/distinct 없이 판매 행만 정렬/페이지
+        return queryFactory
                 .selectFrom(sales)
-                .leftJoin(sales.salesItems, salesItem);
+                .where(buildDynamicWhereClause(pageRequestDTO, sales, QSalesItem.salesItem))
+                .orderBy(sales.salesId.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
 
-        // 2) where 절 동적 생성
-        BooleanBuilder builder = buildDynamicWhereClause(pageRequestDTO, sales, salesItem);
-        query.where(builder);
+    @Override
+    public long countSales(PageRequestDTO pageRequestDTO) {
+        QSales sales = QSales.sales;
 
-        // 3) count(distinct)
-        long total = queryFactory
-                .select(sales.countDistinct())
+        // join 이 없으므로 count(distinct) 대신 단순 count
+        Long total = queryFactory
+                .select(sales.count())
                 .from(sales)
-                .leftJoin(sales.salesItems, salesItem)
-                .where(builder)
+                .where(buildDynamicWhereClause(pageRequestDTO, sales, QSalesItem.salesItem))
                 .fetchOne();
+        return total != null ? total : 0L;
+    }
 
-        // 4) 페이지/정렬 + distinct
-        List<Sales> content = query
+    @Override
+    public List<Sales> searchSalesAfter(PageRequestDTO pageRequestDTO, String afterSalesId, int limit) {
+        QSales sales = QSales.sales;
+
+        // 품목 조건은 EXISTS → join/distinct 없이 salesId 유니크 인덱스를 따라 seek
+        BooleanBuilder builder = buildDynamicWhereClause(pageRequestDTO, sales, QSalesItem.salesItem);
+        if (afterSalesId != null) {
+            builder.and(sales.salesId.lt(afterSalesId));
+        }
+
+        return queryFactory
+                .selectFrom(sales)
+                .where(builder)
                 .orderBy(sales.salesId.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .distinct()
+                .limit(limit)
                 .fetch();
-
-        return new PageImpl<>(content, pageable, total);
     }
 
     private BooleanBuilder buildDynamicWhereClause(PageRequestDTO dto, QSales sales, QSalesItem salesItem) {
@@ -72,7 +93,10 @@ public class SalesRepositoryCustomImpl implements SalesRepositoryCustom {
                 case "client" -> builder.and(sales.clientCompany.containsIgnoreCase(keyword));
                 case "project" -> builder.and(sales.projectName.containsIgnoreCase(keyword));
                 case "writer" -> builder.and(sales.writer.containsIgnoreCase(keyword));
-                case "item" -> builder.and(salesItem.itemName.containsIgnoreCase(keyword));
+                case "item" -> builder.and(JPAExpressions.selectOne()
+                        .from(salesItem)
+                        .where(salesItem.sales.eq(sales), salesItem.itemName.containsIgnoreCase(keyword))
+                        .exists());
             }
         }
 
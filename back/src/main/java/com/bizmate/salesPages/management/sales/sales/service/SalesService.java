@@ -12,6 +12,7 @@ public interface SalesService {
     public void modify(SalesDTO salesDTO);
     public void remove(String salesId);
     public PageResponseDTO<SalesDTO> list(PageRequestDTO pageRequestDTO);
+    public long count(PageRequestDTO pageRequestDTO);
 
     List<SalesDTO> listByClient(String clientId);
 }
@@ -1,7 +1,10 @@
 package com.bizmate.salesPages.management.sales.sales.service;
 
+import com.bizmate.common.page.PageCountCache;
+import com.bizmate.common.page.PageCursor;
 import com.bizmate.common.page.PageRequestDTO;
 import com.bizmate.common.page.PageResponseDTO;
+import com.bizmate.common.sequence.BusinessKeyAllocator;
 import com.bizmate.hr.security.UserPrincipal;
 import com.bizmate.salesPages.management.order.order.domain.Order;
 import com.bizmate.salesPages.management.order.order.repository.OrderRepository;
@@ -11,6 +14,11 @@ import com.bizmate.salesPages.management.sales.sales.dto.SalesDTO;
 import com.bizmate.salesPages.management.sales.sales.repository.SalesRepository;
 import com.bizmate.salesPages.management.sales.salesItem.domain.SalesItem;
 import com.bizmate.salesPages.management.sales.salesItem.dto.SalesItemDTO;
+import com.bizmate.salesPages.report.receivables.service.ClientReceivableLedger;
+import com.bizmate.salesPages.report.salesReport.service.SalesReportCache;
+import com.bizmate.salesPages.report.salesReport.service.SalesReportCache.Scope;
+import com.bizmate.salesPages.report.salesRollup.service.SalesRollupService;
+import com.bizmate.salesPages.report.salesRollup.service.SalesRollupService.Contribution;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.*;
@@ -22,6 +30,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -32,6 +41,11 @@ public class SalesServiceImpl implements SalesService {
     private final SalesRepository salesRepository;
     private final OrderRepository orderRepository;
     private final ModelMapper modelMapper;
+    private final BusinessKeyAllocator keyAllocator;
+    private final PageCountCache countCache;
+    private final SalesRollupService rollupService;
+    private final ClientReceivableLedger receivableLedger;
+    private final SalesReportCache reportCache;
 
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
 
@@ -40,17 +54,11 @@ public class SalesServiceImpl implements SalesService {
         LocalDate today = LocalDate.now();
         salesDTO.setSalesIdDate(today);
 
-        // 일자별 시퀀스 생성
-        String maxSalesId = salesRepository.findMaxSalesIdBySalesIdDate(today).orElse(null);
-        int nextSequence = 1;
-        if (maxSalesId != null) {
-            try {
-                String seqStr = maxSalesId.substring(9);
-                nextSequence = Integer.parseInt(seqStr) + 1;
-            } catch (Exception ignore) {
-                nextSequence = 1;
-            }
-        }
+        // 일자별 시퀀스 생성 (KEY_SEGMENT 구간 발급 → 동시 등록/다중 서버에서도 중복 없음)
+        long nextSequence = keyAllocator.next("SALES", today, () ->
+                salesRepository.findMaxSalesIdBySalesIdDate(today)
+                        .map(maxId -> BusinessKeyAllocator.parseSequence(maxId, 4))
+                        .orElse(0L));
         String finalSalesId = today.format(DATE_FORMAT) + "-" + String.format("%04d", nextSequence);
         salesDTO.setSalesId(finalSalesId);
 
@@ -107,7 +115,12 @@ public class SalesServiceImpl implements SalesService {
         sales.calculateSalesAmount();
 
         Sales saved = salesRepository.save(sales);
+        Contribution contribution = Contribution.of(saved);
+        rollupService.apply(null, contribution);
+        receivableLedger.applySales(null, contribution);
+        reportCache.invalidateAfterCommit(reportScope(contribution));
         this.updateOrderStatus(salesDTO.getOrderId());
+        countCache.invalidateAfterCommit(PageCountCache.SALES);
 
         return saved.getSalesId();
     }
@@ -126,6 +139,7 @@ public class SalesServiceImpl implements SalesService {
     public void modify(SalesDTO salesDTO) {
         Sales sales = salesRepository.findBySalesId(salesDTO.getSalesId())
                 .orElseThrow(() -> new NoSuchElementException("Sales ID [" + salesDTO.getSalesId() + "]을 찾을 수 없습니다."));
+        Contribution before = Contribution.of(sales);   // 롤업 반영용 변경 전 기여분
 
         // 상위 필드 변경
         sales.changeClientId(salesDTO.getClientId());
@@ -166,8 +180,15 @@ public class SalesServiceImpl implements SalesService {
         sales.calculateSalesAmount();
 
         salesRepository.save(sales);
+        Contribution after = Contribution.of(sales);
+        rollupService.apply(before, after);
+        receivableLedger.applySales(before, after);
+        if (!Objects.equals(before, after)) {
+            reportCache.invalidateAfterCommit(reportScope(before), reportScope(after));
+        }
 
         this.updateOrderStatus(sales.getOrder() != null ? sales.getOrder().getOrderId() : null);
+        countCache.invalidateAfterCommit(PageCountCache.SALES);
     }
 
     @Override
@@ -180,36 +201,61 @@ public class SalesServiceImpl implements SalesService {
         // 2. 🔴 변경 지점: 커스텀 쿼리 대신 엔티티 자체를 삭제
         // salesRepository.deleteBySalesId(salesId);
         salesRepository.delete(sales);
+        Contribution before = Contribution.of(sales);
+        rollupService.apply(before, null);
+        receivableLedger.applySales(before, null);
+        reportCache.invalidateAfterCommit(reportScope(before));
 
         this.updateOrderStatus(orderId);
+        countCache.invalidateAfterCommit(PageCountCache.SALES);
     }
 
     @Override
     @Transactional(readOnly = true)
     public PageResponseDTO<SalesDTO> list(PageRequestDTO pageRequestDTO) {
-        Pageable pageable = PageRequest.of(
-                pageRequestDTO.getPage() - 1,
-                pageRequestDTO.getSize(),
-                Sort.by("salesId").descending()
-        );
+        Function<Sales, SalesDTO> toDto = s -> {
+            SalesDTO dto = modelMapper.map(s, SalesDTO.class);
+            dto.setOrderId(s.getOrder() != null ? s.getOrder().getOrderId() : null);
+            return dto;
+        };
+
+        // ✅ 커서 모드: salesId seek (OFFSET/count 없음)
+        if (pageRequestDTO.isCursorMode()) {
+            List<Sales> rows = salesRepository.searchSalesAfter(
+                    pageRequestDTO, PageCursor.decodeString(pageRequestDTO.getCursor()), pageRequestDTO.cursorLimit());
+            return PageResponseDTO.ofCursor(rows, pageRequestDTO, s -> PageCursor.encode(s.getSalesId()), toDto);
+        }
 
-        Page<Sales> result = salesRepository.searchSales(pageRequestDTO, pageable);
+        // ✅ hasNext 모드: size+1 건만 조회, count 생략 (캐시에 남은 건수가 있으면 함께 응답)
+        if (pageRequestDTO.isCountSkipped()) {
+            List<Sales> rows = salesRepository.searchSalesSlice(
+                    pageRequestDTO, pageRequestDTO.offset(), pageRequestDTO.cursorLimit());
+            return PageResponseDTO.ofSlice(rows, pageRequestDTO,
+                    countCache.peek(PageCountCache.SALES, pageRequestDTO), toDto);
+        }
 
-        List<SalesDTO> dtoList = result.getContent().stream()
-                .map(s -> {
-                    SalesDTO dto = modelMapper.map(s, SalesDTO.class);
-                    dto.setOrderId(s.getOrder() != null ? s.getOrder().getOrderId() : null);
-                    return dto;
-                })
+        List<Sales> rows = salesRepository.searchSalesSlice(
+                pageRequestDTO, pageRequestDTO.offset(), pageRequestDTO.getSize());
+        long totalCount = countCache.total(PageCountCache.SALES, pageRequestDTO, rows.size(),
+                () -> salesRepository.countSales(pageRequestDTO));
+
+        List<SalesDTO> dtoList = rows.stream()
+                .map(toDto)
                 .collect(Collectors.toList());
 
         return PageResponseDTO.<SalesDTO>withAll()
                 .dtoList(dtoList)
                 .pageRequestDTO(pageRequestDTO)
-                .totalCount(result.getTotalElements())
+                .totalCount(totalCount)
                 .build();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public long count(PageRequestDTO pageRequestDTO) {
+        return countCache.count(PageCountCache.SALES, pageRequestDTO, () -> salesRepository.countSales(pageRequestDTO));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<SalesDTO> listByClient(String clientId) {
@@ -258,4 +304,13 @@ public class SalesServiceImpl implements SalesService {
             order.changeOrderStatus("시작전");
         }
     }
+
+    /**
+     * 리포트 캐시 무효화 범위 (발행 완료 매출의 연/월, 리포트에 반영되지 않는 매출이면 null)
+     */
+    private static Scope reportScope(Contribution contribution) {
+        return contribution != null
+                ? Scope.of(SalesReportCache.SALES, contribution.year(), contribution.month())
+                : null;
+    }
 }
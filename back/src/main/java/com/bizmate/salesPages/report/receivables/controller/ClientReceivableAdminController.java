@@ -0,0 +1,53 @@
+package com.bizmate.salesPages.report.receivables.controller;
+
+import com.bizmate.salesPages.report.receivables.dto.ClientReceivableDriftDTO;
+import com.bizmate.salesPages.report.receivables.service.ClientReceivableReconciler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/sales/report/receivables/ledger")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class ClientReceivableAdminController {
+
+    private final ClientReceivableReconciler receivableReconciler;
+
+    /**
+     * 미수금 원장 정합성 점검 (원본 집계와 비교만)
+     * GET /api/sales/report/receivables/ledger/check
+     */
+    @GetMapping("/check")
+    public ResponseEntity<Map<String, Object>> check() {
+        List<ClientReceivableDriftDTO> drifts = receivableReconciler.check();
+        return ResponseEntity.ok(Map.of(
+                "driftCount", drifts.size(),
+                "drifts", drifts
+        ));
+    }
+
+    /**
+     * 미수금 원장 재구축 (초기 적재 / 보정)
+     * POST /api/sales/report/receivables/ledger/rebuild
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuild() {
+        log.info("🔄 [관리자] 미수금 원장 재구축 요청");
+
+        List<ClientReceivableDriftDTO> drifts = receivableReconciler.rebuild();
+        return ResponseEntity.ok(Map.of(
+                "driftCount", drifts.size(),
+                "drifts", drifts
+        ));
+    }
+}
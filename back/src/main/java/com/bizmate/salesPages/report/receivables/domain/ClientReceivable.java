@@ -0,0 +1,41 @@
+package com.bizmate.salesPages.report.receivables.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * ✅ ClientReceivable (거래처별 미수금 원장)
+ * - 발행 완료 매출 누적, 수금 누적, 미수금(= 매출 - 수금)을 거래처당 한 행으로 유지
+ * - 매출/수금 등록·수정·삭제 시 같은 트랜잭션에서 증감 (ClientReceivableLedger)
+ * - 거래처명은 마지막으로 반영된 매출/수금의 거래처명
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "CLIENT_RECEIVABLE")
+public class ClientReceivable {
+
+    @Id
+    @Column(name = "CLIENT_ID", nullable = false)
+    private String clientId;
+
+    @Column(name = "CLIENT_COMPANY")
+    private String clientCompany;
+
+    @Column(name = "TOTAL_SALES_AMOUNT", precision = 19, scale = 2, nullable = false)
+    private BigDecimal totalSalesAmount;
+
+    @Column(name = "TOTAL_COLLECTION_AMOUNT", precision = 19, scale = 2, nullable = false)
+    private BigDecimal totalCollectionAmount;
+
+    @Column(name = "OUTSTANDING_BALANCE", precision = 19, scale = 2, nullable = false)
+    private BigDecimal outstandingBalance;
+}
@@ -0,0 +1,21 @@
+package com.bizmate.salesPages.report.receivables.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 미수금 원장 정합성 점검 결과 (원장값 ≠ 매출/수금 원본 집계값)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientReceivableDriftDTO {
+    private String clientId;
+    private BigDecimal storedSalesAmount;
+    private BigDecimal actualSalesAmount;
+    private BigDecimal storedCollectionAmount;
+    private BigDecimal actualCollectionAmount;
+}
@@ -0,0 +1,58 @@
+package com.bizmate.salesPages.report.receivables.repository;
+
+import com.bizmate.salesPages.report.receivables.domain.ClientReceivable;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 거래처별 미수금 원장 Repository
+ */
+@Repository
+public interface ClientReceivableRepository extends JpaRepository<ClientReceivable, String> {
+
+    /**
+     * 정합성 보정용 전체 행 잠금 조회 (보정 중 증감 반영은 커밋까지 대기)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ClientReceivable r")
+    List<ClientReceivable> findAllForUpdate();
+
+    /**
+     * 매출/수금 누적 증감 (행이 없으면 0 반환 → 호출측에서 신규 생성)
+     * - 거래처명은 값이 넘어온 경우에만 갱신
+     */
+    @Modifying
+    @Query("""
+            UPDATE ClientReceivable r
+            SET r.totalSalesAmount = r.totalSalesAmount + :salesDelta,
+                r.totalCollectionAmount = r.totalCollectionAmount + :collectionDelta,
+                r.outstandingBalance = r.outstandingBalance + :salesDelta - :collectionDelta,
+                r.clientCompany = COALESCE(:clientCompany, r.clientCompany)
+            WHERE r.clientId = :clientId
+            """)
+    int addDelta(@Param("clientId") String clientId,
+                 @Param("salesDelta") BigDecimal salesDelta,
+                 @Param("collectionDelta") BigDecimal collectionDelta,
+                 @Param("clientCompany") String clientCompany);
+
+    /**
+     * 미수금 요약 (매출 또는 수금이 있는 거래처, 거래처명 순)
+     * - [원장 행, 현재 거래처명] — 원장의 거래처명은 매출/수금 저장 시점 값이므로 거래처 이름 변경을 바로 반영하도록 조인
+     * - 거래처가 삭제되었으면 현재 거래처명은 null (원장 값 사용)
+     */
+    @Query("""
+            SELECT r, c.clientCompany FROM ClientReceivable r
+            LEFT JOIN Client c ON c.clientId = r.clientId
+            WHERE r.totalSalesAmount <> 0 OR r.totalCollectionAmount <> 0
+            ORDER BY COALESCE(c.clientCompany, r.clientCompany) ASC
+            """)
+    List<Object[]> findActiveOrderByClientCompany();
+}
@@ -0,0 +1,96 @@
+package com.bizmate.salesPages.report.receivables.service;
+
+import com.bizmate.salesPages.report.receivables.domain.ClientReceivable;
+import com.bizmate.salesPages.report.receivables.repository.ClientReceivableRepository;
+import com.bizmate.salesPages.report.salesRollup.service.SalesRollupService.Contribution;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * ClientReceivableLedger
+ * --------------------
+ * ✅ 거래처별 미수금 원장 증감
+ *    - 매출: 발행 완료 매출의 변경 전 기여분 -, 변경 후 기여분 + (롤업과 같은 Contribution 사용)
+ *    - 수금: 변경 전 금액 -, 변경 후 금액 + (거래처가 바뀌면 각 거래처에 반영)
+ * ✅ 매출/수금 서비스 트랜잭션 안에서 UPDATE ... + delta 로 반영 → 원자적
+ * ✅ 거래처 행이 없으면 0 행을 별도 트랜잭션으로 만든 뒤 다시 증감
+ *    (같은 거래처의 첫 매출/수금이 동시에 들어와도 PK 충돌로 업무 저장이 롤백되지 않음)
+ * ✅ 정합성은 ClientReceivableReconciler 가 점검/보정
+ */
+@Slf4j
+@Component
+public class ClientReceivableLedger {
+
+    private final ClientReceivableRepository receivableRepository;
+    private final TransactionTemplate requiresNew;
+
+    public ClientReceivableLedger(ClientReceivableRepository receivableRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.receivableRepository = receivableRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 매출 한 건의 변경을 원장에 반영
+     * @param before 변경 전 기여분 (신규 등록이거나 미발행이었으면 null)
+     * @param after  변경 후 기여분 (삭제되었거나 미발행이면 null)
+     */
+    @Transactional
+    public void applySales(Contribution before, Contribution after) {
+        if (Objects.equals(before, after)) return;
+
+        if (before != null) {
+            add(before.clientId(), null, before.amount().negate(), BigDecimal.ZERO);
+        }
+        if (after != null) {
+            add(after.clientId(), after.clientCompany(), after.amount(), BigDecimal.ZERO);
+        }
+    }
+
+    /**
+     * 수금 증감 (등록: +금액, 삭제: -금액, 수정: 이전 거래처 -이전 금액 후 새 거래처 +새 금액)
+     */
+    @Transactional
+    public void addCollection(String clientId, String clientCompany, BigDecimal delta) {
+        if (delta == null || delta.signum() == 0) return;
+        add(clientId, clientCompany, BigDecimal.ZERO, delta);
+    }
+
+    private void add(String clientId, String clientCompany, BigDecimal salesDelta, BigDecimal collectionDelta) {
+        if (clientId == null) return;   // 거래처 없는 매출은 미수금 대상 아님
+
+        if (receivableRepository.addDelta(clientId, salesDelta, collectionDelta, clientCompany) > 0) return;
+
+        ensureRow(clientId, clientCompany);
+        if (receivableRepository.addDelta(clientId, salesDelta, collectionDelta, clientCompany) == 0) {
+            throw new IllegalStateException("미수금 원장 행이 없습니다: " + clientId);
+        }
+    }
+
+    /**
+     * 원장 행을 0 으로 생성 (별도 트랜잭션 → 즉시 커밋)
+     * - 동시에 같은 거래처를 처음 만들면 PK 충돌 → 이미 생성된 것으로 간주
+     */
+    private void ensureRow(String clientId, String clientCompany) {
+        try {
+            requiresNew.executeWithoutResult(status -> receivableRepository.saveAndFlush(ClientReceivable.builder()
+                    .clientId(clientId)
+                    .clientCompany(clientCompany)
+                    .totalSalesAmount(BigDecimal.ZERO)
+                    .totalCollectionAmount(BigDecimal.ZERO)
+                    .outstandingBalance(BigDecimal.ZERO)
+                    .build()));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("🔁 미수금 원장 행 동시 생성: {}", clientId);
+        }
+    }
+}
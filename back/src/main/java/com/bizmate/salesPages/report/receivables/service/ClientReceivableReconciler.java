@@ -0,0 +1,155 @@
+package com.bizmate.salesPages.report.receivables.service;
+
+import com.bizmate.salesPages.management.collections.repository.CollectionRepository;
+import com.bizmate.salesPages.management.sales.sales.repository.SalesRepository;
+import com.bizmate.salesPages.report.receivables.domain.ClientReceivable;
+import com.bizmate.salesPages.report.receivables.dto.ClientReceivableDriftDTO;
+import com.bizmate.salesPages.report.receivables.repository.ClientReceivableRepository;
+import com.bizmate.salesPages.report.salesReport.dto.ClientSalesSummary;
+import com.bizmate.salesPages.report.salesReport.dto.CollectionSummary;
+import com.bizmate.salesPages.report.salesReport.service.SalesReportCache;
+import com.bizmate.salesPages.report.salesReport.service.SalesReportCache.Scope;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * ClientReceivableReconciler
+ * --------------------
+ * ✅ 매출(발행 완료)/수금 원본의 거래처별 합계와 미수금 원장을 비교해 다른 항목(drift)을 보고
+ * ✅ rebuild: 원장 행을 잠근 뒤 원본 집계로 덮어씀 (초기 적재 / 보정)
+ *    - 커밋 후 수금 기준 리포트 캐시 무효화
+ * ✅ 매일 새벽 자동 보정 + 관리자 수동 점검/재구축 + 원장이 비어 있으면 기동 시 1회 적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClientReceivableReconciler {
+
+    private final ClientReceivableRepository receivableRepository;
+    private final SalesRepository salesRepository;
+    private final CollectionRepository collectionRepository;
+    private final SalesReportCache reportCache;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void seedIfEmpty() {
+        if (receivableRepository.count() == 0 && (salesRepository.count() > 0 || collectionRepository.count() > 0)) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(cron = "${bizmate.receivables.reconcile-cron:0 50 3 * * *}")
+    @Transactional
+    public void scheduledReconcile() {
+        rebuild();
+    }
+
+    /**
+     * 정합성 점검만 (보정 없음, 점검 중 커밋된 매출/수금은 일시적 drift 로 보일 수 있음)
+     */
+    @Transactional(readOnly = true)
+    public List<ClientReceivableDriftDTO> check() {
+        return reconcile(false);
+    }
+
+    /**
+     * 원본 집계로 원장 재구축 + drift 보고
+     */
+    @Transactional
+    public List<ClientReceivableDriftDTO> rebuild() {
+        return reconcile(true);
+    }
+
+    private List<ClientReceivableDriftDTO> reconcile(boolean repair) {
+        long startedAt = System.currentTimeMillis();
+        List<ClientReceivableDriftDTO> drifts = new ArrayList<>();
+
+        // 1️⃣ 저장된 원장 (보정 시 잠금 후)
+        Map<String, ClientReceivable> stored = new HashMap<>();
+        for (ClientReceivable row : repair ? receivableRepository.findAllForUpdate() : receivableRepository.findAll()) {
+            stored.put(row.getClientId(), row);
+        }
+
+        // 2️⃣ 원본 집계 (거래처별 발행 매출 합계 + 수금 합계)
+        Map<String, ClientReceivable> actuals = new HashMap<>();
+        for (ClientSalesSummary sale : salesRepository.aggregateIssuedSalesByClient()) {
+            ClientReceivable actual = actual(actuals, sale.getClientId(), sale.getClientCompany());
+            actual.setTotalSalesAmount(Objects.requireNonNullElse(sale.getTotalSalesAmount(), BigDecimal.ZERO));
+        }
+        for (CollectionSummary col : collectionRepository.findTotalCollectionAmountGroupByClient()) {
+            ClientReceivable actual = actual(actuals, col.getClientId(), col.getClientCompany());
+            actual.setTotalCollectionAmount(Objects.requireNonNullElse(col.getTotalCollectionAmount(), BigDecimal.ZERO));
+        }
+
+        // 3️⃣ 비교 → 다르면 보정
+        for (ClientReceivable actual : actuals.values()) {
+            actual.setOutstandingBalance(actual.getTotalSalesAmount().subtract(actual.getTotalCollectionAmount()));
+            ClientReceivable row = stored.remove(actual.getClientId());
+
+            if (row == null) {
+                drifts.add(new ClientReceivableDriftDTO(actual.getClientId(), BigDecimal.ZERO, actual.getTotalSalesAmount(),
+                        BigDecimal.ZERO, actual.getTotalCollectionAmount()));
+                if (repair) {
+                    receivableRepository.save(actual);
+                }
+                continue;
+            }
+
+            if (row.getTotalSalesAmount().compareTo(actual.getTotalSalesAmount()) != 0
+                    || row.getTotalCollectionAmount().compareTo(actual.getTotalCollectionAmount()) != 0
+                    || row.getOutstandingBalance().compareTo(actual.getOutstandingBalance()) != 0) {
+                drifts.add(new ClientReceivableDriftDTO(row.getClientId(), row.getTotalSalesAmount(), actual.getTotalSalesAmount(),
+                        row.getTotalCollectionAmount(), actual.getTotalCollectionAmount()));
+            }
+            if (repair) {
+                row.setClientCompany(actual.getClientCompany());
+                row.setTotalSalesAmount(actual.getTotalSalesAmount());
+                row.setTotalCollectionAmount(actual.getTotalCollectionAmount());
+                row.setOutstandingBalance(actual.getOutstandingBalance());
+            }
+        }
+
+        // 4️⃣ 원본에 없는 원장 행 → 제거
+        for (ClientReceivable leftover : stored.values()) {
+            if (leftover.getTotalSalesAmount().signum() != 0 || leftover.getTotalCollectionAmount().signum() != 0) {
+                drifts.add(new ClientReceivableDriftDTO(leftover.getClientId(), leftover.getTotalSalesAmount(), BigDecimal.ZERO,
+                        leftover.getTotalCollectionAmount(), BigDecimal.ZERO));
+            }
+            if (repair) {
+                receivableRepository.delete(leftover);
+            }
+        }
+
+        if (repair) {
+            reportCache.invalidateAfterCommit(Scope.of(SalesReportCache.COLLECTIONS));
+        }
+
+        if (drifts.isEmpty()) {
+            log.info("✅ 미수금 원장 정합성 확인 완료 (drift 없음, {}ms)", System.currentTimeMillis() - startedAt);
+        } else {
+            log.warn("⚠️ 미수금 원장 drift {}건 {} ({}ms): {}", drifts.size(), repair ? "보정" : "발견",
+                    System.currentTimeMillis() - startedAt, drifts);
+        }
+        return drifts;
+    }
+
+    private static ClientReceivable actual(Map<String, ClientReceivable> actuals, String clientId, String clientCompany) {
+        ClientReceivable actual = actuals.computeIfAbsent(clientId, id -> ClientReceivable.builder()
+                .clientId(id)
+                .totalSalesAmount(BigDecimal.ZERO)
+                .totalCollectionAmount(BigDecimal.ZERO)
+                .build());
+        if (clientCompany != null) {
+            actual.setClientCompany(clientCompany);
+        }
+        return actual;
+    }
+}
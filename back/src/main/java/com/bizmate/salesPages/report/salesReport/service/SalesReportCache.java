@@ -0,0 +1,208 @@
+package com.bizmate.salesPages.report.salesReport.service;
+
+import com.bizmate.common.concurrent.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * SalesReportCache
+ * ----------------------
+ * ✅ 매출 리포트 결과 캐시 (read-through) — 키 = 리포트 종류 + 파라미터
+ *    - 항목마다 어떤 원본(매출/수금/목표/거래처)의 어느 연/월에 의존하는지 기록
+ *    - 매출/수금/목표/거래처 쓰기가 커밋되면 겹치는 항목만 제거 (예: 2024-03 매출 → 2025년 기간별 현황은 유지)
+ * ✅ 커밋 후 오래된 값이 보이지 않도록
+ *    - 쓰기 트랜잭션이 진행 중인 동안에는 캐시를 거치지 않고 바로 조회 (저장도 안 함)
+ *    - 조회 도중 무효화가 일어났으면 그 결과는 저장하지 않음
+ * ✅ LRU (최대 건수) + TTL
+ * ✅ 캐시에 없을 때 같은 키의 동시 조회는 SingleFlight 로 한 번만 실행
+ *    (무효화 버전을 키에 포함 → 커밋 전에 시작된 조회에 커밋 후 호출이 합류하지 않음)
+ * ✅ 메트릭: bizmate.report.cache (report, result=hit|miss|bypass), bizmate.report.cache.load (report),
+ *           bizmate.report.cache.evictions (cause=invalidated|expired|size)
+ * - 캐시된 결과는 여러 요청이 공유하므로 호출자는 읽기 전용으로 사용
+ */
+@Slf4j
+@Component
+public class SalesReportCache {
+
+    public static final String SALES = "sales";
+    public static final String COLLECTIONS = "collections";
+    public static final String TARGETS = "targets";
+    public static final String CLIENTS = "clients";
+
+    /**
+     * 원본 데이터 범위 (year/month 가 0 이면 전체)
+     * - 리포트 항목: 결과가 의존하는 범위
+     * - 쓰기: 변경된 범위
+     */
+    public record Scope(String source, int year, int month) {
+
+        public static Scope of(String source) {
+            return new Scope(source, 0, 0);
+        }
+
+        public static Scope of(String source, Integer year, Integer month) {
+            return new Scope(source,
+                    year != null && year > 0 ? year : 0,
+                    year != null && year > 0 && month != null && month > 0 ? month : 0);
+        }
+
+        boolean overlaps(Scope other) {
+            return source.equals(other.source)
+                    && (year == 0 || other.year == 0 || year == other.year)
+                    && (month == 0 || other.month == 0 || month == other.month);
+        }
+    }
+
+    private record Entry(Object value, List<Scope> dependsOn, long loadedAt) {
+    }
+
+    private final Map<String, Entry> entries;
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicInteger pendingWrites = new AtomicInteger();
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final MeterRegistry meterRegistry;
+    private final SingleFlight singleFlight;
+
+    public SalesReportCache(
+            @Value("${bizmate.report.cache.enabled:true}") boolean enabled,
+            @Value("${bizmate.report.cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${bizmate.report.cache.max-entries:200}") int maxEntries,
+            MeterRegistry meterRegistry,
+            SingleFlight singleFlight
+    ) {
+        this.enabled = enabled;
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.meterRegistry = meterRegistry;
+        this.singleFlight = singleFlight;
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > maxEntries) {
+                    evicted("size", 1);
+                    return true;
+                }
+                return false;
+            }
+        };
+        meterRegistry.gaugeMapSize("bizmate.report.cache.size", List.of(), entries);
+    }
+
+    /**
+     * 캐시 조회 → 없거나 만료되었으면 loader 실행 후 저장
+     * @param report    리포트 종류 (메트릭 태그)
+     * @param params    리포트 파라미터 (null 허용)
+     * @param dependsOn 결과가 의존하는 원본 범위
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String report, List<?> params, List<Scope> dependsOn, Supplier<T> loader) {
+        if (pendingWrites.get() > 0) {
+            record(report, "bypass");
+            return loader.get();
+        }
+
+        String key = report + params.stream().map(p -> Objects.toString(p, "")).collect(Collectors.joining("|", "|", ""));
+        long startedVersion = version.get();
+        if (!enabled) {
+            record(report, "bypass");
+            return singleFlight.execute(report, key + "@" + startedVersion, loader);
+        }
+
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (now - entry.loadedAt() < ttlMillis) {
+                    record(report, "hit");
+                    return (T) entry.value();
+                }
+                entries.remove(key);
+                evicted("expired", 1);
+            }
+        }
+
+        record(report, "miss");
+        T value = singleFlight.execute(report, key + "@" + startedVersion, () -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            T loaded = loader.get();
+            sample.stop(meterRegistry.timer("bizmate.report.cache.load", "report", report));
+            return loaded;
+        });
+
+        synchronized (entries) {
+            // 조회 도중 무효화/쓰기 시작이 있었으면 저장하지 않음 (이전 데이터일 수 있음)
+            if (version.get() == startedVersion && pendingWrites.get() == 0) {
+                entries.put(key, new Entry(value, List.copyOf(dependsOn), now));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 원본 변경 등록 (트랜잭션 안이면 완료 시까지 캐시 우회 + 커밋 후 무효화, 밖이면 즉시 무효화)
+     * - null 범위는 무시
+     */
+    public void invalidateAfterCommit(Scope... changes) {
+        List<Scope> changed = Arrays.stream(changes).filter(Objects::nonNull).toList();
+        if (changed.isEmpty()) return;
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(changed);
+            return;
+        }
+
+        pendingWrites.incrementAndGet();
+        version.incrementAndGet();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        invalidate(changed);
+                    }
+                } finally {
+                    version.incrementAndGet();
+                    pendingWrites.decrementAndGet();
+                }
+            }
+        });
+    }
+
+    public void invalidate(List<Scope> changed) {
+        int removed = 0;
+        synchronized (entries) {
+            version.incrementAndGet();
+            Iterator<Entry> it = entries.values().iterator();
+            while (it.hasNext()) {
+                Entry entry = it.next();
+                if (entry.dependsOn().stream().anyMatch(d -> changed.stream().anyMatch(d::overlaps))) {
+                    it.remove();
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            evicted("invalidated", removed);
+            log.debug("📊 리포트 캐시 무효화: {} → {}건", changed, removed);
+        }
+    }
+
+    private void record(String report, String result) {
+        meterRegistry.counter("bizmate.report.cache", "report", report, "result", result).increment();
+    }
+
+    private void evicted(String cause, int count) {
+        meterRegistry.counter("bizmate.report.cache.evictions", "cause", cause).increment(count);
+    }
+}
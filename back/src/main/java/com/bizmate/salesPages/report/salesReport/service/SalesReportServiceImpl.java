@@ -6,8 +6,14 @@ import com.bizmate.common.page.PageResponseDTO;
 import com.bizmate.salesPages.client.domain.Client;
 import com.bizmate.salesPages.client.repository.ClientRepository;
 import com.bizmate.salesPages.management.collections.repository.CollectionRepository;
-import com.bizmate.salesPages.management.sales.sales.repository.SalesRepository;
+import com.bizmate.salesPages.report.receivables.domain.ClientReceivable;
+import com.bizmate.salesPages.report.receivables.repository.ClientReceivableRepository;
 import com.bizmate.salesPages.report.salesReport.dto.*;
+import com.bizmate.salesPages.report.salesReport.service.SalesReportCache.Scope;
+import com.bizmate.salesPages.report.salesRollup.domain.SalesMonthRollup;
+import com.bizmate.salesPages.report.salesRollup.repository.SalesClientMonthRollupRepository;
+import com.bizmate.salesPages.report.salesRollup.repository.SalesMonthRollupRepository;
+import com.bizmate.salesPages.report.salesRollup.repository.SalesProjectMonthRollupRepository;
 import com.bizmate.salesPages.report.salesTarget.domain.SalesTarget;
 import com.bizmate.salesPages.report.salesTarget.repository.SalesTargetRepository;
 import lombok.RequiredArgsConstructor;
@@ -29,11 +35,15 @@ import java.util.stream.IntStream;
 @Transactional(readOnly = true) // 리포트 서비스는 대부분 읽기 전용
 public class SalesReportServiceImpl implements SalesReportService {
 
-    // 🔽 리포트에 필요한 모든 Repository 주입
-    private final SalesRepository salesRepository;
+    // 🔽 리포트에 필요한 모든 Repository 주입 (매출 합계는 롤업 테이블, 미수금은 원장에서 조회)
+    private final SalesMonthRollupRepository monthRollupRepository;
+    private final SalesClientMonthRollupRepository clientRollupRepository;
+    private final SalesProjectMonthRollupRepository projectRollupRepository;
     private final CollectionRepository collectionRepository;
     private final SalesTargetRepository salesTargetRepository;
     private final ClientRepository clientRepository;
+    private final ClientReceivableRepository receivableRepository;
+    private final SalesReportCache reportCache;
 
     /**
      * [신규] 거래처별 매출 현황 (월별, 페이징)
@@ -41,6 +51,16 @@ public class SalesReportServiceImpl implements SalesReportService {
     @Override
     public PageResponseDTO<ClientSalesStatusDTO> getClientSalesStatus(
             PageRequestDTO pageRequestDTO, Integer year, Integer month) {
+        // 미수금(전체 기간) 포함 → 매출/수금 전체, 거래처 목록, 해당 연/월 목표에 의존
+        return reportCache.get("status-client",
+                Arrays.asList(year, month, pageRequestDTO.getPage(), pageRequestDTO.getSize()),
+                List.of(Scope.of(SalesReportCache.SALES), Scope.of(SalesReportCache.COLLECTIONS),
+                        Scope.of(SalesReportCache.CLIENTS), Scope.of(SalesReportCache.TARGETS, year, month)),
+                () -> loadClientSalesStatus(pageRequestDTO, year, month));
+    }
+
+    private PageResponseDTO<ClientSalesStatusDTO> loadClientSalesStatus(
+            PageRequestDTO pageRequestDTO, Integer year, Integer month) {
 
         // 1. 목표액 조회 (월별 또는 연간)
         BigDecimal totalTargetAmount;
@@ -56,23 +76,18 @@ public class SalesReportServiceImpl implements SalesReportService {
                     .reduce(BigDecimal.ZERO, BigDecimal::add);
         }
 
-        // 2. '전체 기간' 미수금 맵 조회 (로직 동일)
-        Map<String, ClientReceivablesDTO> receivablesMap = this.getClientReceivablesSummaryInternal().stream()
-                .collect(Collectors.toMap(ClientReceivablesDTO::getClientId, dto -> dto));
-
-        // 3. '월별' 또는 '연간' 매출 맵 조회
+        // 2. '월별' 또는 '연간' 매출 맵 조회
         Map<String, BigDecimal> salesMap;
         if (month != null && month > 0) {
             // [기존] 월별 매출
-            String yearMonth = String.format("%d-%02d", year, month);
-            salesMap = salesRepository.findClientSalesSummaryByYearMonth(yearMonth).stream()
+            salesMap = clientRollupRepository.findClientSummaryByYearMonth(year, month).stream()
                     .collect(Collectors.toMap(ClientSalesSummary::getClientId, ClientSalesSummary::getTotalSalesAmount));
         } else {
             // [신규] 연간 매출
-            salesMap = salesRepository.findClientSalesSummaryByYear(String.valueOf(year)).stream()
+            salesMap = clientRollupRepository.findClientSummaryByYear(year).stream()
                     .collect(Collectors.toMap(ClientSalesSummary::getClientId, ClientSalesSummary::getTotalSalesAmount));
         }
-        // 4. '거래처(Client)' 목록을 페이징하여 조회
+        // 3. '거래처(Client)' 목록을 페이징하여 조회
         Pageable pageable = PageRequest.of(
                 pageRequestDTO.getPage() - 1,
                 pageRequestDTO.getSize(),
@@ -80,14 +95,17 @@ public class SalesReportServiceImpl implements SalesReportService {
         );
         Page<Client> clientPage = clientRepository.findAll(pageable);
 
+        // 4. 현재 페이지 거래처의 미수금 원장 행만 조회 ('전체 기간' 미수금)
+        Map<String, BigDecimal> receivablesMap = receivableRepository.findAllById(
+                        clientPage.map(Client::getClientId).getContent()).stream()
+                .collect(Collectors.toMap(ClientReceivable::getClientId, ClientReceivable::getOutstandingBalance));
+
         // 5. Client 목록을 ClientSalesStatusDTO로 변환
         Page<ClientSalesStatusDTO> dtoPage = clientPage.map(client -> {
             String clientId = client.getClientId();
 
             BigDecimal sales = salesMap.getOrDefault(clientId, BigDecimal.ZERO); // 월간 또는 연간 매출
-            BigDecimal outstandingBalance = Optional.ofNullable(receivablesMap.get(clientId))
-                    .map(ClientReceivablesDTO::getOutstandingBalance)
-                    .orElse(BigDecimal.ZERO);
+            BigDecimal outstandingBalance = receivablesMap.getOrDefault(clientId, BigDecimal.ZERO);
 
             // 목표 대비 달성률 (월간 목표 또는 연간 목표 기준)
             BigDecimal achievementRatio = BigDecimal.ZERO;
@@ -117,13 +135,19 @@ public class SalesReportServiceImpl implements SalesReportService {
      */
     @Override
     public List<PeriodSalesStatusDTO> getPeriodSalesStatus(Integer year) {
+        return reportCache.get("status-period", Arrays.asList(year),
+                List.of(Scope.of(SalesReportCache.SALES, year, null), Scope.of(SalesReportCache.TARGETS, year, null)),
+                () -> loadPeriodSalesStatus(year));
+    }
+
+    private List<PeriodSalesStatusDTO> loadPeriodSalesStatus(Integer year) {
 
         // 1. 해당 '연도'의 월별 '목표' 맵 조회
         Map<Integer, BigDecimal> targetMap = salesTargetRepository.findByTargetYear(year).stream()
                 .collect(Collectors.toMap(SalesTarget::getTargetMonth, SalesTarget::getTargetAmount));
 
         // 2. 해당 '연도'의 월별 '매출' 맵 조회
-        Map<Integer, BigDecimal> salesMap = salesRepository.findMonthlySalesSummaryByYear(year).stream()
+        Map<Integer, BigDecimal> salesMap = monthRollupRepository.findMonthlySummary(year).stream()
                 .collect(Collectors.toMap(MonthlySalesSummary::getMonth, MonthlySalesSummary::getTotalSalesAmount));
 
         // 3. 1월부터 12월까지 순회하며 DTO 리스트 생성
@@ -150,6 +174,12 @@ public class SalesReportServiceImpl implements SalesReportService {
      */
     @Override
     public List<YearlySalesStatusDTO> getYearlySalesStatus() {
+        return reportCache.get("status-annual", List.of(),
+                List.of(Scope.of(SalesReportCache.SALES), Scope.of(SalesReportCache.TARGETS)),
+                this::loadYearlySalesStatus);
+    }
+
+    private List<YearlySalesStatusDTO> loadYearlySalesStatus() {
         // 1. 연도별 목표액 맵
         Map<Integer, BigDecimal> targetMap = salesTargetRepository.findYearlyTargetSummary().stream()
                 .collect(Collectors.toMap(
@@ -158,7 +188,7 @@ public class SalesReportServiceImpl implements SalesReportService {
                 ));
 
         // 2. 연도별 매출액 맵
-        Map<Integer, BigDecimal> salesMap = salesRepository.findYearlySalesSummary().stream()
+        Map<Integer, BigDecimal> salesMap = monthRollupRepository.findYearlySummary().stream()
                 .collect(Collectors.toMap(YearlySalesSummary::getYear, YearlySalesSummary::getTotalSalesAmount));
 
         // 3. 모든 연도 키 취합 (중복 제거 및 정렬)
@@ -187,71 +217,64 @@ public class SalesReportServiceImpl implements SalesReportService {
     // --- 🔽 CollectionService에서 완전히 이동해 온 메서드들 🔽 ---
 
     /**
-     * (private 헬퍼로 변경) 미수금 계산 로직
+     * 미수금 원장 행 → DTO (거래처명은 현재 거래처 정보 우선)
      */
-    private List<ClientReceivablesDTO> getClientReceivablesSummaryInternal() {
-        List<ClientSalesSummary> salesSummaries = salesRepository.findTotalSalesAmountGroupByClient();
-        List<CollectionSummary> collectionSummaries = collectionRepository.findTotalCollectionAmountGroupByClient();
-
-        Map<String, ClientReceivablesDTO> receivablesMap = new HashMap<>();
-
-        for (ClientSalesSummary sale : salesSummaries) {
-            receivablesMap.put(
-                    sale.getClientId(),
-                    ClientReceivablesDTO.builder()
-                            .clientId(sale.getClientId())
-                            .clientCompany(sale.getClientCompany())
-                            .totalSalesAmount(sale.getTotalSalesAmount())
-                            .totalCollectionAmount(BigDecimal.ZERO)
-                            .build()
-            );
-        }
-
-        for (CollectionSummary col : collectionSummaries) {
-            receivablesMap.compute(col.getClientId(), (k, v) -> {
-                if (v == null) {
-                    return ClientReceivablesDTO.builder()
-                            .clientId(col.getClientId())
-                            .clientCompany(col.getClientCompany())
-                            .totalSalesAmount(BigDecimal.ZERO)
-                            .totalCollectionAmount(col.getTotalCollectionAmount())
-                            .build();
-                }
-                v.setTotalCollectionAmount(col.getTotalCollectionAmount());
-                return v;
-            });
-        }
-
-        return receivablesMap.values().stream()
-                .peek(dto -> dto.setOutstandingBalance(
-                        dto.getTotalSalesAmount().subtract(dto.getTotalCollectionAmount())
-                ))
-                .sorted(Comparator.comparing(ClientReceivablesDTO::getClientCompany))
-                .collect(Collectors.toList());
+    private static ClientReceivablesDTO toReceivablesDTO(ClientReceivable row, String currentClientCompany) {
+        return ClientReceivablesDTO.builder()
+                .clientId(row.getClientId())
+                .clientCompany(currentClientCompany != null ? currentClientCompany : row.getClientCompany())
+                .totalSalesAmount(row.getTotalSalesAmount())
+                .totalCollectionAmount(row.getTotalCollectionAmount())
+                .outstandingBalance(row.getOutstandingBalance())
+                .build();
     }
 
     @Override
     public List<ClientReceivablesDTO> getClientReceivablesSummary() {
-        return this.getClientReceivablesSummaryInternal();
+        return reportCache.get("receivables", List.of(),
+                List.of(Scope.of(SalesReportCache.SALES), Scope.of(SalesReportCache.COLLECTIONS),
+                        Scope.of(SalesReportCache.CLIENTS)),
+                () -> receivableRepository.findActiveOrderByClientCompany().stream()
+                        .map(row -> toReceivablesDTO((ClientReceivable) row[0], (String) row[1]))
+                        .collect(Collectors.toList()));
     }
 
     @Override
     public List<CollectionSummary> getClientTotalCollectionSummary() {
-        return collectionRepository.findTotalCollectionAmountGroupByClient();
+        return reportCache.get("collection-client", List.of(),
+                List.of(Scope.of(SalesReportCache.COLLECTIONS), Scope.of(SalesReportCache.CLIENTS)),
+                collectionRepository::findTotalCollectionAmountGroupByClient);
     }
 
     @Override
     public List<ClientSalesSummary> getClientTotalSalesSummary() {
-        return salesRepository.findTotalSalesAmountGroupByClient();
+        return reportCache.get("sales-client", List.of(), List.of(Scope.of(SalesReportCache.SALES)),
+                clientRollupRepository::findClientTotalSummary);
     }
 
     @Override
     public List<ProjectSalesSummary> getProjectTotalSalesSummary() {
-        return salesRepository.findTotalSalesAmountGroupByProject();
+        return reportCache.get("sales-project", List.of(), List.of(Scope.of(SalesReportCache.SALES)),
+                projectRollupRepository::findProjectTotalSummary);
     }
 
     @Override
     public List<QuarterlySalesSummary> getQuarterlyTotalSalesSummary() {
-        return salesRepository.findTotalSalesAmountGroupByQuarter();
+        return reportCache.get("sales-quarter", List.of(), List.of(Scope.of(SalesReportCache.SALES)),
+                this::loadQuarterlyTotalSalesSummary);
+    }
+
+    private List<QuarterlySalesSummary> loadQuarterlyTotalSalesSummary() {
+        // 월 롤업 행(연도 수 × 12 이내)을 분기로 합산, 최신 연도/분기 순
+        Map<List<Integer>, BigDecimal> byQuarter = new HashMap<>();
+        for (SalesMonthRollup row : monthRollupRepository.findAllDated()) {
+            int quarter = (row.getSalesMonth() + 2) / 3;
+            byQuarter.merge(List.of(row.getSalesYear(), quarter), row.getTotalAmount(), BigDecimal::add);
+        }
+        return byQuarter.entrySet().stream()
+                .map(e -> new QuarterlySalesSummary(e.getKey().get(0), e.getKey().get(1), e.getValue()))
+                .sorted(Comparator.comparing(QuarterlySalesSummary::getYear)
+                        .thenComparing(QuarterlySalesSummary::getQuarter).reversed())
+                .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,53 @@
+package com.bizmate.salesPages.report.salesRollup.controller;
+
+import com.bizmate.salesPages.report.salesRollup.dto.SalesRollupDriftDTO;
+import com.bizmate.salesPages.report.salesRollup.service.SalesRollupReconciler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/sales/report/rollup")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class SalesRollupAdminController {
+
+    private final SalesRollupReconciler rollupReconciler;
+
+    /**
+     * 매출 롤업 정합성 점검 (원본 집계와 비교만)
+     * GET /api/sales/report/rollup/check
+     */
+    @GetMapping("/check")
+    public ResponseEntity<Map<String, Object>> check() {
+        List<SalesRollupDriftDTO> drifts = rollupReconciler.check();
+        return ResponseEntity.ok(Map.of(
+                "driftCount", drifts.size(),
+                "drifts", drifts
+        ));
+    }
+
+    /**
+     * 매출 롤업 재구축 (초기 적재 / 보정)
+     * POST /api/sales/report/rollup/rebuild
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuild() {
+        log.info("🔄 [관리자] 매출 롤업 재구축 요청");
+
+        List<SalesRollupDriftDTO> drifts = rollupReconciler.rebuild();
+        return ResponseEntity.ok(Map.of(
+                "driftCount", drifts.size(),
+                "drifts", drifts
+        ));
+    }
+}
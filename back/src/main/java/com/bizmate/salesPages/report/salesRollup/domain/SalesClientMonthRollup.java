@@ -0,0 +1,31 @@
+package com.bizmate.salesPages.report.salesRollup.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * ✅ SalesClientMonthRollup (거래처 × 연/월 발행 매출 합계)
+ * - 거래처별 현황 / 거래처별 누적 매출용
+ * - 거래처명은 마지막으로 반영된 매출의 거래처명
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@SuperBuilder
+@Table(name = "SALES_ROLLUP_CLIENT_MONTH",
+        indexes = @Index(name = "IDX_SRCM_YEAR_MONTH", columnList = "SALES_YEAR, SALES_MONTH"))
+public class SalesClientMonthRollup extends SalesRollupBase {
+
+    @Column(name = "CLIENT_ID")
+    private String clientId;
+
+    @Column(name = "CLIENT_COMPANY")
+    private String clientCompany;
+}
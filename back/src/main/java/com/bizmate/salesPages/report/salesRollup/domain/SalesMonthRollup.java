@@ -0,0 +1,23 @@
+package com.bizmate.salesPages.report.salesRollup.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * ✅ SalesMonthRollup (연/월 발행 매출 합계)
+ * - 기간별/연도별/분기별 현황 탭용
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@SuperBuilder
+@Table(name = "SALES_ROLLUP_MONTH",
+        indexes = @Index(name = "IDX_SRM_YEAR_MONTH", columnList = "SALES_YEAR, SALES_MONTH"))
+public class SalesMonthRollup extends SalesRollupBase {
+}
@@ -0,0 +1,31 @@
+package com.bizmate.salesPages.report.salesRollup.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * ✅ SalesProjectMonthRollup (프로젝트 × 연/월 발행 매출 합계)
+ * - 프로젝트별 누적 매출용
+ * - 프로젝트명은 마지막으로 반영된 매출의 프로젝트명
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@SuperBuilder
+@Table(name = "SALES_ROLLUP_PROJECT_MONTH",
+        indexes = @Index(name = "IDX_SRPM_YEAR_MONTH", columnList = "SALES_YEAR, SALES_MONTH"))
+public class SalesProjectMonthRollup extends SalesRollupBase {
+
+    @Column(name = "PROJECT_ID")
+    private String projectId;
+
+    @Column(name = "PROJECT_NAME")
+    private String projectName;
+}
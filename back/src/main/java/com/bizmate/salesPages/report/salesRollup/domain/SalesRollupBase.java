@@ -0,0 +1,39 @@
+package com.bizmate.salesPages.report.salesRollup.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import java.math.BigDecimal;
+
+/**
+ * ✅ 매출 롤업 공통 컬럼
+ * - 발행 완료(invoiceIssued) 매출만 집계
+ * - ROLLUP_KEY: 집계 단위를 나타내는 문자열 키 (예: "C001|2025|10"), 매출일 없는 매출은 0년 0월
+ */
+@MappedSuperclass
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public abstract class SalesRollupBase {
+
+    @Id
+    @Column(name = "ROLLUP_KEY", length = 120, nullable = false)
+    private String rollupKey;
+
+    @Column(name = "SALES_YEAR", nullable = false)
+    private int salesYear;
+
+    @Column(name = "SALES_MONTH", nullable = false)
+    private int salesMonth;
+
+    @Column(name = "TOTAL_AMOUNT", precision = 19, scale = 2, nullable = false)
+    private BigDecimal totalAmount;
+
+    @Column(name = "SALES_COUNT", nullable = false)
+    private long salesCount;
+}
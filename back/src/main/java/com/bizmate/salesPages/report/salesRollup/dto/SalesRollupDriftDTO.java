@@ -0,0 +1,22 @@
+package com.bizmate.salesPages.report.salesRollup.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 매출 롤업 정합성 점검 결과 (롤업값 ≠ 원본 집계값)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesRollupDriftDTO {
+    private String rollup;        // month | client | project
+    private String rollupKey;
+    private BigDecimal storedAmount;
+    private BigDecimal actualAmount;
+    private long storedCount;
+    private long actualCount;
+}
@@ -0,0 +1,77 @@
+package com.bizmate.salesPages.report.salesRollup.repository;
+
+import com.bizmate.salesPages.report.salesReport.dto.ClientSalesSummary;
+import com.bizmate.salesPages.report.salesRollup.domain.SalesClientMonthRollup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 거래처 × 연/월 매출 롤업 Repository
+ */
+@Repository
+public interface SalesClientMonthRollupRepository extends JpaRepository<SalesClientMonthRollup, String> {
+
+    /**
+     * 정합성 보정용 전체 행 잠금 조회 (보정 중 증감 반영은 커밋까지 대기)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM SalesClientMonthRollup r")
+    List<SalesClientMonthRollup> findAllForUpdate();
+
+    /**
+     * 합계 증감 + 거래처명 갱신 (clientCompany 가 null 이면 유지, 행이 없으면 0 반환)
+     */
+    @Modifying
+    @Query("""
+            UPDATE SalesClientMonthRollup r
+            SET r.totalAmount = r.totalAmount + :amount, r.salesCount = r.salesCount + :count,
+                r.clientCompany = COALESCE(:clientCompany, r.clientCompany)
+            WHERE r.rollupKey = :rollupKey
+            """)
+    int addDelta(@Param("rollupKey") String rollupKey,
+                 @Param("amount") BigDecimal amount,
+                 @Param("count") long count,
+                 @Param("clientCompany") String clientCompany);
+
+    // 특정 연월의 거래처별 매출 합계 (거래처별 현황 탭)
+    @Query("""
+            SELECT new com.bizmate.salesPages.report.salesReport.dto.ClientSalesSummary(
+                r.clientId, r.clientCompany, r.totalAmount
+            )
+            FROM SalesClientMonthRollup r
+            WHERE r.salesYear = :year AND r.salesMonth = :month AND r.salesCount > 0
+            """)
+    List<ClientSalesSummary> findClientSummaryByYearMonth(@Param("year") int year, @Param("month") int month);
+
+    // 특정 연도의 거래처별 매출 합계 (거래처별 현황 - '월' 전체)
+    @Query("""
+            SELECT new com.bizmate.salesPages.report.salesReport.dto.ClientSalesSummary(
+                r.clientId, MAX(r.clientCompany), SUM(r.totalAmount)
+            )
+            FROM SalesClientMonthRollup r
+            WHERE r.salesYear = :year
+            GROUP BY r.clientId
+            HAVING SUM(r.salesCount) > 0
+            """)
+    List<ClientSalesSummary> findClientSummaryByYear(@Param("year") int year);
+
+    // 거래처별 누적 매출 (전체 기간)
+    @Query("""
+            SELECT new com.bizmate.salesPages.report.salesReport.dto.ClientSalesSummary(
+                r.clientId, MAX(r.clientCompany), SUM(r.totalAmount)
+            )
+            FROM SalesClientMonthRollup r
+            GROUP BY r.clientId
+            HAVING SUM(r.salesCount) > 0
+            ORDER BY SUM(r.totalAmount) DESC
+            """)
+    List<ClientSalesSummary> findClientTotalSummary();
+}
@@ -0,0 +1,70 @@
+package com.bizmate.salesPages.report.salesRollup.repository;
+
+import com.bizmate.salesPages.report.salesReport.dto.MonthlySalesSummary;
+import com.bizmate.salesPages.report.salesReport.dto.YearlySalesSummary;
+import com.bizmate.salesPages.report.salesRollup.domain.SalesMonthRollup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 연/월 매출 롤업 Repository
+ */
+@Repository
+public interface SalesMonthRollupRepository extends JpaRepository<SalesMonthRollup, String> {
+
+    /**
+     * 정합성 보정용 전체 행 잠금 조회 (보정 중 증감 반영은 커밋까지 대기)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM SalesMonthRollup r")
+    List<SalesMonthRollup> findAllForUpdate();
+
+    /**
+     * 합계 증감 (행이 없으면 0 반환 → 호출측에서 신규 생성)
+     */
+    @Modifying
+    @Query("""
+            UPDATE SalesMonthRollup r
+            SET r.totalAmount = r.totalAmount + :amount, r.salesCount = r.salesCount + :count
+            WHERE r.rollupKey = :rollupKey
+            """)
+    int addDelta(@Param("rollupKey") String rollupKey,
+                 @Param("amount") BigDecimal amount,
+                 @Param("count") long count);
+
+    // 특정 연도의 월별 매출 합계 (기간별 현황 탭)
+    @Query("""
+            SELECT new com.bizmate.salesPages.report.salesReport.dto.MonthlySalesSummary(
+                r.salesYear, r.salesMonth, r.totalAmount
+            )
+            FROM SalesMonthRollup r
+            WHERE r.salesYear = :year AND r.salesCount > 0
+            ORDER BY r.salesMonth ASC
+            """)
+    List<MonthlySalesSummary> findMonthlySummary(@Param("year") int year);
+
+    // 연도별 총 매출 (연도별 요약, 매출일 없는 0년 제외)
+    @Query("""
+            SELECT new com.bizmate.salesPages.report.salesReport.dto.YearlySalesSummary(
+                r.salesYear, SUM(r.totalAmount)
+            )
+            FROM SalesMonthRollup r
+            WHERE r.salesYear > 0
+            GROUP BY r.salesYear
+            HAVING SUM(r.salesCount) > 0
+            ORDER BY r.salesYear DESC
+            """)
+    List<YearlySalesSummary> findYearlySummary();
+
+    // 분기 집계용 월 행 (매출일 없는 0년 제외)
+    @Query("SELECT r FROM SalesMonthRollup r WHERE r.salesYear > 0 AND r.salesCount > 0")
+    List<SalesMonthRollup> findAllDated();
+}
@@ -0,0 +1,55 @@
+package com.bizmate.salesPages.report.salesRollup.repository;
+
+import com.bizmate.salesPages.report.salesReport.dto.ProjectSalesSummary;
+import com.bizmate.salesPages.report.salesRollup.domain.SalesProjectMonthRollup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 프로젝트 × 연/월 매출 롤업 Repository
+ */
+@Repository
+public interface SalesProjectMonthRollupRepository extends JpaRepository<SalesProjectMonthRollup, String> {
+
+    /**
+     * 정합성 보정용 전체 행 잠금 조회 (보정 중 증감 반영은 커밋까지 대기)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM SalesProjectMonthRollup r")
+    List<SalesProjectMonthRollup> findAllForUpdate();
+
+    /**
+     * 합계 증감 + 프로젝트명 갱신 (projectName 이 null 이면 유지, 행이 없으면 0 반환)
+     */
+    @Modifying
+    @Query("""
+            UPDATE SalesProjectMonthRollup r
+            SET r.totalAmount = r.totalAmount + :amount, r.salesCount = r.salesCount + :count,
+                r.projectName = COALESCE(:projectName, r.projectName)
+            WHERE r.rollupKey = :rollupKey
+            """)
+    int addDelta(@Param("rollupKey") String rollupKey,
+                 @Param("amount") BigDecimal amount,
+                 @Param("count") long count,
+                 @Param("projectName") String projectName);
+
+    // 프로젝트별 누적 매출 (전체 기간)
+    @Query("""
+            SELECT new com.bizmate.salesPages.report.salesReport.dto.ProjectSalesSummary(
+                r.projectId, MAX(r.projectName), SUM(r.totalAmount)
+            )
+            FROM SalesProjectMonthRollup r
+            GROUP BY r.projectId
+            HAVING SUM(r.salesCount) > 0
+            ORDER BY SUM(r.totalAmount) DESC
+            """)
+    List<ProjectSalesSummary> findProjectTotalSummary();
+}
@@ -0,0 +1,194 @@
+package com.bizmate.salesPages.report.salesRollup.service;
+
+import com.bizmate.salesPages.management.sales.sales.repository.SalesRepository;
+import com.bizmate.salesPages.report.salesReport.service.SalesReportCache;
+import com.bizmate.salesPages.report.salesReport.service.SalesReportCache.Scope;
+import com.bizmate.salesPages.report.salesRollup.domain.SalesClientMonthRollup;
+import com.bizmate.salesPages.report.salesRollup.domain.SalesMonthRollup;
+import com.bizmate.salesPages.report.salesRollup.domain.SalesProjectMonthRollup;
+import com.bizmate.salesPages.report.salesRollup.domain.SalesRollupBase;
+import com.bizmate.salesPages.report.salesRollup.dto.SalesRollupDriftDTO;
+import com.bizmate.salesPages.report.salesRollup.repository.SalesClientMonthRollupRepository;
+import com.bizmate.salesPages.report.salesRollup.repository.SalesMonthRollupRepository;
+import com.bizmate.salesPages.report.salesRollup.repository.SalesProjectMonthRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * SalesRollupReconciler
+ * --------------------
+ * ✅ 매출 원본(SALES) 집계와 롤업 3종을 비교해 다른 항목(drift)을 보고
+ * ✅ rebuild: 롤업 행을 잠근 뒤 원본 집계로 덮어씀 (초기 적재 / 보정)
+ *    - 잠금 중 들어온 매출 증감은 커밋 후 보정된 값 위에 반영됨
+ *    - 커밋 후 매출 리포트 캐시 무효화 (보정된 값이 TTL 동안 가려지지 않도록)
+ * ✅ 매일 새벽 자동 보정 + 관리자 수동 점검/재구축 + 롤업이 비어 있으면 기동 시 1회 적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SalesRollupReconciler {
+
+    private final SalesRepository salesRepository;
+    private final SalesMonthRollupRepository monthRollupRepository;
+    private final SalesClientMonthRollupRepository clientRollupRepository;
+    private final SalesProjectMonthRollupRepository projectRollupRepository;
+    private final SalesReportCache reportCache;
+
+    /** 원본 집계 한 행 */
+    private record Actual(String id, String name, int year, int month, BigDecimal amount, long count) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void seedIfEmpty() {
+        if (monthRollupRepository.count() == 0 && salesRepository.count() > 0) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(cron = "${bizmate.sales.rollup.reconcile-cron:0 40 3 * * *}")
+    @Transactional
+    public void scheduledReconcile() {
+        rebuild();
+    }
+
+    /**
+     * 정합성 점검만 (보정 없음, 점검 중 커밋된 매출은 일시적 drift 로 보일 수 있음)
+     */
+    @Transactional(readOnly = true)
+    public List<SalesRollupDriftDTO> check() {
+        return reconcile(false);
+    }
+
+    /**
+     * 원본 집계로 롤업 재구축 + drift 보고
+     */
+    @Transactional
+    public List<SalesRollupDriftDTO> rebuild() {
+        return reconcile(true);
+    }
+
+    private List<SalesRollupDriftDTO> reconcile(boolean repair) {
+        long startedAt = System.currentTimeMillis();
+        List<SalesRollupDriftDTO> drifts = new ArrayList<>();
+
+        reconcile("month", repair, drifts, monthRollupRepository,
+                repair ? monthRollupRepository::findAllForUpdate : monthRollupRepository::findAll,
+                () -> salesRepository.aggregateIssuedSalesByMonth().stream()
+                        .map(row -> actual(null, null, row, 0))
+                        .toList(),
+                a -> SalesRollupService.monthKey(a.year(), a.month()),
+                a -> SalesMonthRollup.builder().salesYear(a.year()).salesMonth(a.month()).build(),
+                (r, a) -> { });
+
+        reconcile("client", repair, drifts, clientRollupRepository,
+                repair ? clientRollupRepository::findAllForUpdate : clientRollupRepository::findAll,
+                () -> salesRepository.aggregateIssuedSalesByClientMonth().stream()
+                        .map(row -> actual((String) row[0], (String) row[1], row, 2))
+                        .toList(),
+                a -> SalesRollupService.dimensionKey(a.id(), a.year(), a.month()),
+                a -> SalesClientMonthRollup.builder().salesYear(a.year()).salesMonth(a.month()).clientId(a.id()).build(),
+                (r, a) -> r.setClientCompany(a.name()));
+
+        reconcile("project", repair, drifts, projectRollupRepository,
+                repair ? projectRollupRepository::findAllForUpdate : projectRollupRepository::findAll,
+                () -> salesRepository.aggregateIssuedSalesByProjectMonth().stream()
+                        .map(row -> actual((String) row[0], (String) row[1], row, 2))
+                        .toList(),
+                a -> SalesRollupService.dimensionKey(a.id(), a.year(), a.month()),
+                a -> SalesProjectMonthRollup.builder().salesYear(a.year()).salesMonth(a.month()).projectId(a.id()).build(),
+                (r, a) -> r.setProjectName(a.name()));
+
+        if (repair) {
+            reportCache.invalidateAfterCommit(Scope.of(SalesReportCache.SALES));
+        }
+
+        if (drifts.isEmpty()) {
+            log.info("✅ 매출 롤업 정합성 확인 완료 (drift 없음, {}ms)", System.currentTimeMillis() - startedAt);
+        } else {
+            log.warn("⚠️ 매출 롤업 drift {}건 {} ({}ms): {}", drifts.size(), repair ? "보정" : "발견",
+                    System.currentTimeMillis() - startedAt, drifts);
+        }
+        return drifts;
+    }
+
+    private <E extends SalesRollupBase> void reconcile(String rollup, boolean repair, List<SalesRollupDriftDTO> drifts,
+                                                      JpaRepository<E, String> repository,
+                                                      Supplier<List<E>> storedLoader,
+                                                      Supplier<List<Actual>> actualLoader,
+                                                      Function<Actual, String> keyOf,
+                                                      Function<Actual, E> factory,
+                                                      BiConsumer<E, Actual> nameUpdater) {
+        // 1️⃣ 저장된 롤업 (보정 시 잠금 후) → 2️⃣ 원본 집계
+        Map<String, E> stored = new HashMap<>();
+        for (E row : storedLoader.get()) {
+            stored.put(row.getRollupKey(), row);
+        }
+        List<Actual> actuals = actualLoader.get();
+
+        // 3️⃣ 비교 → 다르면 보정
+        for (Actual actual : actuals) {
+            String key = keyOf.apply(actual);
+            E row = stored.remove(key);
+
+            if (row == null) {
+                drifts.add(new SalesRollupDriftDTO(rollup, key, BigDecimal.ZERO, actual.amount(), 0, actual.count()));
+                if (repair) {
+                    E created = factory.apply(actual);
+                    created.setRollupKey(key);
+                    created.setTotalAmount(actual.amount());
+                    created.setSalesCount(actual.count());
+                    nameUpdater.accept(created, actual);
+                    repository.save(created);
+                }
+                continue;
+            }
+
+            if (row.getTotalAmount().compareTo(actual.amount()) != 0 || row.getSalesCount() != actual.count()) {
+                drifts.add(new SalesRollupDriftDTO(rollup, key, row.getTotalAmount(), actual.amount(),
+                        row.getSalesCount(), actual.count()));
+            }
+            if (repair) {
+                row.setTotalAmount(actual.amount());
+                row.setSalesCount(actual.count());
+                nameUpdater.accept(row, actual);
+            }
+        }
+
+        // 4️⃣ 원본에 없는 롤업 행 → 제거
+        for (E leftover : stored.values()) {
+            if (leftover.getSalesCount() != 0 || leftover.getTotalAmount().signum() != 0) {
+                drifts.add(new SalesRollupDriftDTO(rollup, leftover.getRollupKey(), leftover.getTotalAmount(),
+                        BigDecimal.ZERO, leftover.getSalesCount(), 0));
+            }
+            if (repair) {
+                repository.delete(leftover);
+            }
+        }
+    }
+
+    /** [.., 연, 월, 합계, 건수] 행 → Actual (매출일 없으면 0년 0월) */
+    private static Actual actual(String id, String name, Object[] row, int offset) {
+        Number year = (Number) row[offset];
+        Number month = (Number) row[offset + 1];
+        BigDecimal amount = (BigDecimal) row[offset + 2];
+        Number count = (Number) row[offset + 3];
+        return new Actual(id, name,
+                year != null ? year.intValue() : 0,
+                month != null ? month.intValue() : 0,
+                amount != null ? amount : BigDecimal.ZERO,
+                count.longValue());
+    }
+}
@@ -0,0 +1,141 @@
+package com.bizmate.salesPages.report.salesRollup.service;
+
+import com.bizmate.salesPages.management.sales.sales.domain.Sales;
+import com.bizmate.salesPages.report.salesRollup.domain.SalesClientMonthRollup;
+import com.bizmate.salesPages.report.salesRollup.domain.SalesMonthRollup;
+import com.bizmate.salesPages.report.salesRollup.domain.SalesProjectMonthRollup;
+import com.bizmate.salesPages.report.salesRollup.repository.SalesClientMonthRollupRepository;
+import com.bizmate.salesPages.report.salesRollup.repository.SalesMonthRollupRepository;
+import com.bizmate.salesPages.report.salesRollup.repository.SalesProjectMonthRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.function.IntSupplier;
+
+/**
+ * SalesRollupService
+ * --------------------
+ * ✅ 발행 완료 매출의 (연/월), (거래처 × 연/월), (프로젝트 × 연/월) 합계 롤업 관리
+ * ✅ 매출 등록/수정/삭제 시 같은 트랜잭션에서 변경 전 기여분 -, 변경 후 기여분 +
+ *    (발행 여부가 바뀌면 기여분이 생기거나 사라짐)
+ * ✅ 리포트 조회는 롤업 행만 읽음, 정합성은 SalesRollupReconciler 가 점검/보정
+ * ✅ 행이 없으면 0 행을 별도 트랜잭션으로 만든 뒤 다시 증감
+ *    (같은 월/거래처/프로젝트의 첫 매출이 동시에 들어와도 PK 충돌로 매출 저장이 롤백되지 않음)
+ */
+@Slf4j
+@Component
+public class SalesRollupService {
+
+    private final SalesMonthRollupRepository monthRollupRepository;
+    private final SalesClientMonthRollupRepository clientRollupRepository;
+    private final SalesProjectMonthRollupRepository projectRollupRepository;
+    private final TransactionTemplate requiresNew;
+
+    public SalesRollupService(SalesMonthRollupRepository monthRollupRepository,
+                              SalesClientMonthRollupRepository clientRollupRepository,
+                              SalesProjectMonthRollupRepository projectRollupRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.monthRollupRepository = monthRollupRepository;
+        this.clientRollupRepository = clientRollupRepository;
+        this.projectRollupRepository = projectRollupRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 매출 한 건이 롤업에 더하는 값 (발행 완료 매출만, 매출일 없으면 0년 0월)
+     */
+    public record Contribution(String clientId, String clientCompany, String projectId, String projectName,
+                               int year, int month, BigDecimal amount) {
+
+        /** 롤업 대상이 아니면 null */
+        public static Contribution of(Sales sales) {
+            if (sales == null || !sales.isInvoiceIssued()) return null;
+            LocalDate date = sales.getSalesDate();
+            return new Contribution(
+                    sales.getClientId(), sales.getClientCompany(),
+                    sales.getProjectId(), sales.getProjectName(),
+                    date != null ? date.getYear() : 0,
+                    date != null ? date.getMonthValue() : 0,
+                    Objects.requireNonNullElse(sales.getSalesAmount(), BigDecimal.ZERO));
+        }
+    }
+
+    /**
+     * 매출 한 건의 변경을 롤업에 반영
+     * @param before 변경 전 기여분 (신규 등록이거나 미발행이었으면 null)
+     * @param after  변경 후 기여분 (삭제되었거나 미발행이면 null)
+     */
+    @Transactional
+    public void apply(Contribution before, Contribution after) {
+        if (Objects.equals(before, after)) return;
+
+        if (before != null) {
+            add(before, before.amount().negate(), -1, false);
+        }
+        if (after != null) {
+            add(after, after.amount(), 1, true);
+        }
+    }
+
+    private void add(Contribution c, BigDecimal amount, long count, boolean updateNames) {
+        String monthKey = monthKey(c.year(), c.month());
+        addOrCreate(monthKey,
+                () -> monthRollupRepository.addDelta(monthKey, amount, count),
+                () -> monthRollupRepository.saveAndFlush(SalesMonthRollup.builder()
+                        .rollupKey(monthKey).salesYear(c.year()).salesMonth(c.month())
+                        .totalAmount(BigDecimal.ZERO).salesCount(0)
+                        .build()));
+
+        String clientKey = dimensionKey(c.clientId(), c.year(), c.month());
+        addOrCreate(clientKey,
+                () -> clientRollupRepository.addDelta(clientKey, amount, count, updateNames ? c.clientCompany() : null),
+                () -> clientRollupRepository.saveAndFlush(SalesClientMonthRollup.builder()
+                        .rollupKey(clientKey).salesYear(c.year()).salesMonth(c.month())
+                        .clientId(c.clientId()).clientCompany(c.clientCompany())
+                        .totalAmount(BigDecimal.ZERO).salesCount(0)
+                        .build()));
+
+        String projectKey = dimensionKey(c.projectId(), c.year(), c.month());
+        addOrCreate(projectKey,
+                () -> projectRollupRepository.addDelta(projectKey, amount, count, updateNames ? c.projectName() : null),
+                () -> projectRollupRepository.saveAndFlush(SalesProjectMonthRollup.builder()
+                        .rollupKey(projectKey).salesYear(c.year()).salesMonth(c.month())
+                        .projectId(c.projectId()).projectName(c.projectName())
+                        .totalAmount(BigDecimal.ZERO).salesCount(0)
+                        .build()));
+    }
+
+    /**
+     * 증감 → 행이 없으면 0 행을 별도 트랜잭션으로 생성(즉시 커밋) 후 다시 증감
+     * - 동시에 같은 키를 처음 만들면 PK 충돌 → 이미 생성된 것으로 간주
+     */
+    private void addOrCreate(String rollupKey, IntSupplier addDelta, Runnable createZeroRow) {
+        if (addDelta.getAsInt() > 0) return;
+        try {
+            requiresNew.executeWithoutResult(status -> createZeroRow.run());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("🔁 매출 롤업 행 동시 생성: {}", rollupKey);
+        }
+        if (addDelta.getAsInt() == 0) {
+            throw new IllegalStateException("매출 롤업 행이 없습니다: " + rollupKey);
+        }
+    }
+
+    /** 롤업 키 (reconciler 와 공유) */
+    static String monthKey(int year, int month) {
+        return year + "|" + month;
+    }
+
+    static String dimensionKey(String id, int year, int month) {
+        return Objects.toString(id, "") + "|" + monthKey(year, month);
+    }
+}
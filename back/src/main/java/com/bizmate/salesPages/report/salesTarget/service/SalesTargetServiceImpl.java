@@ -3,6 +3,8 @@ package com.bizmate.salesPages.report.salesTarget.service;
 import com.bizmate.common.page.PageRequestDTO;
 import com.bizmate.common.page.PageResponseDTO;
 import com.bizmate.hr.security.UserPrincipal;
+import com.bizmate.salesPages.report.salesReport.service.SalesReportCache;
+import com.bizmate.salesPages.report.salesReport.service.SalesReportCache.Scope;
 import com.bizmate.salesPages.report.salesTarget.domain.SalesTarget;
 import com.bizmate.salesPages.report.salesTarget.dto.SalesTargetDTO;
 import com.bizmate.salesPages.report.salesTarget.repository.SalesTargetRepository;
@@ -26,6 +28,7 @@ import java.util.stream.Collectors;
 public class SalesTargetServiceImpl implements SalesTargetService {
     private final SalesTargetRepository salesTargetRepository;
     private final ModelMapper modelMapper;
+    private final SalesReportCache reportCache;
 
     @Override
     public Long register(SalesTargetDTO salesTargetDTO) {
@@ -53,6 +56,7 @@ public class SalesTargetServiceImpl implements SalesTargetService {
 
         SalesTarget salesTarget = modelMapper.map(salesTargetDTO, SalesTarget.class);
         SalesTarget savedSalesTarget = salesTargetRepository.save(salesTarget);
+        reportCache.invalidateAfterCommit(reportScope(savedSalesTarget));
         return savedSalesTarget.getTargetId();
     }
 
@@ -68,22 +72,27 @@ public class SalesTargetServiceImpl implements SalesTargetService {
     public void modify(SalesTargetDTO salesTargetDTO) {
         Optional<SalesTarget> result = salesTargetRepository.findById(salesTargetDTO.getTargetId());
         SalesTarget salesTarget = result.orElseThrow();
+        Scope before = reportScope(salesTarget);
 
         salesTarget.changTargetYear(salesTargetDTO.getTargetYear());
         salesTarget.changeTargetMonth(salesTargetDTO.getTargetMonth());
         salesTarget.changeTargetAmount(salesTargetDTO.getTargetAmount());
 
         salesTargetRepository.save(salesTarget);
+        reportCache.invalidateAfterCommit(before, reportScope(salesTarget));
     }
 
     @Override
     public void remove(Long targetId) {
+        salesTargetRepository.findById(targetId)
+                .ifPresent(target -> reportCache.invalidateAfterCommit(reportScope(target)));
         salesTargetRepository.deleteById(targetId);
     }
 
     @Override
     public void removeList(List<Long> targetIds) {
         salesTargetRepository.deleteAllByIdInBatch(targetIds);
+        reportCache.invalidateAfterCommit(Scope.of(SalesReportCache.TARGETS));
     }
 
 
@@ -134,4 +143,11 @@ public class SalesTargetServiceImpl implements SalesTargetService {
 
         return responseDTO;
     }
-}
\ No newline at end of file
+
+    /**
+     * 리포트 캐시 무효화 범위 (목표의 연/월)
+     */
+    private static Scope reportScope(SalesTarget target) {
+        return Scope.of(SalesReportCache.TARGETS, target.getTargetYear(), target.getTargetMonth());
+    }
+}
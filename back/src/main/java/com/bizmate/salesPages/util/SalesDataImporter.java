@@ -25,6 +25,16 @@ import java.util.stream.Collectors;
 
 import static com.bizmate.salesPages.util.Csv.*;
 
+/**
+ * SalesDataImporter
+ * --------------------
+ * ✅ 기동 시 CSV(거래처/목표/주문/매출/수금) 초기 적재
+ * ⚠️ saveAll 로 직접 저장 → 매출 롤업/미수금 원장/리포트 캐시를 거치지 않음
+ *    - 빈 DB: 이후 ApplicationReadyEvent 에서 SalesRollupReconciler/ClientReceivableReconciler 가
+ *      롤업/원장이 비어 있으면 1회 적재 (seedIfEmpty)
+ *    - 이미 롤업/원장이 있는 DB 에 skip-if-exists=false 로 추가 적재했다면 관리자 재구축(rebuild) 필요
+ *      (재구축 전까지는 새벽 자동 보정 시각까지 리포트/미수금에 반영되지 않음)
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -0,0 +1,136 @@
+package com.bizmate.common.concurrent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("✅ SingleFlight 동시 호출 합치기")
+class SingleFlightTests {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight singleFlight;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(true, 5_000, meterRegistry);
+    }
+
+    private double calls(String result) {
+        return meterRegistry.counter("bizmate.singleflight.calls", "group", "report", "result", result).count();
+    }
+
+    @Test
+    @DisplayName("같은 키 동시 호출은 한 번만 실행하고 모두 같은 결과, 다른 키는 따로 실행")
+    void coalescesConcurrentCalls() throws Exception {
+        int callers = 20;
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> singleFlight.execute("report", "2025", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return 42;
+                })));
+            }
+            // 모든 follower 가 대기에 들어갈 때까지
+            while (waiting() < callers - 1) {
+                Thread.sleep(10);
+            }
+            assertThat(singleFlight.execute("report", "2024", () -> 7)).isEqualTo(7);
+            release.countDown();
+
+            for (Future<Integer> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(calls("leader")).isEqualTo(2);
+        assertThat(calls("coalesced")).isEqualTo(callers - 1);
+    }
+
+    @Test
+    @DisplayName("leader 예외는 follower 에게도 전달, 끝난 키는 다시 실행")
+    void propagatesFailure() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<Object> leader = pool.submit(() -> singleFlight.execute("report", "k", () -> {
+                started.countDown();
+                await(release);
+                throw new IllegalStateException("집계 실패");
+            }));
+            started.await();
+
+            CompletableFuture<Object> follower = CompletableFuture.supplyAsync(
+                    () -> singleFlight.execute("report", "k", () -> "follower 직접 실행"));
+            while (waiting() < 1) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            assertThatThrownBy(leader::get).hasRootCauseMessage("집계 실패");
+            assertThatThrownBy(follower::join).hasRootCauseMessage("집계 실패");
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(singleFlight.execute("report", "k", () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("대기 시간 초과 시 follower 가 직접 실행")
+    void timeoutFallsBackToOwnCall() throws Exception {
+        singleFlight = new SingleFlight(true, 50, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            pool.submit(() -> singleFlight.execute("report", "slow", () -> {
+                started.countDown();
+                await(release);
+                return "leader";
+            }));
+            started.await();
+
+            assertThat(singleFlight.execute("report", "slow", () -> "own")).isEqualTo("own");
+            assertThat(calls("timeout")).isEqualTo(1);
+        } finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    /** 결과를 기다리는 follower 수 (진행 중인 실행의 대기자 수) */
+    @SuppressWarnings("unchecked")
+    private int waiting() throws Exception {
+        var field = SingleFlight.class.getDeclaredField("inFlight");
+        field.setAccessible(true);
+        return ((java.util.Map<?, CompletableFuture<?>>) field.get(singleFlight)).values().stream()
+                .mapToInt(CompletableFuture::getNumberOfDependents).sum();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.bizmate.common.file;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.ContentDisposition;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("✅ 첨부 전송 (Range / 조건부 요청)")
+class RangeFileSenderTests {
+
+    private static final String ETAG = "\"abc123\"";
+
+    @TempDir
+    Path tempDir;
+
+    private RangeFileSender sender;
+    private RangeFileSender.FileSpec spec;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path file = tempDir.resolve("sample.txt");
+        Files.writeString(file, "0123456789", StandardCharsets.US_ASCII);
+        sender = new RangeFileSender();
+        spec = new RangeFileSender.FileSpec(file, "text/plain",
+                ContentDisposition.inline().filename("sample.txt").build(),
+                ETAG, 1_700_000_000_000L, "private, no-cache");
+    }
+
+    @Test
+    @DisplayName("Range 없으면 200 + 전체 본문")
+    void fullContent() throws Exception {
+        MockHttpServletResponse res = send(new MockHttpServletRequest("GET", "/f"));
+
+        assertThat(res.getStatus()).isEqualTo(200);
+        assertThat(res.getContentAsString()).isEqualTo("0123456789");
+        assertThat(res.getHeader("Accept-Ranges")).isEqualTo("bytes");
+        assertThat(res.getHeader("ETag")).isEqualTo(ETAG);
+    }
+
+    @Test
+    @DisplayName("단일 범위 → 206 + Content-Range")
+    void singleRange() throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/f");
+        req.addHeader("Range", "bytes=2-5");
+        MockHttpServletResponse res = send(req);
+
+        assertThat(res.getStatus()).isEqualTo(206);
+        assertThat(res.getHeader("Content-Range")).isEqualTo("bytes 2-5/10");
+        assertThat(res.getContentAsString()).isEqualTo("2345");
+    }
+
+    @Test
+    @DisplayName("다중 범위 → 206 multipart/byteranges")
+    void multiRange() throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/f");
+        req.addHeader("Range", "bytes=0-1,-2");
+        MockHttpServletResponse res = send(req);
+
+        assertThat(res.getStatus()).isEqualTo(206);
+        assertThat(res.getContentType()).startsWith("multipart/byteranges; boundary=");
+        String body = res.getContentAsString();
+        assertThat(body).contains("Content-Range: bytes 0-1/10\r\n\r\n01");
+        assertThat(body).contains("Content-Range: bytes 8-9/10\r\n\r\n89");
+        assertThat(res.getContentAsByteArray().length).isEqualTo((int) res.getContentLengthLong());
+    }
+
+    @Test
+    @DisplayName("범위 밖 → 416")
+    void unsatisfiable() throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/f");
+        req.addHeader("Range", "bytes=20-30");
+        MockHttpServletResponse res = send(req);
+
+        assertThat(res.getStatus()).isEqualTo(416);
+        assertThat(res.getHeader("Content-Range")).isEqualTo("bytes */10");
+    }
+
+    @Test
+    @DisplayName("If-None-Match 일치 → 304")
+    void notModified() throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/f");
+        req.addHeader("If-None-Match", ETAG);
+        MockHttpServletResponse res = send(req);
+
+        assertThat(res.getStatus()).isEqualTo(304);
+        assertThat(res.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("If-Range 불일치 → Range 무시하고 200")
+    void ifRangeMismatch() throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/f");
+        req.addHeader("Range", "bytes=2-5");
+        req.addHeader("If-Range", "\"other\"");
+        MockHttpServletResponse res = send(req);
+
+        assertThat(res.getStatus()).isEqualTo(200);
+        assertThat(res.getContentAsString()).isEqualTo("0123456789");
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest req) throws Exception {
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        sender.send(spec, req, res);
+        return res;
+    }
+}
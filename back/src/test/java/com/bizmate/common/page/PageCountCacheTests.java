@@ -0,0 +1,89 @@
+package com.bizmate.common.page;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("✅ 목록 건수 캐시 (정규화 키 / count 생략 / 쓰기 무효화)")
+class PageCountCacheTests {
+
+    private PageCountCache cache;
+    private final AtomicInteger counted = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cache = new PageCountCache(true, 30, 100, new SimpleMeterRegistry());
+    }
+
+    private long count(PageRequestDTO req) {
+        return cache.count(PageCountCache.SALES, req, () -> {
+            counted.incrementAndGet();
+            return 123L;
+        });
+    }
+
+    @Test
+    @DisplayName("페이지만 다르고 조건이 같으면(금액 스케일, 빈 키워드 포함) 같은 키")
+    void sameConditionSharesKey() {
+        count(PageRequestDTO.builder().page(1).search("client").keyword("Acme").minAmount(new BigDecimal("1000")).build());
+        count(PageRequestDTO.builder().page(7).size(50).search("client").keyword("Acme").minAmount(new BigDecimal("1000.00")).build());
+        assertThat(counted).hasValue(1);
+
+        count(PageRequestDTO.builder().page(2).search("writer").keyword("").minAmount(new BigDecimal("1E+3")).build());
+        count(PageRequestDTO.builder().page(3).minAmount(new BigDecimal("1000")).build());
+        assertThat(counted).hasValue(2);
+        assertThat(cache.peek(PageCountCache.SALES, PageRequestDTO.builder().search("client").keyword("Acme")
+                .minAmount(new BigDecimal("1000")).build())).isEqualTo(123L);
+        assertThat(cache.peek(PageCountCache.ORDERS, PageRequestDTO.builder().build())).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("쿼리가 다르게 해석하는 값(키워드 공백/대소문자, 알 수 없는 search, orderId)은 다른 키")
+    void rawValuesAreNotNormalized() {
+        count(PageRequestDTO.builder().search("client").keyword("Acme").build());
+        count(PageRequestDTO.builder().search("client").keyword(" acme ").build());
+        count(PageRequestDTO.builder().search("client ").keyword("Acme").build());
+        count(PageRequestDTO.builder().orderId("ORD-1").build());
+        count(PageRequestDTO.builder().orderId(" ord-1").build());
+        assertThat(counted).hasValue(5);
+    }
+
+    @Test
+    @DisplayName("첫 페이지가 덜 차거나 마지막 페이지면 count 생략")
+    void skipWhenPageTellsTotal() {
+        PageRequestDTO first = PageRequestDTO.builder().page(1).size(10).build();
+        PageRequestDTO last = PageRequestDTO.builder().page(3).size(10).build();
+        PageRequestDTO middle = PageRequestDTO.builder().page(2).size(10).build();
+
+        assertThat(cache.total(PageCountCache.SALES, first, 4, () -> { counted.incrementAndGet(); return 4L; })).isEqualTo(4L);
+        assertThat(cache.total(PageCountCache.SALES, last, 7, () -> { counted.incrementAndGet(); return 27L; })).isEqualTo(27L);
+        assertThat(counted).hasValue(0);
+
+        assertThat(cache.total(PageCountCache.SALES, middle, 10, () -> { counted.incrementAndGet(); return 27L; })).isEqualTo(27L);
+        assertThat(counted).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("무효화 후 다시 count, 무효화 전에 시작된 count 결과는 새 캐시에 남지 않음")
+    void invalidate() {
+        PageRequestDTO req = PageRequestDTO.builder().build();
+        count(req);
+        cache.invalidateAfterCommit(PageCountCache.SALES);   // 트랜잭션 밖 → 즉시
+        count(req);
+        assertThat(counted).hasValue(2);
+
+        // count 도중 쓰기 발생
+        cache.invalidate(PageCountCache.SALES);
+        cache.count(PageCountCache.SALES, PageRequestDTO.builder().year(2024).build(), () -> {
+            cache.invalidate(PageCountCache.SALES);
+            return 99L;
+        });
+        assertThat(cache.peek(PageCountCache.SALES, PageRequestDTO.builder().year(2024).build())).isEqualTo(-1L);
+    }
+}
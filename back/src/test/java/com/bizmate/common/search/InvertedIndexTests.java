@@ -0,0 +1,70 @@
+package com.bizmate.common.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("✅ 검색 색인 (bigram / 순위 / 스냅샷)")
+class InvertedIndexTests {
+
+    @TempDir
+    Path tempDir;
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex("test", new double[]{3.0, 1.0}, tempDir.resolve("test.idx"));
+        index.put("D1", new String[]{"출장 결재 요청", "부산 지사 방문 일정"}, Map.of("type", "A"), "1", 100);
+        index.put("D2", new String[]{"휴가 신청", "결재 문서 첨부 참고"}, Map.of("type", "B"), "1", 200);
+        index.put("D3", new String[]{"Quarterly Report", "매출 보고"}, Map.of("type", "A"), "1", 300);
+    }
+
+    @Test
+    @DisplayName("한글 부분 일치 + 제목 가중치로 순위 결정, 공백 무시")
+    void koreanRanking() {
+        InvertedIndex.Result result = index.search("결 재", -1, null, null, 0, 10);
+
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.hits()).extracting(InvertedIndex.Hit::key).containsExactly("D1", "D2");
+    }
+
+    @Test
+    @DisplayName("필드 지정 / 속성 필터 / 1글자 검색 / 대소문자 무시")
+    void fieldFilterAndPrefix() {
+        assertThat(index.search("결재", 0, null, null, 0, 10).hits())
+                .extracting(InvertedIndex.Hit::key).containsExactly("D1");
+        assertThat(index.search("결재", -1, a -> "B".equals(a.get("type")), null, 0, 10).hits())
+                .extracting(InvertedIndex.Hit::key).containsExactly("D2");
+        assertThat(index.search("휴", -1, null, null, 0, 10).total()).isEqualTo(1);
+        assertThat(index.search("REPORT", -1, null, null, 0, 10).hits())
+                .extracting(InvertedIndex.Hit::key).containsExactly("D3");
+        assertThat(index.search("결재 없는말", -1, null, null, 0, 10).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("수정/삭제 반영 후 스냅샷 저장 → 복원 시 동일 결과")
+    void updateAndSnapshotRoundTrip() throws Exception {
+        index.put("D2", new String[]{"휴가 신청", "연차 사용"}, Map.of("type", "B"), "2", 200);
+        index.remove("D3");
+        index.save();
+        assertThat(Files.exists(tempDir.resolve("test.idx"))).isTrue();
+
+        InvertedIndex restored = new InvertedIndex("test", new double[]{3.0, 1.0}, tempDir.resolve("test.idx"));
+        assertThat(restored.load()).isTrue();
+
+        assertThat(restored.size()).isEqualTo(2);
+        assertThat(restored.stamps()).containsEntry("D2", "2");
+        assertThat(restored.search("결재", -1, null, null, 0, 10).hits())
+                .extracting(InvertedIndex.Hit::key).containsExactly("D1");
+        assertThat(restored.search("연차", -1, null, null, 0, 10).hits())
+                .extracting(InvertedIndex.Hit::key).containsExactly("D2");
+    }
+}
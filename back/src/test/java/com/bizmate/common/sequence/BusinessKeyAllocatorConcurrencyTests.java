@@ -0,0 +1,91 @@
+package com.bizmate.common.sequence;
+
+import com.bizmate.common.config.QuerydslConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({QuerydslConfig.class, KeySegmentStore.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("✅ BusinessKeyAllocator 동시성 테스트 (H2)")
+class BusinessKeyAllocatorConcurrencyTests {
+
+    private static final int THREADS = 16;
+    private static final int KEYS_PER_THREAD = 300;
+
+    @Autowired
+    private KeySegmentStore segmentStore;
+
+    @Test
+    @DisplayName("🔥 여러 노드 × 여러 스레드가 동시에 발급해도 번호가 중복되지 않는다")
+    void noDuplicatesAcrossNodesAndThreads() throws Exception {
+        // 같은 KEY_SEGMENT 테이블을 공유하는 서버 2대를 흉내
+        BusinessKeyAllocator nodeA = new BusinessKeyAllocator(segmentStore, 7);
+        BusinessKeyAllocator nodeB = new BusinessKeyAllocator(segmentStore, 7);
+        LocalDate today = LocalDate.now();
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            BusinessKeyAllocator node = (t % 2 == 0) ? nodeA : nodeB;
+            futures.add(pool.submit(() -> {
+                start.await();
+                List<Long> issued = new ArrayList<>(KEYS_PER_THREAD);
+                for (int i = 0; i < KEYS_PER_THREAD; i++) {
+                    issued.add(node.next("TEST-SALES", today, () -> 0L));
+                }
+                return issued;
+            }));
+        }
+        start.countDown();
+
+        Set<Long> unique = ConcurrentHashMap.newKeySet();
+        int total = 0;
+        for (Future<List<Long>> future : futures) {
+            List<Long> issued = future.get(60, TimeUnit.SECONDS);
+            total += issued.size();
+            unique.addAll(issued);
+        }
+        pool.shutdown();
+
+        assertThat(total).isEqualTo(THREADS * KEYS_PER_THREAD);
+        assertThat(unique).hasSize(total);
+        assertThat(unique).allMatch(v -> v >= 1);
+    }
+
+    @Test
+    @DisplayName("📈 구간이 처음 생길 때 기존 데이터의 최대 번호에서 이어받는다")
+    void seedsFromExistingMaximum() {
+        BusinessKeyAllocator allocator = new BusinessKeyAllocator(segmentStore, 20);
+        LocalDate day = LocalDate.of(2025, 10, 11);
+
+        assertThat(allocator.next("TEST-ORDER", day, () -> 42L)).isEqualTo(43L);
+        assertThat(allocator.next("TEST-ORDER", day, () -> 42L)).isEqualTo(44L);
+        // 다른 일자는 독립 구간
+        assertThat(allocator.next("TEST-ORDER", day.plusDays(1), () -> 0L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("🔢 업무 번호 끝자리 파싱")
+    void parseSequence() {
+        assertThat(BusinessKeyAllocator.parseSequence("20251011-0042", 4)).isEqualTo(42L);
+        assertThat(BusinessKeyAllocator.parseSequence("HR-20251011-003", 3)).isEqualTo(3L);
+        assertThat(BusinessKeyAllocator.parseSequence("broken", 4)).isZero();
+        assertThat(BusinessKeyAllocator.parseSequence(null, 4)).isZero();
+    }
+}
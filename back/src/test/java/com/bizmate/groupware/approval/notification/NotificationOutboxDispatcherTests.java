@@ -0,0 +1,151 @@
+package com.bizmate.groupware.approval.notification;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessagePreparator;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("✅ 메일 Outbox 디스패처 테스트 (가짜 JavaMailSender)")
+class NotificationOutboxDispatcherTests {
+
+    private NotificationOutboxRepository outboxRepository;
+    private FakeMailSender mailSender;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(NotificationOutboxRepository.class);
+        mailSender = new FakeMailSender();
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new NotificationOutboxDispatcher(outboxRepository, mailSender, meterRegistry,
+                10, 3, 30, 3600, 300, 2, 7);
+
+        when(outboxRepository.claim(anyLong(), any(), any())).thenReturn(1);
+    }
+
+    @Test
+    @DisplayName("📨 대기 메일을 발송하고 SENT로 표시한다")
+    void dispatchSendsPendingMail() {
+        when(outboxRepository.findDispatchable(any(), any(Pageable.class)))
+                .thenReturn(List.of(message(1L, 0), message(2L, 0)));
+
+        dispatcher.dispatch();
+
+        assertThat(mailSender.sent).hasSize(2);
+        verify(outboxRepository).markSent(eq(1L), any());
+        verify(outboxRepository).markSent(eq(2L), any());
+        assertThat(meterRegistry.get("bizmate.notification.outbox.send.latency").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("⚠️ 발송 실패 시 backoff 후 재시도 대기, 최대 횟수 초과 시 DEAD")
+    void failedMailIsRetriedThenDeadLettered() {
+        mailSender.fail = true;
+        when(outboxRepository.findDispatchable(any(), any(Pageable.class)))
+                .thenReturn(List.of(message(1L, 0), message(2L, 2)));
+
+        dispatcher.dispatch();
+
+        verify(outboxRepository).markFailed(eq(1L), eq(OutboxStatus.PENDING), eq(1), any(), anyString());
+        verify(outboxRepository).markFailed(eq(2L), eq(OutboxStatus.DEAD), eq(3), any(), anyString());
+        verify(outboxRepository, never()).markSent(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("🔒 다른 노드가 점유한 메일은 발송하지 않는다")
+    void claimedByOtherNodeIsSkipped() {
+        when(outboxRepository.claim(anyLong(), any(), any())).thenReturn(0);
+        when(outboxRepository.findDispatchable(any(), any(Pageable.class)))
+                .thenReturn(List.of(message(1L, 0)));
+
+        dispatcher.dispatch();
+
+        assertThat(mailSender.sent).isEmpty();
+    }
+
+    @Test
+    @DisplayName("🧹 보관 기간이 지난 SENT 메일만 정리한다")
+    void purgeSentDeletesRowsOlderThanRetention() {
+        LocalDateTime before = LocalDateTime.now().minusDays(7);
+
+        dispatcher.purgeSent();
+
+        verify(outboxRepository).deleteSentBefore(argThat(cutoff ->
+                !cutoff.isBefore(before) && !cutoff.isAfter(LocalDateTime.now().minusDays(7))));
+    }
+
+    @Test
+    @DisplayName("⏱️ backoff는 지수적으로 증가하고 상한을 넘지 않는다")
+    void backoffGrowsExponentially() {
+        assertThat(dispatcher.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(dispatcher.backoff(3)).isEqualTo(Duration.ofSeconds(120));
+        assertThat(dispatcher.backoff(20)).isEqualTo(Duration.ofSeconds(3600));
+    }
+
+    private NotificationOutbox message(Long id, int attempts) {
+        return NotificationOutbox.builder()
+                .id(id)
+                .mailType(NotificationService.TYPE_APPROVAL_REQUEST)
+                .recipient("user" + id + "@bizmate.com")
+                .subject("[전자결재 알림] 결재 요청")
+                .body("본문")
+                .status(OutboxStatus.PENDING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    /** 로컬 가짜 메일 발송기 */
+    static class FakeMailSender implements JavaMailSender {
+        final List<SimpleMailMessage> sent = new ArrayList<>();
+        volatile boolean fail;
+
+        @Override
+        public synchronized void send(SimpleMailMessage simpleMessage) {
+            if (fail) throw new MailSendException("SMTP unavailable");
+            sent.add(simpleMessage);
+        }
+
+        @Override
+        public void send(SimpleMailMessage... simpleMessages) {
+            for (SimpleMailMessage m : simpleMessages) send(m);
+        }
+
+        @Override
+        public MimeMessage createMimeMessage() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public MimeMessage createMimeMessage(InputStream contentStream) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void send(MimeMessage... mimeMessages) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void send(MimeMessagePreparator... mimeMessagePreparators) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.bizmate.groupware.approval.service;
+
+import com.bizmate.groupware.approval.domain.document.ApprovalDocuments;
+import com.bizmate.groupware.approval.domain.document.Decision;
+import com.bizmate.groupware.approval.domain.document.DocumentStatus;
+import com.bizmate.groupware.approval.domain.document.DocumentType;
+import com.bizmate.groupware.approval.domain.policy.ApproverStep;
+import com.bizmate.groupware.approval.dto.approval.ApprovalBulkDecisionRequestDto;
+import com.bizmate.groupware.approval.dto.approval.ApprovalBulkDecisionResultDto;
+import com.bizmate.groupware.approval.dto.approval.ApprovalDocumentsDto;
+import com.bizmate.groupware.approval.notification.NotificationService;
+import com.bizmate.groupware.approval.repository.document.ApprovalDocumentsRepository;
+import com.bizmate.groupware.approval.service.PDF.ApprovalPdfCacheService;
+import com.bizmate.groupware.approval.service.PDF.EmployeeSignatureService;
+import com.bizmate.groupware.approval.service.document.ApprovalBulkDecisionService;
+import com.bizmate.groupware.approval.service.document.ApprovalDocumentsService;
+import com.bizmate.groupware.approval.service.document.ApprovalParticipantIndexer;
+import com.bizmate.groupware.approval.service.document.ApprovalSearchIndexer;
+import com.bizmate.groupware.approval.service.document.ApprovalStepIndexer;
+import com.bizmate.groupware.approval.service.event.ApprovalEventBroadcaster;
+import com.bizmate.hr.domain.Employee;
+import com.bizmate.hr.domain.UserEntity;
+import com.bizmate.hr.dto.user.UserDTO;
+import com.bizmate.hr.repository.EmployeeRepository;
+import com.bizmate.hr.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("✅ 일괄 승인/반려")
+class ApprovalBulkDecisionServiceTests {
+
+    private final ApprovalDocumentsRepository documentsRepository = mock(ApprovalDocumentsRepository.class);
+    private final EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+    private final EmployeeSignatureService signatureService = mock(EmployeeSignatureService.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final NotificationService notificationService = mock(NotificationService.class);
+    private final ApprovalParticipantIndexer participantIndexer = mock(ApprovalParticipantIndexer.class);
+    private final ApprovalStepIndexer stepIndexer = mock(ApprovalStepIndexer.class);
+    private final ApprovalPdfCacheService pdfCacheService = mock(ApprovalPdfCacheService.class);
+    private final ApprovalDocumentsService documentsService = mock(ApprovalDocumentsService.class);
+
+    private ApprovalBulkDecisionService service;
+    private UserDTO approver;
+
+    @BeforeEach
+    void setUp() {
+        service = new ApprovalBulkDecisionService(documentsRepository, employeeRepository, signatureService,
+                userRepository, notificationService, participantIndexer, stepIndexer, pdfCacheService,
+                documentsService, mock(ApprovalEventBroadcaster.class), mock(ApprovalSearchIndexer.class),
+                mock(PlatformTransactionManager.class), 200, 50);
+        EntityManager entityManager = mock(EntityManager.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(mock(Session.class));
+        ReflectionTestUtils.setField(service, "entityManager", entityManager);
+
+        approver = new UserDTO(1L, "hong", "홍길동", "hong@bizmate.com", 1001L);
+        when(employeeRepository.findByEmpId(1001L))
+                .thenReturn(Optional.of(Employee.builder().empId(1001L).empName("홍길동").build()));
+        when(signatureService.getStoredSignPath(any())).thenReturn(null);
+    }
+
+    @Test
+    @DisplayName("내 차례가 아닌 문서만 실패, 나머지는 처리 + 다음 결재자에게 1통만 알림")
+    void partialFailureAndOneMailPerRecipient() {
+        ApprovalDocuments a = doc("A", "hong", "kim");      // 다음 결재자 kim
+        ApprovalDocuments b = doc("B", "hong", "kim");      // 다음 결재자 kim
+        ApprovalDocuments c = doc("C", "lee", "kim");       // 내 차례 아님
+        ApprovalDocuments d = doc("D", "hong");             // 최종 승인
+        when(documentsRepository.findAllForUpdateByDocIdIn(anyCollection())).thenReturn(List.of(a, b, c, d));
+        when(userRepository.findByUsernameIn(anyCollection())).thenReturn(List.of(
+                UserEntity.builder().username("kim").empName("김결재").email("kim@bizmate.com").build()));
+        when(documentsRepository.findAuthorEmails(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{"D", "writer@bizmate.com"}));
+
+        ApprovalBulkDecisionRequestDto request = new ApprovalBulkDecisionRequestDto();
+        request.setDecision(Decision.APPROVED);
+        request.setDocIds(List.of("A", "B", "C", "D", "X"));
+
+        ApprovalBulkDecisionResultDto result = service.decide(request, approver);
+
+        assertThat(result.requested()).isEqualTo(5);
+        assertThat(result.succeeded()).isEqualTo(3);
+        assertThat(result.results()).extracting(ApprovalBulkDecisionResultDto.Item::docId)
+                .containsExactly("A", "B", "C", "D", "X");
+        assertThat(result.results()).extracting(ApprovalBulkDecisionResultDto.Item::success)
+                .containsExactly(true, true, false, true, false);
+        assertThat(a.getCurrentApproverIndex()).isEqualTo(1);
+        assertThat(d.getStatus()).isEqualTo(DocumentStatus.APPROVED);
+        assertThat(c.getApprovalLine().get(0).decision()).isEqualTo(Decision.PENDING);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationService.DigestItem>> items = ArgumentCaptor.forClass(List.class);
+        verify(notificationService).sendDigestMail(eq("kim@bizmate.com"), eq("김결재"), eq("홍길동"), items.capture());
+        assertThat(items.getValue()).extracting(NotificationService.DigestItem::docId).containsExactly("A", "B");
+        verify(notificationService).sendDigestMail(eq("writer@bizmate.com"), isNull(), eq("홍길동"), anyList());
+        verify(employeeRepository, times(1)).findByEmpId(1001L);
+        verify(stepIndexer, times(1)).syncAll(anyCollection());
+        verify(participantIndexer, times(1)).updateStatus("D", DocumentStatus.APPROVED);
+        verify(pdfCacheService).prerenderAfterCommit("D");
+    }
+
+    @Test
+    @DisplayName("프로젝트 계획서 최종 승인은 단건 승인으로 개별 처리, 완료 알림은 같은 묶음 메일에 포함")
+    void projectPlanFinalApprovalGoesThroughSingleApprove() {
+        ApprovalDocuments plan = doc("P", "hong");
+        plan.setDocType(DocumentType.PROJECT_PLAN);
+        ApprovalDocuments expense = doc("E", "hong");
+        when(documentsRepository.findAllForUpdateByDocIdIn(anyCollection())).thenReturn(List.of(plan, expense));
+        when(documentsService.approve("P", approver, false))
+                .thenReturn(ApprovalDocumentsDto.builder().id("P").status(DocumentStatus.APPROVED.name()).build());
+        when(documentsRepository.findAuthorEmails(anyCollection())).thenAnswer(inv -> {
+            List<Object[]> rows = new ArrayList<>();
+            for (Object docId : (java.util.Collection<?>) inv.getArgument(0)) {
+                rows.add(new Object[]{docId, "writer@bizmate.com"});
+            }
+            return rows;
+        });
+
+        ApprovalBulkDecisionRequestDto request = new ApprovalBulkDecisionRequestDto();
+        request.setDecision(Decision.APPROVED);
+        request.setDocIds(List.of("P", "E"));
+
+        ApprovalBulkDecisionResultDto result = service.decide(request, approver);
+
+        verify(documentsService).approve("P", approver, false);
+        verify(documentsService, never()).approve("P", approver);
+        assertThat(result.succeeded()).isEqualTo(2);
+        assertThat(plan.getStatus()).isEqualTo(DocumentStatus.IN_PROGRESS);   // 배치에서는 건드리지 않음
+        verify(stepIndexer, times(1)).syncAll(List.of(expense));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationService.DigestItem>> items = ArgumentCaptor.forClass(List.class);
+        verify(notificationService, times(1)).sendDigestMail(eq("writer@bizmate.com"), isNull(), eq("홍길동"), items.capture());
+        assertThat(items.getValue()).extracting(NotificationService.DigestItem::docId, NotificationService.DigestItem::type)
+                .containsExactly(tuple("E", NotificationService.TYPE_APPROVAL_COMPLETE),
+                        tuple("P", NotificationService.TYPE_APPROVAL_COMPLETE));
+        verify(notificationService, never()).sendApprovalCompleteMail(any(), any(), any(), any());
+    }
+
+    private static ApprovalDocuments doc(String docId, String... approvers) {
+        List<ApproverStep> line = new ArrayList<>();
+        for (int i = 0; i < approvers.length; i++) {
+            line.add(new ApproverStep(i + 1, approvers[i], approvers[i], Decision.PENDING, "", null, null));
+        }
+        return ApprovalDocuments.builder()
+                .docId(docId)
+                .title("문서 " + docId)
+                .docType(DocumentType.EXPENSE)
+                .status(DocumentStatus.IN_PROGRESS)
+                .approvalLine(line)
+                .currentApproverIndex(0)
+                .build();
+    }
+}
@@ -11,6 +11,12 @@ import com.bizmate.groupware.approval.repository.document.ApprovalDocumentsRepos
 import com.bizmate.groupware.approval.repository.attachment.ApprovalFileAttachmentRepository;
 import com.bizmate.groupware.approval.repository.PDF.EmployeeSignatureRepository;
 import com.bizmate.groupware.approval.service.document.ApprovalDocumentsServiceImpl;
+import com.bizmate.groupware.approval.service.document.ApprovalParticipantIndexer;
+import com.bizmate.groupware.approval.service.document.ApprovalSearchIndexer;
+import com.bizmate.groupware.approval.service.PDF.ApprovalPdfCacheService;
+import com.bizmate.groupware.approval.service.PDF.EmployeeSignatureService;
+import com.bizmate.groupware.approval.service.document.ApprovalStepIndexer;
+import com.bizmate.groupware.approval.service.event.ApprovalEventBroadcaster;
 import com.bizmate.hr.domain.Employee;
 import com.bizmate.hr.dto.user.UserDTO;
 import com.bizmate.hr.repository.EmployeeRepository;
@@ -51,6 +57,12 @@ class ApprovalDocumentsServiceImplTests {
     @Mock private ObjectMapper objectMapper;
     @Mock
     private ApprovalFileAttachmentRepository approvalFileAttachmentRepository;
+    @Mock private ApprovalParticipantIndexer participantIndexer;
+    @Mock private ApprovalStepIndexer stepIndexer;
+    @Mock private ApprovalPdfCacheService pdfCacheService;
+    @Mock private EmployeeSignatureService employeeSignatureService;
+    @Mock private ApprovalEventBroadcaster eventBroadcaster;
+    @Mock private ApprovalSearchIndexer searchIndexer;
 
     @InjectMocks
     private ApprovalDocumentsServiceImpl approvalService;
@@ -120,6 +132,7 @@ class ApprovalDocumentsServiceImplTests {
                 .createProjectByApproval(any(ProjectRequestDTO.class), eq(document));
 
         verify(approvalDocumentsRepository, times(1)).saveAndFlush(document);
+        verify(searchIndexer).index(document);   // 결정 후 검색 색인 stamp 갱신
         verify(notificationService, atLeastOnce())
                 .sendApprovalCompleteMail(anyString(), anyString(), anyString(), anyString());
     }
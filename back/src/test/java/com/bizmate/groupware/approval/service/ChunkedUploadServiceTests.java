@@ -0,0 +1,256 @@
+package com.bizmate.groupware.approval.service;
+
+import com.bizmate.common.exception.VerificationFailedException;
+import com.bizmate.common.storage.BlobStorageServiceImpl;
+import com.bizmate.common.storage.StoredBlobRef;
+import com.bizmate.common.storage.StoredBlobRepository;
+import com.bizmate.groupware.approval.domain.attachment.ApprovalFileAttachment;
+import com.bizmate.groupware.approval.domain.attachment.ApprovalUploadChunk;
+import com.bizmate.groupware.approval.domain.attachment.ApprovalUploadSession;
+import com.bizmate.groupware.approval.dto.approval.ApprovalFileAttachmentDto;
+import com.bizmate.groupware.approval.dto.approval.ChunkUploadInitRequestDto;
+import com.bizmate.groupware.approval.dto.approval.ChunkUploadStatusDto;
+import com.bizmate.groupware.approval.repository.attachment.ApprovalUploadChunkRepository;
+import com.bizmate.groupware.approval.repository.attachment.ApprovalUploadSessionRepository;
+import com.bizmate.groupware.approval.repository.document.ApprovalDocumentsRepository;
+import com.bizmate.groupware.approval.service.attachment.ChunkedUploadService;
+import com.bizmate.groupware.approval.service.attachment.FileStorageService;
+import com.bizmate.hr.domain.UserEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("✅ 분할 업로드")
+class ChunkedUploadServiceTests {
+
+    private static final int CHUNK = 256 * 1024;
+
+    @TempDir
+    Path root;
+
+    private final ApprovalUploadSessionRepository sessionRepository = mock(ApprovalUploadSessionRepository.class);
+    private final ApprovalUploadChunkRepository chunkRepository = mock(ApprovalUploadChunkRepository.class);
+    private final ApprovalDocumentsRepository documentsRepository = mock(ApprovalDocumentsRepository.class);
+    private final StoredBlobRepository blobRepository = mock(StoredBlobRepository.class);
+    private final FileStorageService fileStorageService = mock(FileStorageService.class);
+
+    /** 세션/청크 행 (저장소 mock 대신 메모리에 보관) */
+    private final Map<String, ApprovalUploadSession> sessions = new HashMap<>();
+    private final Set<Integer> chunks = new TreeSet<>();
+
+    private ChunkedUploadService service;
+    private UserEntity uploader;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        BlobStorageServiceImpl blobStorageService = new BlobStorageServiceImpl(blobRepository, transactionManager,
+                new SimpleMeterRegistry(), root.resolve("blobs").toString(), 60);
+        service = new ChunkedUploadService(sessionRepository, chunkRepository, documentsRepository,
+                blobStorageService, fileStorageService, transactionManager, 256, 16, 60);
+        uploader = UserEntity.builder().userId(7L).username("hong").build();
+
+        when(sessionRepository.save(any())).thenAnswer(inv -> {
+            ApprovalUploadSession s = inv.getArgument(0);
+            sessions.put(s.getUploadId(), s);
+            return s;
+        });
+        when(sessionRepository.findById(anyString()))
+                .thenAnswer(inv -> Optional.ofNullable(sessions.get(inv.<String>getArgument(0))));
+        doAnswer(inv -> sessions.remove(inv.<String>getArgument(0))).when(sessionRepository).deleteById(anyString());
+        when(sessionRepository.claimCompletion(anyString(), any())).thenAnswer(inv -> {
+            ApprovalUploadSession s = sessions.get(inv.<String>getArgument(0));
+            if (s == null || s.isCompleting()) return 0;
+            s.setCompleting(true);
+            return 1;
+        });
+        when(sessionRepository.releaseCompletion(anyString())).thenAnswer(inv -> {
+            sessions.get(inv.<String>getArgument(0)).setCompleting(false);
+            return 1;
+        });
+
+        when(chunkRepository.existsByUploadIdAndChunkIndex(anyString(), anyInt()))
+                .thenAnswer(inv -> chunks.contains(inv.<Integer>getArgument(1)));
+        when(chunkRepository.save(any())).thenAnswer(inv -> {
+            ApprovalUploadChunk c = inv.getArgument(0);
+            chunks.add(c.getChunkIndex());
+            return c;
+        });
+        when(chunkRepository.countByUploadId(anyString())).thenAnswer(inv -> (long) chunks.size());
+        when(chunkRepository.findReceivedIndexes(anyString())).thenAnswer(inv -> List.copyOf(chunks));
+
+        when(blobRepository.touch(anyString(), any())).thenReturn(1);
+        when(blobRepository.incrementRefCount(anyString(), any())).thenReturn(1);
+        when(fileStorageService.saveStoredBlob(any(), any(), any(), any(), any())).thenAnswer(inv ->
+                ApprovalFileAttachment.builder()
+                        .id(100L)
+                        .originalName(inv.getArgument(1))
+                        .contentHash(inv.<StoredBlobRef>getArgument(0).contentHash())
+                        .build());
+    }
+
+    private static byte[] content(int size) {
+        byte[] data = new byte[size];
+        new Random(42).nextBytes(data);
+        return data;
+    }
+
+    private static String sha256(byte[] data) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+    }
+
+    private ChunkUploadStatusDto initiate(byte[] data, String sha256) {
+        ChunkUploadInitRequestDto req = new ChunkUploadInitRequestDto();
+        req.setFileName("report.bin");
+        req.setTotalSize(data.length);
+        req.setChunkSize(CHUNK);
+        req.setSha256(sha256);
+        return service.initiate(req, uploader);
+    }
+
+    private ChunkUploadStatusDto write(String uploadId, byte[] data, int index) {
+        int from = index * CHUNK;
+        int to = Math.min(data.length, from + CHUNK);
+        return service.writeChunk(uploadId, from,
+                new ByteArrayInputStream(Arrays.copyOfRange(data, from, to)), uploader.getUserId());
+    }
+
+    private Path staging(String uploadId) {
+        return Paths.get(sessions.get(uploadId).getStagingPath());
+    }
+
+    @Test
+    @DisplayName("순서와 무관하게 받은 청크를 제 위치에 기록하고 완료 시 원본과 같은 파일")
+    void outOfOrderChunks() throws Exception {
+        byte[] data = content(CHUNK * 2 + 1000);
+        String uploadId = initiate(data, sha256(data)).uploadId();
+
+        write(uploadId, data, 2);
+        write(uploadId, data, 0);
+        ChunkUploadStatusDto status = write(uploadId, data, 1);
+        assertThat(status.totalChunks()).isEqualTo(3);
+        assertThat(status.receivedChunks()).containsExactly(0, 1, 2);
+
+        ApprovalFileAttachmentDto result = service.complete(uploadId, uploader);
+
+        assertThat(result.getId()).isEqualTo(100L);
+        Path blob = root.resolve("blobs").resolve(sha256(data).substring(0, 2))
+                .resolve(sha256(data).substring(2, 4)).resolve(sha256(data));
+        assertThat(Files.readAllBytes(blob)).isEqualTo(data);
+        assertThat(sessions).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 청크 재전송은 덮어쓰기만 하고 수신 기록은 1건")
+    void duplicateChunk() {
+        byte[] data = content(CHUNK * 2);
+        String uploadId = initiate(data, null).uploadId();
+
+        write(uploadId, data, 0);
+        ChunkUploadStatusDto status = write(uploadId, data, 0);
+
+        assertThat(status.receivedChunks()).containsExactly(0);
+        verify(chunkRepository, times(1)).save(any());
+    }
+
+    @Test
+    @DisplayName("청크 길이/위치가 맞지 않으면 거부하고 기록하지 않음")
+    void wrongLengthOrOffset() {
+        byte[] data = content(CHUNK * 2);
+        String uploadId = initiate(data, null).uploadId();
+        Long userId = uploader.getUserId();
+
+        assertThatThrownBy(() -> service.writeChunk(uploadId, 0, new ByteArrayInputStream(new byte[CHUNK - 1]), userId))
+                .isInstanceOf(VerificationFailedException.class);
+        assertThatThrownBy(() -> service.writeChunk(uploadId, 0, new ByteArrayInputStream(new byte[CHUNK + 1]), userId))
+                .isInstanceOf(VerificationFailedException.class);
+        assertThatThrownBy(() -> service.writeChunk(uploadId, 100, new ByteArrayInputStream(new byte[CHUNK]), userId))
+                .isInstanceOf(VerificationFailedException.class);
+        assertThatThrownBy(() -> service.writeChunk(uploadId, CHUNK * 2L, new ByteArrayInputStream(new byte[1]), userId))
+                .isInstanceOf(VerificationFailedException.class);
+
+        assertThat(chunks).isEmpty();
+    }
+
+    @Test
+    @DisplayName("체크섬 불일치 시 세션/임시 파일 폐기")
+    void checksumMismatchDiscardsSession() throws Exception {
+        byte[] data = content(CHUNK + 10);
+        String uploadId = initiate(data, sha256(new byte[]{1, 2, 3})).uploadId();
+        Path staging = staging(uploadId);
+        write(uploadId, data, 0);
+        write(uploadId, data, 1);
+
+        assertThatThrownBy(() -> service.complete(uploadId, uploader))
+                .isInstanceOf(VerificationFailedException.class);
+
+        assertThat(sessions).doesNotContainKey(uploadId);
+        assertThat(staging).doesNotExist();
+        verify(chunkRepository).deleteByUploadId(uploadId);
+        verify(fileStorageService, never()).saveStoredBlob(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("받지 못한 청크가 있으면 완료 거부, 선점 해제 후 나머지를 보내 완료 가능")
+    void completeWithMissingChunks() throws Exception {
+        byte[] data = content(CHUNK * 2);
+        String uploadId = initiate(data, sha256(data)).uploadId();
+        write(uploadId, data, 1);
+
+        assertThatThrownBy(() -> service.complete(uploadId, uploader))
+                .isInstanceOf(VerificationFailedException.class)
+                .hasMessageContaining("1 / 2");
+        assertThat(sessions.get(uploadId).isCompleting()).isFalse();
+        assertThat(staging(uploadId)).exists();
+
+        write(uploadId, data, 0);
+        assertThat(service.complete(uploadId, uploader).getId()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("완료 처리 중인 세션은 두 번째 complete() 와 청크 전송을 거부")
+    void concurrentCompleteIsRejected() {
+        byte[] data = content(CHUNK);
+        String uploadId = initiate(data, null).uploadId();
+        write(uploadId, data, 0);
+        sessions.get(uploadId).setCompleting(true);   // 다른 요청이 선점한 상태
+
+        assertThatThrownBy(() -> service.complete(uploadId, uploader))
+                .isInstanceOf(VerificationFailedException.class);
+        assertThatThrownBy(() -> write(uploadId, data, 0))
+                .isInstanceOf(VerificationFailedException.class);
+        assertThat(staging(uploadId)).exists();
+    }
+
+    @Test
+    @DisplayName("저장소 이동 후 첨부 저장이 실패하면 참조를 되돌리고 세션 폐기")
+    void failureAfterAdoptReleasesBlob() throws Exception {
+        byte[] data = content(CHUNK);
+        String uploadId = initiate(data, null).uploadId();
+        write(uploadId, data, 0);
+        doThrow(new IllegalStateException("DB 오류"))
+                .when(fileStorageService).saveStoredBlob(any(), any(), any(), any(), any());
+
+        assertThatThrownBy(() -> service.complete(uploadId, uploader))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(blobRepository).incrementRefCount(eq(sha256(data)), any());
+        verify(blobRepository).decrementRefCount(eq(sha256(data)), any());
+        assertThat(sessions).doesNotContainKey(uploadId);
+    }
+}
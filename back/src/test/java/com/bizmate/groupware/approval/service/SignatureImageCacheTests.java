@@ -0,0 +1,52 @@
+package com.bizmate.groupware.approval.service;
+
+import com.bizmate.groupware.approval.service.PDF.SignatureImageCache;
+import com.itextpdf.io.image.ImageData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("✅ 서명 이미지 캐시")
+class SignatureImageCacheTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("같은 파일은 디코딩 1회, 파일이 바뀌면(mtime) 다시 로딩, 없으면 empty")
+    void cachesByPathAndMtime() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SignatureImageCache cache = new SignatureImageCache(registry, 10);
+        Path sign = tempDir.resolve("E001.png");
+        writePng(sign, 20);
+
+        ImageData first = cache.get(sign).orElseThrow();
+        ImageData second = cache.get(sign).orElseThrow();
+        assertThat(second).isSameAs(first);
+
+        writePng(sign, 30);
+        Files.setLastModifiedTime(sign, FileTime.fromMillis(Files.getLastModifiedTime(sign).toMillis() + 5_000));
+        ImageData reloaded = cache.get(sign).orElseThrow();
+        assertThat(reloaded).isNotSameAs(first);
+        assertThat(reloaded.getWidth()).isEqualTo(30f);
+
+        Files.delete(sign);
+        assertThat(cache.get(sign)).isEmpty();
+
+        assertThat(registry.counter("bizmate.pdf.signature.cache", "result", "hit").count()).isEqualTo(1);
+        assertThat(registry.counter("bizmate.pdf.signature.cache", "result", "miss").count()).isEqualTo(2);
+    }
+
+    private static void writePng(Path file, int size) throws Exception {
+        ImageIO.write(new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB), "png", file.toFile());
+    }
+}
@@ -0,0 +1,324 @@
+package com.bizmate.groupware.approval.service.event;
+
+import com.bizmate.groupware.approval.domain.document.ApprovalDocuments;
+import com.bizmate.groupware.approval.domain.document.DocumentStatus;
+import com.bizmate.groupware.approval.domain.policy.ApproverStep;
+import com.bizmate.groupware.approval.dto.approval.ApprovalEventDto;
+import com.bizmate.groupware.approval.service.document.ApprovalParticipantIndexer;
+import com.bizmate.hr.domain.UserEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("✅ 결재 SSE 브로드캐스터")
+class ApprovalEventBroadcasterTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private ApprovalEventBroadcaster broadcaster;
+    private volatile boolean blockEmitters;
+
+    /** 결재선 사번 → username (미등록 사번은 그대로, "-" 는 null) */
+    private final ApprovalParticipantIndexer participantIndexer = mock(ApprovalParticipantIndexer.class);
+    {
+        when(participantIndexer.resolveUsername(any())).thenAnswer(inv -> {
+            String approverId = inv.getArgument(0);
+            if (approverId == null || "-".equals(approverId)) return null;
+            return "5010001".equals(approverId) ? "ceo" : approverId;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        emitters.forEach(e -> e.release.countDown());
+        if (broadcaster != null) broadcaster.shutdown();
+    }
+
+    /** replaySize / maxConnectionsPerUser / maxPending 만 바꿔 생성 */
+    private ApprovalEventBroadcaster broadcaster(int replaySize, int maxConnections, int maxPending) {
+        broadcaster = new ApprovalEventBroadcaster(meterRegistry, participantIndexer, 60_000, replaySize, 300_000,
+                maxConnections, maxPending, 25_000, 30_000) {
+            @Override
+            SseEmitter createEmitter(long timeoutMs) {
+                RecordingEmitter emitter = new RecordingEmitter(timeoutMs);
+                emitter.blocking = blockEmitters;
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+        return broadcaster;
+    }
+
+    private RecordingEmitter connect(String username, String lastEventId) {
+        return (RecordingEmitter) broadcaster.connect(username, lastEventId);
+    }
+
+    private static ApprovalDocuments doc(DocumentStatus status, int currentIndex, String... approvers) {
+        List<ApproverStep> line = new ArrayList<>();
+        for (int i = 0; i < approvers.length; i++) {
+            line.add(new ApproverStep(i + 1, approvers[i], approvers[i], null, null, null, null));
+        }
+        ApprovalDocuments doc = ApprovalDocuments.builder()
+                .docId("DOC-1")
+                .title("출장 신청")
+                .status(status)
+                .currentApproverIndex(currentIndex)
+                .approvalLine(line)
+                .authorUser(UserEntity.builder().username("author").build())
+                .build();
+        // createdBy 는 감사 리스너가 "이름 (username)" 으로 채움 → 수신자 계산은 authorUser 기준이어야 함
+        return doc;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("시간 내 조건 미충족");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private double count(String name) {
+        return meterRegistry.counter(name).count();
+    }
+
+    private double connections() {
+        return meterRegistry.get("bizmate.approval.events.connections").gauge().value();
+    }
+
+    @Test
+    @DisplayName("상신: 현재 결재자는 actionRequired, 작성자는 username 채널로 수신")
+    void submittedRecipients() throws Exception {
+        broadcaster(50, 5, 100);
+        RecordingEmitter author = connect("author", null);
+        RecordingEmitter first = connect("kim", null);
+        RecordingEmitter second = connect("lee", null);
+
+        broadcaster.publishAfterCommit(doc(DocumentStatus.IN_PROGRESS, 0, "kim", "lee"), "author", "작성자");
+
+        await(() -> author.events().size() == 1 && first.events().size() == 1);
+        assertThat(author.events().get(0).type()).isEqualTo(ApprovalEventBroadcaster.TYPE_SUBMITTED);
+        assertThat(author.events().get(0).actionRequired()).isFalse();
+        assertThat(first.events().get(0).actionRequired()).isTrue();
+        Thread.sleep(50);
+        assertThat(second.events()).isEmpty();   // 아직 차례가 아님
+    }
+
+    @Test
+    @DisplayName("중간 승인: 작성자/처리자는 APPROVED, 다음 결재자는 SUBMITTED(actionRequired)")
+    void intermediateApprovalRecipients() throws Exception {
+        broadcaster(50, 5, 100);
+        RecordingEmitter author = connect("author", null);
+        RecordingEmitter first = connect("kim", null);
+        RecordingEmitter second = connect("lee", null);
+
+        broadcaster.publishAfterCommit(doc(DocumentStatus.IN_PROGRESS, 1, "kim", "lee"), "kim", "김결재");
+
+        await(() -> author.events().size() == 1 && first.events().size() == 1 && second.events().size() == 1);
+        assertThat(author.events().get(0).type()).isEqualTo(ApprovalEventBroadcaster.TYPE_APPROVED);
+        assertThat(first.events().get(0).type()).isEqualTo(ApprovalEventBroadcaster.TYPE_APPROVED);
+        assertThat(second.events().get(0).type()).isEqualTo(ApprovalEventBroadcaster.TYPE_SUBMITTED);
+        assertThat(second.events().get(0).actionRequired()).isTrue();
+    }
+
+    @Test
+    @DisplayName("사번과 username 이 다른 결재자(ceo)도 username 채널로 수신, \"-\" 자리표시는 제외")
+    void approverIdIsResolvedToUsername() throws Exception {
+        broadcaster(50, 5, 100);
+        RecordingEmitter ceo = connect("ceo", null);
+        RecordingEmitter byEmpNo = connect("5010001", null);
+        RecordingEmitter placeholder = connect("-", null);
+
+        broadcaster.publishAfterCommit(doc(DocumentStatus.IN_PROGRESS, 0, "5010001", "-"), "author", "작성자");
+        await(() -> ceo.events().size() == 1);
+        assertThat(ceo.events().get(0).actionRequired()).isTrue();
+
+        broadcaster.publishAfterCommit(doc(DocumentStatus.APPROVED, 2, "5010001", "-"), "ceo", "대표");
+        await(() -> ceo.events().size() == 2);
+        assertThat(ceo.events().get(1).type()).isEqualTo(ApprovalEventBroadcaster.TYPE_FINAL);
+
+        broadcaster.publishAfterCommit(doc(DocumentStatus.IN_PROGRESS, 1, "5010001", "-"), "ceo", "대표");
+        await(() -> ceo.events().size() == 3);
+        Thread.sleep(50);
+        assertThat(byEmpNo.events()).isEmpty();
+        assertThat(placeholder.events()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최종 승인/반려: 작성자(createdBy 가 아닌 authorUser) + 결재선 전원")
+    void finalAndRejectedReachAuthorAndWholeLine() throws Exception {
+        broadcaster(50, 5, 100);
+        RecordingEmitter author = connect("author", null);
+        RecordingEmitter first = connect("kim", null);
+        RecordingEmitter second = connect("lee", null);
+
+        broadcaster.publishAfterCommit(doc(DocumentStatus.APPROVED, 2, "kim", "lee"), "lee", "이결재");
+        broadcaster.publishAfterCommit(doc(DocumentStatus.REJECTED, 1, "kim", "lee"), "lee", "이결재");
+
+        await(() -> author.events().size() == 2 && first.events().size() == 2 && second.events().size() == 2);
+        assertThat(author.events()).extracting(ApprovalEventDto::type)
+                .containsExactly(ApprovalEventBroadcaster.TYPE_FINAL, ApprovalEventBroadcaster.TYPE_REJECTED);
+        assertThat(first.events()).extracting(ApprovalEventDto::actionRequired).containsOnly(false);
+    }
+
+    @Test
+    @DisplayName("임시저장/삭제 상태는 발행하지 않음")
+    void draftIsNotPublished() throws Exception {
+        broadcaster(50, 5, 100);
+        RecordingEmitter author = connect("author", null);
+
+        broadcaster.publishAfterCommit(doc(DocumentStatus.DRAFT, 0, "kim"), "author", "작성자");
+
+        await(() -> author.names().contains("ready"));
+        Thread.sleep(50);
+        assertThat(author.events()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 가 보관 범위 안이면 놓친 이벤트만 재전송")
+    void replaysMissedEvents() throws Exception {
+        broadcaster(50, 5, 100);
+        RecordingEmitter before = connect("kim", null);
+        for (int i = 0; i < 3; i++) {
+            broadcaster.publishAfterCommit(doc(DocumentStatus.IN_PROGRESS, 0, "kim"), "author", "작성자");
+        }
+        await(() -> before.events().size() == 3);
+        long firstId = before.events().get(0).id();
+
+        RecordingEmitter after = connect("kim", String.valueOf(firstId));
+
+        await(() -> after.events().size() == 2);
+        assertThat(after.events()).extracting(ApprovalEventDto::id)
+                .containsExactly(before.events().get(1).id(), before.events().get(2).id());
+        assertThat(after.names()).doesNotContain("resync");
+        assertThat(count("bizmate.approval.events.replayed")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("보관 범위를 벗어난 ID / 알 수 없는 ID 는 resync")
+    void resyncWhenOutOfReplayWindow() throws Exception {
+        broadcaster(2, 5, 100);
+        RecordingEmitter before = connect("kim", null);
+        for (int i = 0; i < 4; i++) {
+            broadcaster.publishAfterCommit(doc(DocumentStatus.IN_PROGRESS, 0, "kim"), "author", "작성자");
+        }
+        await(() -> before.events().size() == 4);
+
+        RecordingEmitter stale = connect("kim", String.valueOf(before.events().get(0).id()));
+        RecordingEmitter garbage = connect("kim", "not-a-number");
+
+        await(() -> stale.names().contains("resync") && garbage.names().contains("resync"));
+        assertThat(stale.events()).isEmpty();
+        assertThat(garbage.events()).isEmpty();
+        assertThat(count("bizmate.approval.events.resync")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("사용자별 최대 연결 수 초과 시 가장 오래된 연결을 종료")
+    void evictsOldestConnection() throws Exception {
+        broadcaster(50, 2, 100);
+        RecordingEmitter oldest = connect("kim", null);
+        RecordingEmitter middle = connect("kim", null);
+        RecordingEmitter newest = connect("kim", null);
+
+        assertThat(oldest.completed).isTrue();
+        assertThat(middle.completed).isFalse();
+        assertThat(newest.completed).isFalse();
+        assertThat(connections()).isEqualTo(2);
+
+        broadcaster.publishAfterCommit(doc(DocumentStatus.IN_PROGRESS, 0, "kim"), "author", "작성자");
+        await(() -> middle.events().size() == 1 && newest.events().size() == 1);
+        assertThat(oldest.events()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전송 대기열이 가득 차면 연결을 끊고 dropped 집계")
+    void disconnectsSlowClientOnQueueOverflow() throws Exception {
+        broadcaster(50, 5, 2);
+        blockEmitters = true;
+        RecordingEmitter slow = connect("kim", null);
+        blockEmitters = false;
+        await(() -> slow.sending);   // ready 전송에서 멈춤 → pending 1
+
+        broadcaster.publishAfterCommit(doc(DocumentStatus.IN_PROGRESS, 0, "kim"), "author", "작성자");   // pending 2
+        broadcaster.publishAfterCommit(doc(DocumentStatus.IN_PROGRESS, 0, "kim"), "author", "작성자");   // 초과
+
+        assertThat(slow.completed).isTrue();
+        assertThat(count("bizmate.approval.events.dropped")).isEqualTo(1);
+        assertThat(connections()).isZero();
+
+        // 재연결하면 보관된 이벤트로 보충
+        slow.release.countDown();
+        RecordingEmitter reconnected = connect("kim", null);
+        assertThat(reconnected.completed).isFalse();
+        assertThat(connections()).isEqualTo(1);
+    }
+
+    /** 전송 내용을 기록 (blocking 이면 release 전까지 전송에서 대기) */
+    static class RecordingEmitter extends SseEmitter {
+        final List<Object> sent = new CopyOnWriteArrayList<>();
+        final CountDownLatch release = new CountDownLatch(1);
+        volatile boolean blocking;
+        volatile boolean sending;
+        volatile boolean completed;
+
+        RecordingEmitter(long timeout) {
+            super(timeout);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending = true;
+            if (blocking) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                sent.add(part.getData());
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        List<ApprovalEventDto> events() {
+            return sent.stream()
+                    .filter(ApprovalEventDto.class::isInstance)
+                    .map(ApprovalEventDto.class::cast)
+                    .toList();
+        }
+
+        List<String> names() {
+            return sent.stream()
+                    .filter(String.class::isInstance)
+                    .map(String.class::cast)
+                    .flatMap(String::lines)
+                    .filter(s -> s.startsWith("event:"))
+                    .map(s -> s.substring("event:".length()).trim())
+                    .toList();
+        }
+    }
+}
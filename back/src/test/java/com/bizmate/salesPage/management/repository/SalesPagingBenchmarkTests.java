@@ -0,0 +1,144 @@
+package com.bizmate.salesPage.management.repository;
+
+import com.bizmate.common.config.QuerydslConfig;
+import com.bizmate.common.page.PageRequestDTO;
+import com.bizmate.salesPages.management.sales.sales.domain.Sales;
+import com.bizmate.salesPages.management.sales.sales.repository.SalesRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 판매 목록 OFFSET vs 커서(keyset) 페이지 비용 비교 (H2)
+ * - 기본 실행 제외: BIZMATE_BENCHMARK=true 일 때만 (행 수는 BIZMATE_BENCHMARK_ROWS, 기본 1,000,000)
+ *   예) BIZMATE_BENCHMARK=true gradle test --tests '*SalesPagingBenchmarkTests' (이때 테스트 힙 3g, build.gradle)
+ * - 커서 모드로 전체를 끝까지 넘기며 누락/중복이 없는지도 확인
+ */
+@Slf4j
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfEnvironmentVariable(named = "BIZMATE_BENCHMARK", matches = "true")
+@DisplayName("⏱ 판매 목록 페이지네이션 벤치마크 (OFFSET vs 커서)")
+class SalesPagingBenchmarkTests {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int INSERT_BATCH = 10_000;
+
+    @Autowired
+    private SalesRepository salesRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM sales");
+    }
+
+    @Test
+    @DisplayName("페이지 깊이별 응답 시간 + 커서 전체 순회")
+    void offsetVersusCursor() {
+        int rows = Integer.parseInt(System.getenv().getOrDefault("BIZMATE_BENCHMARK_ROWS", "1000000"));
+        insertSales(rows);
+
+        int lastPage = (rows + PAGE_SIZE - 1) / PAGE_SIZE;
+        Set<Integer> depths = new TreeSet<>(List.of(1, 100, 1_000, 10_000, lastPage / 2, lastPage));
+        depths.removeIf(p -> p > lastPage);
+
+        // ✅ OFFSET: 페이지마다 count + OFFSET 스캔
+        for (int page : depths) {
+            PageRequestDTO req = PageRequestDTO.builder().page(page).size(PAGE_SIZE).build();
+            long nanos = median(() -> salesRepository.searchSales(req,
+                    PageRequest.of(page - 1, PAGE_SIZE, Sort.by("salesId").descending())));
+            log.info("⏱ OFFSET  page={} → {} ms", page, nanos / 1_000_000.0);
+        }
+
+        // ✅ 커서: 처음부터 끝까지 넘기면서 같은 깊이의 페이지 시간 기록
+        PageRequestDTO cursorReq = PageRequestDTO.builder().size(PAGE_SIZE).cursor("").build();
+        String after = null;
+        String previous = null;
+        int page = 0;
+        int visited = 0;
+        long walkStarted = System.nanoTime();
+        while (true) {
+            page++;
+            long started = System.nanoTime();
+            List<Sales> result = salesRepository.searchSalesAfter(cursorReq, after, cursorReq.cursorLimit());
+            long nanos = System.nanoTime() - started;
+            if (depths.contains(page)) {
+                log.info("⏱ CURSOR  page={} → {} ms", page, nanos / 1_000_000.0);
+            }
+
+            List<Sales> content = result.size() > PAGE_SIZE ? result.subList(0, PAGE_SIZE) : result;
+            for (Sales s : content) {
+                if (previous != null) {
+                    assertThat(s.getSalesId()).isLessThan(previous);
+                }
+                previous = s.getSalesId();
+            }
+            visited += content.size();
+            if (result.size() <= PAGE_SIZE) break;
+            after = content.get(content.size() - 1).getSalesId();
+        }
+        log.info("⏱ CURSOR  전체 {} 페이지 순회 → {} ms", page, (System.nanoTime() - walkStarted) / 1_000_000);
+
+        assertThat(visited).isEqualTo(rows);
+        assertThat(page).isEqualTo(lastPage);
+    }
+
+    private void insertSales(int rows) {
+        long started = System.currentTimeMillis();
+        LocalDate baseDate = LocalDate.of(2020, 1, 1);
+        for (int from = 0; from < rows; from += INSERT_BATCH) {
+            List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+            for (int i = from; i < Math.min(from + INSERT_BATCH, rows); i++) {
+                batch.add(new Object[]{
+                        (long) i + 1,
+                        String.format("S%010d", i + 1),
+                        Date.valueOf(baseDate.plusDays(i % 2_000)),
+                        BigDecimal.valueOf(10_000L + (i % 997) * 100L),
+                        "writer" + (i % 50),
+                        "client" + (i % 300),
+                        i % 3 == 0
+                });
+            }
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO sales (sales_no, sales_id, sales_date, sales_amount, writer, client_company, invoice_issued) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?)", batch);
+        }
+        log.info("⏱ 판매 {}건 생성 → {} ms", rows, System.currentTimeMillis() - started);
+    }
+
+    private static long median(Runnable task) {
+        task.run();   // 워밍업
+        long[] samples = new long[3];
+        for (int i = 0; i < samples.length; i++) {
+            long started = System.nanoTime();
+            task.run();
+            samples[i] = System.nanoTime() - started;
+        }
+        java.util.Arrays.sort(samples);
+        return samples[1];
+    }
+}
@@ -0,0 +1,170 @@
+package com.bizmate.salesPage.report;
+
+import com.bizmate.common.concurrent.SingleFlight;
+import com.bizmate.common.config.QuerydslConfig;
+import com.bizmate.salesPages.report.salesReport.dto.ClientSalesSummary;
+import com.bizmate.salesPages.report.salesReport.service.SalesReportCache;
+import com.bizmate.salesPages.report.salesRollup.repository.SalesClientMonthRollupRepository;
+import com.bizmate.salesPages.report.salesRollup.repository.SalesMonthRollupRepository;
+import com.bizmate.salesPages.report.salesRollup.service.SalesRollupReconciler;
+import com.bizmate.salesPages.report.salesRollup.service.SalesRollupService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매출 리포트 기간 집계 비용 비교 (H2)
+ * - 기본 실행 제외: BIZMATE_BENCHMARK=true 일 때만 (행 수는 BIZMATE_BENCHMARK_ROWS, 기본 1,000,000)
+ *   예) BIZMATE_BENCHMARK=true gradle test --tests '*SalesReportBenchmarkTests'
+ * - 이전: TO_CHAR(매출일) 비교 → 인덱스 사용 불가, 전체 스캔
+ * - 비교: [from, to) 반열린 구간 원본 집계 / 이후: 롤업 테이블 조회
+ * - 세 방식의 결과가 같은지도 확인
+ */
+@Slf4j
+@DataJpaTest
+@Import({QuerydslConfig.class, SalesRollupService.class, SalesRollupReconciler.class,
+        SalesReportCache.class, SingleFlight.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfEnvironmentVariable(named = "BIZMATE_BENCHMARK", matches = "true")
+@DisplayName("⏱ 매출 리포트 기간 집계 벤치마크 (TO_CHAR vs 범위 vs 롤업)")
+class SalesReportBenchmarkTests {
+
+    private static final int INSERT_BATCH = 10_000;
+
+    private static final String CLIENT_MONTH_RANGE_SQL = """
+            SELECT client_id AS k, SUM(sales_amount) AS v FROM sales
+            WHERE invoice_issued = TRUE AND sales_date >= DATE '2023-06-01' AND sales_date < DATE '2023-07-01'
+            GROUP BY client_id
+            """;
+    private static final String YEAR_MONTHLY_RANGE_SQL = """
+            SELECT MONTH(sales_date), SUM(sales_amount) FROM sales
+            WHERE invoice_issued = TRUE AND sales_date >= DATE '2023-01-01' AND sales_date < DATE '2024-01-01'
+            GROUP BY YEAR(sales_date), MONTH(sales_date)
+            """;
+
+    @Autowired
+    private SalesRollupReconciler rollupReconciler;
+    @Autowired
+    private SalesMonthRollupRepository monthRollupRepository;
+    @Autowired
+    private SalesClientMonthRollupRepository clientRollupRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM sales");
+        jdbcTemplate.update("DELETE FROM sales_rollup_month");
+        jdbcTemplate.update("DELETE FROM sales_rollup_client_month");
+        jdbcTemplate.update("DELETE FROM sales_rollup_project_month");
+    }
+
+    @Test
+    @DisplayName("월별 / 거래처-월 집계 응답 시간")
+    void toCharVersusRangeVersusRollup() {
+        int rows = Integer.parseInt(System.getenv().getOrDefault("BIZMATE_BENCHMARK_ROWS", "1000000"));
+        insertSales(rows);
+
+        long started = System.currentTimeMillis();
+        rollupReconciler.rebuild();
+        log.info("⏱ 롤업 재구성 → {} ms", System.currentTimeMillis() - started);
+
+        // ✅ 거래처별 현황 (특정 연월)
+        Map<String, BigDecimal> before = sumByKey(jdbcTemplate.queryForList("""
+                SELECT client_id AS k, SUM(sales_amount) AS v FROM sales
+                WHERE invoice_issued = TRUE AND TO_CHAR(sales_date, 'YYYY-MM') = '2023-06'
+                GROUP BY client_id, client_company
+                """));
+        Map<String, BigDecimal> range = sumByKey(jdbcTemplate.queryForList(CLIENT_MONTH_RANGE_SQL));
+        Map<String, BigDecimal> rollup = sumByClient(clientRollupRepository.findClientSummaryByYearMonth(2023, 6));
+        assertThat(range).isEqualTo(before).isEqualTo(rollup);
+
+        log.info("⏱ 거래처-월  TO_CHAR → {} ms", millis(median(() -> jdbcTemplate.queryForList("""
+                SELECT client_id, client_company, SUM(sales_amount) FROM sales
+                WHERE invoice_issued = TRUE AND TO_CHAR(sales_date, 'YYYY-MM') = '2023-06'
+                GROUP BY client_id, client_company
+                """))));
+        log.info("⏱ 거래처-월  범위    → {} ms", millis(median(() -> jdbcTemplate.queryForList(CLIENT_MONTH_RANGE_SQL))));
+        log.info("⏱ 거래처-월  롤업    → {} ms", millis(median(() -> clientRollupRepository.findClientSummaryByYearMonth(2023, 6))));
+
+        // ✅ 기간별 현황 (특정 연도의 월별)
+        assertThat(jdbcTemplate.queryForList(YEAR_MONTHLY_RANGE_SQL)).hasSize(12);
+        log.info("⏱ 연도-월별  TO_CHAR → {} ms", millis(median(() -> jdbcTemplate.queryForList("""
+                SELECT TO_CHAR(sales_date, 'MM'), SUM(sales_amount) FROM sales
+                WHERE invoice_issued = TRUE AND CAST(TO_CHAR(sales_date, 'YYYY') AS INTEGER) = 2023
+                GROUP BY TO_CHAR(sales_date, 'YYYY'), TO_CHAR(sales_date, 'MM')
+                """))));
+        log.info("⏱ 연도-월별  범위    → {} ms", millis(median(() -> jdbcTemplate.queryForList(YEAR_MONTHLY_RANGE_SQL))));
+        log.info("⏱ 연도-월별  롤업    → {} ms", millis(median(() -> monthRollupRepository.findMonthlySummary(2023))));
+    }
+
+    private void insertSales(int rows) {
+        long started = System.currentTimeMillis();
+        LocalDate baseDate = LocalDate.of(2020, 1, 1);
+        for (int from = 0; from < rows; from += INSERT_BATCH) {
+            List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+            for (int i = from; i < Math.min(from + INSERT_BATCH, rows); i++) {
+                batch.add(new Object[]{
+                        (long) i + 1,
+                        String.format("S%010d", i + 1),
+                        Date.valueOf(baseDate.plusDays(i % 2_000)),
+                        BigDecimal.valueOf(10_000L + (i % 997) * 100L),
+                        "C" + (i % 300),
+                        "client" + (i % 300),
+                        "P" + (i % 40),
+                        i % 3 != 0
+                });
+            }
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO sales (sales_no, sales_id, sales_date, sales_amount, client_id, client_company, project_id, invoice_issued) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", batch);
+        }
+        log.info("⏱ 판매 {}건 생성 → {} ms", rows, System.currentTimeMillis() - started);
+    }
+
+    private static Map<String, BigDecimal> sumByClient(List<ClientSalesSummary> rows) {
+        return rows.stream().collect(java.util.stream.Collectors.toMap(
+                ClientSalesSummary::getClientId, c -> c.getTotalSalesAmount().stripTrailingZeros()));
+    }
+
+    private static Map<String, BigDecimal> sumByKey(List<Map<String, Object>> rows) {
+        return rows.stream().collect(java.util.stream.Collectors.toMap(
+                r -> (String) r.get("K"), r -> ((BigDecimal) r.get("V")).stripTrailingZeros()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static long median(Supplier<?> task) {
+        task.get();   // 워밍업
+        long[] samples = new long[5];
+        for (int i = 0; i < samples.length; i++) {
+            long started = System.nanoTime();
+            task.get();
+            samples[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+}
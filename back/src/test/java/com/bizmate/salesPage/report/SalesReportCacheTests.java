@@ -0,0 +1,116 @@
+package com.bizmate.salesPage.report;
+
+import com.bizmate.common.concurrent.SingleFlight;
+import com.bizmate.salesPages.report.salesReport.service.SalesReportCache;
+import com.bizmate.salesPages.report.salesReport.service.SalesReportCache.Scope;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("✅ 매출 리포트 결과 캐시 (연/월 선택 무효화 / 커밋 후 최신값 / 크기 제한)")
+class SalesReportCacheTests {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SalesReportCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new SalesReportCache(true, 300, 3, meterRegistry, new SingleFlight(true, 1000, meterRegistry));
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private int period(int year) {
+        return cache.get("status-period", Arrays.asList(year),
+                List.of(Scope.of(SalesReportCache.SALES, year, null), Scope.of(SalesReportCache.TARGETS, year, null)),
+                () -> loads.incrementAndGet());
+    }
+
+    @Test
+    @DisplayName("쓰기의 연/월과 겹치는 항목만 제거")
+    void selectiveInvalidation() {
+        period(2024);
+        period(2025);
+        period(2025);
+        assertThat(loads).hasValue(2);
+
+        cache.invalidateAfterCommit(Scope.of(SalesReportCache.SALES, 2024, 3));   // 트랜잭션 밖 → 즉시
+        period(2025);
+        assertThat(loads).hasValue(2);
+        period(2024);
+        assertThat(loads).hasValue(3);
+
+        cache.invalidateAfterCommit(Scope.of(SalesReportCache.COLLECTIONS));      // 의존하지 않는 원본
+        period(2024);
+        assertThat(loads).hasValue(3);
+
+        cache.invalidateAfterCommit(Scope.of(SalesReportCache.SALES, 0, 0));      // 매출일 없는 매출 → 전체
+        period(2024);
+        period(2025);
+        assertThat(loads).hasValue(5);
+
+        assertThat(meterRegistry.counter("bizmate.report.cache", "report", "status-period", "result", "hit").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("bizmate.report.cache.evictions", "cause", "invalidated").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 진행 중에는 캐시 우회, 커밋 후 다시 조회, 조회 도중 무효화된 결과는 저장 안 함")
+    void noStaleReadAfterCommit() {
+        period(2025);
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidateAfterCommit(Scope.of(SalesReportCache.SALES, 2025, 1));
+        period(2025);
+        period(2025);
+        assertThat(loads).hasValue(3);   // 우회
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        period(2025);
+        period(2025);
+        assertThat(loads).hasValue(4);
+
+        // 조회 도중 무효화
+        cache.get("sales-quarter", List.of(), List.of(Scope.of(SalesReportCache.SALES)), () -> {
+            cache.invalidate(List.of(Scope.of(SalesReportCache.SALES, 2020, 1)));
+            return loads.incrementAndGet();
+        });
+        cache.get("sales-quarter", List.of(), List.of(Scope.of(SalesReportCache.SALES)), () -> loads.incrementAndGet());
+        assertThat(loads).hasValue(6);
+    }
+
+    @Test
+    @DisplayName("최대 건수 초과 시 가장 오래 안 쓴 항목 제거")
+    void sizeBound() {
+        period(2021);
+        period(2022);
+        period(2023);
+        period(2021);
+        period(2024);   // 2022 제거
+        assertThat(loads).hasValue(4);
+
+        period(2021);
+        period(2022);
+        assertThat(loads).hasValue(5);
+        assertThat(meterRegistry.counter("bizmate.report.cache.evictions", "cause", "size").count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,265 @@
+package com.bizmate.salesPage.report;
+
+import com.bizmate.common.concurrent.SingleFlight;
+import com.bizmate.common.config.QuerydslConfig;
+import com.bizmate.common.page.PageRequestDTO;
+import com.bizmate.common.page.PageResponseDTO;
+import com.bizmate.salesPages.client.domain.Client;
+import com.bizmate.salesPages.client.repository.ClientRepository;
+import com.bizmate.salesPages.management.collections.domain.Collection;
+import com.bizmate.salesPages.management.collections.repository.CollectionRepository;
+import com.bizmate.salesPages.management.sales.sales.domain.Sales;
+import com.bizmate.salesPages.management.sales.sales.repository.SalesRepository;
+import com.bizmate.salesPages.report.receivables.repository.ClientReceivableRepository;
+import com.bizmate.salesPages.report.receivables.service.ClientReceivableLedger;
+import com.bizmate.salesPages.report.receivables.service.ClientReceivableReconciler;
+import com.bizmate.salesPages.report.salesReport.dto.*;
+import com.bizmate.salesPages.report.salesReport.service.SalesReportCache;
+import com.bizmate.salesPages.report.salesReport.service.SalesReportService;
+import com.bizmate.salesPages.report.salesReport.service.SalesReportServiceImpl;
+import com.bizmate.salesPages.report.salesRollup.repository.SalesClientMonthRollupRepository;
+import com.bizmate.salesPages.report.salesRollup.repository.SalesMonthRollupRepository;
+import com.bizmate.salesPages.report.salesRollup.service.SalesRollupService;
+import com.bizmate.salesPages.report.salesRollup.service.SalesRollupService.Contribution;
+import com.bizmate.salesPages.report.salesTarget.domain.SalesTarget;
+import com.bizmate.salesPages.report.salesTarget.repository.SalesTargetRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+/**
+ * 매출 리포트 통합 테스트 (H2)
+ * - SalesReportService 전 메서드: 롤업 증감으로 쌓인 값 기준
+ * - 롤업이 월/연 경계를 정확히 나누는지
+ * - 미수금은 원장(ClientReceivable) 기준, 원본 집계와 정합성 점검/보정
+ */
+@DataJpaTest
+@Import({QuerydslConfig.class, SalesReportServiceImpl.class, SalesRollupService.class,
+        ClientReceivableLedger.class, ClientReceivableReconciler.class,
+        SalesReportCache.class, SingleFlight.class, SimpleMeterRegistry.class})
+@TestPropertySource(properties = "bizmate.report.cache.enabled=false")   // 테스트마다 롤백되므로 결과 캐시 끔
+@DisplayName("✅ 매출 리포트 (롤업 / 기간 집계 / 미수금 원장, H2)")
+class SalesReportServiceTests {
+
+    @Autowired
+    private SalesReportService salesReportService;
+    @Autowired
+    private SalesRollupService rollupService;
+    @Autowired
+    private ClientReceivableLedger receivableLedger;
+    @Autowired
+    private ClientReceivableReconciler receivableReconciler;
+    @Autowired
+    private ClientReceivableRepository receivableRepository;
+    @Autowired
+    private SalesRepository salesRepository;
+    @Autowired
+    private ClientRepository clientRepository;
+    @Autowired
+    private CollectionRepository collectionRepository;
+    @Autowired
+    private SalesTargetRepository salesTargetRepository;
+    @Autowired
+    private SalesMonthRollupRepository monthRollupRepository;
+    @Autowired
+    private SalesClientMonthRollupRepository clientRollupRepository;
+    @Autowired
+    private TestEntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        Client c1 = clientRepository.save(Client.builder().clientId("C1").clientCompany("가나상사").build());
+        Client c2 = clientRepository.save(Client.builder().clientId("C2").clientCompany("다라상사").build());
+        clientRepository.save(Client.builder().clientId("C3").clientCompany("마바상사").build());
+
+        sales("S-1", c1, "P1", LocalDate.of(2024, 12, 31), "100", true);
+        sales("S-2", c1, "P1", LocalDate.of(2025, 1, 1), "200", true);
+        sales("S-3", c2, "P2", LocalDate.of(2025, 1, 31), "300", true);
+        sales("S-4", c2, "P2", LocalDate.of(2025, 2, 1), "400", true);
+        sales("S-5", c1, "P2", LocalDate.of(2025, 12, 31), "500", true);
+        sales("S-6", c2, "P1", LocalDate.of(2025, 3, 15), "999", false);
+        sales("S-7", c1, "P1", LocalDate.of(2026, 1, 1), "50", true);
+
+        collection("CO-1", c1, "150");
+        collection("CO-2", c2, "100");
+
+        target(2024, 12, "200");
+        target(2025, 1, "1000");
+        target(2025, 2, "800");
+
+        em.flush();
+        em.clear();
+    }
+
+    private void sales(String salesId, Client client, String projectId, LocalDate date, String amount, boolean issued) {
+        Sales sales = salesRepository.save(Sales.builder()
+                .salesId(salesId)
+                .clientId(client.getClientId())
+                .clientCompany(client.getClientCompany())
+                .projectId(projectId)
+                .projectName("프로젝트" + projectId)
+                .salesDate(date)
+                .salesAmount(new BigDecimal(amount))
+                .invoiceIssued(issued)
+                .build());
+        rollupService.apply(null, Contribution.of(sales));
+        receivableLedger.applySales(null, Contribution.of(sales));
+    }
+
+    private void collection(String collectionId, Client client, String amount) {
+        Collection collection = collectionRepository.save(Collection.builder()
+                .collectionId(collectionId).client(client).collectionMoney(new BigDecimal(amount)).build());
+        receivableLedger.addCollection(client.getClientId(), client.getClientCompany(), collection.getCollectionMoney());
+    }
+
+    private void target(int year, int month, String amount) {
+        salesTargetRepository.save(SalesTarget.builder()
+                .targetYear(year).targetMonth(month).targetAmount(new BigDecimal(amount)).build());
+    }
+
+    @Test
+    @DisplayName("기간별(월) / 연도별 / 분기별 현황")
+    void periodYearlyQuarterly() {
+        List<PeriodSalesStatusDTO> period = salesReportService.getPeriodSalesStatus(2025);
+        assertThat(period).hasSize(12);
+        assertThat(period).extracting(PeriodSalesStatusDTO::getMonth, p -> p.getSalesAmount().intValue(),
+                        p -> p.getTargetAmount().intValue())
+                .contains(tuple(1, 500, 1000), tuple(2, 400, 800), tuple(3, 0, 0), tuple(12, 500, 0));
+        assertThat(period.get(0).getAchievementRatio()).isEqualByComparingTo("0.5");
+
+        assertThat(salesReportService.getYearlySalesStatus())
+                .extracting(YearlySalesStatusDTO::getYear, y -> y.getSalesAmount().intValue(), y -> y.getTargetAmount().intValue())
+                .containsExactly(tuple(2026, 50, 0), tuple(2025, 1400, 1800), tuple(2024, 100, 200));
+
+        assertThat(salesReportService.getQuarterlyTotalSalesSummary())
+                .extracting(QuarterlySalesSummary::getYear, QuarterlySalesSummary::getQuarter, q -> q.getTotalSalesAmount().intValue())
+                .containsExactly(tuple(2026, 1, 50), tuple(2025, 4, 500), tuple(2025, 1, 900), tuple(2024, 4, 100));
+    }
+
+    @Test
+    @DisplayName("거래처 / 프로젝트 누적, 수금, 미수금")
+    void totalsAndReceivables() {
+        assertThat(salesReportService.getClientTotalSalesSummary())
+                .extracting(ClientSalesSummary::getClientId, c -> c.getTotalSalesAmount().intValue())
+                .containsExactly(tuple("C1", 850), tuple("C2", 700));
+
+        assertThat(salesReportService.getProjectTotalSalesSummary())
+                .extracting(ProjectSalesSummary::getProjectId, p -> p.getTotalSalesAmount().intValue())
+                .containsExactly(tuple("P2", 1200), tuple("P1", 350));
+
+        assertThat(salesReportService.getClientTotalCollectionSummary())
+                .extracting(CollectionSummary::getClientId, c -> c.getTotalCollectionAmount().intValue())
+                .containsExactlyInAnyOrder(tuple("C1", 150), tuple("C2", 100));
+
+        assertThat(salesReportService.getClientReceivablesSummary())
+                .extracting(ClientReceivablesDTO::getClientId, r -> r.getOutstandingBalance().intValue())
+                .containsExactly(tuple("C1", 700), tuple("C2", 600));
+    }
+
+    @Test
+    @DisplayName("거래처 이름 변경은 원장 재구축 없이 미수금 요약에 바로 반영")
+    void receivablesFollowClientRename() {
+        Client c1 = clientRepository.findByClientId("C1").orElseThrow();
+        c1.changeClientCompany("하하상사");
+        em.flush();
+        em.clear();
+
+        assertThat(salesReportService.getClientReceivablesSummary())
+                .extracting(ClientReceivablesDTO::getClientId, ClientReceivablesDTO::getClientCompany)
+                .containsExactly(tuple("C2", "다라상사"), tuple("C1", "하하상사"));
+    }
+
+    @Test
+    @DisplayName("거래처별 현황 (월 / 연간, 페이징)")
+    void clientSalesStatus() {
+        PageRequestDTO req = PageRequestDTO.builder().page(1).size(10).build();
+
+        PageResponseDTO<ClientSalesStatusDTO> monthly = salesReportService.getClientSalesStatus(req, 2025, 1);
+        assertThat(monthly.getTotalCount()).isEqualTo(3);
+        assertThat(monthly.getDtoList())
+                .extracting(ClientSalesStatusDTO::getClientId, c -> c.getMonthlySalesAmount().intValue(),
+                        c -> c.getOutstandingBalance().intValue())
+                .containsExactly(tuple("C1", 200, 700), tuple("C2", 300, 600), tuple("C3", 0, 0));
+        assertThat(monthly.getDtoList().get(1).getAchievementRatio()).isEqualByComparingTo("0.3");
+
+        PageResponseDTO<ClientSalesStatusDTO> yearly = salesReportService.getClientSalesStatus(req, 2025, null);
+        assertThat(yearly.getDtoList())
+                .extracting(ClientSalesStatusDTO::getClientId, c -> c.getMonthlySalesAmount().intValue())
+                .containsExactly(tuple("C1", 700), tuple("C2", 700), tuple("C3", 0));
+    }
+
+    @Test
+    @DisplayName("미수금 원장: 매출 발행 전환/거래처 변경, 수금 삭제 반영 후 원본과 일치, 어긋나면 rebuild 로 보정")
+    void receivableLedger() {
+        assertThat(receivableReconciler.check()).isEmpty();
+
+        // 미발행 매출(S-6, C2 999) 발행 전환 → C2 미수금 +999
+        Sales pending = salesRepository.findBySalesId("S-6").orElseThrow();
+        Contribution before = Contribution.of(pending);
+        pending.changeInvoiceIssued(true);
+        receivableLedger.applySales(before, Contribution.of(pending));
+
+        // S-7 거래처 C1 → C2 (50 이동)
+        Sales moved = salesRepository.findBySalesId("S-7").orElseThrow();
+        before = Contribution.of(moved);
+        moved.changeClientId("C2");
+        receivableLedger.applySales(before, Contribution.of(moved));
+
+        // 수금 CO-1(C1 150) 삭제
+        receivableLedger.addCollection("C1", null, new BigDecimal("-150"));
+        collectionRepository.deleteByCollectionId("CO-1");
+
+        em.flush();
+        em.clear();
+        assertThat(salesReportService.getClientReceivablesSummary())
+                .extracting(ClientReceivablesDTO::getClientId, r -> r.getTotalSalesAmount().intValue(),
+                        r -> r.getTotalCollectionAmount().intValue(), r -> r.getOutstandingBalance().intValue())
+                .containsExactly(tuple("C1", 800, 0, 800), tuple("C2", 1749, 100, 1649));
+        assertThat(receivableReconciler.check()).isEmpty();
+
+        // 원장만 어긋난 경우 → rebuild 가 보정
+        receivableRepository.deleteById("C1");
+        receivableLedger.addCollection("C9", "없는 거래처", BigDecimal.TEN);
+        em.flush();
+        em.clear();
+        assertThat(receivableReconciler.rebuild())
+                .extracting(d -> d.getClientId())
+                .containsExactlyInAnyOrder("C1", "C9");
+        assertThat(receivableReconciler.check()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("롤업이 월/연 경계(12/31 ↔ 1/1, 1/31 ↔ 2/1)를 정확히 나눈다")
+    void rollupsSplitMonthAndYearBoundaries() {
+        assertThat(clientRollupRepository.findClientSummaryByYearMonth(2025, 1))
+                .extracting(ClientSalesSummary::getClientId, c -> c.getTotalSalesAmount().intValue())
+                .containsExactlyInAnyOrder(tuple("C1", 200), tuple("C2", 300));
+
+        assertThat(monthRollupRepository.findMonthlySummary(2024))
+                .extracting(MonthlySalesSummary::getMonth, m -> m.getTotalSalesAmount().intValue())
+                .containsExactly(tuple(12, 100));
+        assertThat(monthRollupRepository.findMonthlySummary(2025))
+                .extracting(MonthlySalesSummary::getMonth, m -> m.getTotalSalesAmount().intValue())
+                .containsExactly(tuple(1, 500), tuple(2, 400), tuple(12, 500));
+        assertThat(monthRollupRepository.findMonthlySummary(2026))
+                .extracting(MonthlySalesSummary::getMonth, m -> m.getTotalSalesAmount().intValue())
+                .containsExactly(tuple(1, 50));
+
+        assertThat(monthRollupRepository.findYearlySummary())
+                .extracting(YearlySalesSummary::getYear, y -> y.getTotalSalesAmount().intValue())
+                .containsExactlyInAnyOrder(tuple(2026, 50), tuple(2025, 1400), tuple(2024, 100));
+    }
+}
@@ -0,0 +1,130 @@
+package com.bizmate.salesPage.report;
+
+import com.bizmate.common.concurrent.SingleFlight;
+import com.bizmate.common.config.QuerydslConfig;
+import com.bizmate.salesPages.management.sales.sales.domain.Sales;
+import com.bizmate.salesPages.management.sales.sales.repository.SalesRepository;
+import com.bizmate.salesPages.report.salesReport.dto.ClientSalesSummary;
+import com.bizmate.salesPages.report.salesReport.dto.MonthlySalesSummary;
+import com.bizmate.salesPages.report.salesReport.service.SalesReportCache;
+import com.bizmate.salesPages.report.salesRollup.repository.SalesClientMonthRollupRepository;
+import com.bizmate.salesPages.report.salesRollup.repository.SalesMonthRollupRepository;
+import com.bizmate.salesPages.report.salesRollup.repository.SalesProjectMonthRollupRepository;
+import com.bizmate.salesPages.report.salesRollup.service.SalesRollupReconciler;
+import com.bizmate.salesPages.report.salesRollup.service.SalesRollupService;
+import com.bizmate.salesPages.report.salesRollup.service.SalesRollupService.Contribution;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+@DataJpaTest
+@Import({QuerydslConfig.class, SalesRollupService.class, SalesRollupReconciler.class,
+        SalesReportCache.class, SingleFlight.class, SimpleMeterRegistry.class})
+@DisplayName("✅ 매출 롤업 증감 / 정합성 점검 (H2)")
+class SalesRollupTests {
+
+    @Autowired
+    private SalesRepository salesRepository;
+    @Autowired
+    private SalesRollupService rollupService;
+    @Autowired
+    private SalesRollupReconciler rollupReconciler;
+    @Autowired
+    private SalesMonthRollupRepository monthRollupRepository;
+    @Autowired
+    private SalesClientMonthRollupRepository clientRollupRepository;
+    @Autowired
+    private SalesProjectMonthRollupRepository projectRollupRepository;
+    @Autowired
+    private TestEntityManager em;
+
+    private Sales register(String salesId, String clientId, LocalDate date, String amount, boolean issued) {
+        Sales sales = salesRepository.save(Sales.builder()
+                .salesId(salesId)
+                .clientId(clientId)
+                .clientCompany(clientId + " 상사")
+                .projectId("P1")
+                .projectName("프로젝트1")
+                .salesDate(date)
+                .salesAmount(new BigDecimal(amount))
+                .invoiceIssued(issued)
+                .build());
+        rollupService.apply(null, Contribution.of(sales));
+        return sales;
+    }
+
+    @Test
+    @DisplayName("등록/발행 전환/월 이동/삭제가 롤업에 반영되고 원본 집계와 일치한다")
+    void incrementalMatchesRawAggregation() {
+        register("S-1", "C1", LocalDate.of(2025, 3, 10), "100.00", true);
+        register("S-2", "C1", LocalDate.of(2025, 3, 20), "50.00", true);
+        Sales pending = register("S-3", "C2", LocalDate.of(2025, 3, 5), "70.00", false);
+        Sales moved = register("S-4", "C2", LocalDate.of(2025, 4, 1), "30.00", true);
+        Sales removed = register("S-5", "C1", null, "10.00", true);
+
+        // 미발행 → 발행
+        Contribution before = Contribution.of(pending);
+        pending.changeInvoiceIssued(true);
+        rollupService.apply(before, Contribution.of(pending));
+
+        // 4월 → 3월, 금액 변경
+        before = Contribution.of(moved);
+        moved.changeSalesDate(LocalDate.of(2025, 3, 31));
+        moved.setSalesAmount(new BigDecimal("35.00"));
+        rollupService.apply(before, Contribution.of(moved));
+
+        // 삭제
+        salesRepository.delete(removed);
+        rollupService.apply(Contribution.of(removed), null);
+
+        // 증감은 UPDATE 쿼리로 반영 → 한 트랜잭션 안에서 다시 읽으려면 영속성 컨텍스트 비움
+        em.flush();
+        em.clear();
+
+        assertThat(monthRollupRepository.findMonthlySummary(2025))
+                .extracting(MonthlySalesSummary::getMonth, m -> m.getTotalSalesAmount().intValue())
+                .containsExactly(tuple(3, 255));
+        assertThat(clientRollupRepository.findClientSummaryByYearMonth(2025, 3))
+                .extracting(ClientSalesSummary::getClientId, c -> c.getTotalSalesAmount().intValue())
+                .containsExactlyInAnyOrder(
+                        tuple("C1", 150),
+                        tuple("C2", 105));
+        assertThat(projectRollupRepository.findProjectTotalSummary()).hasSize(1);
+
+        assertThat(rollupReconciler.check()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("롤업이 비어 있거나 어긋나면 rebuild 가 원본 집계로 채우고 drift 를 보고한다")
+    void rebuildBackfillsAndRepairs() {
+        salesRepository.save(Sales.builder().salesId("S-10").clientId("C9").salesDate(LocalDate.of(2024, 12, 1))
+                .salesAmount(new BigDecimal("500.00")).invoiceIssued(true).build());
+        salesRepository.save(Sales.builder().salesId("S-11").clientId("C9").salesDate(LocalDate.of(2024, 12, 2))
+                .salesAmount(new BigDecimal("900.00")).invoiceIssued(false).build());
+        em.flush();
+
+        // 롤업 없음 → 3종 모두 drift
+        assertThat(rollupReconciler.check()).hasSize(3);
+        assertThat(rollupReconciler.rebuild()).hasSize(3);
+        assertThat(rollupReconciler.check()).isEmpty();
+
+        // 롤업만 어긋난 경우 (원본 없이 증감)
+        rollupService.apply(null, new Contribution("C9", null, null, null, 2024, 11, BigDecimal.TEN));
+        em.flush();
+        em.clear();
+        assertThat(rollupReconciler.rebuild()).hasSize(3);
+        assertThat(rollupReconciler.check()).isEmpty();
+        assertThat(monthRollupRepository.findYearlySummary()).singleElement()
+                .satisfies(y -> assertThat(y.getTotalSalesAmount()).isEqualByComparingTo("500"));
+    }
+}